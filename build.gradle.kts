@@ -230,6 +230,7 @@ dependencies {
     testImplementation("org.testcontainers:toxiproxy:1.16.2")
     testImplementation("org.apache.poi:poi-ooxml:5.1.0")
     testImplementation("com.zaxxer:HikariCP:4.0.3")
+    testImplementation("com.github.luben:zstd-jni:1.5.2-5")
 
     implementation("software.amazon.awssdk:rds:2.17.165")
     implementation("com.google.protobuf:protobuf-java:3.19.1")
@@ -239,6 +240,8 @@ dependencies {
     implementation("com.oracle.oci.sdk:oci-java-sdk-common:2.13.0")
 
     compileOnly("org.ajoberstar.grgit:grgit-gradle:4.1.1")
+    // optional, enables the "zstd" protocol compression algorithm
+    compileOnly("com.github.luben:zstd-jni:1.5.2-5")
 }
 
 sourceSets {
@@ -421,3 +424,96 @@ tasks.withType<Test> {
     }
     useJUnitPlatform()
 }
+
+// JMH micro-benchmarks of the driver hot paths. They use in-memory fixtures and need no database.
+// Run with `./gradlew jmh`, optionally narrowing the benchmarks with `-Pjmh.includes=<regexp>`
+// and passing other JMH options with `-Pjmh.args="..."`.
+sourceSets {
+    create("jmh") {
+        java {
+            setSrcDirs(listOf("src/jmh/java"))
+        }
+        compileClasspath += sourceSets["main"].output + sourceSets["main"].compileClasspath
+        runtimeClasspath += sourceSets["main"].output + sourceSets["main"].runtimeClasspath
+    }
+}
+
+dependencies {
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.35")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.35")
+}
+
+tasks.named<JavaCompile>("compileJmhJava") {
+    options.encoding = "UTF-8"
+    dependsOn("addMethods")
+}
+
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val includes = project.findProperty("jmh.includes") as String?
+    val extraArgs = project.findProperty("jmh.args") as String?
+    extraArgs?.let { args(it.split(" ").filter(String::isNotBlank)) }
+    includes?.let { args(it) }
+}
+
+// Regression check of the benchmarks: `./gradlew jmhCheck -Pjmh.baseline=<results.json>` runs them with a short
+// configuration, unless `-Pjmh.args` is given, and writes their scores to build/reports/jmh/results.json. It fails when a
+// benchmark is slower than in the baseline, the results file of an earlier run, by more than `-Pjmh.tolerance` (0.25 by
+// default). Without a baseline the scores are only recorded.
+val jmhResultsFile = "$buildDir/reports/jmh/results.json"
+
+fun jmhScores(resultsFile: File): Map<String, Pair<String, Double>> {
+    @Suppress("UNCHECKED_CAST")
+    val results = groovy.json.JsonSlurper().parse(resultsFile) as List<Map<String, Any?>>
+    return results.associate { result ->
+        val params = (result["params"] as Map<*, *>?)?.entries?.joinToString(",", "(", ")") { "${it.key}=${it.value}" } ?: ""
+        val primaryMetric = result["primaryMetric"] as Map<*, *>
+        "${result["benchmark"]}$params" to Pair(result["mode"] as String, (primaryMetric["score"] as Number).toDouble())
+    }
+}
+
+tasks.register<JavaExec>("jmhCheck") {
+    group = "verification"
+    description = "Runs the JMH benchmarks and compares their scores with a baseline."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val includes = project.findProperty("jmh.includes") as String?
+    val extraArgs = project.findProperty("jmh.args") as String? ?: "-f 1 -wi 3 -w 1s -i 5 -r 1s"
+    args(extraArgs.split(" ").filter(String::isNotBlank))
+    args("-rf", "json", "-rff", jmhResultsFile)
+    includes?.let { args(it) }
+
+    doFirst {
+        mkdir(file(jmhResultsFile).parentFile)
+    }
+
+    doLast {
+        val baselineFile = (project.findProperty("jmh.baseline") as String?)?.let { file(it) }
+        if (baselineFile == null || !baselineFile.exists()) {
+            logger.warn("No JMH baseline found, the scores in $jmhResultsFile are not compared.")
+            return@doLast
+        }
+
+        val tolerance = (project.findProperty("jmh.tolerance") as String?)?.toDouble() ?: 0.25
+        val baseline = jmhScores(baselineFile)
+        val regressions = mutableListOf<String>()
+        jmhScores(file(jmhResultsFile)).forEach { (benchmark, score) ->
+            val baselineScore = baseline[benchmark] ?: return@forEach
+            // throughput is measured in operations per time unit, the other modes in time per operation
+            val slowdown = if (score.first == "thrpt") baselineScore.second / score.second else score.second / baselineScore.second
+            val line = String.format("%s: %.3f -> %.3f (%+.1f%%)", benchmark, baselineScore.second, score.second, (slowdown - 1) * 100)
+            logger.lifecycle(line)
+            if (slowdown > 1 + tolerance) {
+                regressions.add(line)
+            }
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException("Benchmarks slower than the baseline by more than ${tolerance * 100}%:\n" + regressions.joinToString("\n"))
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parameter setters of client-side prepared statements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClientPreparedQueryBindingsBenchmark {
+
+  private static final String PLAIN_STRING = "The quick brown fox jumps over the lazy dog";
+  private static final String ESCAPED_STRING = "It's a \"quoted\" string with a \\ backslash and a\nnew line";
+  private static final BigDecimal DECIMAL = new BigDecimal("123456789.0123456789");
+  private static final Timestamp TIMESTAMP = Timestamp.valueOf("2021-11-03 12:34:56.789");
+
+  private ClientPreparedQueryBindings bindings;
+
+  @Setup
+  public void setUp() {
+    this.bindings = new ClientPreparedQueryBindings(6, new OfflineSession(new Properties()));
+  }
+
+  @Benchmark
+  public ClientPreparedQueryBindings setInt() {
+    this.bindings.setInt(0, 1234567);
+    return this.bindings;
+  }
+
+  @Benchmark
+  public ClientPreparedQueryBindings setLong() {
+    this.bindings.setLong(1, 1234567890123L);
+    return this.bindings;
+  }
+
+  @Benchmark
+  public ClientPreparedQueryBindings setBigDecimal() {
+    this.bindings.setBigDecimal(2, DECIMAL);
+    return this.bindings;
+  }
+
+  @Benchmark
+  public ClientPreparedQueryBindings setPlainString() {
+    this.bindings.setString(3, PLAIN_STRING);
+    return this.bindings;
+  }
+
+  @Benchmark
+  public ClientPreparedQueryBindings setEscapedString() {
+    this.bindings.setString(4, ESCAPED_STRING);
+    return this.bindings;
+  }
+
+  @Benchmark
+  public ClientPreparedQueryBindings setTimestamp() {
+    this.bindings.setTimestamp(5, TIMESTAMP, MysqlType.TIMESTAMP);
+    return this.bindings;
+  }
+}
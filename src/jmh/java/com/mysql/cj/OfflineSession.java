@@ -0,0 +1,91 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj;
+
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
+import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.protocol.a.NativeCapabilities;
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeServerSession;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Properties;
+
+/**
+ * A {@link NativeSession} that never connects to a server, for the benchmarks of code only using
+ * the session configuration, e.g. query parsing and parameter bindings.
+ */
+public class OfflineSession extends NativeSession {
+
+  private static final String SERVER_VERSION = "8.0.28";
+
+  private final NativeServerSession serverSession;
+
+  public OfflineSession(Properties props) {
+    super(null, createPropertySet(props));
+    this.serverSession = new NativeServerSession(this.propertySet);
+    this.serverSession.setCapabilities(new NativeCapabilities(createHandshakePacket()));
+    this.serverSession.setCharsetSettings(new NativeCharsetSettings(this));
+  }
+
+  /**
+   * Builds the initial handshake packet the server would send, so that the server capabilities are
+   * populated as for a real connection.
+   */
+  private static NativePacketPayload createHandshakePacket() {
+    final NativePacketPayload packet = new NativePacketPayload(64);
+    packet.writeInteger(IntegerDataType.INT1, 10);
+    packet.writeBytes(StringSelfDataType.STRING_TERM, SERVER_VERSION.getBytes(StandardCharsets.US_ASCII));
+    packet.writeInteger(IntegerDataType.INT4, 1);
+    packet.writeBytes(StringLengthDataType.STRING_FIXED, "12345678".getBytes(StandardCharsets.US_ASCII));
+    packet.writeInteger(IntegerDataType.INT1, 0);
+    packet.writeInteger(IntegerDataType.INT2, NativeServerSession.CLIENT_PROTOCOL_41 & 0xffff);
+    packet.writeInteger(IntegerDataType.INT1, 255);
+    packet.writeInteger(IntegerDataType.INT2, 0);
+    packet.writeInteger(IntegerDataType.INT2, 0);
+    packet.writeInteger(IntegerDataType.INT1, 0);
+    packet.writeBytes(StringLengthDataType.STRING_FIXED, new byte[10]);
+    packet.setPosition(0);
+    return packet;
+  }
+
+  private static PropertySet createPropertySet(Properties props) {
+    final JdbcPropertySetImpl propertySet = new JdbcPropertySetImpl();
+    propertySet.initializeProperties(props);
+    return propertySet;
+  }
+
+  @Override
+  public ServerSession getServerSession() {
+    return this.serverSession;
+  }
+}
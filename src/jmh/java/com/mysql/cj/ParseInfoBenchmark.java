@@ -0,0 +1,85 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of client-side prepared statements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParseInfoBenchmark {
+
+  @Param({"select", "insert", "insertOnDuplicateKeyUpdate", "commented"})
+  public String statement;
+
+  private Session session;
+  private String sql;
+
+  @Setup
+  public void setUp() {
+    this.session = new OfflineSession(new Properties());
+    switch (this.statement) {
+      case "insert":
+        this.sql = "INSERT INTO orders (id, customer_id, created, amount, status, note) VALUES (?, ?, ?, ?, ?, ?)";
+        break;
+      case "insertOnDuplicateKeyUpdate":
+        this.sql = "INSERT INTO counters (name, value) VALUES (?, ?) ON DUPLICATE KEY UPDATE value = value + VALUES(value)";
+        break;
+      case "commented":
+        this.sql = "/* service=orders, method=find */ SELECT o.id, o.amount FROM orders o "
+            + "WHERE o.customer_id = ? AND o.note <> 'it''s \"?\"' -- trailing ? comment\n AND o.status IN (?, ?, ?)";
+        break;
+      case "select":
+      default:
+        this.sql = "SELECT id, customer_id, created, amount, status FROM orders WHERE customer_id = ? AND created > ? ORDER BY created DESC LIMIT ?";
+        break;
+    }
+  }
+
+  @Benchmark
+  public ParseInfo parse() {
+    return new ParseInfo(this.sql, this.session, "UTF-8");
+  }
+
+  @Benchmark
+  public ParseInfo parseWithoutRewriteInfo() {
+    return new ParseInfo(this.sql, this.session, "UTF-8", false);
+  }
+}
@@ -0,0 +1,186 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import com.mysql.cj.conf.ConnectionUrl;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.ha.plugins.IConnectionPlugin;
+import com.mysql.cj.jdbc.ha.plugins.IConnectionPluginFactory;
+import com.mysql.cj.jdbc.ha.plugins.ICurrentConnectionProvider;
+import com.mysql.cj.log.Log;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch overhead of JDBC calls made through the {@link ConnectionProxy}. The underlying
+ * connection is an in-memory stub, so the numbers only reflect the cost of the proxy and of the
+ * plugin chain.
+ *
+ * <p>The {@code disabled} mode calls the stub directly, as with {@code useConnectionPlugins=false};
+ * the plugin count has no effect in that mode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConnectionProxyBenchmark {
+
+  private static final String URL = "jdbc:mysql:aws://localhost:3306/test";
+
+  @Param({"disabled", "reflective", "fast"})
+  public String proxyMode;
+
+  @Param({"1", "4"})
+  public int plugins;
+
+  private JdbcConnection connection;
+
+  @Setup
+  public void setup() throws SQLException {
+    final JdbcConnection stub = createStubConnection();
+    if ("disabled".equals(this.proxyMode)) {
+      this.connection = stub;
+      return;
+    }
+
+    final StringJoiner factories = new StringJoiner(",");
+    for (int i = 0; i < this.plugins; i++) {
+      factories.add(PassThroughPluginFactory.class.getName());
+    }
+
+    final Properties props = new Properties();
+    props.setProperty(PropertyKey.connectionPluginFactories.getKeyName(), factories.toString());
+    props.setProperty(
+        PropertyKey.useFastConnectionProxy.getKeyName(),
+        Boolean.toString("fast".equals(this.proxyMode)));
+
+    this.connection =
+        new ConnectionProxy(ConnectionUrl.getConnectionUrlInstance(URL, props), stub)
+            .getProxyInstance();
+  }
+
+  @Benchmark
+  public boolean getAutoCommit() throws SQLException {
+    return this.connection.getAutoCommit();
+  }
+
+  @Benchmark
+  public void setReadOnly() throws SQLException {
+    this.connection.setReadOnly(true);
+  }
+
+  @Benchmark
+  public Object createStatement() throws SQLException {
+    return this.connection.createStatement();
+  }
+
+  private static JdbcConnection createStubConnection() {
+    return (JdbcConnection) Proxy.newProxyInstance(
+        JdbcConnection.class.getClassLoader(),
+        new Class<?>[] {JdbcConnection.class},
+        (proxy, method, args) -> {
+          final Class<?> returnType = method.getReturnType();
+          if (returnType == boolean.class) {
+            return Boolean.FALSE;
+          } else if (returnType == int.class) {
+            return 0;
+          } else if (returnType == long.class) {
+            return 0L;
+          }
+          return null;
+        });
+  }
+
+  /**
+   * Factory for {@link PassThroughPlugin}, listed in {@link PropertyKey#connectionPluginFactories}.
+   */
+  public static class PassThroughPluginFactory implements IConnectionPluginFactory {
+    @Override
+    public IConnectionPlugin getInstance(
+        ICurrentConnectionProvider currentConnectionProvider,
+        PropertySet propertySet,
+        IConnectionPlugin nextPlugin,
+        Log logger) {
+      return new PassThroughPlugin(nextPlugin);
+    }
+  }
+
+  /**
+   * Plugin forwarding every call to the next plugin of the chain.
+   */
+  static class PassThroughPlugin implements IConnectionPlugin {
+    private final IConnectionPlugin nextPlugin;
+
+    PassThroughPlugin(IConnectionPlugin nextPlugin) {
+      this.nextPlugin = nextPlugin;
+    }
+
+    @Override
+    public Object execute(
+        Class<?> methodInvokeOn,
+        String methodName,
+        Callable<?> executeSqlFunc,
+        Object[] args) throws Exception {
+      return this.nextPlugin.execute(methodInvokeOn, methodName, executeSqlFunc, args);
+    }
+
+    @Override
+    public void openInitialConnection(ConnectionUrl connectionUrl) throws SQLException {
+      this.nextPlugin.openInitialConnection(connectionUrl);
+    }
+
+    @Override
+    public void releaseResources() {
+      this.nextPlugin.releaseResources();
+    }
+
+    @Override
+    public void transactionBegun() {
+      this.nextPlugin.transactionBegun();
+    }
+
+    @Override
+    public void transactionCompleted() {
+      this.nextPlugin.transactionCompleted();
+    }
+  }
+}
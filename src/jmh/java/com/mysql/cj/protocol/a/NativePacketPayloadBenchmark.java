@@ -0,0 +1,127 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.protocol.a;
+
+import com.mysql.cj.protocol.a.NativeConstants.IntegerDataType;
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of protocol packets, using a text result set row with length encoded
+ * integers and strings as fixture.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NativePacketPayloadBenchmark {
+
+  @Param({"8", "256"})
+  public int valueLength;
+
+  private static final int COLUMNS = 10;
+
+  private byte[] value;
+  private NativePacketPayload writePacket;
+  private NativePacketPayload readPacket;
+
+  @Setup
+  public void setUp() {
+    this.value = new byte[this.valueLength];
+    Arrays.fill(this.value, (byte) 'x');
+    this.writePacket = new NativePacketPayload(COLUMNS * (this.valueLength + 9));
+    this.readPacket = new NativePacketPayload(encodeRow().getByteBuffer().clone());
+  }
+
+  @Benchmark
+  public NativePacketPayload encodeRow() {
+    final NativePacketPayload packet = this.writePacket;
+    packet.setPosition(0);
+    for (int i = 0; i < COLUMNS; i++) {
+      packet.writeBytes(StringSelfDataType.STRING_LENENC, this.value);
+    }
+    return packet;
+  }
+
+  @Benchmark
+  public void decodeRow(Blackhole blackhole) {
+    final NativePacketPayload packet = this.readPacket;
+    packet.setPosition(0);
+    for (int i = 0; i < COLUMNS; i++) {
+      blackhole.consume(packet.readBytes(StringSelfDataType.STRING_LENENC));
+    }
+  }
+
+  @Benchmark
+  public void skipRow(Blackhole blackhole) {
+    final NativePacketPayload packet = this.readPacket;
+    packet.setPosition(0);
+    for (int i = 0; i < COLUMNS; i++) {
+      packet.skipBytes(StringSelfDataType.STRING_LENENC);
+    }
+    blackhole.consume(packet.getPosition());
+  }
+
+  @Benchmark
+  public long encodeAndDecodeIntegers() {
+    final NativePacketPayload packet = this.writePacket;
+    packet.setPosition(0);
+    packet.writeInteger(IntegerDataType.INT1, 0x7f);
+    packet.writeInteger(IntegerDataType.INT2, 0x7fff);
+    packet.writeInteger(IntegerDataType.INT4, 0x7fffffffL);
+    packet.writeInteger(IntegerDataType.INT8, Long.MAX_VALUE);
+    packet.writeInteger(IntegerDataType.INT_LENENC, 250);
+    packet.writeInteger(IntegerDataType.INT_LENENC, 0xffffffL);
+
+    packet.setPosition(0);
+    long sum = packet.readInteger(IntegerDataType.INT1);
+    sum += packet.readInteger(IntegerDataType.INT2);
+    sum += packet.readInteger(IntegerDataType.INT4);
+    sum += packet.readInteger(IntegerDataType.INT8);
+    sum += packet.readInteger(IntegerDataType.INT_LENENC);
+    sum += packet.readInteger(IntegerDataType.INT_LENENC);
+    return sum;
+  }
+
+  @Benchmark
+  public String readString() {
+    final NativePacketPayload packet = this.readPacket;
+    packet.setPosition(0);
+    return packet.readString(StringSelfDataType.STRING_LENENC, StandardCharsets.UTF_8.name());
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.protocol.a;
+
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
+import com.mysql.cj.result.BigDecimalValueFactory;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.SqlTimestampValueFactory;
+import com.mysql.cj.result.ValueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of column values from text protocol and binary protocol rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueDecoderBenchmark {
+
+  private static final byte[] TEXT_INT = "-1234567".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TEXT_BIGINT = "1234567890123456789".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TEXT_DOUBLE = "12345.6789".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TEXT_DECIMAL = "123456789.0123456789".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TEXT_TIMESTAMP = "2021-11-03 12:34:56.789000".getBytes(StandardCharsets.US_ASCII);
+
+  private static final byte[] BINARY_INT = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(-1234567).array();
+  private static final byte[] BINARY_BIGINT =
+      ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(1234567890123456789L).array();
+  private static final byte[] BINARY_DOUBLE = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putDouble(12345.6789).array();
+  private static final byte[] BINARY_TIMESTAMP = ByteBuffer.allocate(11).order(ByteOrder.LITTLE_ENDIAN)
+      .putShort((short) 2021).put((byte) 11).put((byte) 3).put((byte) 12).put((byte) 34).put((byte) 56).putInt(789000)
+      .array();
+
+  private final MysqlTextValueDecoder textDecoder = new MysqlTextValueDecoder();
+  private final MysqlBinaryValueDecoder binaryDecoder = new MysqlBinaryValueDecoder();
+
+  private ValueFactory<Integer> intFactory;
+  private ValueFactory<Long> longFactory;
+  private ValueFactory<Double> doubleFactory;
+  private ValueFactory<BigDecimal> decimalFactory;
+  private ValueFactory<Timestamp> timestampFactory;
+
+  @Setup
+  public void setUp() {
+    final PropertySet propertySet = new JdbcPropertySetImpl();
+    this.intFactory = new IntegerValueFactory(propertySet);
+    this.longFactory = new LongValueFactory(propertySet);
+    this.doubleFactory = new DoubleValueFactory(propertySet);
+    this.decimalFactory = new BigDecimalValueFactory(propertySet);
+    this.timestampFactory =
+        new SqlTimestampValueFactory(propertySet, null, TimeZone.getDefault(), TimeZone.getDefault());
+  }
+
+  @Benchmark
+  public Integer textInt() {
+    return this.textDecoder.decodeInt4(TEXT_INT, 0, TEXT_INT.length, this.intFactory);
+  }
+
+  @Benchmark
+  public Long textBigint() {
+    return this.textDecoder.decodeInt8(TEXT_BIGINT, 0, TEXT_BIGINT.length, this.longFactory);
+  }
+
+  @Benchmark
+  public Double textDouble() {
+    return this.textDecoder.decodeDouble(TEXT_DOUBLE, 0, TEXT_DOUBLE.length, this.doubleFactory);
+  }
+
+  @Benchmark
+  public BigDecimal textDecimal() {
+    return this.textDecoder.decodeDecimal(TEXT_DECIMAL, 0, TEXT_DECIMAL.length, this.decimalFactory);
+  }
+
+  @Benchmark
+  public Timestamp textTimestamp() {
+    return this.textDecoder.decodeTimestamp(TEXT_TIMESTAMP, 0, TEXT_TIMESTAMP.length, 6, this.timestampFactory);
+  }
+
+  @Benchmark
+  public Integer binaryInt() {
+    return this.binaryDecoder.decodeInt4(BINARY_INT, 0, BINARY_INT.length, this.intFactory);
+  }
+
+  @Benchmark
+  public Long binaryBigint() {
+    return this.binaryDecoder.decodeInt8(BINARY_BIGINT, 0, BINARY_BIGINT.length, this.longFactory);
+  }
+
+  @Benchmark
+  public Double binaryDouble() {
+    return this.binaryDecoder.decodeDouble(BINARY_DOUBLE, 0, BINARY_DOUBLE.length, this.doubleFactory);
+  }
+
+  @Benchmark
+  public Timestamp binaryTimestamp() {
+    return this.binaryDecoder.decodeTimestamp(BINARY_TIMESTAMP, 0, BINARY_TIMESTAMP.length, 6, this.timestampFactory);
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.jdbc.JdbcPropertySetImpl;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.protocol.a.NativeConstants.StringSelfDataType;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.result.BooleanValueFactory;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.DoubleValueFactory;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.ValueFactory;
+import com.mysql.cj.util.LazyString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading numeric columns of a text protocol row through value factories, as ResultSet getters did
+ * before, and with the primitive row getters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RowGetterBenchmark {
+
+  private static final int INT_COLUMN = 0;
+  private static final int BIGINT_COLUMN = 1;
+  private static final int DOUBLE_COLUMN = 2;
+  private static final int DECIMAL_COLUMN = 3;
+  private static final int TINYINT_COLUMN = 4;
+
+  private Row row;
+
+  private ValueFactory<Integer> intFactory;
+  private ValueFactory<Long> longFactory;
+  private ValueFactory<Double> doubleFactory;
+  private ValueFactory<Boolean> booleanFactory;
+
+  @Setup
+  public void setUp() {
+    final DefaultColumnDefinition columns = new DefaultColumnDefinition(new Field[] {
+        field("i", MysqlType.FIELD_TYPE_LONG, MysqlType.INT),
+        field("l", MysqlType.FIELD_TYPE_LONGLONG, MysqlType.BIGINT),
+        field("d", MysqlType.FIELD_TYPE_DOUBLE, MysqlType.DOUBLE),
+        field("m", MysqlType.FIELD_TYPE_NEWDECIMAL, MysqlType.DECIMAL),
+        field("b", MysqlType.FIELD_TYPE_TINY, MysqlType.TINYINT)});
+
+    final NativePacketPayload packet = new NativePacketPayload(128);
+    for (String value : new String[] {"-1234567", "1234567890123456789", "12345.6789", "98765.43", "1"}) {
+      packet.writeBytes(StringSelfDataType.STRING_LENENC, value.getBytes(StandardCharsets.US_ASCII));
+    }
+    packet.setPosition(0);
+    this.row = new TextBufferRow(packet, columns, null, new MysqlTextValueDecoder());
+
+    final PropertySet propertySet = new JdbcPropertySetImpl();
+    this.intFactory = new IntegerValueFactory(propertySet);
+    this.longFactory = new LongValueFactory(propertySet);
+    this.doubleFactory = new DoubleValueFactory(propertySet);
+    this.booleanFactory = new BooleanValueFactory(propertySet);
+  }
+
+  private static Field field(String name, int mysqlTypeId, MysqlType mysqlType) {
+    return new Field(new LazyString(null), new LazyString("t"), new LazyString("t"), new LazyString(name),
+        new LazyString(name), 20, mysqlTypeId, (short) 0, 0, 63, "US-ASCII", mysqlType);
+  }
+
+  @Benchmark
+  public int intWithValueFactory() {
+    final Integer res = this.row.getValue(INT_COLUMN, this.intFactory);
+    return res == null ? 0 : res;
+  }
+
+  @Benchmark
+  public int intPrimitive() {
+    return (int) this.row.getLong(INT_COLUMN);
+  }
+
+  @Benchmark
+  public long bigintWithValueFactory() {
+    final Long res = this.row.getValue(BIGINT_COLUMN, this.longFactory);
+    return res == null ? 0L : res;
+  }
+
+  @Benchmark
+  public long bigintPrimitive() {
+    return this.row.getLong(BIGINT_COLUMN);
+  }
+
+  @Benchmark
+  public double doubleWithValueFactory() {
+    final Double res = this.row.getValue(DOUBLE_COLUMN, this.doubleFactory);
+    return res == null ? 0 : res;
+  }
+
+  @Benchmark
+  public double doublePrimitive() {
+    return this.row.getDouble(DOUBLE_COLUMN);
+  }
+
+  @Benchmark
+  public double decimalAsDoubleWithValueFactory() {
+    final Double res = this.row.getValue(DECIMAL_COLUMN, this.doubleFactory);
+    return res == null ? 0 : res;
+  }
+
+  @Benchmark
+  public double decimalAsDoublePrimitive() {
+    return this.row.getDouble(DECIMAL_COLUMN);
+  }
+
+  @Benchmark
+  public boolean booleanWithValueFactory() {
+    final Boolean res = this.row.getValue(TINYINT_COLUMN, this.booleanFactory);
+    return res == null ? false : res;
+  }
+
+  @Benchmark
+  public boolean booleanPrimitive() {
+    final long l = this.row.getLong(TINYINT_COLUMN);
+    return l == -1 || l > 0;
+  }
+}
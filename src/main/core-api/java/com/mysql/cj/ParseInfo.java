@@ -536,6 +536,31 @@ public class ParseInfo {
         return true; // Assume it's safe by default.
     }
 
+    /**
+     * Checks whether the given query may change the columns that queries on existing tables or views return.
+     * 
+     * Schema changing statements:
+     * - ALTER; CREATE; DROP; RENAME
+     * 
+     * @param sql
+     *            the SQL to check
+     * @param noBackslashEscapes
+     *            whether backslash escapes are disabled or not
+     * @return
+     *         <code>true</code> if the query may change the schema, <code>false</code> otherwise.
+     */
+    public static boolean isSchemaChangingQuery(String sql, boolean noBackslashEscapes) {
+        int statementKeywordPos = indexOfStatementKeyword(sql, noBackslashEscapes);
+        if (statementKeywordPos == -1) {
+            return false;
+        }
+        char firstStatementChar = Character.toUpperCase(sql.charAt(statementKeywordPos));
+        return firstStatementChar == 'A' && StringUtils.startsWithIgnoreCaseAndWs(sql, "ALTER", statementKeywordPos)
+                || firstStatementChar == 'C' && StringUtils.startsWithIgnoreCaseAndWs(sql, "CREATE", statementKeywordPos)
+                || firstStatementChar == 'D' && StringUtils.startsWithIgnoreCaseAndWs(sql, "DROP", statementKeywordPos)
+                || firstStatementChar == 'R' && StringUtils.startsWithIgnoreCaseAndWs(sql, "RENAME", statementKeywordPos);
+    }
+
     /**
      * Returns the type of return that can be expected from executing the given query.
      * 
@@ -0,0 +1,208 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.util.Objects;
+import java.util.Set;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.util.ConcurrentLRUCache;
+
+/**
+ * Factory of a prepared statement parse info cache shared by all connections of the JVM, so that connections running the same statements parse each
+ * of them once. Select it with "parseInfoCacheFactory=com.mysql.cj.PerVmParseInfoCacheFactory".
+ * 
+ * The cache holds up to the largest "prepStmtCacheSize" of the connections using it. Since the result of parsing depends on the connection, entries are
+ * keyed by the SQL together with the character encoding, the identifier quote, the NO_BACKSLASH_ESCAPES SQL mode and the properties that affect batch
+ * rewriting. Lookups only lock one segment of the cache; see {@link ConcurrentLRUCache} for the eviction policy.
+ */
+public class PerVmParseInfoCacheFactory implements CacheAdapterFactory<String, ParseInfo> {
+
+    private static final ConcurrentLRUCache<CacheKey, ParseInfo> parseInfoCache = new ConcurrentLRUCache<>(1, ConcurrentLRUCache.MAX_SEGMENTS);
+
+    public CacheAdapter<String, ParseInfo> getInstance(Object syncMutex, String url, int cacheMaxSize, int maxKeySize) {
+        synchronized (parseInfoCache) {
+            if (cacheMaxSize > parseInfoCache.getMaxSize()) {
+                parseInfoCache.setMaxSize(cacheMaxSize);
+            }
+        }
+
+        return new PerVmParseInfoCache(syncMutex instanceof MysqlConnection ? ((MysqlConnection) syncMutex).getSession() : null, maxKeySize);
+    }
+
+    /**
+     * Returns the number of lookups in the shared cache that found a parse info.
+     * 
+     * @return hit count
+     */
+    public static long getHitCount() {
+        return parseInfoCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups in the shared cache that found nothing, each of which led to parsing a statement.
+     * 
+     * @return miss count
+     */
+    public static long getMissCount() {
+        return parseInfoCache.getMissCount();
+    }
+
+    /**
+     * Returns the number of parse infos evicted from the shared cache to keep it within its maximum size.
+     * 
+     * @return eviction count
+     */
+    public static long getEvictionCount() {
+        return parseInfoCache.getEvictionCount();
+    }
+
+    /**
+     * Returns the number of parse infos in the shared cache.
+     * 
+     * @return cache size
+     */
+    public static int getSize() {
+        return parseInfoCache.size();
+    }
+
+    /**
+     * The view of the shared cache used by one connection.
+     */
+    static class PerVmParseInfoCache implements CacheAdapter<String, ParseInfo> {
+        private final Session session;
+        private final int cacheSqlLimit;
+        private final RuntimeProperty<String> characterEncoding;
+        private final RuntimeProperty<Boolean> rewriteBatchedStatements;
+        private final RuntimeProperty<Boolean> dontCheckOnDuplicateKeyUpdateInSQL;
+
+        PerVmParseInfoCache(Session session, int cacheSqlLimit) {
+            this.session = session;
+            this.cacheSqlLimit = cacheSqlLimit;
+            if (session != null) {
+                PropertySet propertySet = session.getPropertySet();
+                this.characterEncoding = propertySet.getStringProperty(PropertyKey.characterEncoding);
+                this.rewriteBatchedStatements = propertySet.getBooleanProperty(PropertyKey.rewriteBatchedStatements);
+                this.dontCheckOnDuplicateKeyUpdateInSQL = propertySet.getBooleanProperty(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL);
+            } else {
+                this.characterEncoding = null;
+                this.rewriteBatchedStatements = null;
+                this.dontCheckOnDuplicateKeyUpdateInSQL = null;
+            }
+        }
+
+        private CacheKey keyFor(String sql) {
+            // without a session the parsing context is unknown, so nothing is cached
+            if (sql == null || sql.length() > this.cacheSqlLimit || this.session == null) {
+                return null;
+            }
+            int flags = (this.session.getServerSession().isNoBackslashEscapesSet() ? CacheKey.NO_BACKSLASH_ESCAPES : 0)
+                    | (this.rewriteBatchedStatements.getValue() ? CacheKey.REWRITE_BATCHED_STATEMENTS : 0)
+                    | (this.dontCheckOnDuplicateKeyUpdateInSQL.getValue() ? CacheKey.DONT_CHECK_ON_DUPLICATE_KEY_UPDATE : 0);
+            return new CacheKey(sql, this.characterEncoding.getValue(), this.session.getIdentifierQuoteString(), flags);
+        }
+
+        public ParseInfo get(String key) {
+            CacheKey cacheKey = keyFor(key);
+            return cacheKey == null ? null : parseInfoCache.get(cacheKey);
+        }
+
+        public void put(String key, ParseInfo value) {
+            CacheKey cacheKey = keyFor(key);
+            if (cacheKey != null) {
+                parseInfoCache.put(cacheKey, value);
+            }
+        }
+
+        public void invalidate(String key) {
+            CacheKey cacheKey = keyFor(key);
+            if (cacheKey != null) {
+                parseInfoCache.remove(cacheKey);
+            }
+        }
+
+        public void invalidateAll(Set<String> keys) {
+            for (String key : keys) {
+                invalidate(key);
+            }
+        }
+
+        /**
+         * Clears the cache shared by all connections.
+         */
+        public void invalidateAll() {
+            parseInfoCache.clear();
+        }
+    }
+
+    /**
+     * SQL and the connection state that parsing depends on.
+     */
+    static final class CacheKey {
+        static final int NO_BACKSLASH_ESCAPES = 1;
+        static final int REWRITE_BATCHED_STATEMENTS = 2;
+        static final int DONT_CHECK_ON_DUPLICATE_KEY_UPDATE = 4;
+
+        private final String sql;
+        private final String encoding;
+        private final String identifierQuote;
+        private final int flags;
+        private final int hashCode;
+
+        CacheKey(String sql, String encoding, String identifierQuote, int flags) {
+            this.sql = sql;
+            this.encoding = encoding;
+            this.identifierQuote = identifierQuote;
+            this.flags = flags;
+            this.hashCode = ((sql.hashCode() * 31 + Objects.hashCode(encoding)) * 31 + Objects.hashCode(identifierQuote)) * 31 + flags;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return this.hashCode == other.hashCode && this.flags == other.flags && this.sql.equals(other.sql) && Objects.equals(this.encoding, other.encoding)
+                    && Objects.equals(this.identifierQuote, other.identifierQuote);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.util.ConcurrentLRUCache;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Result set metadata shared by all connections of the JVM that use "useOptionalResultSetMetadata".
+ * 
+ * Metadata is cached per scope, database and query. The scope names the server along with the connection settings that change how its columns are described,
+ * so only connections that would build the same metadata share it. Each cluster, or each server that is not known to belong to one, also has a schema version
+ * that data definition statements advance, which makes the metadata cached before them unreachable; it then ages out of the cache. The cache holds up to the
+ * largest "metadataCacheSize" of the connections using it.
+ */
+public final class SharedResultSetMetadataCache {
+
+    private static final ConcurrentLRUCache<CacheKey, ColumnDefinition> metadataCache = new ConcurrentLRUCache<>(1, ConcurrentLRUCache.MAX_SEGMENTS);
+    private static final ConcurrentHashMap<String, AtomicLong> schemaVersions = new ConcurrentHashMap<>();
+
+    private SharedResultSetMetadataCache() {
+    }
+
+    /**
+     * Returns the name the schema version of a server is kept under. The instances and endpoints of a cluster share their schema, so they share the version
+     * of the cluster, which makes a schema change made through any of them visible to the connections to all of them.
+     * 
+     * @param clusterId
+     *            the cluster the server belongs to, or null if not known
+     * @param hostPortPair
+     *            server host and port
+     * @return the cluster id if known, the server host and port otherwise
+     */
+    public static String getSchemaScope(String clusterId, String hostPortPair) {
+        return StringUtils.isNullOrEmpty(clusterId) ? hostPortPair : "cluster:" + clusterId;
+    }
+
+    /**
+     * Returns the current schema version of a server. Read it before running the query whose metadata is then cached, so that a concurrent schema change
+     * can't leave metadata read before the change cached as current.
+     * 
+     * @param schemaScope
+     *            see {@link #getSchemaScope(String, String)}
+     * @return schema version
+     */
+    public static long getSchemaVersion(String schemaScope) {
+        AtomicLong version = schemaVersions.get(schemaScope);
+        return version == null ? 0 : version.get();
+    }
+
+    /**
+     * Records that the schema of a server changed. Call it once the statement that changed it has completed, or when cached metadata turned out to be out of
+     * date.
+     * 
+     * @param schemaScope
+     *            see {@link #getSchemaScope(String, String)}
+     */
+    public static void schemaChanged(String schemaScope) {
+        schemaVersions.computeIfAbsent(schemaScope, s -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Checks whether cached metadata still describes the columns of a result set read with full metadata.
+     * 
+     * @param cachedFields
+     *            cached fields
+     * @param fields
+     *            fields read from the server
+     * @return true if the columns have the same names, types, attributes and character sets
+     */
+    public static boolean matches(Field[] cachedFields, Field[] fields) {
+        if (cachedFields == fields) {
+            return true;
+        }
+        if (cachedFields == null || fields == null || cachedFields.length != fields.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            Field cached = cachedFields[i];
+            Field field = fields[i];
+            if (cached == field) {
+                continue;
+            }
+            if (cached.getMysqlTypeId() != field.getMysqlTypeId() || cached.getLength() != field.getLength() || cached.getDecimals() != field.getDecimals()
+                    || cached.getFlags() != field.getFlags() || cached.getCollationIndex() != field.getCollationIndex()
+                    || !Objects.equals(cached.getName(), field.getName()) || !Objects.equals(cached.getOriginalName(), field.getOriginalName())
+                    || !Objects.equals(cached.getOriginalTableName(), field.getOriginalTableName())
+                    || !Objects.equals(cached.getDatabaseName(), field.getDatabaseName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the metadata cached for a query.
+     * 
+     * @param scope
+     *            server and connection settings the metadata was built with
+     * @param schemaVersion
+     *            schema version of the server, see {@link #getSchemaVersion(String)}
+     * @param database
+     *            current database
+     * @param sql
+     *            query
+     * @return metadata or null if not cached. It is shared, so it must not be modified
+     */
+    public static ColumnDefinition get(String scope, long schemaVersion, String database, String sql) {
+        return metadataCache.get(new CacheKey(scope, schemaVersion, database, sql));
+    }
+
+    /**
+     * Caches the metadata of a query.
+     * 
+     * @param scope
+     *            server and connection settings the metadata was built with
+     * @param schemaVersion
+     *            schema version of the server, read before the query ran
+     * @param database
+     *            current database
+     * @param sql
+     *            query
+     * @param metadata
+     *            metadata, which must not be modified afterwards
+     * @param cacheMaxSize
+     *            the "metadataCacheSize" of the connection
+     */
+    public static void put(String scope, long schemaVersion, String database, String sql, ColumnDefinition metadata, int cacheMaxSize) {
+        if (cacheMaxSize > metadataCache.getMaxSize()) {
+            synchronized (metadataCache) {
+                if (cacheMaxSize > metadataCache.getMaxSize()) {
+                    metadataCache.setMaxSize(cacheMaxSize);
+                }
+            }
+        }
+        metadataCache.put(new CacheKey(scope, schemaVersion, database, sql), metadata);
+    }
+
+    /**
+     * Returns the number of lookups in the shared cache that found metadata.
+     * 
+     * @return hit count
+     */
+    public static long getHitCount() {
+        return metadataCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of lookups in the shared cache that found nothing.
+     * 
+     * @return miss count
+     */
+    public static long getMissCount() {
+        return metadataCache.getMissCount();
+    }
+
+    /**
+     * Returns the number of entries evicted from the shared cache to keep it within its maximum size.
+     * 
+     * @return eviction count
+     */
+    public static long getEvictionCount() {
+        return metadataCache.getEvictionCount();
+    }
+
+    /**
+     * Returns the number of entries in the shared cache.
+     * 
+     * @return cache size
+     */
+    public static int getSize() {
+        return metadataCache.size();
+    }
+
+    /**
+     * Query and the context its metadata is valid in.
+     */
+    static final class CacheKey {
+        private final String scope;
+        private final long schemaVersion;
+        private final String database;
+        private final String sql;
+        private final int hashCode;
+
+        CacheKey(String scope, long schemaVersion, String database, String sql) {
+            this.scope = scope;
+            this.schemaVersion = schemaVersion;
+            this.database = database;
+            this.sql = sql;
+            this.hashCode = ((sql.hashCode() * 31 + Objects.hashCode(database)) * 31 + scope.hashCode()) * 31 + Long.hashCode(schemaVersion);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return this.hashCode == other.hashCode && this.schemaVersion == other.schemaVersion && this.sql.equals(other.sql)
+                    && Objects.equals(this.database, other.database) && this.scope.equals(other.scope);
+        }
+    }
+}
@@ -167,6 +167,10 @@ public class PropertyDefinitions {
         CATALOG, SCHEMA;
     }
 
+    public enum ReaderSelectionStrategy { // readerSelectionStrategy
+        RANDOM, LOWEST_LAG, LAG_BOUNDED_RANDOM, LEAST_CONNECTIONS, WEIGHTED;
+    }
+
     /**
      * Static unmodifiable {@link PropertyKey} -&gt; {@link PropertyDefinition} map.
      */
@@ -316,6 +320,15 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useCompression, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useCompression"), "3.0.17", CATEGORY_NETWORK, Integer.MIN_VALUE),
 
+                new StringPropertyDefinition(PropertyKey.compressionAlgorithms, "zlib", RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.compressionAlgorithms"), "1.0.1", CATEGORY_NETWORK, Integer.MIN_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.zstdCompressionLevel, 3, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.zstdCompressionLevel"), "1.0.1", CATEGORY_NETWORK, Integer.MIN_VALUE, 1, 22),
+
+                new IntegerPropertyDefinition(PropertyKey.compressionThreshold, 50, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.compressionThreshold"), "1.0.1", CATEGORY_NETWORK, Integer.MIN_VALUE, 0, Integer.MAX_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.maxAllowedPacket, 65535, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.maxAllowedPacket"), "5.1.8", CATEGORY_NETWORK, Integer.MIN_VALUE),
 
@@ -666,6 +679,9 @@ public class PropertyDefinitions {
                         Messages.getString("ConnectionProperties.clusterTopologyRefreshRateMs"), "0.1.0", CATEGORY_HA, Integer.MAX_VALUE, 0,
                         Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.clusterTopologyBackgroundRefresh, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.clusterTopologyBackgroundRefresh"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.failoverTimeoutMs, 300_000, RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.failoverTimeoutMs"), "0.1.0", CATEGORY_HA, Integer.MAX_VALUE, 0,
                         Integer.MAX_VALUE),
@@ -678,10 +694,31 @@ public class PropertyDefinitions {
                         Messages.getString("ConnectionProperties.failoverWriterReconnectIntervalMs"), "0.1.0", CATEGORY_HA, Integer.MAX_VALUE, 0,
                         Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.coalesceWriterFailover, DEFAULT_VALUE_TRUE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.coalesceWriterFailover"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.failoverReaderConnectTimeoutMs, 30_000, RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.failoverReaderConnectTimeoutMs"), "0.1.0", CATEGORY_HA, Integer.MAX_VALUE, 0,
                         Integer.MAX_VALUE),
 
+                new EnumPropertyDefinition<>(PropertyKey.readerSelectionStrategy, ReaderSelectionStrategy.RANDOM, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.readerSelectionStrategy"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.readerMaxReplicaLagMs, 0, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.readerMaxReplicaLagMs"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE, 0,
+                        Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.failoverExecutorMaxThreads, 64, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.failoverExecutorMaxThreads"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE, 1,
+                        Integer.MAX_VALUE),
+
+                new IntegerPropertyDefinition(PropertyKey.failoverExecutorQueueSize, 1024, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.failoverExecutorQueueSize"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE, 0,
+                        Integer.MAX_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.failoverExecutorUseVirtualThreads, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.failoverExecutorUseVirtualThreads"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.acceptAwsProtocolOnly, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.acceptAwsProtocolOnly"), "0.1.0", CATEGORY_HA, Integer.MAX_VALUE),
 
@@ -691,6 +728,9 @@ public class PropertyDefinitions {
                 new StringPropertyDefinition(PropertyKey.connectionPluginFactories, DEFAULT_VALUE_NULL_STRING, RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.connectionPluginFactories"), "0.4.0", CATEGORY_HA, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.useFastConnectionProxy, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useFastConnectionProxy"), "1.0.1", CATEGORY_HA, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.failureDetectionEnabled, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.failureDetectionEnabled"), "0.4.0", CATEGORY_HA, Integer.MIN_VALUE),
 
@@ -710,6 +750,12 @@ public class PropertyDefinitions {
                     Messages.getString("ConnectionProperties.monitorDisposalTime"), "0.4.0", CATEGORY_HA, Integer.MAX_VALUE, 0,
                     Integer.MAX_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.monitorUseSharedScheduler, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.monitorUseSharedScheduler"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.monitorUseVirtualThreads, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.monitorUseVirtualThreads"), "1.0.1", CATEGORY_HA, Integer.MAX_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.useAwsIam, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useAwsIam"), "0.3.0", CATEGORY_SECURITY, Integer.MAX_VALUE),
 
@@ -734,6 +780,10 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.cacheServerConfiguration, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.cacheServerConfiguration"), "3.1.5", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.serverConfigCacheTtlMs, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.serverConfigCacheTtlMs"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 new IntegerPropertyDefinition(PropertyKey.callableStmtCacheSize, 100, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.callableStmtCacheSize"), "3.1.2", CATEGORY_PERFORMANCE, 5, 0, Integer.MAX_VALUE),
 
@@ -768,6 +818,23 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.rewriteBatchedStatements, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.rewriteBatchedStatements"), "3.1.13", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new IntegerPropertyDefinition(PropertyKey.maxPipelinedCommands, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.maxPipelinedCommands"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.deferParameterEncoding, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.deferParameterEncoding"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new MemorySizePropertyDefinition(PropertyKey.cursorFetchBufferSize, 0, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.cursorFetchBufferSize"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE, 0,
+                        Integer.MAX_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.prefetchCursorRows, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.prefetchCursorRows"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.useOptionalResultSetMetadata, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useOptionalResultSetMetadata"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.useCursorFetch, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useCursorFetch"), "5.0.0", CATEGORY_PERFORMANCE, Integer.MAX_VALUE),
 
@@ -780,6 +847,9 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.useReadAheadInput, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.useReadAheadInput"), "3.1.5", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.useSocketChannel, DEFAULT_VALUE_FALSE, RUNTIME_NOT_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.useSocketChannel"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
+
                 new BooleanPropertyDefinition(PropertyKey.dontCheckOnDuplicateKeyUpdateInSQL, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.dontCheckOnDuplicateKeyUpdateInSQL"), "5.1.32", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
@@ -789,6 +859,16 @@ public class PropertyDefinitions {
                 new BooleanPropertyDefinition(PropertyKey.enableEscapeProcessing, DEFAULT_VALUE_TRUE, RUNTIME_MODIFIABLE,
                         Messages.getString("ConnectionProperties.enableEscapeProcessing"), "6.0.1", CATEGORY_PERFORMANCE, Integer.MIN_VALUE),
 
+                new BooleanPropertyDefinition(PropertyKey.packResultsetRows, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.packResultsetRows"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MAX_VALUE),
+
+                new BooleanPropertyDefinition(PropertyKey.packResultsetRowsOffHeap, DEFAULT_VALUE_FALSE, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.packResultsetRowsOffHeap"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MAX_VALUE),
+
+                new MemorySizePropertyDefinition(PropertyKey.packetBufferPoolSize, 1024 * 1024, RUNTIME_MODIFIABLE,
+                        Messages.getString("ConnectionProperties.packetBufferPoolSize"), "1.0.1", CATEGORY_PERFORMANCE, Integer.MAX_VALUE, 0,
+                        Integer.MAX_VALUE),
+
                 //
                 // CATEGORY_DEBUGING_PROFILING
                 //
@@ -93,6 +93,8 @@ public enum PropertyKey {
     clobberStreamingResults("clobberStreamingResults", true), //
     clobCharacterEncoding("clobCharacterEncoding", true), //
     compensateOnDuplicateKeyUpdateCounts("compensateOnDuplicateKeyUpdateCounts", true), //
+    compressionAlgorithms("compressionAlgorithms", true), //
+    compressionThreshold("compressionThreshold", true), //
     connectionAttributes("connectionAttributes", true), //
     connectionCollation("connectionCollation", true), //
     connectionLifecycleInterceptors("connectionLifecycleInterceptors", true), //
@@ -100,10 +102,12 @@ public enum PropertyKey {
     connectTimeout("connectTimeout", true), //
     continueBatchOnError("continueBatchOnError", true), //
     createDatabaseIfNotExist("createDatabaseIfNotExist", true), //
+    cursorFetchBufferSize("cursorFetchBufferSize", true), //
     customCharsetMapping("customCharsetMapping", true), //
     databaseTerm("databaseTerm", true), //
     defaultAuthenticationPlugin("defaultAuthenticationPlugin", true), //
     defaultFetchSize("defaultFetchSize", true), //
+    deferParameterEncoding("deferParameterEncoding", true), //
     detectCustomCollations("detectCustomCollations", true), //
     disabledAuthenticationPlugins("disabledAuthenticationPlugins", true), //
     disconnectOnExpiredPasswords("disconnectOnExpiredPasswords", true), //
@@ -157,6 +161,7 @@ public enum PropertyKey {
     logXaCommands("logXaCommands", true), //
     maintainTimeStats("maintainTimeStats", true), //
     maxAllowedPacket("maxAllowedPacket", true), //
+    maxPipelinedCommands("maxPipelinedCommands", true), //
     maxQuerySizeToLog("maxQuerySizeToLog", true), //
     maxReconnects("maxReconnects", true), //
     maxRows("maxRows", true), //
@@ -167,6 +172,9 @@ public enum PropertyKey {
     nullDatabaseMeansCurrent("nullDatabaseMeansCurrent", "nullCatalogMeansCurrent", true), //
     ociConfigFile("ociConfigFile", true), //
     overrideSupportsIntegrityEnhancementFacility("overrideSupportsIntegrityEnhancementFacility", true), //
+    packResultsetRows("packResultsetRows", true), //
+    packResultsetRowsOffHeap("packResultsetRowsOffHeap", true), //
+    packetBufferPoolSize("packetBufferPoolSize", true), //
     packetDebugBufferSize("packetDebugBufferSize", true), //
     padCharsWithSpace("padCharsWithSpace", true), //
     paranoid("paranoid", false), //
@@ -178,6 +186,7 @@ public enum PropertyKey {
     pedantic("pedantic", true), //
     pinGlobalTxToPhysicalConnection("pinGlobalTxToPhysicalConnection", true), //
     populateInsertRowWithDefaultValues("populateInsertRowWithDefaultValues", true), //
+    prefetchCursorRows("prefetchCursorRows", true), //
     prepStmtCacheSize("prepStmtCacheSize", true), //
     prepStmtCacheSqlLimit("prepStmtCacheSqlLimit", true), //
     preserveInstants("preserveInstants", true), //
@@ -207,6 +216,7 @@ public enum PropertyKey {
     sendFractionalSecondsForTime("sendFractionalSecondsForTime", true), //
     serverAffinityOrder("serverAffinityOrder", true), //
     serverConfigCacheFactory("serverConfigCacheFactory", true), //
+    serverConfigCacheTtlMs("serverConfigCacheTtlMs", true), //
     serverRSAPublicKeyFile("serverRSAPublicKeyFile", true), //
     sessionVariables("sessionVariables", true), //
     slowQueryThresholdMillis("slowQueryThresholdMillis", true), //
@@ -245,9 +255,11 @@ public enum PropertyKey {
     useNanosForElapsedTime("useNanosForElapsedTime", true), //
     useOldAliasMetadataBehavior("useOldAliasMetadataBehavior", true), //
     useOnlyServerErrorMessages("useOnlyServerErrorMessages", true), //
+    useOptionalResultSetMetadata("useOptionalResultSetMetadata", true), //
     useReadAheadInput("useReadAheadInput", true), //
     useServerPrepStmts("useServerPrepStmts", true), //
     useSSL("useSSL", true), //
+    useSocketChannel("useSocketChannel", true), //
     useStreamLengthsInPrepStmts("useStreamLengthsInPrepStmts", true), //
     useUnbufferedInput("useUnbufferedInput", true), //
     useUsageAdvisor("useUsageAdvisor", true), //
@@ -275,6 +287,7 @@ public enum PropertyKey {
 
     yearIsDateType("yearIsDateType", true), //
     zeroDateTimeBehavior("zeroDateTimeBehavior", true), //
+    zstdCompressionLevel("zstdCompressionLevel", true), //
 
     // protocols for AWS MySQL Driver
     acceptAwsProtocolOnly("acceptAwsProtocolOnly", true),
@@ -282,6 +295,7 @@ public enum PropertyKey {
     // plugin system
     useConnectionPlugins("useConnectionPlugins", true),
     connectionPluginFactories("connectionPluginFactories", true),
+    useFastConnectionProxy("useFastConnectionProxy", true),
 
     // Failover plugin
     enableClusterAwareFailover("enableClusterAwareFailover", true), //
@@ -289,10 +303,17 @@ public enum PropertyKey {
     clusterInstanceHostPattern("clusterInstanceHostPattern", true), // "?.my-domain.com", "any-subdomain.?.my-domain.com:9999"; "?" will be replaced with node name
     clusterId("clusterId", true), //
     clusterTopologyRefreshRateMs("clusterTopologyRefreshRateMs", true), //
+    clusterTopologyBackgroundRefresh("clusterTopologyBackgroundRefresh", true), //
     failoverTimeoutMs("failoverTimeoutMs", true), //
     failoverClusterTopologyRefreshRateMs("failoverClusterTopologyRefreshRateMs", true), //
     failoverWriterReconnectIntervalMs("failoverWriterReconnectIntervalMs", true), //
+    coalesceWriterFailover("coalesceWriterFailover", true), //
     failoverReaderConnectTimeoutMs("failoverReaderConnectTimeoutMs", true), //
+    readerSelectionStrategy("readerSelectionStrategy", true), //
+    readerMaxReplicaLagMs("readerMaxReplicaLagMs", true), //
+    failoverExecutorMaxThreads("failoverExecutorMaxThreads", true), //
+    failoverExecutorQueueSize("failoverExecutorQueueSize", true), //
+    failoverExecutorUseVirtualThreads("failoverExecutorUseVirtualThreads", true), //
 
     // Enhanced Failure Monitoring plugin
     failureDetectionEnabled("failureDetectionEnabled", true),
@@ -300,6 +321,8 @@ public enum PropertyKey {
     failureDetectionInterval("failureDetectionInterval", true),
     failureDetectionCount("failureDetectionCount", true),
     monitorDisposalTime("monitorDisposalTime", true),
+    monitorUseSharedScheduler("monitorUseSharedScheduler", true),
+    monitorUseVirtualThreads("monitorUseVirtualThreads", true),
 
     // XML enternal entity
     allowXmlUnsafeExternalEntity("allowXmlUnsafeExternalEntity", true),
@@ -99,6 +99,39 @@ public interface Row extends ProtocolEntity {
      */
     boolean getNull(int columnIndex);
 
+    /**
+     * Can integer and floating point values of this row be read with {@link #getLong(int)} and {@link #getDouble(int)}, without boxing and value factories?
+     * 
+     * @return true if the primitive getters are supported
+     */
+    default boolean supportsPrimitiveGetters() {
+        return false;
+    }
+
+    /**
+     * Decodes the value of an integer column straight from the row data. Only applicable if {@link #supportsPrimitiveGetters()} is true and the column
+     * holds TINYINT, SMALLINT, MEDIUMINT, INT or signed BIGINT values. SQL NULL is returned as 0, {@link #wasNull()} tells them apart.
+     * 
+     * @param columnIndex
+     *            column index, starting from 0
+     * @return value
+     */
+    default long getLong(int columnIndex) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
+    /**
+     * Decodes the value of a FLOAT, DOUBLE or DECIMAL column straight from the row data. Only applicable if {@link #supportsPrimitiveGetters()} is true.
+     * SQL NULL is returned as 0, {@link #wasNull()} tells them apart.
+     * 
+     * @param columnIndex
+     *            column index, starting from 0
+     * @return value
+     */
+    default double getDouble(int columnIndex) {
+        throw ExceptionFactory.createException(CJOperationNotSupportedException.class, Messages.getString("OperationNotSupportedException.0"));
+    }
+
     /**
      * Was the last value retrieved a NULL value?
      * 
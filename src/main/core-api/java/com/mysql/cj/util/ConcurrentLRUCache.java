@@ -0,0 +1,292 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded cache evicting its least recently used entries, that can be used concurrently without serializing all callers.
+ * 
+ * Entries are spread by key over segments, each of them an access-ordered {@link LinkedHashMap} guarded by its own lock, so that callers only contend when
+ * their keys fall into the same segment. The number of entries is counted across segments. Once it exceeds the maximum size, the inserting thread evicts
+ * the least recently used entry of the segment it inserted into, or of the next segments if that one holds nothing else, so each eviction takes constant
+ * time. Recency is thus exact within a segment and approximate across segments; caches that must evict exactly their least recently used entry can use a
+ * single segment.
+ * 
+ * @param <K>
+ *            key type
+ * @param <V>
+ *            value type
+ */
+public class ConcurrentLRUCache<K, V> implements BoundedCache<K, V> {
+
+    /** Largest number of segments of a cache. */
+    public static final int MAX_SEGMENTS = 16;
+
+    /** Smallest share of the maximum size per segment for caches created without an explicit concurrency level. */
+    private static final int MIN_SEGMENT_SIZE = 8;
+
+    private final Segment<K, V>[] segments;
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile int maxSize;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache with one segment per {@value #MIN_SEGMENT_SIZE} entries of its maximum size, up to {@link #MAX_SEGMENTS}.
+     * 
+     * @param maxSize
+     *            maximum number of entries
+     */
+    public ConcurrentLRUCache(int maxSize) {
+        this(maxSize, maxSize / MIN_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a cache.
+     * 
+     * @param maxSize
+     *            maximum number of entries
+     * @param concurrencyLevel
+     *            expected number of threads using the cache at the same time; the number of segments is the largest power of two not above it, from 1 to
+     *            {@link #MAX_SEGMENTS}
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentLRUCache(int maxSize, int concurrencyLevel) {
+        this.maxSize = Math.max(1, maxSize);
+        int segmentCount = 1;
+        while (segmentCount * 2 <= Math.min(concurrencyLevel, MAX_SEGMENTS)) {
+            segmentCount *= 2;
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment<>();
+        }
+    }
+
+    @Override
+    public V get(Object key) {
+        Segment<K, V> segment = this.segments[segmentIndex(key)];
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value == null) {
+            this.missCount.increment();
+        } else {
+            this.hitCount.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Caches a value, replacing the value cached for the same key, and evicts an entry if the cache is full. The entry added by this call is never the one
+     * evicted by it.
+     * 
+     * @param key
+     *            key
+     * @param value
+     *            value
+     * @return the replaced value or null if there was none
+     */
+    @Override
+    public V put(K key, V value) {
+        int index = segmentIndex(key);
+        Segment<K, V> segment = this.segments[index];
+        V previous;
+        synchronized (segment) {
+            previous = segment.put(key, value);
+        }
+        if (previous == null && this.size.incrementAndGet() > this.maxSize) {
+            evict(index, key);
+        }
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Segment<K, V> segment = this.segments[segmentIndex(key)];
+        V value;
+        synchronized (segment) {
+            value = segment.remove(key);
+        }
+        if (value != null) {
+            this.size.decrementAndGet();
+        }
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        for (Segment<K, V> segment : this.segments) {
+            synchronized (segment) {
+                this.size.addAndGet(-segment.size());
+                segment.clear();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return this.size.get();
+    }
+
+    /**
+     * Returns a snapshot of the cached keys.
+     * 
+     * @return keys
+     */
+    @Override
+    public Set<K> keySet() {
+        Set<K> keys = new HashSet<>();
+        for (Segment<K, V> segment : this.segments) {
+            synchronized (segment) {
+                keys.addAll(segment.keySet());
+            }
+        }
+        return keys;
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Changes the maximum number of entries. A smaller size takes effect with the next insert.
+     * 
+     * @param maxSize
+     *            maximum number of entries
+     */
+    public void setMaxSize(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * Returns the number of {@link #get(Object)} calls that found a value.
+     * 
+     * @return hit count
+     */
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Returns the number of {@link #get(Object)} calls that found no value.
+     * 
+     * @return miss count
+     */
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to keep the cache within its maximum size.
+     * 
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * Called when a value is evicted to keep the cache within its maximum size, after the segment lock was released. Values replaced by
+     * {@link #put(Object, Object)} or removed explicitly are handed back to the caller instead. Does nothing by default.
+     * 
+     * @param key
+     *            key
+     * @param value
+     *            the evicted value
+     */
+    protected void onEviction(K key, V value) {
+    }
+
+    private int segmentIndex(Object key) {
+        int h = key.hashCode();
+        return (h ^ (h >>> 16)) & (this.segments.length - 1);
+    }
+
+    /**
+     * Evicts least recently used entries until the cache is within its maximum size, starting with the segment an entry was just inserted into.
+     */
+    private void evict(int firstIndex, K inserted) {
+        for (int i = 0; i < this.segments.length; i++) {
+            Segment<K, V> segment = this.segments[(firstIndex + i) & (this.segments.length - 1)];
+            while (true) {
+                K evictedKey;
+                V evictedValue;
+                synchronized (segment) {
+                    int current = this.size.get();
+                    if (current <= this.maxSize) {
+                        return;
+                    }
+                    Iterator<Map.Entry<K, V>> it = segment.entrySet().iterator();
+                    if (!it.hasNext()) {
+                        break;
+                    }
+                    Map.Entry<K, V> eldest = it.next();
+                    if (eldest.getKey().equals(inserted)) {
+                        // only the entry just inserted is left in its segment
+                        break;
+                    }
+                    if (!this.size.compareAndSet(current, current - 1)) {
+                        // the size changed concurrently, check it again
+                        continue;
+                    }
+                    evictedKey = eldest.getKey();
+                    evictedValue = eldest.getValue();
+                    it.remove();
+                }
+                this.evictionCount.increment();
+                onEviction(evictedKey, evictedValue);
+            }
+        }
+    }
+
+    /**
+     * A segment of the cache, ordered from the least to the most recently used entry.
+     */
+    private static class Segment<K, V> extends LinkedHashMap<K, V> {
+
+        private static final long serialVersionUID = 2411851578217553212L;
+
+        Segment() {
+            super(16, 0.75f, true);
+        }
+    }
+}
@@ -32,7 +32,7 @@ package com.mysql.cj.util;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 
-public class LRUCache<K, V> extends LinkedHashMap<K, V> {
+public class LRUCache<K, V> extends LinkedHashMap<K, V> implements BoundedCache<K, V> {
     private static final long serialVersionUID = 1L;
     protected int maxElements;
 
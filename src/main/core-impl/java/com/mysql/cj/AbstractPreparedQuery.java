@@ -310,6 +310,8 @@ public abstract class AbstractPreparedQuery<T extends QueryBindings<?>> extends
 
                 if (bindValues[i].isStream()) {
                     streamToBytes(sendPacket, bindValues[i].getStreamValue(), true, bindValues[i].getStreamLength(), useStreamLengths);
+                } else if (bindValues[i] instanceof ClientPreparedQueryBindValue) {
+                    ((ClientPreparedQueryBindValue) bindValues[i]).writeTo(sendPacket);
                 } else {
                     sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, bindValues[i].getByteValue());
                 }
@@ -75,7 +75,7 @@ public class ClientPreparedQuery extends AbstractPreparedQuery<ClientPreparedQue
                             sizeOfParameterSet += paramLength;
                         }
                     } else {
-                        sizeOfParameterSet += qBindings.getBindValues()[j].getByteValue().length;
+                        sizeOfParameterSet += qBindings.getBindValues()[j].getEncodedLength();
                     }
                 } else {
                     sizeOfParameterSet += 4; // for NULL literal in SQL 
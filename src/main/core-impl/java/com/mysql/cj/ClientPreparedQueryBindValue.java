@@ -31,6 +31,10 @@ package com.mysql.cj;
 
 import java.io.InputStream;
 
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
+import com.mysql.cj.protocol.a.TextValueEncoder;
+
 public class ClientPreparedQueryBindValue implements BindValue {
 
     /** NULL indicator */
@@ -50,6 +54,17 @@ public class ClientPreparedQueryBindValue implements BindValue {
     /** has this parameter been set? */
     protected boolean isSet = false;
 
+    /** The value of an integer parameter, it is written to the query instead of {@link #value} if {@link #isLongValue} is set */
+    protected long longValue;
+
+    protected boolean isLongValue = false;
+
+    /** Is {@link #value} a String which is quoted, escaped and encoded only when it is written to the query? */
+    protected boolean isStringValue = false;
+
+    /** Should double quotes of the String {@link #value} be escaped? */
+    protected boolean escapeDoubleQuotes = false;
+
     public ClientPreparedQueryBindValue() {
     }
 
@@ -70,6 +85,10 @@ public class ClientPreparedQueryBindValue implements BindValue {
         }
         this.streamLength = copyMe.streamLength;
         this.isSet = copyMe.isSet;
+        this.longValue = copyMe.longValue;
+        this.isLongValue = copyMe.isLongValue;
+        this.isStringValue = copyMe.isStringValue;
+        this.escapeDoubleQuotes = copyMe.escapeDoubleQuotes;
     }
 
     public void reset() {
@@ -80,6 +99,8 @@ public class ClientPreparedQueryBindValue implements BindValue {
         this.origValue = null;
         this.streamLength = 0;
         this.isSet = false;
+        this.isLongValue = false;
+        this.isStringValue = false;
     }
 
     @Override
@@ -114,6 +135,11 @@ public class ClientPreparedQueryBindValue implements BindValue {
     }
 
     public byte[] getByteValue() {
+        if (this.isLongValue || this.isStringValue) {
+            byte[] bytes = new byte[getEncodedLength()];
+            writeTo(bytes);
+            return bytes;
+        }
         if (this.value instanceof byte[]) {
             return (byte[]) this.value;
         }
@@ -126,6 +152,74 @@ public class ClientPreparedQueryBindValue implements BindValue {
         this.value = parameterValue;
         this.streamLength = 0;
         this.isSet = true;
+        this.isLongValue = false;
+        this.isStringValue = false;
+    }
+
+    /**
+     * Sets an integer value which is written to the query as a decimal literal, without building its byte array in advance.
+     * 
+     * @param parameterValue
+     *            value
+     */
+    public void setLongValue(long parameterValue) {
+        setByteValue(null);
+        this.longValue = parameterValue;
+        this.isLongValue = true;
+    }
+
+    /**
+     * Sets a String value which is quoted, escaped and UTF-8 encoded directly into the query, without building its byte array in advance.
+     * 
+     * @param parameterValue
+     *            value
+     * @param escapeDoubleQuotesInValue
+     *            should double quotes be escaped, i.e. is ANSI_QUOTES set for the session
+     */
+    public void setStringValue(String parameterValue, boolean escapeDoubleQuotesInValue) {
+        setByteValue(null);
+        this.value = parameterValue;
+        this.isStringValue = true;
+        this.escapeDoubleQuotes = escapeDoubleQuotesInValue;
+    }
+
+    /**
+     * Returns the number of bytes this value takes in the query. Not applicable to streams and unset values.
+     * 
+     * @return length in bytes
+     */
+    public int getEncodedLength() {
+        if (this.isLongValue) {
+            return TextValueEncoder.getEncodedLength(this.longValue);
+        }
+        if (this.isStringValue) {
+            return TextValueEncoder.getEncodedLength((String) this.value, this.escapeDoubleQuotes);
+        }
+        return this.value instanceof byte[] ? ((byte[]) this.value).length : 0;
+    }
+
+    /**
+     * Writes this value to the query packet. Not applicable to streams.
+     * 
+     * @param packet
+     *            {@link NativePacketPayload}
+     */
+    public void writeTo(NativePacketPayload packet) {
+        if (this.isLongValue) {
+            TextValueEncoder.encodeLong(packet, this.longValue);
+        } else if (this.isStringValue) {
+            TextValueEncoder.encodeString(packet, (String) this.value, this.escapeDoubleQuotes);
+        } else {
+            packet.writeBytes(StringLengthDataType.STRING_FIXED, (byte[]) this.value);
+        }
+    }
+
+    private void writeTo(byte[] bytes) {
+        if (this.isLongValue) {
+            TextValueEncoder.encodeLong(bytes, 0, this.longValue);
+        } else {
+            TextValueEncoder.encodeString(bytes, 0, (String) this.value, this.escapeDoubleQuotes);
+        }
     }
 
     @Override
@@ -147,6 +241,8 @@ public class ClientPreparedQueryBindValue implements BindValue {
 
     public void setStreamValue(InputStream parameterStream, long streamLength) {
         this.value = parameterStream;
+        this.isLongValue = false;
+        this.isStringValue = false;
         this.streamLength = streamLength;
         this.isSet = true;
     }
@@ -75,11 +75,19 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     private SimpleDateFormat tsdf = null;
 
+    /** Are integer values kept as they are until the query packet is filled? */
+    private boolean deferParameterEncoding;
+
+    /** Are String values kept as they are until the query packet is filled? Possible with UTF-8 only. */
+    private boolean deferStringEncoding;
+
     public ClientPreparedQueryBindings(int parameterCount, Session sess) {
         super(parameterCount, sess);
         if (((NativeSession) this.session).getServerSession().getCharsetSettings().getRequiresEscapingEncoder()) {
             this.charsetEncoder = Charset.forName(this.charEncoding).newEncoder();
         }
+        this.deferParameterEncoding = this.session.getPropertySet().getBooleanProperty(PropertyKey.deferParameterEncoding).getValue();
+        this.deferStringEncoding = this.deferParameterEncoding && this.charsetEncoder == null && "UTF-8".equalsIgnoreCase(this.charEncoding);
     }
 
     @Override
@@ -191,12 +199,12 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     @Override
     public void setBoolean(int parameterIndex, boolean x) {
-        setValue(parameterIndex, x ? "1" : "0", MysqlType.BOOLEAN);
+        setLongValue(parameterIndex, x ? 1 : 0, MysqlType.BOOLEAN);
     }
 
     @Override
     public void setByte(int parameterIndex, byte x) {
-        setValue(parameterIndex, String.valueOf(x), MysqlType.TINYINT);
+        setLongValue(parameterIndex, x, MysqlType.TINYINT);
     }
 
     public void setBytes(int parameterIndex, byte[] x) {
@@ -439,7 +447,7 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     @Override
     public void setInt(int parameterIndex, int x) {
-        setValue(parameterIndex, String.valueOf(x), MysqlType.INT);
+        setLongValue(parameterIndex, x, MysqlType.INT);
     }
 
     @Override
@@ -580,7 +588,7 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     @Override
     public void setLong(int parameterIndex, long x) {
-        setValue(parameterIndex, String.valueOf(x), MysqlType.BIGINT);
+        setLongValue(parameterIndex, x, MysqlType.BIGINT);
     }
 
     @Override
@@ -730,7 +738,7 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
 
     @Override
     public void setShort(int parameterIndex, short x) {
-        setValue(parameterIndex, String.valueOf(x), MysqlType.SMALLINT);
+        setLongValue(parameterIndex, x, MysqlType.SMALLINT);
     }
 
     @Override
@@ -738,6 +746,14 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
         if (x == null) {
             setNull(parameterIndex);
         } else {
+            if (this.deferStringEncoding && !this.isLoadDataQuery && !this.session.getServerSession().isNoBackslashEscapesSet()) {
+                synchronized (this) {
+                    this.bindValues[parameterIndex].setStringValue(x, this.session.getServerSession().useAnsiQuotedIdentifiers());
+                    this.bindValues[parameterIndex].setMysqlType(MysqlType.VARCHAR);
+                }
+                return;
+            }
+
             int stringLength = x.length();
 
             if (this.session.getServerSession().isNoBackslashEscapesSet()) {
@@ -845,6 +861,15 @@ public class ClientPreparedQueryBindings extends AbstractQueryBindings<ClientPre
         }
     }
 
+    private synchronized void setLongValue(int parameterIndex, long x, MysqlType type) {
+        if (this.deferParameterEncoding) {
+            this.bindValues[parameterIndex].setLongValue(x);
+            this.bindValues[parameterIndex].setMysqlType(type);
+        } else {
+            setValue(parameterIndex, String.valueOf(x), type);
+        }
+    }
+
     private boolean isEscapeNeededForString(String x, int stringLength) {
         boolean needsHexEscape = false;
 
@@ -357,7 +357,7 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
             boolean isCollationDifferent = sessionCollationClause.length() > 0
                     && !requiredCollation.equalsIgnoreCase(this.serverSession.getServerVariable(COLLATION_CONNECTION));
             if (dontCheckServerMatch || isCharsetDifferent || isCollationDifferent) {
-                this.session.sendCommand(getCommandBuilder().buildComQuery(null, "SET NAMES " + sessionCharsetName + sessionCollationClause), false, 0);
+                this.session.sendSetStatement("NAMES " + sessionCharsetName + sessionCollationClause);
                 this.serverSession.getServerVariables().put(CHARACTER_SET_CLIENT, sessionCharsetName);
                 this.serverSession.getServerVariables().put(CHARACTER_SET_CONNECTION, sessionCharsetName);
 
@@ -385,7 +385,7 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
         String characterSetResultsValue = this.characterSetResults.getValue();
         if (StringUtils.isNullOrEmpty(characterSetResultsValue) || "null".equalsIgnoreCase(characterSetResultsValue)) {
             if (!StringUtils.isNullOrEmpty(sessionResultsCharset) && !"NULL".equalsIgnoreCase(sessionResultsCharset)) {
-                this.session.sendCommand(getCommandBuilder().buildComQuery(null, "SET character_set_results = NULL"), false, 0);
+                this.session.sendSetStatement("character_set_results = NULL");
                 this.serverSession.getServerVariables().put(CHARACTER_SET_RESULTS, null);
             }
 
@@ -403,7 +403,7 @@ public class NativeCharsetSettings extends CharsetMapping implements CharsetSett
             }
 
             if (!resultsCharsetName.equalsIgnoreCase(sessionResultsCharset)) {
-                this.session.sendCommand(getCommandBuilder().buildComQuery(null, "SET character_set_results = " + resultsCharsetName), false, 0);
+                this.session.sendSetStatement("character_set_results = " + resultsCharsetName);
                 this.serverSession.getServerVariables().put(CHARACTER_SET_RESULTS, resultsCharsetName);
             }
 
@@ -71,6 +71,8 @@ import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.protocol.a.NativeServerSession;
 import com.mysql.cj.protocol.a.NativeSocketConnection;
+import com.mysql.cj.protocol.a.NioSocketConnection;
+import com.mysql.cj.protocol.a.PipelinedResponse;
 import com.mysql.cj.protocol.a.ResultsetFactory;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.LongValueFactory;
@@ -103,6 +105,12 @@ public class NativeSession extends CoreSession implements Serializable {
 
     private transient Timer cancelTimer;
 
+    /** Session variable assignments deferred while the session is initialized, see {@link #beginSessionInit()} */
+    private List<String> deferredSessionVariables = null;
+
+    /** The user the session is authenticated as, part of the key of the server configuration shared by a cluster */
+    private String user;
+
     public NativeSession(HostInfo hostInfo, PropertySet propSet) {
         super(hostInfo, propSet);
     }
@@ -115,8 +123,8 @@ public class NativeSession extends CoreSession implements Serializable {
         // reset max-rows to default value
         this.setSessionMaxRows(-1);
 
-        // TODO do we need different types of physical connections?
-        SocketConnection socketConnection = new NativeSocketConnection();
+        SocketConnection socketConnection = this.propertySet.getBooleanProperty(PropertyKey.useSocketChannel).getValue() ? new NioSocketConnection()
+                : new NativeSocketConnection();
         socketConnection.connect(this.hostInfo.getHost(), this.hostInfo.getPort(), this.propertySet, getExceptionInterceptor(), this.log, loginTimeout);
 
         // we use physical connection to create a -> protocol
@@ -131,12 +139,19 @@ public class NativeSession extends CoreSession implements Serializable {
         // use protocol to create a -> session
         // protocol is responsible for building a session and authenticating (using AuthenticationProvider) internally
         this.protocol.connect(user, password, database);
+        this.user = user;
 
         this.isClosed = false;
 
         this.commandBuilder = new NativeMessageBuilder(this.getServerSession().supportsQueryAttributes());
     }
 
+    @Override
+    public void changeUser(String userName, String password, String database) {
+        super.changeUser(userName, password, database);
+        this.user = userName;
+    }
+
     // TODO: this method should not be used in user-level APIs
     public NativeProtocol getProtocol() {
         return (NativeProtocol) this.protocol;
@@ -374,6 +389,13 @@ public class NativeSession extends CoreSession implements Serializable {
     // TODO what's the purpose of this variable?
     private final static String SERVER_VERSION_STRING_VAR_NAME = "server_version_string";
 
+    private final static String SERVER_CONFIG_LOAD_TIME_VAR_NAME = "server_config_load_time";
+
+    /** Properties that affect the session values of the server variables. */
+    private final static PropertyKey[] SERVER_CONFIG_SESSION_PROPERTIES = { PropertyKey.sessionVariables, PropertyKey.characterEncoding,
+            PropertyKey.characterSetResults, PropertyKey.connectionCollation, PropertyKey.customCharsetMapping, PropertyKey.connectionTimeZone,
+            PropertyKey.forceConnectionTimeZoneToSession, PropertyKey.jdbcCompliantTruncation, PropertyKey.trackSessionState };
+
     /**
      * Loads the result of 'SHOW VARIABLES' into the serverVariables field so
      * that the driver can configure itself.
@@ -388,108 +410,159 @@ public class NativeSession extends CoreSession implements Serializable {
         if (this.cacheServerConfiguration.getValue()) {
             createConfigCacheIfNeeded(syncMutex);
 
-            Map<String, String> cachedVariableMap = this.serverConfigCache.get(this.hostInfo.getDatabaseUrl());
+            // the variables loaded from this very instance take precedence over the snapshot shared by the instances of its cluster
+            Map<String, String> cachedVariableMap = getCachedServerVariables(this.hostInfo.getDatabaseUrl());
+            String clusterKey = getServerConfigClusterKey();
+            if (cachedVariableMap == null && clusterKey != null) {
+                cachedVariableMap = getCachedServerVariables(clusterKey);
+            }
 
             if (cachedVariableMap != null) {
-                String cachedServerVersion = cachedVariableMap.get(SERVER_VERSION_STRING_VAR_NAME);
-
-                if (cachedServerVersion != null && getServerSession().getServerVersion() != null
-                        && cachedServerVersion.equals(getServerSession().getServerVersion().toString())) {
-                    Map<String, String> localVariableMap = this.protocol.getServerSession().getServerVariables();
-                    Map<String, String> newLocalVariableMap = new HashMap<>();
-                    newLocalVariableMap.putAll(cachedVariableMap);
-                    newLocalVariableMap.putAll(localVariableMap); // preserving variables already configured on previous session initialization steps
-                    this.protocol.getServerSession().setServerVariables(newLocalVariableMap);
-                    return;
-                }
-
-                this.serverConfigCache.invalidate(this.hostInfo.getDatabaseUrl());
+                Map<String, String> localVariableMap = this.protocol.getServerSession().getServerVariables();
+                Map<String, String> newLocalVariableMap = new HashMap<>();
+                newLocalVariableMap.putAll(cachedVariableMap);
+                newLocalVariableMap.putAll(localVariableMap); // preserving variables already configured on previous session initialization steps
+                this.protocol.getServerSession().setServerVariables(newLocalVariableMap);
+                return;
             }
         }
 
-        try {
-            if (version != null && version.indexOf('*') != -1) {
-                StringBuilder buf = new StringBuilder(version.length() + 10);
-                for (int i = 0; i < version.length(); i++) {
-                    char c = version.charAt(i);
-                    buf.append(c == '*' ? "[star]" : c);
-                }
-                version = buf.toString();
-            }
-
-            String versionComment = (this.propertySet.getBooleanProperty(PropertyKey.paranoid).getValue() || version == null) ? "" : "/* " + version + " */";
-
-            this.protocol.getServerSession().setServerVariables(new HashMap<String, String>());
-
-            if (versionMeetsMinimum(5, 1, 0)) {
-                StringBuilder queryBuf = new StringBuilder(versionComment).append("SELECT");
-                queryBuf.append("  @@session.auto_increment_increment AS auto_increment_increment");
-                queryBuf.append(", @@character_set_client AS character_set_client");
-                queryBuf.append(", @@character_set_connection AS character_set_connection");
-                queryBuf.append(", @@character_set_results AS character_set_results");
-                queryBuf.append(", @@character_set_server AS character_set_server");
-                queryBuf.append(", @@collation_server AS collation_server");
-                queryBuf.append(", @@collation_connection AS collation_connection");
-                queryBuf.append(", @@init_connect AS init_connect");
-                queryBuf.append(", @@interactive_timeout AS interactive_timeout");
-                if (!versionMeetsMinimum(5, 5, 0)) {
-                    queryBuf.append(", @@language AS language");
-                }
-                queryBuf.append(", @@license AS license");
-                queryBuf.append(", @@lower_case_table_names AS lower_case_table_names");
-                queryBuf.append(", @@max_allowed_packet AS max_allowed_packet");
-                queryBuf.append(", @@net_write_timeout AS net_write_timeout");
-                queryBuf.append(", @@performance_schema AS performance_schema");
-                if (!versionMeetsMinimum(8, 0, 3)) {
-                    queryBuf.append(", @@query_cache_size AS query_cache_size");
-                    queryBuf.append(", @@query_cache_type AS query_cache_type");
-                }
-                queryBuf.append(", @@sql_mode AS sql_mode");
-                queryBuf.append(", @@system_time_zone AS system_time_zone");
-                queryBuf.append(", @@time_zone AS time_zone");
-                if (versionMeetsMinimum(8, 0, 3) || (versionMeetsMinimum(5, 7, 20) && !versionMeetsMinimum(8, 0, 0))) {
-                    queryBuf.append(", @@transaction_isolation AS transaction_isolation");
-                } else {
-                    queryBuf.append(", @@tx_isolation AS transaction_isolation");
-                }
-                queryBuf.append(", @@wait_timeout AS wait_timeout");
-
-                NativePacketPayload resultPacket = sendCommand(this.commandBuilder.buildComQuery(null, queryBuf.toString()), false, 0);
-                Resultset rs = ((NativeProtocol) this.protocol).readAllResults(-1, false, resultPacket, false, null,
-                        new ResultsetFactory(Type.FORWARD_ONLY, null));
-                Field[] f = rs.getColumnDefinition().getFields();
-                if (f.length > 0) {
-                    ValueFactory<String> vf = new StringValueFactory(this.propertySet);
-                    Row r;
-                    if ((r = rs.getRows().next()) != null) {
-                        for (int i = 0; i < f.length; i++) {
-                            String value = r.getValue(i, vf);
-                            this.protocol.getServerSession().getServerVariables().put(f[i].getColumnLabel(),
-                                    "utf8mb3".equalsIgnoreCase(value) ? "utf8" : value); // recent server versions return "utf8mb3" instead of "utf8"
-                        }
-                    }
-                }
+        if (version != null && version.indexOf('*') != -1) {
+            StringBuilder buf = new StringBuilder(version.length() + 10);
+            for (int i = 0; i < version.length(); i++) {
+                char c = version.charAt(i);
+                buf.append(c == '*' ? "[star]" : c);
+            }
+            version = buf.toString();
+        }
 
+        String versionComment = (this.propertySet.getBooleanProperty(PropertyKey.paranoid).getValue() || version == null) ? "" : "/* " + version + " */";
+
+        this.protocol.getServerSession().setServerVariables(new HashMap<String, String>());
+
+        if (versionMeetsMinimum(5, 1, 0)) {
+            StringBuilder queryBuf = new StringBuilder(versionComment).append("SELECT");
+            queryBuf.append("  @@session.auto_increment_increment AS auto_increment_increment");
+            queryBuf.append(", @@character_set_client AS character_set_client");
+            queryBuf.append(", @@character_set_connection AS character_set_connection");
+            queryBuf.append(", @@character_set_results AS character_set_results");
+            queryBuf.append(", @@character_set_server AS character_set_server");
+            queryBuf.append(", @@collation_server AS collation_server");
+            queryBuf.append(", @@collation_connection AS collation_connection");
+            queryBuf.append(", @@init_connect AS init_connect");
+            queryBuf.append(", @@interactive_timeout AS interactive_timeout");
+            if (!versionMeetsMinimum(5, 5, 0)) {
+                queryBuf.append(", @@language AS language");
+            }
+            queryBuf.append(", @@license AS license");
+            queryBuf.append(", @@lower_case_table_names AS lower_case_table_names");
+            queryBuf.append(", @@max_allowed_packet AS max_allowed_packet");
+            queryBuf.append(", @@net_write_timeout AS net_write_timeout");
+            queryBuf.append(", @@performance_schema AS performance_schema");
+            if (!versionMeetsMinimum(8, 0, 3)) {
+                queryBuf.append(", @@query_cache_size AS query_cache_size");
+                queryBuf.append(", @@query_cache_type AS query_cache_type");
+            }
+            queryBuf.append(", @@sql_mode AS sql_mode");
+            queryBuf.append(", @@system_time_zone AS system_time_zone");
+            queryBuf.append(", @@time_zone AS time_zone");
+            if (versionMeetsMinimum(8, 0, 3) || (versionMeetsMinimum(5, 7, 20) && !versionMeetsMinimum(8, 0, 0))) {
+                queryBuf.append(", @@transaction_isolation AS transaction_isolation");
             } else {
-                NativePacketPayload resultPacket = sendCommand(this.commandBuilder.buildComQuery(null, versionComment + "SHOW VARIABLES"), false, 0);
-                Resultset rs = ((NativeProtocol) this.protocol).readAllResults(-1, false, resultPacket, false, null,
-                        new ResultsetFactory(Type.FORWARD_ONLY, null));
+                queryBuf.append(", @@tx_isolation AS transaction_isolation");
+            }
+            queryBuf.append(", @@wait_timeout AS wait_timeout");
+
+            Resultset rs = execInitQuery(queryBuf.toString());
+            Field[] f = rs.getColumnDefinition().getFields();
+            if (f.length > 0) {
                 ValueFactory<String> vf = new StringValueFactory(this.propertySet);
                 Row r;
-                while ((r = rs.getRows().next()) != null) {
-                    this.protocol.getServerSession().getServerVariables().put(r.getValue(0, vf), r.getValue(1, vf));
+                if ((r = rs.getRows().next()) != null) {
+                    for (int i = 0; i < f.length; i++) {
+                        String value = r.getValue(i, vf);
+                        this.protocol.getServerSession().getServerVariables().put(f[i].getColumnLabel(),
+                                "utf8mb3".equalsIgnoreCase(value) ? "utf8" : value); // recent server versions return "utf8mb3" instead of "utf8"
+                    }
                 }
             }
-        } catch (IOException e) {
-            throw ExceptionFactory.createException(e.getMessage(), e);
+
+        } else {
+            Resultset rs = execInitQuery(versionComment + "SHOW VARIABLES");
+            ValueFactory<String> vf = new StringValueFactory(this.propertySet);
+            Row r;
+            while ((r = rs.getRows().next()) != null) {
+                this.protocol.getServerSession().getServerVariables().put(r.getValue(0, vf), r.getValue(1, vf));
+            }
         }
 
         if (this.cacheServerConfiguration.getValue()) {
             this.protocol.getServerSession().getServerVariables().put(SERVER_VERSION_STRING_VAR_NAME, getServerSession().getServerVersion().toString());
+            this.protocol.getServerSession().getServerVariables().put(SERVER_CONFIG_LOAD_TIME_VAR_NAME, String.valueOf(System.currentTimeMillis()));
             Map<String, String> localVariableMap = new HashMap<>();
             localVariableMap.putAll(this.protocol.getServerSession().getServerVariables());
-            this.serverConfigCache.put(this.hostInfo.getDatabaseUrl(), Collections.unmodifiableMap(localVariableMap));
+            Map<String, String> cachedVariableMap = Collections.unmodifiableMap(localVariableMap);
+            this.serverConfigCache.put(this.hostInfo.getDatabaseUrl(), cachedVariableMap);
+
+            String clusterKey = getServerConfigClusterKey();
+            if (clusterKey != null) {
+                // no-op if another instance of the cluster already provided the snapshot
+                this.serverConfigCache.put(clusterKey, cachedVariableMap);
+            }
+        }
+    }
+
+    /**
+     * Returns the server variables cached under the given key, provided they were loaded from a server of the same version as the current one and are not
+     * older than "serverConfigCacheTtlMs". Stale entries are evicted.
+     * 
+     * @param key
+     *            the cache key
+     * @return the cached variables or null
+     */
+    private Map<String, String> getCachedServerVariables(String key) {
+        Map<String, String> cachedVariableMap = this.serverConfigCache.get(key);
+        if (cachedVariableMap == null) {
+            return null;
         }
+
+        String cachedServerVersion = cachedVariableMap.get(SERVER_VERSION_STRING_VAR_NAME);
+        boolean upToDate = cachedServerVersion != null && getServerSession().getServerVersion() != null
+                && cachedServerVersion.equals(getServerSession().getServerVersion().toString());
+
+        int ttl = this.propertySet.getIntegerProperty(PropertyKey.serverConfigCacheTtlMs).getValue();
+        if (upToDate && ttl > 0) {
+            String loadTime = cachedVariableMap.get(SERVER_CONFIG_LOAD_TIME_VAR_NAME);
+            upToDate = loadTime != null && System.currentTimeMillis() - Long.parseLong(loadTime) < ttl;
+        }
+
+        if (!upToDate) {
+            this.serverConfigCache.invalidate(key);
+            return null;
+        }
+        return cachedVariableMap;
+    }
+
+    /**
+     * Returns the key of the server configuration snapshot shared by the connections to the instances of the cluster set in "clusterId" that run the same
+     * server version, or null if the connection does not belong to a known cluster. The snapshot holds session values, like "sql_mode", so the key also
+     * holds everything that may change them: the user, whose "init_connect" may differ, and the properties applied to the session before the server
+     * variables are loaded.
+     * 
+     * @return the cache key or null
+     */
+    String getServerConfigClusterKey() {
+        String clusterId = this.propertySet.getStringProperty(PropertyKey.clusterId).getValue();
+        if (StringUtils.isNullOrEmpty(clusterId) || getServerSession().getServerVersion() == null) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder("cluster:").append(clusterId).append('/').append(getServerSession().getServerVersion().toString());
+        key.append('/').append(this.user);
+        for (PropertyKey sessionProperty : SERVER_CONFIG_SESSION_PROPERTIES) {
+            key.append('/').append(this.propertySet.getProperty(sessionProperty).getStringValue());
+        }
+        return key.toString();
     }
 
     public void setSessionVariables() {
@@ -501,7 +574,7 @@ public class NativeSession extends CoreSession implements Serializable {
             }
 
             if (!variablesToSet.isEmpty()) {
-                StringBuilder query = new StringBuilder("SET ");
+                StringBuilder query = new StringBuilder();
                 String separator = "";
                 for (String variableToSet : variablesToSet) {
                     if (variableToSet.length() > 0) {
@@ -513,8 +586,98 @@ public class NativeSession extends CoreSession implements Serializable {
                         separator = ",";
                     }
                 }
-                sendCommand(this.commandBuilder.buildComQuery(null, query.toString()), false, 0);
+                sendSetStatement(query.toString());
+            }
+        }
+    }
+
+    /**
+     * Starts deferring the session variables set while the session is initialized, so that they take as few round trips as possible. They are sent in
+     * one SET statement, pipelined with the next query the initialization reads results from, or by {@link #endSessionInit(boolean)} if there is none.
+     * Statements sent in between by other means than {@link #sendSetStatement(String)} and {@link #queryServerVariable(String)} must not depend on them.
+     */
+    public void beginSessionInit() {
+        this.deferredSessionVariables = new ArrayList<>();
+    }
+
+    /**
+     * Stops deferring session variables.
+     * 
+     * @param sendDeferred
+     *            whether to send the session variables deferred so far, false if the initialization failed
+     */
+    public void endSessionInit(boolean sendDeferred) {
+        List<String> assignments = this.deferredSessionVariables;
+        this.deferredSessionVariables = null;
+        if (sendDeferred && assignments != null && !assignments.isEmpty()) {
+            sendCommand(this.commandBuilder.buildComQuery(null, "SET " + String.join(", ", assignments)), false, 0);
+        }
+    }
+
+    /**
+     * Defers setting session variables if the session is being initialized, see {@link #beginSessionInit()}.
+     * 
+     * @param assignments
+     *            comma separated assignments of a SET statement, e.g. "autocommit=1"
+     * @return true if deferred, false if the caller has to send them
+     */
+    public boolean deferSetStatement(String assignments) {
+        if (this.deferredSessionVariables == null) {
+            return false;
+        }
+        this.deferredSessionVariables.add(assignments);
+        return true;
+    }
+
+    /**
+     * Sets session variables, deferred if the session is being initialized.
+     * 
+     * @param assignments
+     *            comma separated assignments of a SET statement, e.g. "autocommit=1"
+     */
+    public void sendSetStatement(String assignments) {
+        if (!deferSetStatement(assignments)) {
+            sendCommand(this.commandBuilder.buildComQuery(null, "SET " + assignments), false, 0);
+        }
+    }
+
+    /**
+     * Runs a query and reads its results, preceded in the same round trip by the session variables deferred so far. Without deferred session variables,
+     * or when commands can't be pipelined, e.g. because query interceptors or query profiling need to observe every command, the session variables and
+     * the query are sent one after the other like any other commands.
+     * 
+     * @param query
+     *            query
+     * @return results
+     */
+    private Resultset execInitQuery(String query) {
+        NativeProtocol nativeProtocol = (NativeProtocol) this.protocol;
+        if (this.deferredSessionVariables != null && !this.deferredSessionVariables.isEmpty() && nativeProtocol.canPipelineInternalCommands()) {
+            List<NativePacketPayload> packets = new ArrayList<>(2);
+            packets.add(this.commandBuilder.buildComQuery(null, "SET " + String.join(", ", this.deferredSessionVariables)));
+            this.deferredSessionVariables.clear();
+            packets.add(this.commandBuilder.buildComQuery(null, query));
+
+            // the warnings of the SET statement aren't scanned for data truncation as its response is read while the query is in flight
+            List<PipelinedResponse<Resultset>> responses = new ArrayList<>(packets.size());
+            nativeProtocol.sendPipelinedCommands(packets, packets.size(), -1, false, null, new ResultsetFactory(Type.FORWARD_ONLY, null), responses);
+            for (PipelinedResponse<Resultset> response : responses) {
+                if (response.getException() != null) {
+                    throw response.getException();
+                }
             }
+            return responses.get(responses.size() - 1).getResult();
+        }
+
+        if (this.deferredSessionVariables != null && !this.deferredSessionVariables.isEmpty()) {
+            sendCommand(this.commandBuilder.buildComQuery(null, "SET " + String.join(", ", this.deferredSessionVariables)), false, 0);
+            this.deferredSessionVariables.clear();
+        }
+        try {
+            NativePacketPayload resultPacket = sendCommand(this.commandBuilder.buildComQuery(null, query), false, 0);
+            return nativeProtocol.readAllResults(-1, false, resultPacket, false, null, new ResultsetFactory(Type.FORWARD_ONLY, null));
+        } catch (IOException e) {
+            throw ExceptionFactory.createException(e.getMessage(), e);
         }
     }
 
@@ -594,25 +757,18 @@ public class NativeSession extends CoreSession implements Serializable {
      * @return server variable value
      */
     public String queryServerVariable(String varName) {
-        try {
-
-            NativePacketPayload resultPacket = sendCommand(this.commandBuilder.buildComQuery(null, "SELECT " + varName), false, 0);
-            Resultset rs = ((NativeProtocol) this.protocol).readAllResults(-1, false, resultPacket, false, null, new ResultsetFactory(Type.FORWARD_ONLY, null));
-
-            ValueFactory<String> svf = new StringValueFactory(this.propertySet);
-            Row r;
-            if ((r = rs.getRows().next()) != null) {
-                String s = r.getValue(0, svf);
-                if (s != null) {
-                    return s;
-                }
+        Resultset rs = execInitQuery("SELECT " + varName);
+
+        ValueFactory<String> svf = new StringValueFactory(this.propertySet);
+        Row r;
+        if ((r = rs.getRows().next()) != null) {
+            String s = r.getValue(0, svf);
+            if (s != null) {
+                return s;
             }
-
-            return null;
-
-        } catch (IOException e) {
-            throw ExceptionFactory.createException(e.getMessage(), e);
         }
+
+        return null;
     }
 
     /**
@@ -711,6 +867,59 @@ public class NativeSession extends CoreSession implements Serializable {
 
     }
 
+    /**
+     * Send the given command packets to the server in a pipeline, see {@link NativeProtocol#sendPipelinedCommands}.
+     * To ensure that Statement's queries are serialized, calls to this method
+     * should be enclosed in a connection mutex synchronized block.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param packets
+     *            COM_QUERY or COM_STMT_EXECUTE packets
+     * @param maxRows
+     *            rows limit
+     * @param isBinaryEncoded
+     *            true if the commands return binary encoded result sets
+     * @param metadata
+     *            use this metadata instead of the one provided on wire
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param responses
+     *            the list to add the {@link PipelinedResponse} of each command to
+     */
+    public <T extends Resultset> void execSQLPipelined(List<NativePacketPayload> packets, int maxRows, boolean isBinaryEncoded, ColumnDefinition metadata,
+            ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, List<PipelinedResponse<T>> responses) {
+
+        long queryStartTime = this.gatherPerfMetrics.getValue() ? System.currentTimeMillis() : 0;
+
+        this.lastQueryFinishedTime = 0; // we're busy!
+
+        try {
+            ((NativeProtocol) this.protocol).sendPipelinedCommands(packets, maxRows, isBinaryEncoded, metadata, resultSetFactory, responses);
+
+        } catch (CJException sqlE) {
+            if ((this.autoReconnect.getValue())) {
+                if (sqlE instanceof CJCommunicationsException) {
+                    // IO may be dirty or damaged beyond repair, force close it.
+                    this.protocol.getSocketConnection().forceClose();
+                }
+                this.needsPing = true;
+            } else if (sqlE instanceof CJCommunicationsException) {
+                invokeCleanupListeners(sqlE);
+            }
+            throw sqlE;
+
+        } finally {
+            if (this.maintainTimeStats.getValue()) {
+                this.lastQueryFinishedTime = System.currentTimeMillis();
+            }
+
+            if (this.gatherPerfMetrics.getValue()) {
+                ((NativeProtocol) this.protocol).getMetricsHolder().registerQueryExecutionTime(System.currentTimeMillis() - queryStartTime);
+            }
+        }
+    }
+
     public long getIdleFor() {
         return this.lastQueryFinishedTime == 0 ? 0 : System.currentTimeMillis() - this.lastQueryFinishedTime;
     }
@@ -0,0 +1,166 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * A buffered input stream reading from a non-blocking {@link SocketChannel}. Each read from the channel takes as many bytes as are available, without
+ * blocking to fill the buffer; it only blocks, up to the socket timeout, when no data is available.
+ * 
+ * Small reads, such as packet headers, are served from a heap buffer. Reads at least as large as the buffer go straight into the caller's array, e.g. the
+ * payload of a large packet, without passing through the buffer.
+ */
+public class SocketChannelInputStream extends InputStream {
+
+    private final SocketChannel channel;
+    private final ByteBuffer buffer;
+    private final SocketChannelSelector selector;
+    private boolean closed = false;
+
+    /**
+     * Creates a stream over the given channel.
+     * 
+     * @param channel
+     *            connected channel, in non-blocking mode
+     * @param selector
+     *            selector of the channel, shared with the {@link SocketChannelOutputStream} of the same connection
+     * @param bufferSize
+     *            size of the read buffer
+     */
+    public SocketChannelInputStream(SocketChannel channel, SocketChannelSelector selector, int bufferSize) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+        this.selector = selector;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.buffer.hasRemaining() && fill(this.buffer) < 0) {
+            return -1;
+        }
+        return this.buffer.get() & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if ((off | len | (off + len) | (b.length - (off + len))) < 0) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!this.buffer.hasRemaining()) {
+            if (len >= this.buffer.capacity()) {
+                return fill(ByteBuffer.wrap(b, off, len));
+            }
+            if (fill(this.buffer) < 0) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, this.buffer.remaining());
+        this.buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        if (!this.buffer.hasRemaining() && fill(this.buffer) < 0) {
+            return 0;
+        }
+        int skipped = (int) Math.min(n, this.buffer.remaining());
+        this.buffer.position(this.buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkClosed();
+        return this.buffer.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.selector.close();
+    }
+
+    /**
+     * Stops using the channel in non-blocking mode, so that it can be switched back to blocking mode. The channel is left open and no buffered data
+     * must remain.
+     */
+    public void detach() {
+        this.selector.close();
+    }
+
+    /**
+     * Reads what is available from the channel into the given buffer, waiting for data if there is none.
+     * 
+     * @param dst
+     *            {@link #buffer}, which is left ready to be read from, or a buffer wrapping the caller's array
+     * @return the number of bytes read, or -1 at the end of the stream
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    private int fill(ByteBuffer dst) throws IOException {
+        checkClosed();
+        boolean internal = dst == this.buffer;
+        if (internal) {
+            dst.clear();
+        }
+        try {
+            int n;
+            while ((n = this.channel.read(dst)) == 0) {
+                this.selector.await(SelectionKey.OP_READ);
+            }
+            return n;
+        } finally {
+            if (internal) {
+                dst.flip();
+            }
+        }
+    }
+
+    private void checkClosed() throws IOException {
+        if (this.closed) {
+            throw new SocketException("Socket closed");
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.net.SocketException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+
+/**
+ * A buffered output stream writing to a non-blocking {@link SocketChannel} from a direct {@link ByteBuffer}.
+ * 
+ * Data which doesn't fit into the buffer is written together with the buffered data in a single gathering write, so that a packet header and its payload
+ * reach the socket in one system call. Very large writes are copied through the direct buffer in chunks instead, to avoid the temporary direct buffers
+ * the JDK would otherwise allocate and cache for heap data.
+ */
+public class SocketChannelOutputStream extends BufferedOutputStream {
+
+    /** Largest heap array written with a gathering write. */
+    private static final int MAX_GATHER_LENGTH = 1024 * 1024;
+
+    private final SocketChannel channel;
+    private final ByteBuffer buffer;
+    private final ByteBuffer[] gather = new ByteBuffer[2];
+    private final SocketChannelSelector selector;
+    private boolean closed = false;
+
+    /**
+     * Creates a stream over the given channel.
+     * 
+     * @param channel
+     *            connected channel, in non-blocking mode
+     * @param selector
+     *            selector of the channel, shared with the {@link SocketChannelInputStream} of the same connection
+     * @param bufferSize
+     *            size of the direct write buffer
+     */
+    public SocketChannelOutputStream(SocketChannel channel, SocketChannelSelector selector, int bufferSize) {
+        // the stream inherited from BufferedOutputStream is never used, all writes go to the channel
+        super(Channels.newOutputStream(channel), 1);
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.selector = selector;
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        checkClosed();
+        if (!this.buffer.hasRemaining()) {
+            flushBuffer();
+        }
+        this.buffer.put((byte) b);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        checkClosed();
+        if (len <= this.buffer.remaining()) {
+            this.buffer.put(b, off, len);
+            return;
+        }
+
+        if (len <= MAX_GATHER_LENGTH) {
+            this.buffer.flip();
+            this.gather[0] = this.buffer;
+            this.gather[1] = ByteBuffer.wrap(b, off, len);
+            try {
+                while (this.gather[1].hasRemaining()) {
+                    if (this.channel.write(this.gather) == 0) {
+                        this.selector.await(SelectionKey.OP_WRITE);
+                    }
+                }
+            } finally {
+                this.gather[1] = null;
+                this.buffer.clear();
+            }
+            return;
+        }
+
+        int end = off + len;
+        while (off < end) {
+            if (!this.buffer.hasRemaining()) {
+                flushBuffer();
+            }
+            int n = Math.min(end - off, this.buffer.remaining());
+            this.buffer.put(b, off, n);
+            off += n;
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        checkClosed();
+        flushBuffer();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        try {
+            flushBuffer();
+        } finally {
+            this.closed = true;
+            this.selector.close();
+        }
+    }
+
+    /**
+     * Flushes buffered data and stops using the channel in non-blocking mode, so that it can be switched back to blocking mode. The channel is left open.
+     * 
+     * @throws IOException
+     *             if an I/O error occurs
+     */
+    public void detach() throws IOException {
+        flushBuffer();
+        this.selector.close();
+    }
+
+    private void flushBuffer() throws IOException {
+        this.buffer.flip();
+        try {
+            while (this.buffer.hasRemaining()) {
+                if (this.channel.write(this.buffer) == 0) {
+                    this.selector.await(SelectionKey.OP_WRITE);
+                }
+            }
+        } finally {
+            this.buffer.clear();
+        }
+    }
+
+    private void checkClosed() throws IOException {
+        if (this.closed) {
+            throw new SocketException("Socket closed");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Waits for a non-blocking {@link SocketChannel} to become readable or writable, honoring the SO_TIMEOUT of its socket so that the "socketTimeout"
+ * property and network timeouts behave the same as with stream based sockets.
+ * 
+ * A single selector serves both directions of a connection: {@link SocketChannelInputStream} and {@link SocketChannelOutputStream} share it, as a
+ * connection doesn't read and write at the same time.
+ */
+public class SocketChannelSelector {
+
+    private final SocketChannel channel;
+    private Selector selector = null;
+    private SelectionKey key = null;
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a selector for the given channel. The underlying {@link Selector} is only opened when the channel first has to be waited for.
+     * 
+     * @param channel
+     *            connected channel, in non-blocking mode
+     */
+    public SocketChannelSelector(SocketChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Blocks until the channel is ready for the given operation.
+     * 
+     * @param operation
+     *            {@link SelectionKey#OP_READ} or {@link SelectionKey#OP_WRITE}
+     * @throws SocketTimeoutException
+     *             if the socket timeout elapsed first
+     * @throws IOException
+     *             if the selector was closed or an I/O error occurred
+     */
+    synchronized void await(int operation) throws IOException {
+        try {
+            if (this.selector == null) {
+                if (this.closed) {
+                    throw new SocketException("Socket closed");
+                }
+                this.selector = Selector.open();
+                this.key = this.channel.register(this.selector, operation);
+            } else if (this.key.interestOps() != operation) {
+                this.key.interestOps(operation);
+            }
+
+            int timeout = this.channel.socket().getSoTimeout();
+            long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+            while (true) {
+                int ready = this.selector.select(timeout);
+                if (this.closed) {
+                    throw new SocketException("Socket closed");
+                }
+                if (ready > 0) {
+                    this.selector.selectedKeys().clear();
+                    return;
+                }
+                if (!this.key.isValid()) {
+                    throw new SocketException("Socket closed");
+                }
+                if (deadline > 0) {
+                    timeout = (int) (deadline - System.currentTimeMillis());
+                    if (timeout <= 0) {
+                        throw new SocketTimeoutException((operation & SelectionKey.OP_READ) != 0 ? "Read timed out" : "Write timed out");
+                    }
+                }
+            }
+        } catch (ClosedSelectorException e) {
+            throw new SocketException("Socket closed");
+        }
+    }
+
+    /**
+     * Closes the selector, waking up a thread blocked in {@link #await(int)}, and deregisters the channel. The channel itself is left open.
+     */
+    public void close() {
+        this.closed = true;
+        if (this.selector != null) {
+            try {
+                this.selector.close();
+            } catch (IOException e) {
+                // ignore
+            }
+        }
+    }
+}
@@ -36,6 +36,7 @@ import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.result.Row;
 import com.mysql.cj.result.ValueFactory;
@@ -245,6 +246,46 @@ public abstract class AbstractResultsetRow implements ResultsetRow {
         return retVal;
     }
 
+    /**
+     * Get an integer value from a byte array holding its text protocol representation, see {@link Row#getLong(int)}.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @return value
+     */
+    protected long getLongFromBytes(int columnIndex, byte[] bytes, int offset, int length) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        return MysqlTextValueDecoder.getLong(bytes, offset, offset + length);
+    }
+
+    /**
+     * Get a floating point value from a byte array holding its text protocol representation, see {@link Row#getDouble(int)}.
+     * 
+     * @param columnIndex
+     *            The (internal) index of the column
+     * @param bytes
+     *            byte array
+     * @param offset
+     *            offset into byte array
+     * @param length
+     *            length of value in byte array
+     * @return value
+     */
+    protected double getDoubleFromBytes(int columnIndex, byte[] bytes, int offset, int length) {
+        if (getNull(columnIndex)) {
+            return 0;
+        }
+        return MysqlTextValueDecoder.parseDouble(bytes, offset, length);
+    }
+
     @Override
     public Row setMetadata(ColumnDefinition f) {
         this.metadata = f;
@@ -98,6 +98,14 @@ public class BinaryResultsetReader implements ProtocolEntityReader<Resultset, Na
             if (isCursorPossible && this.protocol.getServerSession().cursorExists()) {
                 rows = new ResultsetRowsCursor(this.protocol, cdef);
 
+            } else if (!streamResults && PackedRowFactory.isPackingEnabled(this.protocol, resultSetFactory.getResultSetConcurrency())) {
+                PackedRowFactory prf = new PackedRowFactory(this.protocol, cdef, true, maxRows);
+                while (this.protocol.read(ResultsetRow.class, prf) != null) {
+                    // rows are copied to the store by the factory
+                }
+
+                rows = new ResultsetRowsStatic(prf.getRows(), cdef);
+
             } else if (!streamResults) {
                 BinaryRowFactory brf = new BinaryRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
 
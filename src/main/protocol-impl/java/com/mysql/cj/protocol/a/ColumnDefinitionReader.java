@@ -53,7 +53,8 @@ public class ColumnDefinitionReader implements ProtocolEntityReader<ColumnDefini
         long columnCount = cdf.getColumnCount();
         ColumnDefinition cdef = cdf.getColumnDefinitionFromCache();
 
-        if (cdef != null && !cdf.mergeColumnDefinitions()) {
+        // cached metadata no longer matches the result set if the number of columns changed, e.g. because the table was altered
+        if (cdef != null && (cdef.getFields() == null || cdef.getFields().length == columnCount) && !cdf.mergeColumnDefinitions()) {
             for (int i = 0; i < columnCount; i++) {
                 this.protocol.skipPacket();
             }
@@ -32,8 +32,6 @@ package com.mysql.cj.protocol.a;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.zip.DataFormatException;
-import java.util.zip.Inflater;
 
 import com.mysql.cj.conf.RuntimeProperty;
 import com.mysql.cj.log.Log;
@@ -49,8 +47,11 @@ public class CompressedInputStream extends InputStream {
     /** The stream we are reading from the server */
     private InputStream in;
 
-    /** The ZIP inflater used to un-compress packets */
-    private Inflater inflater;
+    /** The compressor used to un-compress packets */
+    private PacketCompressor compressor;
+
+    /** Pool the compressed data buffers are borrowed from, if any */
+    private PacketBufferPool bufferPool;
 
     /** Connection property reference */
     private RuntimeProperty<Boolean> traceProtocol;
@@ -81,7 +82,32 @@ public class CompressedInputStream extends InputStream {
         this.traceProtocol = traceProtocol;
         this.log = log;
         this.in = streamFromServer;
-        this.inflater = new Inflater();
+        this.compressor = new ZlibPacketCompressor();
+    }
+
+    /**
+     * Creates a new CompressedInputStream that reads the given stream from the
+     * server, un-compresses packets with the given compressor and borrows its
+     * temporary buffers from the given pool.
+     * 
+     * @param streamFromServer
+     *            original server InputStream
+     * @param traceProtocol
+     *            "traceProtocol" property
+     * @param log
+     *            logger
+     * @param bufferPool
+     *            {@link PacketBufferPool}
+     * @param compressor
+     *            {@link PacketCompressor} of the negotiated compression algorithm
+     */
+    public CompressedInputStream(InputStream streamFromServer, RuntimeProperty<Boolean> traceProtocol, Log log, PacketBufferPool bufferPool,
+            PacketCompressor compressor) {
+        this.traceProtocol = traceProtocol;
+        this.log = log;
+        this.in = streamFromServer;
+        this.bufferPool = bufferPool;
+        this.compressor = compressor;
     }
 
     @Override
@@ -97,8 +123,8 @@ public class CompressedInputStream extends InputStream {
     public void close() throws IOException {
         this.in.close();
         this.buffer = null;
-        this.inflater.end();
-        this.inflater = null;
+        this.compressor.close();
+        this.compressor = null;
         this.traceProtocol = null;
         this.log = null;
     }
@@ -134,18 +160,16 @@ public class CompressedInputStream extends InputStream {
         if (uncompressedLength > 0) {
             uncompressedData = new byte[uncompressedLength];
 
-            byte[] compressedBuffer = new byte[compressedPacketLength];
-
-            readFully(compressedBuffer, 0, compressedPacketLength);
-
-            this.inflater.reset();
-
-            this.inflater.setInput(compressedBuffer);
+            byte[] compressedBuffer = this.bufferPool == null ? new byte[compressedPacketLength] : this.bufferPool.acquire(compressedPacketLength);
 
             try {
-                this.inflater.inflate(uncompressedData);
-            } catch (DataFormatException dfe) {
-                throw new IOException("Error while uncompressing packet from server.");
+                readFully(compressedBuffer, 0, compressedPacketLength);
+
+                this.compressor.decompress(compressedBuffer, 0, compressedPacketLength, uncompressedData, 0, uncompressedLength);
+            } finally {
+                if (this.bufferPool != null) {
+                    this.bufferPool.release(compressedBuffer);
+                }
             }
 
         } else {
@@ -31,7 +31,6 @@ package com.mysql.cj.protocol.a;
 
 import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.util.zip.Deflater;
 
 import com.mysql.cj.protocol.MessageSender;
 
@@ -42,7 +41,11 @@ import com.mysql.cj.protocol.MessageSender;
  */
 public class CompressedPacketSender implements MessageSender<NativePacketPayload> {
     private BufferedOutputStream outputStream;
-    private Deflater deflater = new Deflater();
+    private PacketCompressor compressor;
+    /** Packets shorter than this are sent without compression. */
+    private int compressionThreshold = MIN_COMPRESS_LEN;
+    /** Pool the compressed packet buffers are borrowed from, if any. */
+    private PacketBufferPool bufferPool;
     /** Buffer to compress data to. Used only across one send() invocation. */
     private byte compressedPacket[];
     /** Sequence id of compressed packet. Used only across one send() invocation. */
@@ -55,19 +58,39 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
 
     public CompressedPacketSender(BufferedOutputStream outputStream) {
         this.outputStream = outputStream;
+        this.compressor = new ZlibPacketCompressor();
+    }
+
+    /**
+     * Creates a sender compressing packets with the given compressor.
+     * 
+     * @param outputStream
+     *            stream to write the compressed packets to
+     * @param bufferPool
+     *            pool to borrow compressed packet buffers from
+     * @param compressor
+     *            {@link PacketCompressor} of the negotiated compression algorithm
+     * @param compressionThreshold
+     *            packets shorter than this are sent without compression
+     */
+    public CompressedPacketSender(BufferedOutputStream outputStream, PacketBufferPool bufferPool, PacketCompressor compressor, int compressionThreshold) {
+        this.outputStream = outputStream;
+        this.bufferPool = bufferPool;
+        this.compressor = compressor;
+        this.compressionThreshold = compressionThreshold;
     }
 
     /**
      * Shut down this packet sender and deallocate any resources.
      */
     public void stop() {
-        this.deflater.end();
-        this.deflater = null;
+        this.compressor.close();
+        this.compressor = null;
     }
 
     private void resetPacket() {
         this.compressedPayloadLen = 0;
-        this.deflater.reset();
+        this.compressor.reset();
     }
 
     /**
@@ -82,9 +105,8 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
         byte uncompressedHeader[] = new byte[NativeConstants.HEADER_LENGTH];
         NativeUtils.encodeMysqlThreeByteInteger(uncompressedPacketLen, uncompressedHeader, 0);
         uncompressedHeader[3] = packetSequence;
-        this.deflater.setInput(uncompressedHeader);
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
-                this.compressedPacket.length - this.compressedPayloadLen);
+        this.compressedPayloadLen += this.compressor.compress(uncompressedHeader, 0, uncompressedHeader.length, this.compressedPacket,
+                this.compressedPayloadLen, this.compressedPacket.length - this.compressedPayloadLen);
     }
 
     /**
@@ -98,8 +120,7 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      *            length
      */
     private void addPayload(byte[] payload, int payloadOffset, int payloadLen) {
-        this.deflater.setInput(payload, payloadOffset, payloadLen);
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
+        this.compressedPayloadLen += this.compressor.compress(payload, payloadOffset, payloadLen, this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
     }
 
@@ -107,8 +128,7 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
      * Complete compression of the current payload contents to the compressed packet.
      */
     private void completeCompression() {
-        this.deflater.finish();
-        this.compressedPayloadLen += this.deflater.deflate(this.compressedPacket, this.compressedPayloadLen,
+        this.compressedPayloadLen += this.compressor.finish(this.compressedPacket, this.compressedPayloadLen,
                 this.compressedPacket.length - this.compressedPayloadLen);
     }
 
@@ -181,7 +201,7 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
         this.compressedSequenceId = packetSequence;
 
         // short-circuit send small packets without compression and return
-        if (packetLen < MIN_COMPRESS_LEN) {
+        if (packetLen < this.compressionThreshold) {
             writeCompressedHeader(packetLen + NativeConstants.HEADER_LENGTH, this.compressedSequenceId, 0);
             writeUncompressedHeader(packetLen, packetSequence);
             this.outputStream.write(packet, 0, packetLen);
@@ -189,11 +209,20 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
             return;
         }
 
-        if (packetLen + NativeConstants.HEADER_LENGTH > NativeConstants.MAX_PACKET_SIZE) {
-            this.compressedPacket = new byte[NativeConstants.MAX_PACKET_SIZE];
-        } else {
-            this.compressedPacket = new byte[NativeConstants.HEADER_LENGTH + packetLen];
+        int compressedPacketLen = Math.min(NativeConstants.HEADER_LENGTH + packetLen, NativeConstants.MAX_PACKET_SIZE);
+        this.compressedPacket = this.bufferPool == null ? new byte[compressedPacketLen] : this.bufferPool.acquire(compressedPacketLen);
+        try {
+            sendCompressed(packet, packetLen, packetSequence);
+        } finally {
+            // release reference to (possibly large) compressed packet buffer
+            if (this.bufferPool != null) {
+                this.bufferPool.release(this.compressedPacket);
+            }
+            this.compressedPacket = null;
         }
+    }
+
+    private void sendCompressed(byte[] packet, int packetLen, byte packetSequence) throws IOException {
 
         PacketSplitter packetSplitter = new PacketSplitter(packetLen);
 
@@ -253,9 +282,6 @@ public class CompressedPacketSender implements MessageSender<NativePacketPayload
         }
 
         this.outputStream.flush();
-
-        // release reference to (possibly large) compressed packet buffer
-        this.compressedPacket = null;
     }
 
     @Override
@@ -44,11 +44,17 @@ import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 public class MultiPacketReader implements MessageReader<NativePacketHeader, NativePacketPayload> {
 
     private MessageReader<NativePacketHeader, NativePacketPayload> packetReader;
+    private PacketBufferPool bufferPool;
 
     public MultiPacketReader(MessageReader<NativePacketHeader, NativePacketPayload> packetReader) {
         this.packetReader = packetReader;
     }
 
+    public MultiPacketReader(MessageReader<NativePacketHeader, NativePacketPayload> packetReader, PacketBufferPool bufferPool) {
+        this.packetReader = packetReader;
+        this.bufferPool = bufferPool;
+    }
+
     @Override
     public NativePacketHeader readHeader() throws IOException {
         return this.packetReader.readHeader();
@@ -78,7 +84,8 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
                 multiPacketLength = hdr.getMessageSize();
 
                 if (multiPacket == null) {
-                    multiPacket = new NativePacketPayload(multiPacketLength);
+                    multiPacket = this.bufferPool == null ? new NativePacketPayload(multiPacketLength)
+                            : new NativePacketPayload(multiPacketLength, this.bufferPool);
                 }
 
                 multiPacketSeq++;
@@ -92,6 +99,7 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
 
             } while (multiPacketLength == NativeConstants.MAX_PACKET_SIZE);
 
+            multiPacket.release();
             buf.setPosition(0);
         }
 
@@ -117,7 +125,8 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
                 multiPacketLength = hdr.getMessageSize();
 
                 if (multiPacket == null) {
-                    multiPacket = new NativePacketPayload(multiPacketLength);
+                    multiPacket = this.bufferPool == null ? new NativePacketPayload(multiPacketLength)
+                            : new NativePacketPayload(multiPacketLength, this.bufferPool);
                 }
 
                 multiPacketSeq++;
@@ -131,6 +140,7 @@ public class MultiPacketReader implements MessageReader<NativePacketHeader, Nati
 
             } while (multiPacketLength == NativeConstants.MAX_PACKET_SIZE);
 
+            multiPacket.release();
             buf.setPosition(0);
         }
 
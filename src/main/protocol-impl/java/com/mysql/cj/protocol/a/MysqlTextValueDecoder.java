@@ -73,6 +73,15 @@ public class MysqlTextValueDecoder implements ValueDecoder {
     /** Max string length of a signed long = 9223372036854775807 (19+1 for minus sign) */
     public static final int MAX_SIGNED_LONG_LEN = 20;
 
+    /** Decimal numbers with up to this many significant digits are exact longs which are also exact doubles */
+    private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+
+    /** Powers of ten up to this one are exact doubles */
+    private static final int MAX_EXACT_POWER_OF_TEN = 22;
+
+    private static final double[] EXACT_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17,
+            1e18, 1e19, 1e20, 1e21, 1e22 };
+
     public <T> T decodeDate(byte[] bytes, int offset, int length, ValueFactory<T> vf) {
         return vf.createFromDate(getDate(bytes, offset, length));
     }
@@ -249,6 +258,58 @@ public class MysqlTextValueDecoder implements ValueDecoder {
         return Double.parseDouble(StringUtils.toAsciiString(bytes, offset, length));
     }
 
+    /**
+     * Parses a floating point number without creating intermediate objects when it is a plain decimal number with at most 15 significant digits, which
+     * covers most FLOAT, DOUBLE and DECIMAL values. Such a number is an exact long divided by an exact power of ten, so one division gives the correctly
+     * rounded result, the same as {@link Double#parseDouble(String)} and {@link BigDecimal#doubleValue()}. Other numbers are parsed by
+     * {@link #getDouble(byte[], int, int)}.
+     * 
+     * @param bytes
+     *            bytes array with the text representation of the number
+     * @param offset
+     *            offset in array
+     * @param length
+     *            data length
+     * @return value
+     */
+    public static double parseDouble(byte[] bytes, int offset, int length) {
+        int pos = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (pos < end && (bytes[pos] == '-' || bytes[pos] == '+')) {
+            negative = bytes[pos++] == '-';
+        }
+
+        long mantissa = 0;
+        boolean hasDigits = false;
+        int digits = 0; // significant ones
+        int fractionDigits = -1;
+        for (; pos < end; pos++) {
+            byte b = bytes[pos];
+            if (b >= '0' && b <= '9') {
+                hasDigits = true;
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa != 0 && ++digits > MAX_EXACT_DOUBLE_DIGITS) {
+                    break;
+                }
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+
+        if (pos < end || !hasDigits || digits > MAX_EXACT_DOUBLE_DIGITS || fractionDigits > MAX_EXACT_POWER_OF_TEN) {
+            return getDouble(bytes, offset, length);
+        }
+
+        double value = fractionDigits > 0 ? mantissa / EXACT_POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -value : value;
+    }
+
     public static boolean isDate(String s) {
         return s.length() == DATE_BUF_LEN && s.charAt(4) == '-' && s.charAt(7) == '-'; // TODO also check proper date parts ranges
     }
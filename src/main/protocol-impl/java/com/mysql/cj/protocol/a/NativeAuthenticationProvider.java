@@ -172,8 +172,7 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
                         0 : capabilityFlags & NativeServerSession.CLIENT_FOUND_ROWS) //
                 | capabilityFlags & NativeServerSession.CLIENT_LONG_FLAG //
                 | (this.useConnectWithDb ? capabilityFlags & NativeServerSession.CLIENT_CONNECT_WITH_DB : 0) //
-                | (this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue() ? //
-                        capabilityFlags & NativeServerSession.CLIENT_COMPRESS : 0) //
+                | getCompressionCapabilityFlag(capabilityFlags) //
                 | (this.propertySet.getBooleanProperty(PropertyKey.allowLoadLocalInfile).getValue()
                         || this.propertySet.getStringProperty(PropertyKey.allowLoadLocalInfileInPath).isExplicitlySet() ? //
                                 capabilityFlags & NativeServerSession.CLIENT_LOCAL_FILES : 0) //
@@ -197,6 +196,9 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
                 | (this.propertySet.getBooleanProperty(PropertyKey.trackSessionState).getValue() ? //
                         capabilityFlags & NativeServerSession.CLIENT_SESSION_TRACK : 0) //
                 | capabilityFlags & NativeServerSession.CLIENT_DEPRECATE_EOF //
+                | (this.propertySet.getBooleanProperty(PropertyKey.useOptionalResultSetMetadata).getValue()
+                        && this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue() ? //
+                        capabilityFlags & NativeServerSession.CLIENT_OPTIONAL_RESULTSET_METADATA : 0) //
                 | capabilityFlags & NativeServerSession.CLIENT_QUERY_ATTRIBUTES //
                 | capabilityFlags & NativeServerSession.CLIENT_MULTI_FACTOR_AUTHENTICATION;
 
@@ -216,6 +218,22 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
         this.password = null;
     }
 
+    /**
+     * Chooses the protocol compression algorithm, if compression is requested.
+     * 
+     * @param capabilityFlags
+     *            server capability flags
+     * @return the capability flag of the chosen algorithm or 0 if compression is not used
+     */
+    private int getCompressionCapabilityFlag(int capabilityFlags) {
+        if (!this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue()) {
+            return 0;
+        }
+        PacketCompressionAlgorithm algorithm = PacketCompressionAlgorithm
+                .negotiate(this.propertySet.getStringProperty(PropertyKey.compressionAlgorithms).getValue(), capabilityFlags);
+        return algorithm == null ? 0 : algorithm.getCapabilityFlag();
+    }
+
     /**
      * Fill the authentication plugins map.
      *
@@ -692,6 +710,11 @@ public class NativeAuthenticationProvider implements AuthenticationProvider<Nati
         if (((clientParam & NativeServerSession.CLIENT_CONNECT_ATTRS) != 0)) {
             appendConnectionAttributes(last_sent, this.propertySet.getStringProperty(PropertyKey.connectionAttributes).getValue(), enc);
         }
+
+        // zstd compression level
+        if ((clientParam & NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM) != 0) {
+            last_sent.writeInteger(IntegerDataType.INT1, this.propertySet.getIntegerProperty(PropertyKey.zstdCompressionLevel).getValue());
+        }
         return last_sent;
     }
 
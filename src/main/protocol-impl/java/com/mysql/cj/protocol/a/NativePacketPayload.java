@@ -73,6 +73,8 @@ public class NativePacketPayload implements Message {
 
     private int position = 0;
 
+    private PacketBufferPool bufferPool = null;
+
     static final int MAX_BYTES_TO_DUMP = 1024;
 
     private Map<String, Integer> tags = new HashMap<>();
@@ -106,6 +108,21 @@ public class NativePacketPayload implements Message {
         this.payloadLength = size;
     }
 
+    /**
+     * Creates a payload whose underlying buffers are borrowed from the given pool. The buffer may be longer than <code>size</code>.
+     * Call {@link #release()} when the payload is no longer used, to return the buffer to the pool.
+     * 
+     * @param size
+     *            minimal buffer size
+     * @param bufferPool
+     *            {@link PacketBufferPool}
+     */
+    public NativePacketPayload(int size, PacketBufferPool bufferPool) {
+        this.bufferPool = bufferPool;
+        this.byteBuffer = bufferPool.acquire(size);
+        this.payloadLength = size;
+    }
+
     public int getCapacity() {
         return this.byteBuffer.length;
     }
@@ -132,13 +149,46 @@ public class NativePacketPayload implements Message {
                 newLength = this.byteBuffer.length + additionalData;
             }
 
-            byte[] newBytes = new byte[newLength];
+            byte[] newBytes = this.bufferPool == null ? new byte[newLength] : this.bufferPool.acquire(newLength);
 
             System.arraycopy(this.byteBuffer, 0, newBytes, 0, this.byteBuffer.length);
+            if (this.bufferPool != null) {
+                this.bufferPool.release(this.byteBuffer);
+            }
             this.byteBuffer = newBytes;
         }
     }
 
+    /**
+     * Checks that underlying buffer is at least bufferLength bytes long. If it is shorter then it is replaced, without preserving its content,
+     * with a buffer borrowed from the pool this payload was created with, or with a newly allocated one.
+     * 
+     * @param bufferLength
+     *            required buffer length in bytes
+     */
+    public void ensureBufferLength(int bufferLength) {
+        if (this.byteBuffer.length < bufferLength) {
+            if (this.bufferPool == null) {
+                this.byteBuffer = new byte[bufferLength];
+            } else {
+                this.bufferPool.release(this.byteBuffer);
+                this.byteBuffer = this.bufferPool.acquire(bufferLength);
+            }
+        }
+    }
+
+    /**
+     * Returns the underlying buffer to the pool this payload was created with. The payload must not be used afterwards.
+     */
+    public void release() {
+        if (this.bufferPool != null) {
+            this.bufferPool.release(this.byteBuffer);
+            this.byteBuffer = Constants.EMPTY_BYTE_ARRAY;
+            this.payloadLength = 0;
+            this.position = 0;
+        }
+    }
+
     @Override
     public byte[] getByteBuffer() {
         return this.byteBuffer;
@@ -203,6 +253,17 @@ public class NativePacketPayload implements Message {
         this.position = positionToSet;
     }
 
+    /**
+     * Moves the current position forward after bytes were written directly into the buffer returned by {@link #getByteBuffer()}.
+     * 
+     * @param len
+     *            number of written bytes
+     */
+    public void advancePosition(int len) {
+        this.position += len;
+        adjustPayloadLength();
+    }
+
     /**
      * Is it a ERROR packet.
      * 
@@ -59,6 +59,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 import com.mysql.cj.CharsetMapping;
@@ -68,13 +70,16 @@ import com.mysql.cj.Messages;
 import com.mysql.cj.MysqlType;
 import com.mysql.cj.NativeCharsetSettings;
 import com.mysql.cj.NativeSession;
+import com.mysql.cj.ParseInfo;
 import com.mysql.cj.Query;
 import com.mysql.cj.QueryAttributesBindValue;
 import com.mysql.cj.QueryAttributesBindings;
 import com.mysql.cj.QueryResult;
+import com.mysql.cj.QueryReturnType;
 import com.mysql.cj.ServerPreparedQuery;
 import com.mysql.cj.ServerVersion;
 import com.mysql.cj.Session;
+import com.mysql.cj.SharedResultSetMetadataCache;
 import com.mysql.cj.TransactionEventHandler;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.PropertySet;
@@ -129,6 +134,7 @@ import com.mysql.cj.result.Row;
 import com.mysql.cj.result.StringValueFactory;
 import com.mysql.cj.result.ValueFactory;
 import com.mysql.cj.util.LazyString;
+import com.mysql.cj.util.SearchMode;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.TestUtils;
 import com.mysql.cj.util.TimeUtil;
@@ -155,6 +161,8 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     protected NativePacketPayload sharedSendPacket = null;
     /** Use this when reading in rows to avoid thousands of new() calls, because the byte arrays just get copied out of the packet anyway */
     protected NativePacketPayload reusablePacket = null;
+    /** Per-connection pool of packet buffers, shared by the packet reader and sender chain. The pool is internally synchronized. */
+    protected PacketBufferPool packetBufferPool = null;
 
     /**
      * Packet used for 'LOAD DATA LOCAL INFILE'
@@ -193,9 +201,33 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     private RuntimeProperty<Boolean> maintainTimeStats;
     private RuntimeProperty<Integer> maxQuerySizeToLog;
+    private RuntimeProperty<Integer> maxPipelinedCommands;
+    private RuntimeProperty<Boolean> useOptionalResultSetMetadata;
+    private RuntimeProperty<Boolean> cacheResultSetMetadata;
+    private RuntimeProperty<Boolean> allowMultiQueries;
+
+    /** Is the session variable "resultset_metadata" NONE, so that the server omits the column definitions of result sets? */
+    private boolean resultsetMetadataOmitted = false;
+
+    /** The number of leading bytes of a query decoded to find its statement keyword, see {@link #isSchemaChangingQuery(byte[], int, int)} */
+    private static final int STATEMENT_KEYWORD_SCAN_LENGTH = 128;
+
+    /** The number of pipelined commands sent after the one whose response is being read, see {@link #sendPipelinedCommands} */
+    private int pipelinedCommandsAhead = 0;
+
+    /**
+     * The maximum size in bytes of the pipelined commands sent after the one whose response is being read. Neither side reads while it is blocked
+     * writing, so the commands in flight must fit in the socket buffers, see {@link #sendPipelinedCommands}
+     */
+    static final int MAX_PIPELINED_BYTES_AHEAD = 64 * 1024;
 
     private InputStream localInfileInputStream;
 
+    /** Guards {@link #backgroundCommandThread} and signals the completion of background commands, see {@link #runInBackground} */
+    private final Object backgroundCommandLock = new Object();
+    private volatile boolean backgroundCommandPending = false;
+    private Thread backgroundCommandThread = null;
+
     private BaseMetricsHolder metricsHolder;
 
     /**
@@ -224,6 +256,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
         this.maintainTimeStats = this.propertySet.getBooleanProperty(PropertyKey.maintainTimeStats);
         this.maxQuerySizeToLog = this.propertySet.getIntegerProperty(PropertyKey.maxQuerySizeToLog);
+        this.maxPipelinedCommands = this.propertySet.getIntegerProperty(PropertyKey.maxPipelinedCommands);
+        this.useOptionalResultSetMetadata = this.propertySet.getBooleanProperty(PropertyKey.useOptionalResultSetMetadata);
+        this.cacheResultSetMetadata = this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata);
+        this.allowMultiQueries = this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries);
         this.useAutoSlowLog = this.propertySet.getBooleanProperty(PropertyKey.autoSlowLog).getValue();
         this.logSlowQueries = this.propertySet.getBooleanProperty(PropertyKey.logSlowQueries).getValue();
         this.maxAllowedPacket = this.propertySet.getIntegerProperty(PropertyKey.maxAllowedPacket);
@@ -231,7 +267,8 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         this.autoGenerateTestcaseScript = this.propertySet.getBooleanProperty(PropertyKey.autoGenerateTestcaseScript).getValue();
         this.useServerPrepStmts = this.propertySet.getBooleanProperty(PropertyKey.useServerPrepStmts);
 
-        this.reusablePacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
+        this.packetBufferPool = new PacketBufferPool(this.propertySet.getMemorySizeProperty(PropertyKey.packetBufferPoolSize).getValue());
+        this.reusablePacket = new NativePacketPayload(INITIAL_PACKET_SIZE, this.packetBufferPool);
         //this.sendPacket = new Buffer(INITIAL_PACKET_SIZE);
 
         try {
@@ -372,13 +409,17 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             //
             // Can't enable compression until after handshake
             //
-            if (((this.serverSession.getCapabilities().getCapabilityFlags() & NativeServerSession.CLIENT_COMPRESS) != 0)
-                    && this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue()
+            PacketCompressionAlgorithm compressionAlgorithm = PacketCompressionAlgorithm.fromClientParam(this.serverSession.getClientParam());
+            if (compressionAlgorithm != null && this.propertySet.getBooleanProperty(PropertyKey.useCompression).getValue()
                     && !(this.socketConnection.getMysqlInput().getUnderlyingStream() instanceof CompressedInputStream)) {
                 this.useCompression = true;
+                int zstdLevel = this.propertySet.getIntegerProperty(PropertyKey.zstdCompressionLevel).getValue();
                 this.socketConnection.setMysqlInput(new FullReadInputStream(new CompressedInputStream(this.socketConnection.getMysqlInput(),
-                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log)));
-                this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput());
+                        this.propertySet.getBooleanProperty(PropertyKey.traceProtocol), this.log, this.packetBufferPool,
+                        compressionAlgorithm.createCompressor(zstdLevel, this.packetBufferPool))));
+                this.compressedPacketSender = new CompressedPacketSender(this.socketConnection.getMysqlOutput(), this.packetBufferPool,
+                        compressionAlgorithm.createCompressor(zstdLevel, this.packetBufferPool),
+                        this.propertySet.getIntegerProperty(PropertyKey.compressionThreshold).getValue());
                 this.packetSender = this.compressedPacketSender;
             }
 
@@ -454,7 +495,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
 
         // do it after other decorators to have trace and debug applied to individual packets 
-        messageReader = new MultiPacketReader(messageReader);
+        messageReader = new MultiPacketReader(messageReader, this.packetBufferPool);
 
         // atomic replacement of currently used objects
         synchronized (this.packetReader) {
@@ -571,7 +612,30 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     @Override
     public final NativePacketPayload sendCommand(Message queryPacket, boolean skipCheck, int timeoutMillis) {
+        return sendCommand(queryPacket, skipCheck, timeoutMillis, false);
+    }
+
+    /**
+     * Sends a command, first switching the session variable "resultset_metadata" if needed.
+     * 
+     * @param queryPacket
+     *            command packet
+     * @param skipCheck
+     *            whether to skip reading the response
+     * @param timeoutMillis
+     *            socket timeout for the command, or 0 to keep the current one
+     * @param omitResultsetMetadata
+     *            whether the server may omit the column definitions of the result sets of the command. If not, commands that may return result sets are
+     *            preceded by a switch back to full metadata when needed
+     * @return the response packet
+     */
+    private NativePacketPayload sendCommand(Message queryPacket, boolean skipCheck, int timeoutMillis, boolean omitResultsetMetadata) {
+        awaitBackgroundCommand();
+
         int command = queryPacket.getByteBuffer()[0];
+        if (omitResultsetMetadata != this.resultsetMetadataOmitted && (omitResultsetMetadata || mayReturnResultset(command))) {
+            setResultsetMetadataOmitted(omitResultsetMetadata);
+        }
         this.commandCount++;
 
         if (this.queryInterceptors != null) {
@@ -664,6 +728,90 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    private static boolean mayReturnResultset(int command) {
+        return command == NativeConstants.COM_QUERY || command == NativeConstants.COM_STMT_PREPARE || command == NativeConstants.COM_STMT_EXECUTE
+                || command == NativeConstants.COM_FIELD_LIST;
+    }
+
+    private void setResultsetMetadataOmitted(boolean omitted) {
+        // switch first, so that sending the statement doesn't try to switch again
+        this.resultsetMetadataOmitted = omitted;
+        try {
+            sendCommand(getCommandBuilder().buildComQuery(null, omitted ? "SET resultset_metadata=NONE" : "SET resultset_metadata=FULL"), false, 0, omitted);
+        } catch (CJException e) {
+            this.resultsetMetadataOmitted = !omitted;
+            throw e;
+        }
+    }
+
+    /**
+     * Can a query be sent with the session variable "resultset_metadata" set to NONE? Queries that return a single result set whose metadata is cached
+     * can, and so can queries that return no result set when the variable is already NONE, so that they don't switch it back and forth. Multiple statements
+     * never can: the cached metadata only describes the first result set, and the statements before a failing one would already have been executed.
+     * 
+     * @param query
+     *            query, only decoded if metadata is cached for it or the variable is already NONE
+     * @param cachedMetadata
+     *            metadata cached for the query, if any
+     * @return true if the server may omit the column definitions
+     */
+    private boolean canOmitResultsetMetadata(LazyString query, ColumnDefinition cachedMetadata) {
+        if (cachedMetadata == null && !this.resultsetMetadataOmitted || !this.serverSession.supportsOptionalResultsetMetadata()
+                || !this.serverSession.isEOFDeprecated()) {
+            return false;
+        }
+        if (this.allowMultiQueries.getValue()) {
+            return false;
+        }
+        String sql = query.toString();
+        boolean noBackslashEscapes = this.serverSession.isNoBackslashEscapesSet();
+        // multiple statements can also be sent without "allowMultiQueries", e.g. by rewritten batches
+        String quoteChar = this.serverSession.useAnsiQuotedIdentifiers() ? "\"" : "'";
+        if (StringUtils.indexOfIgnoreCase(0, sql, ";", quoteChar, quoteChar,
+                noBackslashEscapes ? SearchMode.__MRK_COM_MYM_HNT_WS : SearchMode.__BSE_MRK_COM_MYM_HNT_WS) != -1) {
+            return false;
+        }
+        QueryReturnType returnType = ParseInfo.getQueryReturnType(sql, noBackslashEscapes);
+        if (returnType == QueryReturnType.DOES_NOT_PRODUCE_RESULT_SET) {
+            return this.resultsetMetadataOmitted;
+        }
+        return cachedMetadata != null && returnType == QueryReturnType.PRODUCES_RESULT_SET;
+    }
+
+    /**
+     * Returns the name the schema version of the metadata shared by "useOptionalResultSetMetadata" is kept under, see
+     * {@link SharedResultSetMetadataCache#getSchemaScope(String, String)}.
+     * 
+     * @return schema scope
+     */
+    public String getSharedMetadataSchemaScope() {
+        return SharedResultSetMetadataCache.getSchemaScope(this.propertySet.getStringProperty(PropertyKey.clusterId).getValue(),
+                this.session.getHostInfo().getHostPortPair());
+    }
+
+    /**
+     * Checks whether a query may change the schema. Only the beginning of the query is decoded, unless comments fill it.
+     * 
+     * @param queryBuf
+     *            buffer holding the query
+     * @param queryPosition
+     *            position of the query in the buffer
+     * @param queryLength
+     *            length of the query in bytes
+     * @return true if the query is a data definition statement
+     */
+    private boolean isSchemaChangingQuery(byte[] queryBuf, int queryPosition, int queryLength) {
+        boolean noBackslashEscapes = this.serverSession.isNoBackslashEscapesSet();
+        String sql = StringUtils.toString(queryBuf, queryPosition, Math.min(queryLength, STATEMENT_KEYWORD_SCAN_LENGTH));
+        if (queryLength > STATEMENT_KEYWORD_SCAN_LENGTH) {
+            int statementKeywordPos = ParseInfo.indexOfStatementKeyword(sql, noBackslashEscapes);
+            if (statementKeywordPos == -1 || statementKeywordPos > sql.length() - "CREATE".length() - 1) {
+                sql = StringUtils.toString(queryBuf, queryPosition, queryLength);
+            }
+        }
+        return ParseInfo.isSchemaChangingQuery(sql, noBackslashEscapes);
+    }
+
     public void checkTransactionState() {
         int transState = this.serverSession.getTransactionState();
         if (transState == ServerSession.TRANSACTION_COMPLETED) {
@@ -791,11 +939,18 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
     private void reclaimLargeSharedSendPacket() {
         if ((this.sharedSendPacket != null) && (this.sharedSendPacket.getCapacity() > 1048576)) {
-            this.sharedSendPacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
+            // the old buffer is not returned to the pool, the caller may still read the query from it
+            this.sharedSendPacket = new NativePacketPayload(INITIAL_PACKET_SIZE, this.packetBufferPool);
+            this.packetBufferPool.trim(1048576);
         }
     }
 
     public void clearInputStream() {
+        if (this.pipelinedCommandsAhead > 0) {
+            // the pending input holds the responses to the pipelined commands that follow
+            return;
+        }
+
         try {
             int len;
 
@@ -811,39 +966,31 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
     }
 
     /**
-     * Don't hold on to overly-large packets
+     * Don't hold on to overly-large packets, neither in the reusable packet nor in the packet buffer pool
      */
     public void reclaimLargeReusablePacket() {
         if ((this.reusablePacket != null) && (this.reusablePacket.getCapacity() > 1048576)) {
-            this.reusablePacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
+            // the old buffer is not returned to the pool, it may still be referenced by a probed message
+            this.reusablePacket = new NativePacketPayload(INITIAL_PACKET_SIZE, this.packetBufferPool);
+        }
+        if (this.packetBufferPool != null) {
+            this.packetBufferPool.trim(1048576);
         }
     }
 
     /**
-     * Build a query packet from the given string and send it to the server.
+     * Build a COM_QUERY packet from the given string. The packet buffer is borrowed from the packet buffer pool, the caller should
+     * {@link NativePacketPayload#release()} it when the packet is no longer used.
      * 
-     * @param <T>
-     *            extends {@link Resultset}
      * @param callingQuery
      *            {@link Query}
      * @param query
      *            query string
      * @param characterEncoding
      *            Java encoding name
-     * @param maxRows
-     *            rows limit
-     * @param streamResults
-     *            whether a stream result should be created
-     * @param cachedMetadata
-     *            use this metadata instead of the one provided on wire
-     * @param resultSetFactory
-     *            {@link ProtocolEntityFactory}
-     * @return T instance
-     * @throws IOException
-     *             if an i/o error occurs
+     * @return {@link NativePacketPayload} containing the query
      */
-    public final <T extends Resultset> T sendQueryString(Query callingQuery, String query, String characterEncoding, int maxRows, boolean streamResults,
-            ColumnDefinition cachedMetadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
+    public NativePacketPayload buildQueryPacket(Query callingQuery, String query, String characterEncoding) {
         String statementComment = this.queryComment;
 
         if (this.propertySet.getBooleanProperty(PropertyKey.includeThreadNamesAsStatementComment).getValue()) {
@@ -888,7 +1035,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
 
         // TODO decide how to safely use the shared this.sendPacket
-        NativePacketPayload sendPacket = new NativePacketPayload(packLength);
+        NativePacketPayload sendPacket = new NativePacketPayload(packLength, this.packetBufferPool);
 
         sendPacket.setPosition(0);
         sendPacket.writeInteger(IntegerDataType.INT1, NativeConstants.COM_QUERY);
@@ -930,7 +1077,44 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             sendPacket.writeBytes(StringLengthDataType.STRING_FIXED, StringUtils.getBytes(query, characterEncoding));
         }
 
-        return sendQueryPacket(callingQuery, sendPacket, maxRows, streamResults, cachedMetadata, resultSetFactory);
+        return sendPacket;
+    }
+
+    /**
+     * Build a query packet from the given string and send it to the server.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param callingQuery
+     *            {@link Query}
+     * @param query
+     *            query string
+     * @param characterEncoding
+     *            Java encoding name
+     * @param maxRows
+     *            rows limit
+     * @param streamResults
+     *            whether a stream result should be created
+     * @param cachedMetadata
+     *            use this metadata instead of the one provided on wire
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @return T instance
+     * @throws IOException
+     *             if an i/o error occurs
+     */
+    public final <T extends Resultset> T sendQueryString(Query callingQuery, String query, String characterEncoding, int maxRows, boolean streamResults,
+            ColumnDefinition cachedMetadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory) throws IOException {
+        NativePacketPayload sendPacket = buildQueryPacket(callingQuery, query, characterEncoding);
+
+        try {
+            return sendQueryPacket(callingQuery, sendPacket, maxRows, streamResults, cachedMetadata, resultSetFactory);
+        } finally {
+            // query interceptors may keep the lazily decoded query string, which refers to the packet buffer
+            if (this.queryInterceptors == null) {
+                sendPacket.release();
+            }
+        }
     }
 
     /**
@@ -983,8 +1167,11 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
                 TestUtils.dumpTestcaseQuery(debugBuf.toString());
             }
 
+            boolean sharedMetadata = this.useOptionalResultSetMetadata.getValue() && this.cacheResultSetMetadata.getValue();
+            boolean omitMetadata = sharedMetadata && canOmitResultsetMetadata(query, cachedMetadata);
+
             // Send query command and sql query string
-            NativePacketPayload resultPacket = sendCommand(queryPacket, false, 0);
+            NativePacketPayload resultPacket = sendCommand(queryPacket, false, 0, omitMetadata);
 
             final long queryEndTime = getCurrentTimeNanosOrMillis();
             final long queryDuration = queryEndTime - queryStartTime;
@@ -997,7 +1184,19 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
 
             long fetchBeginTime = this.profileSQL ? getCurrentTimeNanosOrMillis() : 0L;
 
-            T rs = readAllResults(maxRows, streamResults, resultPacket, false, cachedMetadata, resultSetFactory);
+            T rs;
+            try {
+                // metadata sent by the server is read rather than skipped, so that the shared metadata can be checked against it
+                rs = readAllResults(maxRows, streamResults, resultPacket, false, sharedMetadata && !omitMetadata ? null : cachedMetadata, resultSetFactory);
+            } catch (TextResultsetReader.MissingMetadataException e) {
+                // The cached metadata is out of date. The query isn't sent again, it may have side effects; the caller can retry it with full metadata.
+                SharedResultSetMetadataCache.schemaChanged(getSharedMetadataSchemaScope());
+                throw e;
+            }
+
+            if (sharedMetadata && isSchemaChangingQuery(queryBuf, queryPosition, oldPacketPosition - queryPosition)) {
+                SharedResultSetMetadataCache.schemaChanged(getSharedMetadataSchemaScope());
+            }
 
             if (this.profileSQL || queryWasSlow) {
                 long fetchEndTime = this.profileSQL ? getCurrentTimeNanosOrMillis() : 0L;
@@ -1076,6 +1275,163 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Can commands be pipelined with {@link #sendPipelinedCommands}? Pipelining is enabled by the 'maxPipelinedCommands' property, and is not
+     * available when query interceptors, query profiling, slow query logging or test case generation need to observe every command on its own.
+     * 
+     * @return true if commands can be pipelined
+     */
+    public boolean canPipelineCommands() {
+        return this.maxPipelinedCommands.getValue() > 0 && canPipelineInternalCommands();
+    }
+
+    /**
+     * Can commands issued by the driver itself, such as the queries initializing a session, be pipelined with {@link #sendPipelinedCommands}? Unlike
+     * {@link #canPipelineCommands()}, this doesn't depend on the 'maxPipelinedCommands' property, which only limits the pipelining of application
+     * statements.
+     * 
+     * @return true if no query interceptor, query profiling, slow query logging or test case generation needs to observe every command on its own
+     */
+    public boolean canPipelineInternalCommands() {
+        return this.queryInterceptors == null && !this.profileSQL && !this.logSlowQueries && !this.autoGenerateTestcaseScript;
+    }
+
+    /**
+     * Send the given command packets to the server without waiting for the response to each of them, and read their responses in order.
+     * Up to 'maxPipelinedCommands' commands, and no more than {@link #MAX_PIPELINED_BYTES_AHEAD} bytes, are written ahead of the response being read;
+     * a larger command is only sent once the responses to all the previous ones have been read. The server executes the commands one after another,
+     * so a failed command doesn't stop the following ones; its error is returned in its {@link PipelinedResponse}. Commands that require a further
+     * exchange with the server, like LOAD DATA LOCAL INFILE, can't be pipelined.
+     * 
+     * With 'jdbcCompliantTruncation', the warnings of a command are only checked for data truncation if its response is read when no later command is
+     * in flight, which is always the case for the last command.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param packets
+     *            COM_QUERY or COM_STMT_EXECUTE packets
+     * @param maxRows
+     *            rows limit
+     * @param isBinaryEncoded
+     *            true if the commands return binary encoded result sets
+     * @param metadata
+     *            use this metadata instead of the one provided on wire
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param responses
+     *            the list to add a {@link PipelinedResponse} to for each command, in order. If the communication with the server fails, the responses
+     *            read before the failure are left in the list
+     * @throws CJCommunicationsException
+     *             if the communication with the server fails
+     */
+    public final <T extends Resultset> void sendPipelinedCommands(List<NativePacketPayload> packets, int maxRows, boolean isBinaryEncoded,
+            ColumnDefinition metadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, List<PipelinedResponse<T>> responses) {
+        sendPipelinedCommands(packets, this.maxPipelinedCommands.getValue(), maxRows, isBinaryEncoded, metadata, resultSetFactory, responses);
+    }
+
+    /**
+     * Send the given command packets to the server without waiting for the response to each of them, and read their responses in order, like
+     * {@link #sendPipelinedCommands(List, int, boolean, ColumnDefinition, ProtocolEntityFactory, List)} but regardless of 'maxPipelinedCommands'. Used
+     * by the driver for its own commands.
+     * 
+     * @param <T>
+     *            extends {@link Resultset}
+     * @param packets
+     *            COM_QUERY or COM_STMT_EXECUTE packets
+     * @param window
+     *            the maximum number of commands sent but not read yet. The commands sent ahead of the one being read are also limited to
+     *            {@link #MAX_PIPELINED_BYTES_AHEAD} bytes
+     * @param maxRows
+     *            rows limit
+     * @param isBinaryEncoded
+     *            true if the commands return binary encoded result sets
+     * @param metadata
+     *            use this metadata instead of the one provided on wire
+     * @param resultSetFactory
+     *            {@link ProtocolEntityFactory}
+     * @param responses
+     *            the list to add a {@link PipelinedResponse} to for each command, in order
+     * @throws CJCommunicationsException
+     *             if the communication with the server fails
+     */
+    public final <T extends Resultset> void sendPipelinedCommands(List<NativePacketPayload> packets, int window, int maxRows, boolean isBinaryEncoded,
+            ColumnDefinition metadata, ProtocolEntityFactory<T, NativePacketPayload> resultSetFactory, List<PipelinedResponse<T>> responses) {
+        awaitBackgroundCommand();
+        if (this.resultsetMetadataOmitted) {
+            setResultsetMetadataOmitted(false);
+        }
+
+        int count = packets.size();
+        int maxPacketLength = this.maxAllowedPacket.getValue();
+        boolean[] sentAhead = new boolean[count];
+        boolean[] rejected = new boolean[count];
+        int sent = 0;
+        int bytesAhead = 0;
+
+        this.commandCount += count;
+        this.statementExecutionDepth++;
+
+        try {
+            checkForOutstandingStreamingData();
+            clearInputStream();
+
+            for (int i = 0; i < count; i++) {
+                if (sentAhead[i]) {
+                    this.pipelinedCommandsAhead--;
+                    bytesAhead -= packets.get(i).getPosition();
+                }
+
+                while (sent < count && (sent == i
+                        || (this.pipelinedCommandsAhead < window - 1 && bytesAhead + packets.get(sent).getPosition() <= MAX_PIPELINED_BYTES_AHEAD))) {
+                    NativePacketPayload packet = packets.get(sent);
+                    if (maxPacketLength > 0 && packet.getPosition() > maxPacketLength) {
+                        // don't send it, the server would close the connection
+                        rejected[sent] = true;
+                    } else {
+                        this.packetSequence = -1;
+                        send(packet, packet.getPosition());
+                        if (sent > i) {
+                            sentAhead[sent] = true;
+                            this.pipelinedCommandsAhead++;
+                            bytesAhead += packet.getPosition();
+                        }
+                    }
+                    sent++;
+                }
+
+                if (rejected[i]) {
+                    responses.add(new PipelinedResponse<>(null, new CJPacketTooBigException(packets.get(i).getPosition(), maxPacketLength)));
+                    continue;
+                }
+
+                this.packetReader.resetMessageSequence();
+                this.serverSession.setStatusFlags(0, true);
+                this.hadWarnings = false;
+                this.setWarningCount(0);
+
+                try {
+                    NativePacketPayload resultPacket = checkErrorMessage(packets.get(i).getByteBuffer()[0]);
+                    responses.add(new PipelinedResponse<>(readAllResults(maxRows, false, resultPacket, isBinaryEncoded, metadata, resultSetFactory), null));
+                } catch (CJCommunicationsException e) {
+                    throw e;
+                } catch (CJException e) {
+                    this.serverSession.preserveOldTransactionState();
+                    responses.add(new PipelinedResponse<>(null, e));
+                }
+            }
+        } catch (IOException ioEx) {
+            this.serverSession.preserveOldTransactionState();
+            throw ExceptionFactory.createCommunicationsException(this.propertySet, this.serverSession, this.getPacketSentTimeHolder(),
+                    this.getPacketReceivedTimeHolder(), ioEx, getExceptionInterceptor());
+        } catch (CJException e) {
+            this.serverSession.preserveOldTransactionState();
+            throw e;
+        } finally {
+            this.pipelinedCommandsAhead = 0;
+            this.statementExecutionDepth--;
+        }
+    }
+
     public <T extends Resultset> T invokeQueryInterceptorsPre(Supplier<String> sql, Query interceptedQuery, boolean forceExecute) {
         T previousResultSet = null;
 
@@ -1251,6 +1607,8 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
      * 
      */
     public final void quit() {
+        awaitBackgroundCommand();
+
         try {
             try {
                 if (!ExportControlled.isSSLEstablished(this.socketConnection.getMysqlSocket())) { // Fix for Bug#56979 does not apply to secure sockets.
@@ -1284,7 +1642,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
      */
     public NativePacketPayload getSharedSendPacket() {
         if (this.sharedSendPacket == null) {
-            this.sharedSendPacket = new NativePacketPayload(INITIAL_PACKET_SIZE);
+            this.sharedSendPacket = new NativePacketPayload(INITIAL_PACKET_SIZE, this.packetBufferPool);
         }
         this.sharedSendPacket.setPosition(0);
 
@@ -1322,6 +1680,8 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         this.packetReader = this.packetReader.undecorateAll();
 
         this.authProvider.changeUser(user, password, database);
+        // the session variables are reset
+        this.resultsetMetadataOmitted = false;
     }
 
     protected boolean useNanosForElapsedTime() {
@@ -1665,7 +2025,8 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             }
         }
 
-        if (this.hadWarnings) {
+        // 'SHOW WARNINGS' can't be sent while the responses to pipelined commands are still to be read, they would be taken for its response
+        if (this.hadWarnings && this.pipelinedCommandsAhead == 0) {
             scanForAndThrowDataTruncation();
         }
 
@@ -1921,6 +2282,71 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         }
     }
 
+    /**
+     * Runs commands on a thread of the given executor while the calling thread goes on with other work, typically reading rows received earlier. The
+     * connection is reserved for the background thread before this method returns: until the commands complete, any other thread sending a command
+     * waits for them in {@link #sendCommand(Message, boolean, int)}. The caller must hold the connection mutex.
+     * 
+     * The background commands must not use the shared send packet, which the calling thread may be filling in the meantime.
+     * 
+     * @param commands
+     *            commands to run, returning their result
+     * @param executor
+     *            executor to run the commands with
+     * @param <T>
+     *            result type
+     * @return future completed with the result of the commands
+     */
+    public <T> CompletableFuture<T> runInBackground(Supplier<T> commands, Executor executor) {
+        awaitBackgroundCommand();
+        this.backgroundCommandPending = true;
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                synchronized (this.backgroundCommandLock) {
+                    this.backgroundCommandThread = Thread.currentThread();
+                }
+                try {
+                    return commands.get();
+                } finally {
+                    synchronized (this.backgroundCommandLock) {
+                        this.backgroundCommandThread = null;
+                        this.backgroundCommandPending = false;
+                        this.backgroundCommandLock.notifyAll();
+                    }
+                }
+            }, executor);
+        } catch (RuntimeException e) {
+            // not submitted
+            this.backgroundCommandPending = false;
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for commands started with {@link #runInBackground} by another thread to complete.
+     */
+    private void awaitBackgroundCommand() {
+        if (!this.backgroundCommandPending) {
+            return;
+        }
+
+        boolean interrupted = false;
+        synchronized (this.backgroundCommandLock) {
+            // a command can't be abandoned halfway without leaving the connection out of sync, so interrupts are deferred until it completes
+            while (this.backgroundCommandPending && this.backgroundCommandThread != Thread.currentThread()) {
+                try {
+                    this.backgroundCommandLock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     public void unsetStreamingData(ResultsetRows streamer) {
         if (this.streamingData == null) {
             throw ExceptionFactory.createException(Messages.getString("MysqlIO.17") + streamer + Messages.getString("MysqlIO.18"), this.exceptionInterceptor);
@@ -1950,6 +2376,10 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         return buf;
     }
 
+    public PacketBufferPool getPacketBufferPool() {
+        return this.packetBufferPool;
+    }
+
     public BaseMetricsHolder getMetricsHolder() {
         return this.metricsHolder;
     }
@@ -2198,7 +2628,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
         if (getPropertySet().getBooleanProperty(PropertyKey.forceConnectionTimeZoneToSession).getValue()) {
             // TODO don't send 'SET SESSION time_zone' if time_zone is already equal to the selectedTz (but it requires time zone detection)
 
-            StringBuilder query = new StringBuilder("SET SESSION time_zone='");
+            StringBuilder query = new StringBuilder("SESSION time_zone='");
 
             ZoneId zid = selectedTz.toZoneId().normalized();
             if (zid instanceof ZoneOffset) {
@@ -2211,7 +2641,7 @@ public class NativeProtocol extends AbstractProtocol<NativePacketPayload> implem
             }
 
             query.append("'");
-            sendCommand(getCommandBuilder().buildComQuery(null, query.toString()), false, 0);
+            ((NativeSession) this.session).sendSetStatement(query.toString());
         }
     }
 
@@ -78,6 +78,8 @@ public class NativeServerSession implements ServerSession {
     public static final int CLIENT_CAN_HANDLE_EXPIRED_PASSWORD = 0x00400000;
     public static final int CLIENT_SESSION_TRACK = 0x00800000;
     public static final int CLIENT_DEPRECATE_EOF = 0x01000000;
+    public static final int CLIENT_OPTIONAL_RESULTSET_METADATA = 0x02000000;
+    public static final int CLIENT_ZSTD_COMPRESSION_ALGORITHM = 0x04000000;
     public static final int CLIENT_QUERY_ATTRIBUTES = 0x08000000;
     public static final int CLIENT_MULTI_FACTOR_AUTHENTICATION = 0x10000000;
 
@@ -231,6 +233,15 @@ public class NativeServerSession implements ServerSession {
         return (this.clientParam & CLIENT_QUERY_ATTRIBUTES) != 0;
     }
 
+    /**
+     * Is the server able to omit the column definitions of result sets when the session variable "resultset_metadata" is NONE?
+     * 
+     * @return true if CLIENT_OPTIONAL_RESULTSET_METADATA was negotiated
+     */
+    public boolean supportsOptionalResultsetMetadata() {
+        return (this.clientParam & CLIENT_OPTIONAL_RESULTSET_METADATA) != 0;
+    }
+
     @Override
     public Map<String, String> getServerVariables() {
         return this.serverVariables;
@@ -0,0 +1,109 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.exceptions.FeatureNotAvailableException;
+import com.mysql.cj.exceptions.SSLParamsException;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.protocol.FullReadInputStream;
+import com.mysql.cj.protocol.PacketSentTimeHolder;
+import com.mysql.cj.protocol.ServerSession;
+import com.mysql.cj.protocol.SocketChannelFactory;
+import com.mysql.cj.protocol.SocketChannelInputStream;
+import com.mysql.cj.protocol.SocketChannelOutputStream;
+import com.mysql.cj.protocol.SocketChannelSelector;
+import com.mysql.cj.protocol.SocketFactory;
+import com.mysql.cj.protocol.StandardSocketFactory;
+
+/**
+ * A {@link NativeSocketConnection} doing its I/O over a non-blocking {@link SocketChannel}, see {@link SocketChannelInputStream} and
+ * {@link SocketChannelOutputStream}. Both streams wait for the channel through the same {@link SocketChannelSelector}.
+ * 
+ * The default socket factory is replaced by {@link SocketChannelFactory}. Sockets created by other factories are used as they are, with socket streams,
+ * if they have no channel. TLS is layered over socket streams, so the channel is switched back to blocking mode and the stream based I/O of
+ * {@link NativeSocketConnection} is used after a TLS handshake.
+ */
+public class NioSocketConnection extends NativeSocketConnection {
+
+    private static final int INPUT_BUFFER_SIZE = 65536;
+    private static final int OUTPUT_BUFFER_SIZE = 65536;
+
+    private SocketChannelInputStream channelInput = null;
+    private SocketChannelOutputStream channelOutput = null;
+
+    @Override
+    public void connect(String hostName, int portNumber, PropertySet propSet, ExceptionInterceptor excInterceptor, Log log, int loginTimeout) {
+        super.connect(hostName, portNumber, propSet, excInterceptor, log, loginTimeout);
+
+        SocketChannel channel = this.mysqlSocket.getChannel();
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.configureBlocking(false);
+            SocketChannelSelector selector = new SocketChannelSelector(channel);
+            this.channelInput = new SocketChannelInputStream(channel, selector, INPUT_BUFFER_SIZE);
+            this.channelOutput = new SocketChannelOutputStream(channel, selector, OUTPUT_BUFFER_SIZE);
+            this.mysqlInput = new FullReadInputStream(this.channelInput);
+            this.mysqlOutput = this.channelOutput;
+        } catch (IOException ioEx) {
+            throw ExceptionFactory.createCommunicationsException(propSet, null, new PacketSentTimeHolder() {
+            }, null, ioEx, getExceptionInterceptor());
+        }
+    }
+
+    @Override
+    public void performTlsHandshake(ServerSession serverSession, Log log) throws SSLParamsException, FeatureNotAvailableException, IOException {
+        if (this.channelInput != null) {
+            this.channelOutput.detach();
+            this.channelInput.detach();
+            this.mysqlSocket.getChannel().configureBlocking(true);
+            this.channelInput = null;
+            this.channelOutput = null;
+        }
+        super.performTlsHandshake(serverSession, log);
+    }
+
+    @Override
+    protected SocketFactory createSocketFactory(String socketFactoryClassName) {
+        if (StandardSocketFactory.class.getName().equals(socketFactoryClassName)) {
+            return new SocketChannelFactory();
+        }
+        return super.createSocketFactory(socketFactoryClassName);
+    }
+}
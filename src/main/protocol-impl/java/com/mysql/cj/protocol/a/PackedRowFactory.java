@@ -0,0 +1,109 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ProtocolEntityFactory;
+import com.mysql.cj.protocol.Resultset.Concurrency;
+import com.mysql.cj.protocol.ResultsetRow;
+import com.mysql.cj.protocol.a.result.PackedRowStore;
+
+/**
+ * Copies the rows of a buffered result set into a {@link PackedRowStore}. Row packets are read into the reusable packet of the protocol, so no memory is
+ * allocated per row besides the room they take in the store.
+ */
+public class PackedRowFactory extends AbstractRowFactory implements ProtocolEntityFactory<ResultsetRow, NativePacketPayload> {
+
+    private final boolean binaryEncoded;
+    private final int maxRows;
+    private final PackedRowStore rows;
+    private ResultsetRow lastRow;
+
+    /**
+     * Creates a factory filling a new {@link PackedRowStore}.
+     * 
+     * @param protocol
+     *            {@link NativeProtocol}
+     * @param columnDefinition
+     *            {@link ColumnDefinition} of the result set
+     * @param binaryEncoded
+     *            true for ProtocolBinary::ResultsetRow packets, false for text protocol rows
+     * @param maxRows
+     *            maximum number of rows to keep, or -1 to keep them all
+     */
+    public PackedRowFactory(NativeProtocol protocol, ColumnDefinition columnDefinition, boolean binaryEncoded, int maxRows) {
+        this.columnDefinition = columnDefinition;
+        this.resultSetConcurrency = Concurrency.READ_ONLY;
+        this.canReuseRowPacketForBufferRow = true;
+        this.exceptionInterceptor = protocol.getExceptionInterceptor();
+        this.valueDecoder = binaryEncoded ? new MysqlBinaryValueDecoder() : new MysqlTextValueDecoder();
+        this.binaryEncoded = binaryEncoded;
+        this.maxRows = maxRows;
+        this.rows = new PackedRowStore(columnDefinition, this.valueDecoder, this.exceptionInterceptor,
+                protocol.getPropertySet().getBooleanProperty(PropertyKey.packResultsetRowsOffHeap).getValue());
+    }
+
+    /**
+     * Checks whether the rows of a buffered result set should be packed.
+     * 
+     * @param protocol
+     *            {@link NativeProtocol}
+     * @param resultSetConcurrency
+     *            concurrency of the result set
+     * @return true if {@link PropertyKey#packResultsetRows} is enabled and the result set is read-only
+     */
+    public static boolean isPackingEnabled(NativeProtocol protocol, Concurrency resultSetConcurrency) {
+        return resultSetConcurrency == Concurrency.READ_ONLY && protocol.getPropertySet().getBooleanProperty(PropertyKey.packResultsetRows).getValue();
+    }
+
+    /**
+     * Copies the row into the store and returns the cursor of the store. Rows over the maximum number of rows are skipped, the cursor being returned
+     * all the same.
+     */
+    @Override
+    public ResultsetRow createFromMessage(NativePacketPayload rowPacket) {
+        if (this.maxRows == -1 || this.rows.size() < this.maxRows) {
+            int position = rowPacket.getPosition();
+            if (this.binaryEncoded) {
+                // bump past ProtocolBinary::ResultsetRow packet header
+                position++;
+            }
+            this.rows.addRow(rowPacket.getByteBuffer(), position, rowPacket.getPayloadLength() - position);
+            this.lastRow = this.rows.get(this.rows.size() - 1);
+        }
+        return this.lastRow;
+    }
+
+    public PackedRowStore getRows() {
+        return this.rows;
+    }
+}
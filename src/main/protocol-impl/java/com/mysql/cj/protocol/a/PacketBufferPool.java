@@ -0,0 +1,177 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.util.ArrayDeque;
+
+/**
+ * Per-connection pool of byte arrays used as packet buffers by the native protocol reader and sender chain.
+ * 
+ * Buffers are organized in power-of-two size classes from {@link #MIN_BUFFER_LENGTH} up to {@link #MAX_BUFFER_LENGTH} bytes. A request is served
+ * with a buffer of the smallest class that fits it, so buffers handed out by the pool may be longer than requested. Requests above the largest
+ * class are served with exactly sized arrays which are never retained.
+ * 
+ * The pool keeps at most {@code maxPooledBytes} bytes in free buffers; a buffer released while the pool is full is left to the garbage collector.
+ * A pool with a limit of zero never retains anything and hands out exactly sized arrays, which is the pre-pooling behavior.
+ * 
+ * The pool is owned by a single {@link NativeProtocol}. Its methods are synchronized because a background cursor fetch may read packets while the
+ * thread holding the connection mutex builds its next command, see {@link NativeProtocol#runInBackground}.
+ */
+public class PacketBufferPool {
+
+    /** Smallest pooled buffer length, 256 bytes. */
+    public static final int MIN_BUFFER_LENGTH = 1 << 8;
+
+    /** Largest pooled buffer length, 16 MiB. */
+    public static final int MAX_BUFFER_LENGTH = 1 << 24;
+
+    private static final int MIN_CLASS_SHIFT = 8;
+    private static final int MAX_CLASS_SHIFT = 24;
+    private static final int MAX_BUFFERS_PER_CLASS = 4;
+
+    private final ArrayDeque<byte[]>[] freeBuffers;
+    private final long maxPooledBytes;
+    private long pooledBytes = 0;
+
+    /**
+     * Creates a pool.
+     * 
+     * @param maxPooledBytes
+     *            maximum number of bytes kept in free buffers; zero disables pooling
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public PacketBufferPool(long maxPooledBytes) {
+        this.maxPooledBytes = Math.max(0, maxPooledBytes);
+        this.freeBuffers = new ArrayDeque[MAX_CLASS_SHIFT - MIN_CLASS_SHIFT + 1];
+        for (int i = 0; i < this.freeBuffers.length; i++) {
+            this.freeBuffers[i] = new ArrayDeque<>(MAX_BUFFERS_PER_CLASS);
+        }
+    }
+
+    /**
+     * Is this pool retaining buffers at all?
+     * 
+     * @return true if released buffers may be reused
+     */
+    public boolean isEnabled() {
+        return this.maxPooledBytes > 0;
+    }
+
+    /**
+     * Returns a buffer at least <code>minLength</code> bytes long. The content of the returned buffer is undefined.
+     * 
+     * @param minLength
+     *            minimal buffer length
+     * @return byte array
+     */
+    public synchronized byte[] acquire(int minLength) {
+        if (!isEnabled() || minLength > MAX_BUFFER_LENGTH) {
+            return new byte[minLength];
+        }
+        int classIndex = classIndexFor(minLength);
+        byte[] buf = this.freeBuffers[classIndex].pollFirst();
+        if (buf != null) {
+            this.pooledBytes -= buf.length;
+            return buf;
+        }
+        return new byte[1 << (classIndex + MIN_CLASS_SHIFT)];
+    }
+
+    /**
+     * Returns a buffer to the pool. Buffers which don't match a size class, or don't fit into the pool limits, are dropped.
+     * The caller must not use the buffer after releasing it.
+     * 
+     * @param buf
+     *            buffer previously obtained from {@link #acquire(int)}; may be null
+     */
+    public synchronized void release(byte[] buf) {
+        if (buf == null || !isEnabled()) {
+            return;
+        }
+        int length = buf.length;
+        if (length < MIN_BUFFER_LENGTH || length > MAX_BUFFER_LENGTH || Integer.bitCount(length) != 1) {
+            return;
+        }
+        if (this.pooledBytes + length > this.maxPooledBytes) {
+            return;
+        }
+        ArrayDeque<byte[]> free = this.freeBuffers[classIndexFor(length)];
+        if (free.size() >= MAX_BUFFERS_PER_CLASS) {
+            return;
+        }
+        free.offerFirst(buf);
+        this.pooledBytes += length;
+    }
+
+    /**
+     * Drops all free buffers longer than <code>maxRetainedLength</code>, so that memory used for a single large packet is not held
+     * by an idle connection.
+     * 
+     * @param maxRetainedLength
+     *            the longest buffer length to keep
+     */
+    public synchronized void trim(int maxRetainedLength) {
+        for (int i = this.freeBuffers.length - 1; i >= 0; i--) {
+            int length = 1 << (i + MIN_CLASS_SHIFT);
+            if (length <= maxRetainedLength) {
+                break;
+            }
+            this.pooledBytes -= (long) length * this.freeBuffers[i].size();
+            this.freeBuffers[i].clear();
+        }
+    }
+
+    /**
+     * Drops all free buffers.
+     */
+    public synchronized void clear() {
+        for (ArrayDeque<byte[]> free : this.freeBuffers) {
+            free.clear();
+        }
+        this.pooledBytes = 0;
+    }
+
+    /**
+     * Returns the number of bytes currently held in free buffers.
+     * 
+     * @return pooled bytes
+     */
+    public synchronized long getPooledBytes() {
+        return this.pooledBytes;
+    }
+
+    private static int classIndexFor(int length) {
+        if (length <= MIN_BUFFER_LENGTH) {
+            return 0;
+        }
+        return (32 - Integer.numberOfLeadingZeros(length - 1)) - MIN_CLASS_SHIFT;
+    }
+}
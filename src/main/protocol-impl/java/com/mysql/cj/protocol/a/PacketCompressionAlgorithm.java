@@ -0,0 +1,149 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.WrongArgumentException;
+import com.mysql.cj.util.StringUtils;
+
+/**
+ * Compression algorithms of the MySQL classic protocol. The algorithm is negotiated in the handshake by setting the matching capability flag.
+ */
+public enum PacketCompressionAlgorithm {
+
+    ZLIB("zlib", NativeServerSession.CLIENT_COMPRESS), //
+    ZSTD("zstd", NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM);
+
+    private final String algorithmName;
+    private final int capabilityFlag;
+    private Boolean available = null;
+
+    private PacketCompressionAlgorithm(String algorithmName, int capabilityFlag) {
+        this.algorithmName = algorithmName;
+        this.capabilityFlag = capabilityFlag;
+    }
+
+    public String getAlgorithmName() {
+        return this.algorithmName;
+    }
+
+    public int getCapabilityFlag() {
+        return this.capabilityFlag;
+    }
+
+    /**
+     * Can this algorithm be used, i.e. can the library implementing it, including its native part, be loaded?
+     * 
+     * @return true if a {@link PacketCompressor} can be created for this algorithm
+     */
+    public boolean isAvailable() {
+        if (this.available == null) {
+            boolean loaded = true;
+            if (this == ZSTD) {
+                try {
+                    ZstdPacketCompressor.loadLibrary();
+                } catch (LinkageError | RuntimeException e) {
+                    // zstd-jni is missing or has no native library for this platform
+                    loaded = false;
+                }
+            }
+            this.available = loaded;
+        }
+        return this.available;
+    }
+
+    /**
+     * Creates a new compressor for this algorithm.
+     * 
+     * @param zstdLevel
+     *            compression level used by zstd
+     * @param bufferPool
+     *            connection {@link PacketBufferPool}
+     * @return {@link PacketCompressor}
+     */
+    public PacketCompressor createCompressor(int zstdLevel, PacketBufferPool bufferPool) {
+        switch (this) {
+            case ZSTD:
+                return new ZstdPacketCompressor(zstdLevel, bufferPool);
+            case ZLIB:
+            default:
+                return new ZlibPacketCompressor();
+        }
+    }
+
+    /**
+     * Chooses the first algorithm from the client preference list which is both available in the client and supported by the server.
+     * 
+     * @param algorithms
+     *            comma separated list of algorithm names, in order of preference
+     * @param serverCapabilities
+     *            server capability flags
+     * @return the negotiated algorithm or null if there is none
+     */
+    public static PacketCompressionAlgorithm negotiate(String algorithms, long serverCapabilities) {
+        for (String name : StringUtils.split(algorithms, ",", true)) {
+            if (name.length() == 0) {
+                continue;
+            }
+            PacketCompressionAlgorithm algorithm = forName(name);
+            if ((serverCapabilities & algorithm.capabilityFlag) != 0 && algorithm.isAvailable()) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the algorithm agreed in the handshake.
+     * 
+     * @param clientParam
+     *            capability flags sent by the client
+     * @return the algorithm or null if compression is not used
+     */
+    public static PacketCompressionAlgorithm fromClientParam(long clientParam) {
+        for (PacketCompressionAlgorithm algorithm : values()) {
+            if ((clientParam & algorithm.capabilityFlag) != 0) {
+                return algorithm;
+            }
+        }
+        return null;
+    }
+
+    private static PacketCompressionAlgorithm forName(String name) {
+        for (PacketCompressionAlgorithm algorithm : values()) {
+            if (algorithm.algorithmName.equalsIgnoreCase(name)) {
+                return algorithm;
+            }
+        }
+        throw ExceptionFactory.createException(WrongArgumentException.class, Messages.getString("Protocol.Compression.9", new Object[] { name }));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.IOException;
+
+/**
+ * Compression codec used by the compressed variant of the MySQL classic protocol, see {@link CompressedPacketSender} and {@link CompressedInputStream}.
+ * 
+ * The payload of each compressed packet is compressed independently. The uncompressed content of a compressed packet is passed to
+ * {@link #compress(byte[], int, int, byte[], int, int)} in one or more chunks, followed by a single call to {@link #finish(byte[], int, int)}.
+ * Instances are stateful and not thread-safe.
+ */
+public interface PacketCompressor {
+
+    /**
+     * Discards any state left from the previous compressed packet.
+     */
+    void reset();
+
+    /**
+     * Adds uncompressed data to the current compressed packet.
+     * 
+     * @param input
+     *            uncompressed data
+     * @param inputOffset
+     *            offset of the data
+     * @param inputLength
+     *            length of the data
+     * @param output
+     *            buffer to write compressed data to
+     * @param outputOffset
+     *            offset to start writing at
+     * @param outputLength
+     *            available space in the output buffer
+     * @return number of compressed bytes written, possibly zero
+     */
+    int compress(byte[] input, int inputOffset, int inputLength, byte[] output, int outputOffset, int outputLength);
+
+    /**
+     * Completes compression of the current packet.
+     * 
+     * @param output
+     *            buffer to write compressed data to
+     * @param outputOffset
+     *            offset to start writing at
+     * @param outputLength
+     *            available space in the output buffer
+     * @return number of compressed bytes written; if the compressed data doesn't fit into the output buffer then <code>outputLength</code>
+     */
+    int finish(byte[] output, int outputOffset, int outputLength);
+
+    /**
+     * Decompresses the payload of one compressed packet.
+     * 
+     * @param input
+     *            compressed data
+     * @param inputOffset
+     *            offset of the data
+     * @param inputLength
+     *            length of the data
+     * @param output
+     *            buffer to write uncompressed data to
+     * @param outputOffset
+     *            offset to start writing at
+     * @param outputLength
+     *            expected uncompressed length
+     * @throws IOException
+     *             if the data can't be decompressed
+     */
+    void decompress(byte[] input, int inputOffset, int inputLength, byte[] output, int outputOffset, int outputLength) throws IOException;
+
+    /**
+     * Releases the resources held by this compressor.
+     */
+    void close();
+}
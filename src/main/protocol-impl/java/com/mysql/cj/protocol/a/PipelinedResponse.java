@@ -0,0 +1,69 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.protocol.Resultset;
+
+/**
+ * The outcome of one command sent by {@link NativeProtocol#sendPipelinedCommands}: either the results read for it or the exception it failed with.
+ * 
+ * @param <T>
+ *            extends {@link Resultset}
+ */
+public class PipelinedResponse<T extends Resultset> {
+
+    private T result;
+    private CJException exception;
+
+    public PipelinedResponse(T result, CJException exception) {
+        this.result = result;
+        this.exception = exception;
+    }
+
+    /**
+     * Returns the results of the command.
+     * 
+     * @return the results, or <code>null</code> if the command failed
+     */
+    public T getResult() {
+        return this.result;
+    }
+
+    /**
+     * Returns the exception the command failed with, either an error reported by the server or one raised by the driver before the command was sent.
+     * 
+     * @return the exception, or <code>null</code> if the command succeeded
+     */
+    public CJException getException() {
+        return this.exception;
+    }
+}
@@ -120,12 +120,9 @@ public class SimplePacketReader implements MessageReader<NativePacketHeader, Nat
                 message = reuse.get();
                 // Set the Buffer to it's original state
                 message.setPosition(0);
-                // Do we need to re-alloc the byte buffer?
-                if (message.getByteBuffer().length < packetLength) {
-                    // Note: We actually check the length of the buffer, rather than getBufLength(), because getBufLength()
-                    // is not necessarily the actual length of the byte array used as the buffer
-                    message.setByteBuffer(new byte[packetLength]);
-                }
+                // Re-alloc the byte buffer if needed. Note: the length of the buffer is checked, rather than getPayloadLength(), because
+                // getPayloadLength() is not necessarily the actual length of the byte array used as the buffer
+                message.ensureBufferLength(packetLength);
 
                 // Set the new length
                 message.setPayloadLength(packetLength);
@@ -32,7 +32,10 @@ package com.mysql.cj.protocol.a;
 import java.io.IOException;
 import java.util.ArrayList;
 
+import com.mysql.cj.Messages;
 import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.CJException;
+import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.ProtocolEntityReader;
@@ -64,18 +67,39 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
         if (columnCount > 0) {
             // Build a result set with rows.
 
-            // Read in the column information
-            ColumnDefinition cdef = this.protocol.read(ColumnDefinition.class, new ColumnDefinitionFactory(columnCount, metadata));
+            ColumnDefinition cdef;
+            if (this.protocol.getServerSession().supportsOptionalResultsetMetadata()
+                    && resultPacket.readInteger(IntegerDataType.INT1) == NativeConstants.RESULTSET_METADATA_NONE) {
+                // The server omitted the column definitions, the caller's cached metadata is used instead
+                if (metadata == null || metadata.getFields().length != columnCount) {
+                    skipRows();
+                    skipPendingResults();
+                    throw new MissingMetadataException();
+                }
+                cdef = metadata;
+
+            } else {
+                // Read in the column information
+                cdef = this.protocol.read(ColumnDefinition.class, new ColumnDefinitionFactory(columnCount, metadata));
 
-            // There is no EOF packet after fields when CLIENT_DEPRECATE_EOF is set
-            if (!this.protocol.getServerSession().isEOFDeprecated()) {
-                this.protocol.skipPacket();
-                //this.protocol.readServerStatusForResultSets(this.protocol.readPacket(this.protocol.getReusablePacket()), true);
+                // There is no EOF packet after fields when CLIENT_DEPRECATE_EOF is set
+                if (!this.protocol.getServerSession().isEOFDeprecated()) {
+                    this.protocol.skipPacket();
+                    //this.protocol.readServerStatusForResultSets(this.protocol.readPacket(this.protocol.getReusablePacket()), true);
+                }
             }
 
             ResultsetRows rows = null;
 
-            if (!streamResults) {
+            if (!streamResults && PackedRowFactory.isPackingEnabled(this.protocol, resultSetFactory.getResultSetConcurrency())) {
+                PackedRowFactory prf = new PackedRowFactory(this.protocol, cdef, false, maxRows);
+                while (this.protocol.read(ResultsetRow.class, prf) != null) {
+                    // rows are copied to the store by the factory
+                }
+
+                rows = new ResultsetRowsStatic(prf.getRows(), cdef);
+
+            } else if (!streamResults) {
                 TextRowFactory trf = new TextRowFactory(this.protocol, cdef, resultSetFactory.getResultSetConcurrency(), false);
                 ArrayList<ResultsetRow> rowList = new ArrayList<>();
 
@@ -124,4 +148,66 @@ public class TextResultsetReader implements ProtocolEntityReader<Resultset, Nati
         //            this.protocol.getPacketReceivedTimeHolder().getLastPacketReceivedTime(), ioEx, this.protocol.getExceptionInterceptor());
         //}
     }
+
+    /**
+     * Reads and discards the rows of a result set which can't be decoded.
+     */
+    private void skipRows() {
+        boolean eofDeprecated = this.protocol.getServerSession().isEOFDeprecated();
+        NativePacketPayload rowPacket;
+        do {
+            rowPacket = this.protocol.checkErrorMessage();
+            rowPacket.setPosition(0);
+        } while (!(eofDeprecated ? rowPacket.isResultSetOKPacket() : rowPacket.isEOFPacket()));
+        this.protocol.readServerStatusForResultSets(rowPacket, true);
+    }
+
+    /**
+     * Reads and discards the results which follow the current one, so that the connection stays in sync when the current one can't be decoded.
+     */
+    private void skipPendingResults() {
+        boolean eofDeprecated = this.protocol.getServerSession().isEOFDeprecated();
+        while (this.protocol.getServerSession().hasMoreResults()) {
+            NativePacketPayload resultPacket = this.protocol.checkErrorMessage();
+            resultPacket.setPosition(0);
+            long columnCount = resultPacket.readInteger(IntegerDataType.INT_LENENC);
+            if (columnCount > 0) {
+                if (!this.protocol.getServerSession().supportsOptionalResultsetMetadata()
+                        || resultPacket.readInteger(IntegerDataType.INT1) != NativeConstants.RESULTSET_METADATA_NONE) {
+                    for (long i = 0; i < columnCount; i++) {
+                        this.protocol.skipPacket();
+                    }
+                    if (!eofDeprecated) {
+                        this.protocol.skipPacket();
+                    }
+                }
+                skipRows();
+            } else {
+                if (columnCount == NativePacketPayload.NULL_LENGTH) {
+                    // the statement is already being executed, the file is sent as it would be if the result could be decoded
+                    String charEncoding = this.protocol.getPropertySet().getStringProperty(PropertyKey.characterEncoding).getValue();
+                    String fileName = resultPacket.readString(StringSelfDataType.STRING_TERM,
+                            this.protocol.getServerSession().getCharsetSettings().doesPlatformDbCharsetMatches() ? charEncoding : null);
+                    resultPacket = this.protocol.sendFileToServer(fileName);
+                }
+                this.protocol.readServerStatusForResultSets(resultPacket, true);
+            }
+        }
+    }
+
+    /**
+     * Thrown when the server omitted the column definitions of a result set and the metadata cached by the driver doesn't match it, e.g. because the table
+     * was altered. The results of the statement have been consumed. The exception is transient: once the cached metadata is discarded, the query is sent with full metadata
+     * if the caller executes it again.
+     */
+    static class MissingMetadataException extends CJException {
+
+        private static final long serialVersionUID = -1468358519416294624L;
+
+        MissingMetadataException() {
+            super(Messages.getString("TextResultsetReader.0"));
+            setSQLState(MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR);
+            setTransient(true);
+        }
+    }
 }
@@ -0,0 +1,241 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+/**
+ * Writes parameter values of client-side prepared statements as SQL literals directly into a byte array or a {@link NativePacketPayload}, so that a
+ * COM_QUERY packet can be filled without an intermediate byte array per parameter.
+ * 
+ * Strings are quoted, escaped the same way ClientPreparedQueryBindings.setString() does, and encoded as UTF-8. Callers must fall back to the
+ * regular encoding for other character sets, for sessions with NO_BACKSLASH_ESCAPES and for LOAD DATA queries.
+ */
+public class TextValueEncoder {
+
+    private TextValueEncoder() {
+    }
+
+    /**
+     * Returns the number of bytes the decimal representation of the given value takes.
+     * 
+     * @param value
+     *            value
+     * @return length in bytes
+     */
+    public static int getEncodedLength(long value) {
+        int len = 1;
+        // work on the negative value, so that Long.MIN_VALUE needs no special case
+        long v = value;
+        if (v < 0) {
+            len++;
+        } else {
+            v = -v;
+        }
+        while (v <= -10) {
+            v /= 10;
+            len++;
+        }
+        return len;
+    }
+
+    /**
+     * Writes the decimal representation of the given value.
+     * 
+     * @param dest
+     *            destination array, must have at least {@link #getEncodedLength(long)} bytes left after offset
+     * @param offset
+     *            position of the first byte to write
+     * @param value
+     *            value
+     * @return position after the last written byte
+     */
+    public static int encodeLong(byte[] dest, int offset, long value) {
+        int end = offset + getEncodedLength(value);
+        int pos = end;
+        long v = value < 0 ? value : -value;
+        do {
+            dest[--pos] = (byte) ('0' - (v % 10));
+            v /= 10;
+        } while (v != 0);
+        if (value < 0) {
+            dest[--pos] = '-';
+        }
+        return end;
+    }
+
+    /**
+     * Writes the decimal representation of the given value at the current position of the packet.
+     * 
+     * @param packet
+     *            {@link NativePacketPayload}
+     * @param value
+     *            value
+     */
+    public static void encodeLong(NativePacketPayload packet, long value) {
+        int len = getEncodedLength(value);
+        packet.ensureCapacity(len);
+        encodeLong(packet.getByteBuffer(), packet.getPosition(), value);
+        packet.advancePosition(len);
+    }
+
+    /**
+     * Returns the number of bytes the quoted, escaped and UTF-8 encoded string takes.
+     * 
+     * @param value
+     *            string
+     * @param escapeDoubleQuotes
+     *            should double quotes be escaped, i.e. is ANSI_QUOTES set for the session
+     * @return length in bytes
+     */
+    public static int getEncodedLength(String value, boolean escapeDoubleQuotes) {
+        int len = 2;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case 0:
+                case '\n':
+                case '\r':
+                case '\\':
+                case '\'':
+                case '\032':
+                    len += 2;
+                    break;
+                case '"':
+                    len += escapeDoubleQuotes ? 2 : 1;
+                    break;
+                default:
+                    if (c < 0x80) {
+                        len++;
+                    } else if (c < 0x800) {
+                        len += 2;
+                    } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        len += 4;
+                        i++;
+                    } else if (Character.isSurrogate(c)) {
+                        len++; // unpaired surrogates are replaced with '?', as String.getBytes() does
+                    } else {
+                        len += 3;
+                    }
+            }
+        }
+        return len;
+    }
+
+    /**
+     * Writes the given string quoted, escaped and UTF-8 encoded.
+     * 
+     * @param dest
+     *            destination array, must have at least {@link #getEncodedLength(String, boolean)} bytes left after offset
+     * @param offset
+     *            position of the first byte to write
+     * @param value
+     *            string
+     * @param escapeDoubleQuotes
+     *            should double quotes be escaped, i.e. is ANSI_QUOTES set for the session
+     * @return position after the last written byte
+     */
+    public static int encodeString(byte[] dest, int offset, String value, boolean escapeDoubleQuotes) {
+        int pos = offset;
+        dest[pos++] = '\'';
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case 0: /* Must be escaped for 'mysql' */
+                    dest[pos++] = '\\';
+                    dest[pos++] = '0';
+                    break;
+                case '\n': /* Must be escaped for logs */
+                    dest[pos++] = '\\';
+                    dest[pos++] = 'n';
+                    break;
+                case '\r':
+                    dest[pos++] = '\\';
+                    dest[pos++] = 'r';
+                    break;
+                case '\\':
+                    dest[pos++] = '\\';
+                    dest[pos++] = '\\';
+                    break;
+                case '\'':
+                    dest[pos++] = '\'';
+                    dest[pos++] = '\'';
+                    break;
+                case '"': /* Better safe than sorry */
+                    if (escapeDoubleQuotes) {
+                        dest[pos++] = '\\';
+                    }
+                    dest[pos++] = '"';
+                    break;
+                case '\032': /* This gives problems on Win32 */
+                    dest[pos++] = '\\';
+                    dest[pos++] = 'Z';
+                    break;
+                default:
+                    if (c < 0x80) {
+                        dest[pos++] = (byte) c;
+                    } else if (c < 0x800) {
+                        dest[pos++] = (byte) (0xc0 | (c >> 6));
+                        dest[pos++] = (byte) (0x80 | (c & 0x3f));
+                    } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        int cp = Character.toCodePoint(c, value.charAt(++i));
+                        dest[pos++] = (byte) (0xf0 | (cp >> 18));
+                        dest[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3f));
+                        dest[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3f));
+                        dest[pos++] = (byte) (0x80 | (cp & 0x3f));
+                    } else if (Character.isSurrogate(c)) {
+                        dest[pos++] = '?';
+                    } else {
+                        dest[pos++] = (byte) (0xe0 | (c >> 12));
+                        dest[pos++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                        dest[pos++] = (byte) (0x80 | (c & 0x3f));
+                    }
+            }
+        }
+        dest[pos++] = '\'';
+        return pos;
+    }
+
+    /**
+     * Writes the given string quoted, escaped and UTF-8 encoded at the current position of the packet.
+     * 
+     * @param packet
+     *            {@link NativePacketPayload}
+     * @param value
+     *            string
+     * @param escapeDoubleQuotes
+     *            should double quotes be escaped, i.e. is ANSI_QUOTES set for the session
+     */
+    public static void encodeString(NativePacketPayload packet, String value, boolean escapeDoubleQuotes) {
+        int len = getEncodedLength(value, escapeDoubleQuotes);
+        packet.ensureCapacity(len);
+        encodeString(packet.getByteBuffer(), packet.getPosition(), value, escapeDoubleQuotes);
+        packet.advancePosition(len);
+    }
+}
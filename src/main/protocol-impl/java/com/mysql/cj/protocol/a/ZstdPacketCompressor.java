@@ -0,0 +1,133 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import java.io.IOException;
+
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdException;
+import com.mysql.cj.Constants;
+
+/**
+ * {@link PacketCompressor} for the zstd compression algorithm, supported by MySQL 8.0.18 and later. Requires the zstd-jni library on the class path.
+ * 
+ * zstd compresses a whole packet payload at once, so the chunks passed to {@link #compress(byte[], int, int, byte[], int, int)} are collected in a
+ * buffer borrowed from the connection {@link PacketBufferPool} and compressed by {@link #finish(byte[], int, int)}.
+ */
+public class ZstdPacketCompressor implements PacketCompressor {
+
+    private ZstdCompressCtx compressCtx;
+    private ZstdDecompressCtx decompressCtx;
+    private PacketBufferPool bufferPool;
+
+    private byte[] uncompressed = null;
+    private int uncompressedLength = 0;
+
+    /**
+     * Loads zstd-jni along with its native library by creating and releasing compression contexts, so that a missing library fails here rather than
+     * when a connection is compressed.
+     * 
+     * @throws LinkageError
+     *             if zstd-jni or its native library can't be loaded
+     */
+    static void loadLibrary() {
+        new ZstdCompressCtx().close();
+        new ZstdDecompressCtx().close();
+    }
+
+    public ZstdPacketCompressor(int level, PacketBufferPool bufferPool) {
+        this.compressCtx = new ZstdCompressCtx();
+        this.compressCtx.setLevel(level);
+        this.decompressCtx = new ZstdDecompressCtx();
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public void reset() {
+        releaseUncompressed();
+    }
+
+    @Override
+    public int compress(byte[] input, int inputOffset, int inputLength, byte[] output, int outputOffset, int outputLength) {
+        if (this.uncompressed == null || this.uncompressed.length - this.uncompressedLength < inputLength) {
+            byte[] newBuffer = this.bufferPool.acquire(this.uncompressedLength + inputLength);
+            if (this.uncompressed != null) {
+                System.arraycopy(this.uncompressed, 0, newBuffer, 0, this.uncompressedLength);
+                this.bufferPool.release(this.uncompressed);
+            }
+            this.uncompressed = newBuffer;
+        }
+        System.arraycopy(input, inputOffset, this.uncompressed, this.uncompressedLength, inputLength);
+        this.uncompressedLength += inputLength;
+        return 0;
+    }
+
+    @Override
+    public int finish(byte[] output, int outputOffset, int outputLength) {
+        try {
+            return this.compressCtx.compressByteArray(output, outputOffset, outputLength,
+                    this.uncompressed == null ? Constants.EMPTY_BYTE_ARRAY : this.uncompressed, 0, this.uncompressedLength);
+        } catch (ZstdException e) {
+            // the only expected failure is an output buffer too small for incompressible data
+            return outputLength;
+        } finally {
+            releaseUncompressed();
+        }
+    }
+
+    @Override
+    public void decompress(byte[] input, int inputOffset, int inputLength, byte[] output, int outputOffset, int outputLength) throws IOException {
+        try {
+            int length = this.decompressCtx.decompressByteArray(output, outputOffset, outputLength, input, inputOffset, inputLength);
+            if (length != outputLength) {
+                throw new IOException("Error while uncompressing packet from server.");
+            }
+        } catch (ZstdException e) {
+            throw new IOException("Error while uncompressing packet from server.", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        releaseUncompressed();
+        this.compressCtx.close();
+        this.decompressCtx.close();
+    }
+
+    private void releaseUncompressed() {
+        if (this.uncompressed != null) {
+            this.bufferPool.release(this.uncompressed);
+            this.uncompressed = null;
+        }
+        this.uncompressedLength = 0;
+    }
+}
@@ -90,4 +90,21 @@ public class ByteArrayRow extends AbstractResultsetRow {
         int length = columnData == null ? 0 : columnData.length;
         return getValueFromBytes(columnIndex, columnData, 0, length, vf);
     }
+
+    @Override
+    public boolean supportsPrimitiveGetters() {
+        return !isBinaryEncoded();
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        byte[] columnData = this.internalRowData[columnIndex];
+        return getLongFromBytes(columnIndex, columnData, 0, columnData == null ? 0 : columnData.length);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        byte[] columnData = this.internalRowData[columnIndex];
+        return getDoubleFromBytes(columnIndex, columnData, 0, columnData == null ? 0 : columnData.length);
+    }
 }
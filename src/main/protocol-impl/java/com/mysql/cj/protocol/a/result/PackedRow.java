@@ -0,0 +1,258 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.nio.ByteBuffer;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.exceptions.ExceptionFactory;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.a.NativeUtils;
+import com.mysql.cj.protocol.result.AbstractResultsetRow;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.ValueFactory;
+
+/**
+ * A read-only cursor over the rows held by a {@link PackedRowStore}. The store has a single cursor, which {@link PackedRowStore#get(int)} moves to the
+ * requested row. The position of the column values in the row payload is only computed when a value is first requested, and is read directly from the
+ * chunk holding the row, whether it is kept on or outside of the Java heap.
+ */
+public class PackedRow extends AbstractResultsetRow {
+
+    private static final int NULL_VALUE = -1;
+
+    private final PackedRowStore store;
+    private int rowIndex = -1;
+
+    private ByteBuffer chunk;
+    private boolean valuesLocated = false;
+    private int[] valueOffsets;
+    private int[] valueLengths;
+
+    /** Copy of the last value decoded from a chunk outside of the Java heap, as decoders work on arrays. */
+    private byte[] valueBytes = new byte[0];
+
+    PackedRow(PackedRowStore store, ExceptionInterceptor exceptionInterceptor, ValueDecoder valueDecoder) {
+        super(exceptionInterceptor);
+
+        this.store = store;
+        this.valueDecoder = valueDecoder;
+    }
+
+    /**
+     * Moves the cursor to the given row.
+     * 
+     * @param index
+     *            index of the row in the store
+     */
+    void moveTo(int index) {
+        if (index != this.rowIndex) {
+            this.rowIndex = index;
+            this.valuesLocated = false;
+        }
+    }
+
+    @Override
+    public boolean isBinaryEncoded() {
+        return this.valueDecoder instanceof MysqlBinaryValueDecoder;
+    }
+
+    @Override
+    public byte[] getBytes(int index) {
+        if (getNull(index)) {
+            return null;
+        }
+        byte[] bytes = new byte[this.valueLengths[index]];
+        ByteBuffer source = this.chunk.duplicate();
+        source.position(this.valueOffsets[index]);
+        source.get(bytes);
+        return bytes;
+    }
+
+    @Override
+    public boolean getNull(int columnIndex) {
+        locateValues();
+        this.wasNull = this.valueLengths[columnIndex] == NULL_VALUE;
+        return this.wasNull;
+    }
+
+    /**
+     * Implementation of getValue() based on the row payload. Delegate to superclass for decoding.
+     */
+    @Override
+    public <T> T getValue(int columnIndex, ValueFactory<T> vf) {
+        locateValues();
+        int length = Math.max(this.valueLengths[columnIndex], 0);
+        if (this.chunk.hasArray()) {
+            return getValueFromBytes(columnIndex, this.chunk.array(), this.chunk.arrayOffset() + this.valueOffsets[columnIndex], length, vf);
+        }
+        return getValueFromBytes(columnIndex, copyValue(columnIndex, length), 0, length, vf);
+    }
+
+    @Override
+    public boolean supportsPrimitiveGetters() {
+        return !isBinaryEncoded();
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        locateValues();
+        int length = Math.max(this.valueLengths[columnIndex], 0);
+        if (this.chunk.hasArray()) {
+            return getLongFromBytes(columnIndex, this.chunk.array(), this.chunk.arrayOffset() + this.valueOffsets[columnIndex], length);
+        }
+        return getLongFromBytes(columnIndex, copyValue(columnIndex, length), 0, length);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        locateValues();
+        int length = Math.max(this.valueLengths[columnIndex], 0);
+        if (this.chunk.hasArray()) {
+            return getDoubleFromBytes(columnIndex, this.chunk.array(), this.chunk.arrayOffset() + this.valueOffsets[columnIndex], length);
+        }
+        return getDoubleFromBytes(columnIndex, copyValue(columnIndex, length), 0, length);
+    }
+
+    /**
+     * Copies a value of a row kept outside of the Java heap to {@link #valueBytes}.
+     * 
+     * @return {@link #valueBytes}
+     */
+    private byte[] copyValue(int columnIndex, int length) {
+        if (this.valueBytes.length < length) {
+            this.valueBytes = new byte[Math.max(length, this.valueBytes.length * 2)];
+        }
+        ByteBuffer source = this.chunk.duplicate();
+        source.position(this.valueOffsets[columnIndex]);
+        source.get(this.valueBytes, 0, length);
+        return this.valueBytes;
+    }
+
+    /**
+     * Finds the offset in the chunk and the length of every value of the row.
+     */
+    private void locateValues() {
+        if (this.valuesLocated) {
+            return;
+        }
+
+        ByteBuffer buf = this.store.getRowChunk(this.rowIndex);
+        int position = this.store.getRowOffset(this.rowIndex);
+
+        Field[] fields = this.store.getColumnDefinition().getFields();
+        if (this.valueOffsets == null || this.valueOffsets.length != fields.length) {
+            this.valueOffsets = new int[fields.length];
+            this.valueLengths = new int[fields.length];
+        }
+
+        if (isBinaryEncoded()) {
+            // ProtocolBinary::ResultsetRow starts with the NULL bitmap, its first two bits are reserved
+            int nullMaskPos = position;
+            int bit = 4;
+            position += (fields.length + 9) / 8;
+
+            for (int i = 0; i < fields.length; i++) {
+                int type = fields[i].getMysqlTypeId();
+                int encodedLength = NativeUtils.getBinaryEncodedLength(type);
+
+                if ((buf.get(nullMaskPos) & bit) != 0 || type == MysqlType.FIELD_TYPE_NULL) {
+                    this.valueLengths[i] = NULL_VALUE;
+                } else if (encodedLength == 0) {
+                    position = readLengthEncodedValue(buf, position, i);
+                } else if (encodedLength > 0) {
+                    this.valueOffsets[i] = position;
+                    this.valueLengths[i] = encodedLength;
+                    position += encodedLength;
+                } else {
+                    throw ExceptionFactory.createException(Messages.getString("MysqlIO.97", new Object[] { type, i, fields.length }));
+                }
+
+                if (((bit <<= 1) & 255) == 0) {
+                    bit = 1; /* To next byte */
+                    nullMaskPos++;
+                }
+            }
+        } else {
+            for (int i = 0; i < fields.length; i++) {
+                position = readLengthEncodedValue(buf, position, i);
+            }
+        }
+
+        this.chunk = buf;
+        this.valuesLocated = true;
+    }
+
+    /**
+     * Reads a Protocol::LengthEncodedString (or a NULL marker) starting at the given position.
+     * 
+     * @return the position following the value
+     */
+    private int readLengthEncodedValue(ByteBuffer buf, int position, int columnIndex) {
+        int sw = buf.get(position++) & 0xff;
+        long length;
+
+        switch (sw) {
+            case 251:
+                this.valueOffsets[columnIndex] = position;
+                this.valueLengths[columnIndex] = NULL_VALUE;
+                return position;
+
+            case 252:
+                length = (buf.get(position) & 0xff) | ((buf.get(position + 1) & 0xff) << 8);
+                position += 2;
+                break;
+
+            case 253:
+                length = (buf.get(position) & 0xff) | ((buf.get(position + 1) & 0xff) << 8) | ((buf.get(position + 2) & 0xff) << 16);
+                position += 3;
+                break;
+
+            case 254:
+                length = 0;
+                for (int i = 7; i >= 0; i--) {
+                    length = (length << 8) | (buf.get(position + i) & 0xff);
+                }
+                position += 8;
+                break;
+
+            default:
+                length = sw;
+        }
+
+        this.valueOffsets[columnIndex] = position;
+        this.valueLengths[columnIndex] = (int) length;
+        return position + (int) length;
+    }
+}
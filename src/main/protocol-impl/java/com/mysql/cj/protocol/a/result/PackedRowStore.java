@@ -0,0 +1,162 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.ValueDecoder;
+import com.mysql.cj.result.Row;
+
+/**
+ * In-memory storage of the rows of a buffered result set. Instead of keeping one byte[] per column value, the row payloads received from the server are copied
+ * one after the other into large memory chunks, and only the location of each row is recorded. Rows are read back through a single {@link PackedRow}
+ * cursor, so the store can be used as the rows list of a {@link ResultsetRowsStatic}, which only reads one row at a time.
+ * 
+ * The store is append-only and can't be modified through the {@link List} interface, thus it is only suitable for read-only result sets.
+ */
+public class PackedRowStore extends AbstractList<Row> implements RandomAccess {
+
+    /** Size of the first chunk; the following ones double in size up to {@link #MAX_CHUNK_SIZE}. */
+    static final int INITIAL_CHUNK_SIZE = 8 * 1024;
+
+    static final int MAX_CHUNK_SIZE = 1024 * 1024;
+
+    private final ColumnDefinition columnDefinition;
+    private final boolean offHeap;
+    private final PackedRow cursor;
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private ByteBuffer currentChunk;
+    private int nextChunkSize = INITIAL_CHUNK_SIZE;
+
+    /** Chunk index in the upper 32 bits and offset in the chunk in the lower 32 bits, for each row. */
+    private long[] rowLocations = new long[16];
+    private int rowCount = 0;
+
+    /**
+     * Creates an empty store.
+     * 
+     * @param columnDefinition
+     *            metadata of the rows as sent by the server
+     * @param valueDecoder
+     *            decoder of the row values, determines whether rows are text or binary encoded
+     * @param exceptionInterceptor
+     *            {@link ExceptionInterceptor}
+     * @param offHeap
+     *            whether chunks are allocated outside of the Java heap
+     */
+    public PackedRowStore(ColumnDefinition columnDefinition, ValueDecoder valueDecoder, ExceptionInterceptor exceptionInterceptor, boolean offHeap) {
+        this.columnDefinition = columnDefinition;
+        this.offHeap = offHeap;
+        this.cursor = new PackedRow(this, exceptionInterceptor, valueDecoder);
+    }
+
+    /**
+     * Copies a row payload at the end of the store.
+     * 
+     * @param bytes
+     *            buffer holding the row payload
+     * @param offset
+     *            start of the row payload in the buffer
+     * @param length
+     *            length of the row payload
+     */
+    public void addRow(byte[] bytes, int offset, int length) {
+        if (this.currentChunk == null || this.currentChunk.remaining() < length) {
+            this.currentChunk = allocateChunk(Math.max(length, this.nextChunkSize));
+            this.chunks.add(this.currentChunk);
+            this.nextChunkSize = Math.min(this.nextChunkSize * 2, MAX_CHUNK_SIZE);
+        }
+
+        if (this.rowCount == this.rowLocations.length) {
+            this.rowLocations = Arrays.copyOf(this.rowLocations, this.rowCount + (this.rowCount >> 1));
+        }
+
+        this.rowLocations[this.rowCount] = ((long) (this.chunks.size() - 1) << 32) | this.currentChunk.position();
+        this.rowCount++;
+
+        this.currentChunk.put(bytes, offset, length);
+    }
+
+    private ByteBuffer allocateChunk(int size) {
+        return this.offHeap ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+    }
+
+    /**
+     * Moves the cursor of the store to the row at the given index and returns it. The same cursor is returned on each call, so a row returned earlier
+     * must not be read after another one was requested.
+     */
+    @Override
+    public PackedRow get(int index) {
+        if (index < 0 || index >= this.rowCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.rowCount);
+        }
+        this.cursor.moveTo(index);
+        return this.cursor;
+    }
+
+    @Override
+    public int size() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the memory used by the row payloads, including the unused tail of the chunks.
+     * 
+     * @return the total size of the chunks in bytes
+     */
+    public long getAllocatedBytes() {
+        long total = 0;
+        for (ByteBuffer chunk : this.chunks) {
+            total += chunk.capacity();
+        }
+        return total;
+    }
+
+    ColumnDefinition getColumnDefinition() {
+        return this.columnDefinition;
+    }
+
+    ByteBuffer getRowChunk(int index) {
+        return this.chunks.get((int) (this.rowLocations[index] >>> 32));
+    }
+
+    int getRowOffset(int index) {
+        return (int) this.rowLocations[index];
+    }
+}
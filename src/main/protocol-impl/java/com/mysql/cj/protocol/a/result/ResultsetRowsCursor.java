@@ -31,8 +31,14 @@ package com.mysql.cj.protocol.a.result;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 import com.mysql.cj.Messages;
+import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.ExceptionFactory;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Resultset.Concurrency;
@@ -40,6 +46,7 @@ import com.mysql.cj.protocol.ResultsetRow;
 import com.mysql.cj.protocol.ResultsetRows;
 import com.mysql.cj.protocol.a.BinaryRowFactory;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
+import com.mysql.cj.protocol.a.NativePacketPayload;
 import com.mysql.cj.protocol.a.NativeProtocol;
 import com.mysql.cj.result.Row;
 
@@ -78,6 +85,27 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
 
     protected NativeMessageBuilder commandBuilder = null;
 
+    /**
+     * Approximate number of bytes to request per fetch, 0 to request the fetch size of the owner every time.
+     */
+    private int fetchBufferSize;
+
+    /**
+     * Should the next batch of rows be fetched in the background while the current one is consumed?
+     */
+    private boolean prefetch;
+
+    /**
+     * Number and total payload size of the rows fetched so far, used to size the fetches by {@link #fetchBufferSize}.
+     */
+    private long totalRowCount = 0;
+    private long totalRowBytes = 0;
+
+    /**
+     * The fetch running in the background while the current rows are consumed, if any.
+     */
+    private CompletableFuture<FetchedRows> prefetchedRows = null;
+
     /**
      * Creates a new cursor-backed row provider.
      * 
@@ -90,8 +118,16 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
         this.currentPositionInEntireResult = BEFORE_START_OF_ROWS;
         this.metadata = columnDefinition;
         this.protocol = ioChannel;
-        this.rowFactory = new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, false);
+        this.rowFactory = new BinaryRowFactory(this.protocol, this.metadata, Concurrency.READ_ONLY, false) {
+            @Override
+            public ResultsetRow createFromMessage(NativePacketPayload rowPacket) {
+                ResultsetRowsCursor.this.totalRowBytes += rowPacket.getPayloadLength();
+                return super.createFromMessage(rowPacket);
+            }
+        };
         this.commandBuilder = new NativeMessageBuilder(this.protocol.getServerSession().supportsQueryAttributes());
+        this.fetchBufferSize = this.protocol.getPropertySet().getMemorySizeProperty(PropertyKey.cursorFetchBufferSize).getValue();
+        this.prefetch = this.protocol.getPropertySet().getBooleanProperty(PropertyKey.prefetchCursorRows).getValue();
     }
 
     @Override
@@ -126,6 +162,19 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
 
     @Override
     public void close() {
+        if (this.owner != null && this.owner.getSyncMutex() != null) {
+            synchronized (this.owner.getSyncMutex()) {
+                if (this.prefetchedRows != null) {
+                    // the rows are discarded, but the connection must be idle before the statement owning the cursor goes away
+                    try {
+                        this.prefetchedRows.join();
+                    } catch (CompletionException | CancellationException e) {
+                        // ignore
+                    }
+                    this.prefetchedRows = null;
+                }
+            }
+        }
 
         this.metadata = null;
         this.owner = null;
@@ -205,54 +254,123 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
         }
 
         synchronized (this.owner.getSyncMutex()) {
-            try {
-                boolean oldFirstFetchCompleted = this.firstFetchCompleted;
+            boolean oldFirstFetchCompleted = this.firstFetchCompleted;
 
-                if (!this.firstFetchCompleted) {
-                    this.firstFetchCompleted = true;
-                }
+            if (!this.firstFetchCompleted) {
+                this.firstFetchCompleted = true;
+            }
 
-                int numRowsToFetch = this.owner.getOwnerFetchSize();
+            FetchedRows fetched;
+            if (this.prefetchedRows != null) {
+                fetched = takePrefetchedRows();
+            } else {
+                fetched = fetchRows(this.owner.getOwningStatementServerId(), getNumRowsToFetch(), false);
+            }
 
-                if (numRowsToFetch == 0) {
-                    numRowsToFetch = this.owner.getOwningStatementFetchSize();
-                }
+            this.fetchedRows = fetched.rows;
+            this.currentPositionInFetchedRows = BEFORE_START_OF_ROWS;
 
-                if (numRowsToFetch == Integer.MIN_VALUE) {
-                    // Handle the case where the user used 'old' streaming result sets
+            if (fetched.lastRowSent) {
+                this.lastRowFetched = true;
 
-                    numRowsToFetch = 1;
+                if (!oldFirstFetchCompleted && this.fetchedRows.size() == 0) {
+                    this.wasEmpty = true;
                 }
+            } else if (this.prefetch) {
+                startPrefetch(this.owner.getOwningStatementServerId(), getNumRowsToFetch());
+            }
+        }
+    }
 
-                if (this.fetchedRows == null) {
-                    this.fetchedRows = new ArrayList<>(numRowsToFetch);
-                } else {
-                    this.fetchedRows.clear();
-                }
+    /**
+     * Returns the number of rows to request with the next COM_STMT_FETCH: the fetch size of the owner, or as many rows of the average size seen so far as fit
+     * into {@link #fetchBufferSize}.
+     * 
+     * @return number of rows
+     */
+    private int getNumRowsToFetch() {
+        if (this.fetchBufferSize > 0 && this.totalRowCount > 0) {
+            long averageRowBytes = Math.max(1, this.totalRowBytes / this.totalRowCount);
+            return (int) Math.max(1, Math.min(Integer.MAX_VALUE, this.fetchBufferSize / averageRowBytes));
+        }
+
+        int numRowsToFetch = this.owner.getOwnerFetchSize();
 
-                // TODO this is not the right place for this code, should be in protocol
-                this.protocol.sendCommand(
-                        this.commandBuilder.buildComStmtFetch(this.protocol.getSharedSendPacket(), this.owner.getOwningStatementServerId(), numRowsToFetch),
-                        true, 0);
+        if (numRowsToFetch == 0) {
+            numRowsToFetch = this.owner.getOwningStatementFetchSize();
+        }
 
-                Row row = null;
+        if (numRowsToFetch == Integer.MIN_VALUE) {
+            // Handle the case where the user used 'old' streaming result sets
 
-                while ((row = this.protocol.read(ResultsetRow.class, this.rowFactory)) != null) {
-                    this.fetchedRows.add(row);
-                }
+            numRowsToFetch = 1;
+        }
 
-                this.currentPositionInFetchedRows = BEFORE_START_OF_ROWS;
+        return numRowsToFetch;
+    }
 
-                if (this.protocol.getServerSession().isLastRowSent()) {
-                    this.lastRowFetched = true;
+    /**
+     * Fetches the next batch of rows from the server. Calls never overlap: the foreground fetch runs with the sync mutex of the owner held, and only when no
+     * prefetch is pending; a prefetch runs on a background thread without the mutex, and the connection stays reserved for it by
+     * {@link NativeProtocol#runInBackground} until it completes, so other commands wait for it in {@code awaitBackgroundCommand()}. Its updates of the
+     * cursor state are visible to the owner once {@link #takePrefetchedRows()} has joined it.
+     * 
+     * @param statementId
+     *            server-side id of the statement owning the cursor
+     * @param numRowsToFetch
+     *            number of rows to request
+     * @param background
+     *            true if called from a background thread, which can't use the shared send packet
+     * @return the rows
+     */
+    private FetchedRows fetchRows(long statementId, int numRowsToFetch, boolean background) {
+        try {
+            List<Row> rows = new ArrayList<>(numRowsToFetch);
 
-                    if (!oldFirstFetchCompleted && this.fetchedRows.size() == 0) {
-                        this.wasEmpty = true;
-                    }
-                }
-            } catch (Exception ex) {
-                throw ExceptionFactory.createException(ex.getMessage(), ex);
+            // TODO this is not the right place for this code, should be in protocol
+            this.protocol.sendCommand(
+                    this.commandBuilder.buildComStmtFetch(background ? null : this.protocol.getSharedSendPacket(), statementId, numRowsToFetch), true, 0);
+
+            Row row = null;
+
+            while ((row = this.protocol.read(ResultsetRow.class, this.rowFactory)) != null) {
+                rows.add(row);
             }
+
+            this.totalRowCount += rows.size();
+
+            return new FetchedRows(rows, this.protocol.getServerSession().isLastRowSent());
+        } catch (Exception ex) {
+            throw ExceptionFactory.createException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Fetches the next batch of rows on a background thread. Other users of the connection wait for the fetch to complete, see
+     * {@link NativeProtocol#runInBackground}.
+     * 
+     * @param statementId
+     *            server-side id of the statement owning the cursor
+     * @param numRowsToFetch
+     *            number of rows to request
+     */
+    private void startPrefetch(long statementId, int numRowsToFetch) {
+        this.prefetchedRows = this.protocol.runInBackground(() -> fetchRows(statementId, numRowsToFetch, true), PrefetchExecutorHolder.EXECUTOR);
+    }
+
+    private FetchedRows takePrefetchedRows() {
+        CompletableFuture<FetchedRows> prefetched = this.prefetchedRows;
+        this.prefetchedRows = null;
+
+        try {
+            return prefetched.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw ExceptionFactory.createException(e.getCause().getMessage(), e.getCause());
         }
     }
 
@@ -282,4 +400,29 @@ public class ResultsetRowsCursor extends AbstractResultsetRows implements Result
         throw ExceptionFactory.createException(Messages.getString("ResultSet.ForwardOnly"));
     }
 
+    /**
+     * Result of one COM_STMT_FETCH.
+     */
+    private static class FetchedRows {
+        final List<Row> rows;
+        final boolean lastRowSent;
+
+        FetchedRows(List<Row> rows, boolean lastRowSent) {
+            this.rows = rows;
+            this.lastRowSent = lastRowSent;
+        }
+    }
+
+    /**
+     * Daemon threads running the background fetches, created on first use. The pool isn't bounded on purpose: each cursor has at most one prefetch in
+     * flight, so the number of threads is bounded by the number of cursors being read, and a prefetch blocks on the network until its server responds, so
+     * with fewer threads the cursors of one slow server would hold up those of the others. Idle threads exit after a minute.
+     */
+    private static class PrefetchExecutorHolder {
+        static final Executor EXECUTOR = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "MySQL cursor prefetch");
+            t.setDaemon(true);
+            return t;
+        });
+    }
 }
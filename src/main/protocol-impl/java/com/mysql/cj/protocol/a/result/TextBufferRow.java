@@ -131,4 +131,23 @@ public class TextBufferRow extends AbstractBufferRow {
         int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
         return getValueFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length, vf);
     }
+
+    @Override
+    public boolean supportsPrimitiveGetters() {
+        return true;
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        findAndSeekToOffset(columnIndex);
+        int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        return getLongFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        findAndSeekToOffset(columnIndex);
+        int length = (int) this.rowFromServer.readInteger(IntegerDataType.INT_LENENC);
+        return getDoubleFromBytes(columnIndex, this.rowFromServer.getByteBuffer(), this.rowFromServer.getPosition(), length);
+    }
 }
@@ -31,6 +31,7 @@ package com.mysql.cj.jdbc;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Iterator;
 
 import com.mysql.cj.PingTarget;
 import com.mysql.cj.Query;
@@ -99,6 +100,30 @@ public interface JdbcStatement extends java.sql.Statement, Query {
      */
     InputStream getLocalInfileInputStream();
 
+    /**
+     * Executes a "LOAD DATA LOCAL INFILE" statement, sending the given rows to the server instead of the contents of the file named in the statement.
+     * 
+     * Rows are pulled from the iterator and encoded only as the server requests data, so at most one packet worth of rows is held in memory regardless of
+     * how many rows are loaded. Use {@link java.util.stream.Stream#iterator()} to load the rows of a stream. Requires "allowLoadLocalInfile=true".
+     * 
+     * If the iterator or the encoder throws, the rows encoded before the failure are still loaded by the server, and an exception having the failure as
+     * its cause is thrown once the statement completes.
+     * 
+     * @param sql
+     *            a "LOAD DATA LOCAL INFILE" statement using the default FIELDS and LINES options
+     * @param rows
+     *            rows to load
+     * @param encoder
+     *            writes the columns of each row
+     * @param <T>
+     *            row type
+     * @return the number of rows loaded
+     * @throws SQLException
+     *             if an error occurs
+     * @see LoadDataRowWriter
+     */
+    <T> long executeLoadData(String sql, Iterator<? extends T> rows, LoadDataRowEncoder<? super T> encoder) throws SQLException;
+
     void setPingTarget(PingTarget pingTarget);
 
     ExceptionInterceptor getExceptionInterceptor();
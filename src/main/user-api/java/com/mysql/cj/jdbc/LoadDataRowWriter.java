@@ -0,0 +1,79 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+/**
+ * Receives the column values of one row of a "LOAD DATA LOCAL INFILE" statement fed by a {@link LoadDataRowEncoder}.
+ * 
+ * Values are written in the default format of LOAD DATA: columns are separated by tabs, rows are terminated by a newline and special characters are escaped
+ * with a backslash, so the statement must not override the FIELDS or LINES options. Strings are encoded as UTF-8, so the statement should specify
+ * "CHARACTER SET utf8mb4" unless that is already the character set of the database.
+ */
+public interface LoadDataRowWriter {
+
+    /**
+     * Writes a SQL NULL column.
+     */
+    void writeNull();
+
+    /**
+     * Writes a string column, or SQL NULL if the value is null.
+     * 
+     * @param value
+     *            column value
+     */
+    void writeString(String value);
+
+    /**
+     * Writes an integer column.
+     * 
+     * @param value
+     *            column value
+     */
+    void writeLong(long value);
+
+    /**
+     * Writes a binary column, or SQL NULL if the value is null.
+     * 
+     * @param value
+     *            column value
+     */
+    void writeBytes(byte[] value);
+
+    /**
+     * Writes a column of any type. Byte arrays are written as binary values, booleans as 1 or 0, big decimals in plain notation and any other object as its
+     * string representation.
+     * 
+     * @param value
+     *            column value, null for SQL NULL
+     */
+    void writeObject(Object value);
+}
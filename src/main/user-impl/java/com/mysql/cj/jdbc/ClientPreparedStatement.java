@@ -51,6 +51,7 @@ import java.sql.Timestamp;
 import java.sql.Wrapper;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 
 import com.mysql.cj.BindValue;
 import com.mysql.cj.CancelQueryTask;
@@ -74,12 +75,16 @@ import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
 import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.ResultSetMetaData;
 import com.mysql.cj.log.ProfilerEvent;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.a.NativeConstants.StringLengthDataType;
 import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.PacketBufferPool;
+import com.mysql.cj.protocol.a.PipelinedResponse;
 import com.mysql.cj.result.Field;
 import com.mysql.cj.util.Util;
 
@@ -802,6 +807,11 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
                     updateCounts[i] = -3;
                 }
 
+                if (!this.batchHasPlainStatements && canPipelineBatch(nbrCommands, batchTimeout) && isNonResultSetProducingQuery()
+                        && getParseInfo().getFirstStmtChar() != 'L') {
+                    return executeBatchPipelined(updateCounts);
+                }
+
                 SQLException sqlEx = null;
 
                 CancelQueryTask timeoutTask = null;
@@ -881,6 +891,114 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
 
     }
 
+    /**
+     * Sends a command for each batched parameter set back-to-back and then reads their results in order, see {@link StatementImpl#executePipelined}.
+     * Each parameter set gets its own update count or EXECUTE_FAILED. If a statement fails, the exception reported for the batch is the first error that
+     * rolled back the transaction, otherwise the last error.
+     * 
+     * @param updateCounts
+     *            the array to fill with the update counts
+     * @return update counts in the same manner as executeBatch()
+     * @throws SQLException
+     *             if a statement or the communication with the server fails
+     */
+    protected long[] executeBatchPipelined(long[] updateCounts) throws SQLException {
+        List<Object> batchedArgs = this.query.getBatchedArgs();
+        int nbrCommands = batchedArgs.size();
+        List<NativePacketPayload> packets = new ArrayList<>(nbrCommands);
+        List<PipelinedResponse<ResultSetImpl>> responses = new ArrayList<>(nbrCommands);
+        SQLException failure = null;
+
+        if (this.retrieveGeneratedKeys) {
+            this.batchedGeneratedKeys = new ArrayList<>(nbrCommands);
+        }
+
+        try {
+            PacketBufferPool packetBufferPool = this.session.getProtocol().getPacketBufferPool();
+
+            for (int i = 0; i < nbrCommands; i++) {
+                ((PreparedQuery<?>) this.query).setBatchCommandIndex(i);
+
+                // the command is built in the shared send packet, every pipelined command needs its own copy
+                NativePacketPayload sendPacket = fillSendPacketForBatch((QueryBindings<?>) batchedArgs.get(i));
+                NativePacketPayload packet = new NativePacketPayload(sendPacket.getPosition(), packetBufferPool);
+                packet.writeBytes(StringLengthDataType.STRING_FIXED, sendPacket.getByteBuffer(), 0, sendPacket.getPosition());
+                packets.add(packet);
+            }
+
+            executePipelined(packets, responses);
+        } catch (CJException e) {
+            failure = SQLExceptionsMapping.translateException(e, this.exceptionInterceptor);
+        } catch (SQLException ex) {
+            failure = ex;
+        } finally {
+            ((PreparedQuery<?>) this.query).setBatchCommandIndex(-1);
+
+            for (NativePacketPayload packet : packets) {
+                packet.release();
+            }
+        }
+
+        SQLException sqlEx = null;
+
+        for (int i = 0; i < nbrCommands; i++) {
+            PipelinedResponse<ResultSetImpl> response = i < responses.size() ? responses.get(i) : null;
+
+            if (response == null || response.getException() != null) {
+                updateCounts[i] = EXECUTE_FAILED;
+
+                if (response != null && (sqlEx == null || !hasDeadlockOrTimeoutRolledBackTx(sqlEx))) {
+                    sqlEx = SQLExceptionsMapping.translateException(response.getException(), this.exceptionInterceptor);
+                }
+                continue;
+            }
+
+            ResultSetInternalMethods rs = response.getResult();
+
+            if (this.retrieveGeneratedKeys) {
+                rs.setFirstCharOfQuery(getParseInfo().getFirstStmtChar());
+            }
+
+            this.results = rs;
+
+            this.updateCount = rs.getUpdateCount();
+
+            if (containsOnDuplicateKeyUpdateInSQL() && this.compensateForOnDuplicateKeyUpdate) {
+                if (this.updateCount == 2 || this.updateCount == 0) {
+                    this.updateCount = 1;
+                }
+            }
+
+            this.lastInsertId = rs.getUpdateID();
+
+            updateCounts[i] = this.updateCount;
+
+            // limit one generated key per OnDuplicateKey statement
+            getBatchedGeneratedKeys(containsOnDuplicateKeyUpdateInSQL() ? 1 : 0);
+        }
+
+        if (failure != null) {
+            sqlEx = failure;
+        }
+
+        if (sqlEx != null) {
+            throw SQLError.createBatchUpdateException(sqlEx, updateCounts, this.exceptionInterceptor);
+        }
+
+        return updateCounts;
+    }
+
+    /**
+     * Builds the command which executes the statement with the given batched parameter set in the shared send packet.
+     * 
+     * @param bindings
+     *            batched parameter set
+     * @return the shared send packet
+     */
+    protected NativePacketPayload fillSendPacketForBatch(QueryBindings<?> bindings) {
+        return ((PreparedQuery<?>) this.query).fillSendPacket(bindings);
+    }
+
     /**
      * Actually execute the prepared statement. This is here so server-side
      * PreparedStatements can re-use most of the code from this class.
@@ -1261,7 +1379,7 @@ public class ClientPreparedStatement extends com.mysql.cj.jdbc.StatementImpl imp
      * @return
      *         <code>true</code> if the query does not produce a result set, <code>false</code> otherwise.
      */
-    private boolean isNonResultSetProducingQuery() {
+    protected boolean isNonResultSetProducingQuery() {
         QueryReturnType queryReturnType = getParseInfo().getQueryReturnType();
         return queryReturnType == QueryReturnType.DOES_NOT_PRODUCE_RESULT_SET || queryReturnType == QueryReturnType.MAY_PRODUCE_RESULT_SET;
     }
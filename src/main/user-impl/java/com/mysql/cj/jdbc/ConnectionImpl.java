@@ -66,6 +66,7 @@ import com.mysql.cj.NoSubInterceptorWrapper;
 import com.mysql.cj.ParseInfo;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.ServerVersion;
+import com.mysql.cj.SharedResultSetMetadataCache;
 import com.mysql.cj.Session.SessionEventListener;
 import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyDefinitions.DatabaseTerm;
@@ -91,9 +92,11 @@ import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.UpdatableResultSet;
 import com.mysql.cj.log.ProfilerEvent;
 import com.mysql.cj.log.StandardLogger;
+import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.ServerSessionStateController;
 import com.mysql.cj.protocol.SocksProxySocketFactory;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.BoundedCache;
+import com.mysql.cj.util.ConcurrentLRUCache;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.Util;
 
@@ -307,7 +310,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
      */
     private final CopyOnWriteArrayList<JdbcStatement> openStatements = new CopyOnWriteArrayList<>();
 
-    private LRUCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
+    private BoundedCache<CompoundCacheKey, CallableStatement.CallableStatementParamInfo> parsedCallableStatementCache;
 
     /** The password we used */
     private String password = null;
@@ -319,7 +322,16 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     private boolean readOnly = false;
 
     /** Cache of ResultSet metadata */
-    protected LRUCache<String, CachedResultSetMetaData> resultSetMetadataCache;
+    protected BoundedCache<String, CachedResultSetMetaData> resultSetMetadataCache;
+
+    /** Cluster or server whose schema version applies to the result set metadata shared with other connections, if "useOptionalResultSetMetadata" is set */
+    private String sharedResultSetMetadataSchemaScope;
+
+    /** Settings which determine the result set metadata of this connection, to share it only with connections having the same settings */
+    private String sharedResultSetMetadataScope;
+
+    /** Schema version of the server when the last cached metadata was looked up */
+    private long sharedResultSetMetadataSchemaVersion;
 
     /**
      * The type map for UDTs (not implemented, but used by some third-party
@@ -330,8 +342,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     /** The user we're connected as */
     private String user = null;
 
-    private LRUCache<String, Boolean> serverSideStatementCheckCache;
-    private LRUCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
+    private BoundedCache<String, Boolean> serverSideStatementCheckCache;
+    private BoundedCache<CompoundCacheKey, ServerPreparedStatement> serverSideStatementCache;
 
     private HostInfo origHostInfo;
 
@@ -433,15 +445,16 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             if (this.propertySet.getBooleanProperty(PropertyKey.cacheCallableStmts).getValue()) {
-                this.parsedCallableStatementCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
+                this.parsedCallableStatementCache = new ConcurrentLRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.callableStmtCacheSize).getValue());
             }
 
             if (this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries).getValue()) {
                 this.propertySet.getProperty(PropertyKey.cacheResultSetMetadata).setValue(false); // we don't handle this yet
             }
 
-            if (this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue()) {
-                this.resultSetMetadataCache = new LRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
+            if (this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue()
+                    && !this.propertySet.getBooleanProperty(PropertyKey.useOptionalResultSetMetadata).getValue()) {
+                this.resultSetMetadataCache = new ConcurrentLRUCache<>(this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
             }
 
             if (this.propertySet.getStringProperty(PropertyKey.socksProxyHost).getStringValue() != null) {
@@ -520,22 +533,20 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
         boolean allowMultiQueries = this.propertySet.getBooleanProperty(PropertyKey.allowMultiQueries).getValue();
 
         if (this.cachePrepStmts.getValue()) {
-            synchronized (this.serverSideStatementCheckCache) {
-                Boolean flag = this.serverSideStatementCheckCache.get(sql);
-
-                if (flag != null) {
-                    return flag.booleanValue();
-                }
+            Boolean flag = this.serverSideStatementCheckCache.get(sql);
 
-                boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
-                        this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
+            if (flag != null) {
+                return flag.booleanValue();
+            }
 
-                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                    this.serverSideStatementCheckCache.put(sql, canHandle ? Boolean.TRUE : Boolean.FALSE);
-                }
+            boolean canHandle = StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
+                    this.session.getServerSession().isNoBackslashEscapesSet(), this.session.getServerSession().useAnsiQuotedIdentifiers());
 
-                return canHandle;
+            if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                this.serverSideStatementCheckCache.put(sql, canHandle ? Boolean.TRUE : Boolean.FALSE);
             }
+
+            return canHandle;
         }
 
         return StringUtils.canHandleAsServerPreparedStatementNoCache(sql, getServerVersion(), allowMultiQueries,
@@ -567,11 +578,19 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             this.user = userName;
             this.password = newPassword;
 
-            this.session.getServerSession().getCharsetSettings().configurePostHandshake(true);
+            this.session.beginSessionInit();
+            boolean initialized = false;
+            try {
+                this.session.getServerSession().getCharsetSettings().configurePostHandshake(true);
 
-            this.session.setSessionVariables();
+                this.session.setSessionVariables();
 
-            setupServerForTruncationChecks();
+                setupServerForTruncationChecks();
+
+                initialized = true;
+            } finally {
+                this.session.endSessionInit(initialized);
+            }
         }
     }
 
@@ -1059,32 +1078,20 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
             }
 
             if (this.useServerPrepStmts.getValue()) {
-                this.serverSideStatementCheckCache = new LRUCache<>(cacheSize);
+                this.serverSideStatementCheckCache = new ConcurrentLRUCache<>(cacheSize);
 
-                this.serverSideStatementCache = new LRUCache<CompoundCacheKey, ServerPreparedStatement>(cacheSize) {
-
-                    private static final long serialVersionUID = 7692318650375988114L;
+                // evicting an entry closes its statement on the server, so a single segment evicts exactly the least recently used statement
+                this.serverSideStatementCache = new ConcurrentLRUCache<CompoundCacheKey, ServerPreparedStatement>(cacheSize, 1) {
 
                     @Override
-                    protected boolean removeEldestEntry(java.util.Map.Entry<CompoundCacheKey, ServerPreparedStatement> eldest) {
-                        if (this.maxElements <= 1) {
-                            return false;
-                        }
-
-                        boolean removeIt = super.removeEldestEntry(eldest);
-
-                        if (removeIt) {
-                            ServerPreparedStatement ps = eldest.getValue();
-                            ps.isCached = false;
-                            ps.setClosed(false);
-                            try {
-                                ps.realClose(true, true);
-                            } catch (SQLException sqlEx) {
-                                // punt
-                            }
+                    protected void onEviction(CompoundCacheKey key, ServerPreparedStatement ps) {
+                        ps.isCached = false;
+                        ps.setClosed(false);
+                        try {
+                            ps.realClose(true, true);
+                        } catch (SQLException sqlEx) {
+                            // punt
                         }
-
-                        return removeIt;
                     }
                 };
             }
@@ -1307,33 +1314,65 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
         addProxyInterceptor();
 
-        this.session.setSessionVariables();
+        // session variables are sent in as few round trips as possible, see NativeSession.beginSessionInit()
+        this.session.beginSessionInit();
+        boolean initialized = false;
+        try {
+            this.session.setSessionVariables();
 
-        this.session.loadServerVariables(this.getConnectionMutex(), this.dbmd.getDriverVersion());
+            this.session.loadServerVariables(this.getConnectionMutex(), this.dbmd.getDriverVersion());
 
-        this.autoIncrementIncrement = this.session.getServerSession().getServerVariable("auto_increment_increment", 1);
+            this.autoIncrementIncrement = this.session.getServerSession().getServerVariable("auto_increment_increment", 1);
 
-        try {
-            LicenseConfiguration.checkLicenseType(this.session.getServerSession().getServerVariables());
-        } catch (CJException e) {
-            throw SQLError.createSQLException(e.getMessage(), MysqlErrorNumbers.SQL_STATE_UNABLE_TO_CONNECT_TO_DATASOURCE, getExceptionInterceptor());
-        }
+            try {
+                LicenseConfiguration.checkLicenseType(this.session.getServerSession().getServerVariables());
+            } catch (CJException e) {
+                throw SQLError.createSQLException(e.getMessage(), MysqlErrorNumbers.SQL_STATE_UNABLE_TO_CONNECT_TO_DATASOURCE, getExceptionInterceptor());
+            }
+
+            this.session.getProtocol().initServerSession();
+
+            checkTransactionIsolationLevel();
+
+            handleAutoCommitDefaults();
 
-        this.session.getProtocol().initServerSession();
+            ((com.mysql.cj.jdbc.DatabaseMetaData) this.dbmd).setMetadataEncoding(this.session.getServerSession().getCharsetSettings().getMetadataEncoding());
+            ((com.mysql.cj.jdbc.DatabaseMetaData) this.dbmd)
+                    .setMetadataCollationIndex(this.session.getServerSession().getCharsetSettings().getMetadataCollationIndex());
 
-        checkTransactionIsolationLevel();
+            //
+            // Server can do this more efficiently for us
+            //
+
+            setupServerForTruncationChecks();
 
-        handleAutoCommitDefaults();
+            initialized = true;
+        } finally {
+            this.session.endSessionInit(initialized);
+        }
 
-        ((com.mysql.cj.jdbc.DatabaseMetaData) this.dbmd).setMetadataEncoding(this.session.getServerSession().getCharsetSettings().getMetadataEncoding());
-        ((com.mysql.cj.jdbc.DatabaseMetaData) this.dbmd)
-                .setMetadataCollationIndex(this.session.getServerSession().getCharsetSettings().getMetadataCollationIndex());
+        if (this.propertySet.getBooleanProperty(PropertyKey.cacheResultSetMetadata).getValue()
+                && this.propertySet.getBooleanProperty(PropertyKey.useOptionalResultSetMetadata).getValue()) {
+            initializeSharedResultSetMetadataScope();
+        }
+    }
 
-        //
-        // Server can do this more efficiently for us
-        //
+    /**
+     * Builds the scope of the result set metadata shared with other connections to the same server. Connections only share metadata if everything which
+     * changes the column definitions read by the driver is the same.
+     */
+    private void initializeSharedResultSetMetadataScope() {
+        this.sharedResultSetMetadataSchemaScope = this.session.getProtocol().getSharedMetadataSchemaScope();
 
-        setupServerForTruncationChecks();
+        StringBuilder scope = new StringBuilder(this.session.getHostInfo().getHostPortPair());
+        scope.append('|').append(this.session.getServerSession().getServerVariable("sql_mode"));
+        scope.append('|').append(this.session.getServerSession().getCharsetSettings().getMetadataEncoding());
+        for (PropertyKey key : new PropertyKey[] { PropertyKey.characterEncoding, PropertyKey.characterSetResults, PropertyKey.connectionCollation,
+                PropertyKey.customCharsetMapping, PropertyKey.tinyInt1isBit, PropertyKey.transformedBitIsBoolean, PropertyKey.functionsNeverReturnBlobs,
+                PropertyKey.blobsAreStrings }) {
+            scope.append('|').append(this.propertySet.getProperty(key).getStringValue());
+        }
+        this.sharedResultSetMetadataScope = scope.toString();
     }
 
     private void addProxyInterceptor() {
@@ -1565,22 +1604,20 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             cStmt = parseCallableStatement(sql);
         } else {
-            synchronized (this.parsedCallableStatementCache) {
-                CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
-
-                CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
+            CompoundCacheKey key = new CompoundCacheKey(getDatabase(), sql);
 
-                if (cachedParamInfo != null) {
-                    cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
-                } else {
-                    cStmt = parseCallableStatement(sql);
+            CallableStatement.CallableStatementParamInfo cachedParamInfo = this.parsedCallableStatementCache.get(key);
 
-                    synchronized (cStmt) {
-                        cachedParamInfo = cStmt.paramInfo;
-                    }
+            if (cachedParamInfo != null) {
+                cStmt = CallableStatement.getInstance(getMultiHostSafeProxy(), cachedParamInfo);
+            } else {
+                cStmt = parseCallableStatement(sql);
 
-                    this.parsedCallableStatementCache.put(key, cachedParamInfo);
+                synchronized (cStmt) {
+                    cachedParamInfo = cStmt.paramInfo;
                 }
+
+                this.parsedCallableStatementCache.put(key, cachedParamInfo);
             }
         }
 
@@ -1637,35 +1674,33 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             if (this.useServerPrepStmts.getValue() && canServerPrepare) {
                 if (this.cachePrepStmts.getValue()) {
-                    synchronized (this.serverSideStatementCache) {
-                        pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
+                    pStmt = this.serverSideStatementCache.remove(new CompoundCacheKey(this.database, sql));
 
-                        if (pStmt != null) {
-                            ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
-                            pStmt.clearParameters();
-                        }
+                    if (pStmt != null) {
+                        ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).setClosed(false);
+                        pStmt.clearParameters();
+                    }
 
-                        if (pStmt == null) {
-                            try {
-                                pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
-                                        resultSetConcurrency);
-                                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                    ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
-                                }
+                    if (pStmt == null) {
+                        try {
+                            pStmt = ServerPreparedStatement.getInstance(getMultiHostSafeProxy(), nativeSql, this.database, resultSetType,
+                                    resultSetConcurrency);
+                            if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                                ((com.mysql.cj.jdbc.ServerPreparedStatement) pStmt).isCacheable = true;
+                            }
 
-                                pStmt.setResultSetType(resultSetType);
-                                pStmt.setResultSetConcurrency(resultSetConcurrency);
-                            } catch (SQLException sqlEx) {
-                                // Punt, if necessary
-                                if (this.emulateUnsupportedPstmts.getValue()) {
-                                    pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
-
-                                    if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
-                                        this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
-                                    }
-                                } else {
-                                    throw sqlEx;
+                            pStmt.setResultSetType(resultSetType);
+                            pStmt.setResultSetConcurrency(resultSetConcurrency);
+                        } catch (SQLException sqlEx) {
+                            // Punt, if necessary
+                            if (this.emulateUnsupportedPstmts.getValue()) {
+                                pStmt = (ClientPreparedStatement) clientPrepareStatement(nativeSql, resultSetType, resultSetConcurrency, false);
+
+                                if (sql.length() < this.prepStmtCacheSqlLimit.getValue()) {
+                                    this.serverSideStatementCheckCache.put(sql, Boolean.FALSE);
                                 }
+                            } else {
+                                throw sqlEx;
                             }
                         }
                     }
@@ -1795,15 +1830,13 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     public void recachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
         synchronized (getConnectionMutex()) {
             if (this.cachePrepStmts.getValue() && pstmt.isPoolable()) {
-                synchronized (this.serverSideStatementCache) {
-                    Object oldServerPrepStmt = this.serverSideStatementCache.put(
-                            new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery<?>) pstmt.getQuery()).getOriginalSql()),
-                            (ServerPreparedStatement) pstmt);
-                    if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
-                        ((ServerPreparedStatement) oldServerPrepStmt).isCached = false;
-                        ((ServerPreparedStatement) oldServerPrepStmt).setClosed(false);
-                        ((ServerPreparedStatement) oldServerPrepStmt).realClose(true, true);
-                    }
+                Object oldServerPrepStmt = this.serverSideStatementCache.put(
+                        new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery<?>) pstmt.getQuery()).getOriginalSql()),
+                        (ServerPreparedStatement) pstmt);
+                if (oldServerPrepStmt != null && oldServerPrepStmt != pstmt) {
+                    ((ServerPreparedStatement) oldServerPrepStmt).isCached = false;
+                    ((ServerPreparedStatement) oldServerPrepStmt).setClosed(false);
+                    ((ServerPreparedStatement) oldServerPrepStmt).realClose(true, true);
                 }
             }
         }
@@ -1813,10 +1846,8 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     public void decachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
         synchronized (getConnectionMutex()) {
             if (this.cachePrepStmts.getValue()) {
-                synchronized (this.serverSideStatementCache) {
-                    this.serverSideStatementCache
-                            .remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery<?>) pstmt.getQuery()).getOriginalSql()));
-                }
+                this.serverSideStatementCache
+                        .remove(new CompoundCacheKey(pstmt.getCurrentDatabase(), ((PreparedQuery<?>) pstmt.getQuery()).getOriginalSql()));
             }
         }
     }
@@ -2075,7 +2106,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 // server so the value holds across connections
                 this.session.getServerSession().setAutoCommit(autoCommitFlag);
 
-                if (needsSetOnServer) {
+                if (needsSetOnServer && !this.session.deferSetStatement(autoCommitFlag ? "autocommit=1" : "autocommit=0")) {
                     this.session.execSQL(null, autoCommitFlag ? "SET autocommit=1" : "SET autocommit=0", -1, null, false, this.nullStatementResultSetFactory,
                             null, false);
                 }
@@ -2316,7 +2347,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
                 boolean strictTransTablesIsSet = StringUtils.indexOfIgnoreCase(currentSqlMode, "STRICT_TRANS_TABLES") != -1;
 
                 if (currentSqlMode == null || currentSqlMode.length() == 0 || !strictTransTablesIsSet) {
-                    StringBuilder commandBuf = new StringBuilder("SET sql_mode='");
+                    StringBuilder commandBuf = new StringBuilder("sql_mode='");
 
                     if (currentSqlMode != null && currentSqlMode.length() > 0) {
                         commandBuf.append(currentSqlMode);
@@ -2325,7 +2356,7 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
                     commandBuf.append("STRICT_TRANS_TABLES'");
 
-                    this.session.execSQL(null, commandBuf.toString(), -1, null, false, this.nullStatementResultSetFactory, null, false);
+                    this.session.sendSetStatement(commandBuf.toString());
 
                     jdbcCompliantTruncation.setValue(false); // server's handling this for us now
                 } else if (strictTransTablesIsSet) {
@@ -2362,8 +2393,19 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public CachedResultSetMetaData getCachedMetaData(String sql) {
         if (this.resultSetMetadataCache != null) {
-            synchronized (this.resultSetMetadataCache) {
-                return this.resultSetMetadataCache.get(sql);
+            return this.resultSetMetadataCache.get(sql);
+        }
+
+        if (this.sharedResultSetMetadataScope != null) {
+            // read the version first, so that metadata cached for the result of this query is discarded if the schema changes meanwhile
+            this.sharedResultSetMetadataSchemaVersion = SharedResultSetMetadataCache.getSchemaVersion(this.sharedResultSetMetadataSchemaScope);
+            ColumnDefinition shared = SharedResultSetMetadataCache.get(this.sharedResultSetMetadataScope, this.sharedResultSetMetadataSchemaVersion,
+                    this.database, sql);
+            if (shared != null) {
+                // each result set gets its own copy, the column name lookups are built lazily
+                CachedResultSetMetaDataImpl cachedMetaData = new CachedResultSetMetaDataImpl();
+                cachedMetaData.initializeFrom(shared);
+                return cachedMetaData;
             }
         }
 
@@ -2373,6 +2415,11 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
     @Override
     public void initializeResultsMetadataFromCache(String sql, CachedResultSetMetaData cachedMetaData, ResultSetInternalMethods resultSet) throws SQLException {
 
+        if (cachedMetaData != null && !SharedResultSetMetadataCache.matches(cachedMetaData.getFields(), resultSet.getColumnDefinition().getFields())) {
+            // the server sent metadata which differs from the cached one, e.g. because the table was altered by another client
+            cachedMetaData = null;
+        }
+
         if (cachedMetaData == null) {
 
             // read from results
@@ -2388,7 +2435,14 @@ public class ConnectionImpl implements JdbcConnection, SessionEventListener, Ser
 
             resultSet.populateCachedMetaData(cachedMetaData);
 
-            this.resultSetMetadataCache.put(sql, cachedMetaData);
+            if (this.resultSetMetadataCache != null) {
+                this.resultSetMetadataCache.put(sql, cachedMetaData);
+            } else if (this.sharedResultSetMetadataScope != null) {
+                CachedResultSetMetaDataImpl shared = new CachedResultSetMetaDataImpl();
+                shared.initializeFrom(cachedMetaData);
+                SharedResultSetMetadataCache.put(this.sharedResultSetMetadataScope, this.sharedResultSetMetadataSchemaVersion, this.database, sql, shared,
+                        this.propertySet.getIntegerProperty(PropertyKey.metadataCacheSize).getValue());
+            }
         } else {
             resultSet.getColumnDefinition().initializeFrom(cachedMetaData);
             resultSet.initializeWithMetadata();
@@ -0,0 +1,274 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import com.mysql.cj.protocol.a.TextValueEncoder;
+
+/**
+ * Input stream feeding a "LOAD DATA LOCAL INFILE" statement with rows that are pulled from an iterator and encoded only as the driver reads the stream. The
+ * buffer holds the rows of at most one read, so memory use doesn't grow with the number of rows loaded.
+ * 
+ * A failure of the iterator or the encoder ends the stream after the last complete row, so that the server still receives a well-formed file and the
+ * connection stays usable. The failure is then available from {@link #getFailure()}.
+ * 
+ * @param <T>
+ *            row type
+ */
+class LoadDataRowsInputStream<T> extends InputStream implements LoadDataRowWriter {
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final Iterator<? extends T> rows;
+    private final LoadDataRowEncoder<? super T> encoder;
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int readPosition = 0;
+    private int writePosition = 0;
+    private boolean firstColumn = true;
+    private boolean exhausted = false;
+    private long rowCount = 0;
+    private RuntimeException failure = null;
+
+    LoadDataRowsInputStream(Iterator<? extends T> rows, LoadDataRowEncoder<? super T> encoder) {
+        this.rows = rows;
+        this.encoder = encoder;
+    }
+
+    /**
+     * Returns the number of rows encoded so far.
+     * 
+     * @return row count
+     */
+    long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the exception thrown by the iterator or the encoder, if any.
+     * 
+     * @return exception that ended the stream or null
+     */
+    RuntimeException getFailure() {
+        return this.failure;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill(1)) {
+            return -1;
+        }
+        return this.buffer[this.readPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill(len)) {
+            return -1;
+        }
+        int n = Math.min(len, this.writePosition - this.readPosition);
+        System.arraycopy(this.buffer, this.readPosition, b, off, n);
+        this.readPosition += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return this.writePosition - this.readPosition;
+    }
+
+    @Override
+    public void close() {
+        this.exhausted = true;
+        this.readPosition = 0;
+        this.writePosition = 0;
+    }
+
+    /**
+     * Encodes rows until the requested number of bytes is buffered or there are no more rows.
+     * 
+     * @param len
+     *            number of bytes wanted
+     * @return true if at least one byte is available
+     */
+    private boolean fill(int len) {
+        if (this.writePosition - this.readPosition >= len || this.exhausted) {
+            return this.writePosition > this.readPosition;
+        }
+        if (this.readPosition > 0) {
+            System.arraycopy(this.buffer, this.readPosition, this.buffer, 0, this.writePosition - this.readPosition);
+            this.writePosition -= this.readPosition;
+            this.readPosition = 0;
+        }
+        while (this.writePosition < len && !this.exhausted) {
+            encodeNextRow();
+        }
+        return this.writePosition > 0;
+    }
+
+    private void encodeNextRow() {
+        int rowStart = this.writePosition;
+        try {
+            if (!this.rows.hasNext()) {
+                this.exhausted = true;
+                return;
+            }
+            T row = this.rows.next();
+            this.firstColumn = true;
+            this.encoder.encode(row, this);
+            ensureCapacity(1);
+            this.buffer[this.writePosition++] = '\n';
+            this.rowCount++;
+        } catch (RuntimeException e) {
+            // drop the partially encoded row
+            this.writePosition = rowStart;
+            this.failure = e;
+            this.exhausted = true;
+        }
+    }
+
+    private void ensureCapacity(int len) {
+        if (this.writePosition + len > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.writePosition + len));
+        }
+    }
+
+    private void startColumn(int maxLen) {
+        ensureCapacity(maxLen + 1);
+        if (this.firstColumn) {
+            this.firstColumn = false;
+        } else {
+            this.buffer[this.writePosition++] = '\t';
+        }
+    }
+
+    private void writeEscaped(byte b) {
+        switch (b) {
+            case 0:
+                this.buffer[this.writePosition++] = '\\';
+                this.buffer[this.writePosition++] = '0';
+                break;
+            case '\t':
+                this.buffer[this.writePosition++] = '\\';
+                this.buffer[this.writePosition++] = 't';
+                break;
+            case '\n':
+                this.buffer[this.writePosition++] = '\\';
+                this.buffer[this.writePosition++] = 'n';
+                break;
+            case '\r':
+                this.buffer[this.writePosition++] = '\\';
+                this.buffer[this.writePosition++] = 'r';
+                break;
+            case '\\':
+                this.buffer[this.writePosition++] = '\\';
+                this.buffer[this.writePosition++] = '\\';
+                break;
+            default:
+                this.buffer[this.writePosition++] = b;
+        }
+    }
+
+    @Override
+    public void writeNull() {
+        startColumn(2);
+        this.buffer[this.writePosition++] = '\\';
+        this.buffer[this.writePosition++] = 'N';
+    }
+
+    @Override
+    public void writeString(String value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        int len = value.length();
+        startColumn(len * 2);
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                // the escaped characters are all ASCII, so the UTF-8 bytes of the remainder can be escaped one by one
+                writeEscapedBytes(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            writeEscaped((byte) c);
+        }
+    }
+
+    @Override
+    public void writeLong(long value) {
+        startColumn(TextValueEncoder.getEncodedLength(value));
+        this.writePosition = TextValueEncoder.encodeLong(this.buffer, this.writePosition, value);
+    }
+
+    @Override
+    public void writeBytes(byte[] value) {
+        if (value == null) {
+            writeNull();
+            return;
+        }
+        startColumn(0);
+        writeEscapedBytes(value);
+    }
+
+    private void writeEscapedBytes(byte[] value) {
+        ensureCapacity(value.length * 2);
+        for (byte b : value) {
+            writeEscaped(b);
+        }
+    }
+
+    @Override
+    public void writeObject(Object value) {
+        if (value == null) {
+            writeNull();
+        } else if (value instanceof byte[]) {
+            writeBytes((byte[]) value);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            writeLong(((Number) value).longValue());
+        } else if (value instanceof Boolean) {
+            writeLong(((Boolean) value).booleanValue() ? 1 : 0);
+        } else if (value instanceof BigDecimal) {
+            writeString(((BigDecimal) value).toPlainString());
+        } else {
+            writeString(value.toString());
+        }
+    }
+}
@@ -40,6 +40,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Wrapper;
 import java.util.ArrayList;
+import java.util.List;
 
 import com.mysql.cj.CancelQueryTask;
 import com.mysql.cj.Messages;
@@ -47,6 +48,7 @@ import com.mysql.cj.MysqlType;
 import com.mysql.cj.NativeSession;
 import com.mysql.cj.ParseInfo;
 import com.mysql.cj.PreparedQuery;
+import com.mysql.cj.QueryBindings;
 import com.mysql.cj.ServerPreparedQuery;
 import com.mysql.cj.ServerPreparedQueryBindValue;
 import com.mysql.cj.ServerPreparedQueryBindings;
@@ -60,10 +62,13 @@ import com.mysql.cj.jdbc.exceptions.MySQLStatementCancelledException;
 import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
 import com.mysql.cj.jdbc.exceptions.SQLError;
 import com.mysql.cj.jdbc.exceptions.SQLExceptionsMapping;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.jdbc.result.ResultSetMetaData;
 import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.PipelinedResponse;
 
 /**
  * JDBC Interface for MySQL-4.1 and newer server-side PreparedStatements.
@@ -316,6 +321,11 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
                         updateCounts[i] = -3;
                     }
 
+                    if (!this.batchHasPlainStatements && canPipelineBatch(nbrCommands, batchTimeout) && isNonResultSetProducingQuery()
+                            && !batchHasStreams()) {
+                        return executeBatchPipelined(updateCounts);
+                    }
+
                     SQLException sqlEx = null;
 
                     int commandIndex = 0;
@@ -395,6 +405,40 @@ public class ServerPreparedStatement extends ClientPreparedStatement {
         }
     }
 
+    /**
+     * Stream parameters are sent with COM_STMT_SEND_LONG_DATA right before their execution, so batches with streams can't be pipelined.
+     * 
+     * @return true if a batched parameter set has a stream value
+     */
+    private boolean batchHasStreams() {
+        for (Object arg : this.query.getBatchedArgs()) {
+            for (ServerPreparedQueryBindValue bindValue : ((ServerPreparedQueryBindings) arg).getBindValues()) {
+                if (bindValue.isStream()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected NativePacketPayload fillSendPacketForBatch(QueryBindings<?> bindings) {
+        ServerPreparedQuery serverPreparedQuery = (ServerPreparedQuery) this.query;
+        serverPreparedQuery.setQueryBindings((ServerPreparedQueryBindings) bindings);
+        serverPreparedQuery.getQueryBindings().setNumberOfExecutions(serverPreparedQuery.getQueryBindings().getNumberOfExecutions() + 1);
+
+        // The command before this one may not have been executed yet, or may have failed, when the server gets this one. So every command carries
+        // the parameter types instead of relying on the server having them from a previous execution.
+        serverPreparedQuery.getQueryBindings().getSendTypesToServer().set(true);
+
+        return serverPreparedQuery.prepareExecutePacket();
+    }
+
+    @Override
+    protected void executePipelined(List<NativePacketPayload> packets, List<PipelinedResponse<ResultSetImpl>> responses) throws SQLException {
+        executePipelined(packets, true, ((ServerPreparedQuery) this.query).getResultFields(), responses);
+    }
+
     private static SQLException appendMessageToException(SQLException sqlEx, String messageToAppend, ExceptionInterceptor interceptor) {
         String sqlState = sqlEx.getSQLState();
         int vendorErrorCode = sqlEx.getErrorCode();
@@ -38,6 +38,7 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -76,12 +77,16 @@ import com.mysql.cj.jdbc.result.ResultSetFactory;
 import com.mysql.cj.jdbc.result.ResultSetImpl;
 import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.log.ProfilerEvent;
+import com.mysql.cj.protocol.ColumnDefinition;
 import com.mysql.cj.protocol.Message;
 import com.mysql.cj.protocol.ProtocolEntityFactory;
 import com.mysql.cj.protocol.Resultset;
 import com.mysql.cj.protocol.Resultset.Type;
 import com.mysql.cj.protocol.a.NativeConstants;
 import com.mysql.cj.protocol.a.NativeMessageBuilder;
+import com.mysql.cj.protocol.a.NativePacketPayload;
+import com.mysql.cj.protocol.a.NativeProtocol;
+import com.mysql.cj.protocol.a.PipelinedResponse;
 import com.mysql.cj.protocol.a.result.ByteArrayRow;
 import com.mysql.cj.protocol.a.result.ResultsetRowsStatic;
 import com.mysql.cj.result.DefaultColumnDefinition;
@@ -840,6 +845,10 @@ public class StatementImpl implements JdbcStatement {
                             return executeBatchUsingMultiQueries(multiQueriesEnabled, nbrCommands, individualStatementTimeout);
                         }
 
+                        if (canPipelineBatch(nbrCommands, individualStatementTimeout) && canPipelineStatements(batchedArgs)) {
+                            return executeBatchPipelined(batchedArgs);
+                        }
+
                         timeoutTask = startQueryTimer(this, individualStatementTimeout);
 
                         updateCounts = new long[nbrCommands];
@@ -914,6 +923,174 @@ public class StatementImpl implements JdbcStatement {
         }
     }
 
+    /**
+     * Checks if a batch may be executed with pipelined commands, see 'maxPipelinedCommands'. Commands which are already sent can't be withdrawn, so a
+     * pipelined batch can't stop at a failed statement nor time out statement by statement.
+     * 
+     * @param nbrCommands
+     *            number of statements in the batch
+     * @param batchTimeout
+     *            timeout for the batch
+     * @return true if the batch may be pipelined
+     */
+    protected boolean canPipelineBatch(int nbrCommands, int batchTimeout) {
+        return nbrCommands > 1 && this.continueBatchOnError && batchTimeout == 0 && this.session.getProtocol().canPipelineCommands();
+    }
+
+    private boolean canPipelineStatements(List<Object> batchedArgs) {
+        for (Object arg : batchedArgs) {
+            String sql = (String) arg;
+            if (sql == null || sql.length() == 0 || !isNonResultSetProducingQuery(sql)
+                    || ParseInfo.firstCharOfStatementUc(sql, this.session.getServerSession().isNoBackslashEscapesSet()) == 'L') {
+                // let the sequential execution report the error, or handle the LOAD DATA LOCAL INFILE exchange
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sends the batched statements to the server back-to-back and then reads their results in order. Each statement gets its own update count or
+     * EXECUTE_FAILED. If a statement fails, the exception reported for the batch is the first error that rolled back the transaction, otherwise the
+     * last error.
+     * 
+     * @param batchedArgs
+     *            batched statements
+     * @return update counts in the same manner as executeBatch()
+     * @throws SQLException
+     *             if a statement or the communication with the server fails
+     */
+    private long[] executeBatchPipelined(List<Object> batchedArgs) throws SQLException {
+        int nbrCommands = batchedArgs.size();
+        long[] updateCounts = new long[nbrCommands];
+        char[] firstStatementChars = new char[nbrCommands];
+        List<NativePacketPayload> packets = new ArrayList<>(nbrCommands);
+        List<PipelinedResponse<ResultSetImpl>> responses = new ArrayList<>(nbrCommands);
+        SQLException failure = null;
+
+        try {
+            NativeProtocol protocol = this.session.getProtocol();
+
+            for (int i = 0; i < nbrCommands; i++) {
+                String sql = (String) batchedArgs.get(i);
+                firstStatementChars[i] = ParseInfo.firstCharOfStatementUc(sql, this.session.getServerSession().isNoBackslashEscapesSet());
+
+                if (this.doEscapeProcessing) {
+                    Object escapedSqlResult = EscapeProcessor.escapeSQL(sql, this.session.getServerSession().getSessionTimeZone(),
+                            this.session.getServerSession().getCapabilities().serverSupportsFracSecs(),
+                            this.session.getServerSession().isServerTruncatesFracSecs(), getExceptionInterceptor());
+                    sql = escapedSqlResult instanceof String ? (String) escapedSqlResult : ((EscapeProcessorResult) escapedSqlResult).escapedSql;
+                }
+
+                packets.add(protocol.buildQueryPacket(this, sql, this.charEncoding));
+            }
+
+            executePipelined(packets, responses);
+        } catch (SQLException ex) {
+            failure = ex;
+        } finally {
+            for (NativePacketPayload packet : packets) {
+                packet.release();
+            }
+        }
+
+        SQLException sqlEx = null;
+
+        for (int i = 0; i < nbrCommands; i++) {
+            PipelinedResponse<ResultSetImpl> response = i < responses.size() ? responses.get(i) : null;
+
+            if (response == null || response.getException() != null) {
+                updateCounts[i] = EXECUTE_FAILED;
+
+                if (response != null && (sqlEx == null || !hasDeadlockOrTimeoutRolledBackTx(sqlEx))) {
+                    sqlEx = SQLExceptionsMapping.translateException(response.getException(), getExceptionInterceptor());
+                }
+                continue;
+            }
+
+            String sql = (String) batchedArgs.get(i);
+
+            this.lastQueryIsOnDupKeyUpdate = firstStatementChars[i] == 'I' && containsOnDuplicateKeyInString(sql);
+
+            this.results = response.getResult();
+            this.results.setFirstCharOfQuery(firstStatementChars[i]);
+            this.updateCount = this.results.getUpdateCount();
+            this.lastInsertId = this.results.getUpdateID();
+
+            updateCounts[i] = this.updateCount;
+
+            // limit one generated key per OnDuplicateKey statement
+            getBatchedGeneratedKeys(this.lastQueryIsOnDupKeyUpdate ? 1 : 0);
+        }
+
+        if (failure != null) {
+            sqlEx = failure;
+        }
+
+        if (sqlEx != null) {
+            throw SQLError.createBatchUpdateException(sqlEx, updateCounts, getExceptionInterceptor());
+        }
+
+        return updateCounts;
+    }
+
+    /**
+     * Executes the given COM_QUERY packets with {@link NativeSession#execSQLPipelined}, in the statement's database and without rows limit.
+     * 
+     * @param packets
+     *            COM_QUERY packets
+     * @param responses
+     *            the list to add the response of each command to
+     * @throws SQLException
+     *             if the communication with the server fails
+     */
+    protected void executePipelined(List<NativePacketPayload> packets, List<PipelinedResponse<ResultSetImpl>> responses) throws SQLException {
+        executePipelined(packets, false, null, responses);
+    }
+
+    /**
+     * Executes the given command packets with {@link NativeSession#execSQLPipelined}, in the statement's database and without rows limit.
+     * 
+     * @param packets
+     *            COM_QUERY or COM_STMT_EXECUTE packets
+     * @param isBinaryEncoded
+     *            true if the commands return binary encoded result sets
+     * @param metadata
+     *            use this metadata instead of the one provided on wire
+     * @param responses
+     *            the list to add the response of each command to
+     * @throws SQLException
+     *             if the communication with the server fails
+     */
+    protected void executePipelined(List<NativePacketPayload> packets, boolean isBinaryEncoded, ColumnDefinition metadata,
+            List<PipelinedResponse<ResultSetImpl>> responses) throws SQLException {
+        JdbcConnection locallyScopedConn = this.connection;
+
+        String oldDb = null;
+
+        try {
+            if (!locallyScopedConn.getDatabase().equals(getCurrentDatabase())) {
+                oldDb = locallyScopedConn.getDatabase();
+                locallyScopedConn.setDatabase(getCurrentDatabase());
+            }
+
+            //
+            // Only apply max_rows to selects
+            //
+            locallyScopedConn.setSessionMaxRows(-1);
+
+            this.session.execSQLPipelined(packets, -1, isBinaryEncoded, metadata, getResultSetFactory(), responses);
+
+        } catch (CJException e) {
+            throw SQLExceptionsMapping.translateException(e, getExceptionInterceptor());
+
+        } finally {
+            if (oldDb != null) {
+                locallyScopedConn.setDatabase(oldDb);
+            }
+        }
+    }
+
     protected final boolean hasDeadlockOrTimeoutRolledBackTx(SQLException ex) {
         int vendorCode = ex.getErrorCode();
 
@@ -2043,6 +2220,32 @@ public class StatementImpl implements JdbcStatement {
         this.session.setLocalInfileInputStream(stream);
     }
 
+    @Override
+    public <T> long executeLoadData(String sql, Iterator<? extends T> rows, LoadDataRowEncoder<? super T> encoder) throws SQLException {
+        synchronized (checkClosed().getConnectionMutex()) {
+            if (!this.session.getPropertySet().getBooleanProperty(PropertyKey.allowLoadLocalInfile).getValue()) {
+                throw SQLError.createSQLException(Messages.getString("Statement.LoadDataNotAllowed"), MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR,
+                        getExceptionInterceptor());
+            }
+
+            LoadDataRowsInputStream<T> rowsStream = new LoadDataRowsInputStream<>(rows, encoder);
+            InputStream previousStream = getLocalInfileInputStream();
+            long updateCount;
+            setLocalInfileInputStream(rowsStream);
+            try {
+                updateCount = executeLargeUpdate(sql);
+            } finally {
+                setLocalInfileInputStream(previousStream);
+            }
+
+            if (rowsStream.getFailure() != null) {
+                throw SQLError.createSQLException(Messages.getString("Statement.LoadDataRowsFailed", new Object[] { rowsStream.getRowCount() }),
+                        MysqlErrorNumbers.SQL_STATE_GENERAL_ERROR, rowsStream.getFailure(), getExceptionInterceptor());
+            }
+            return updateCount;
+        }
+    }
+
     @Override
     public void setPingTarget(PingTarget pingTarget) {
         this.pingTarget = pingTarget;
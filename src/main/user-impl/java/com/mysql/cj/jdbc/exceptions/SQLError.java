@@ -36,6 +36,7 @@ import java.sql.SQLIntegrityConstraintViolationException;
 import java.sql.SQLNonTransientConnectionException;
 import java.sql.SQLSyntaxErrorException;
 import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
 
 import com.mysql.cj.exceptions.ExceptionInterceptor;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
@@ -125,6 +126,9 @@ public class SQLError {
                 } else if (sqlState.startsWith("70100")) {
                     sqlEx = new MySQLQueryInterruptedException(message, sqlState, vendorErrorCode);
 
+                } else if (isTransient) {
+                    sqlEx = new SQLTransientException(message, sqlState, vendorErrorCode);
+
                 } else {
                     sqlEx = new SQLException(message, sqlState, vendorErrorCode);
                 }
@@ -49,6 +49,8 @@ import java.lang.reflect.Proxy;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
@@ -61,6 +63,9 @@ public class ConnectionProxy implements ICurrentConnectionProvider, InvocationHa
   protected static final Log NULL_LOGGER = new NullLogger(Log.LOGGER_INSTANCE_NAME);
   static final String METHOD_EQUALS = "equals";
   private static final String METHOD_HASH_CODE = "hashCode";
+  private static final String METHOD_CLOSE = "close";
+  private static final String METHOD_ABORT = "abort";
+  private static final String METHOD_ABORT_INTERNAL = "abortInternal";
   private final JdbcPropertySetImpl connProps = new JdbcPropertySetImpl();
   /** The logger we're going to use. */
   protected transient Log log = NULL_LOGGER;
@@ -69,6 +74,7 @@ public class ConnectionProxy implements ICurrentConnectionProvider, InvocationHa
   protected ConnectionPluginManager pluginManager = null;
   private HostInfo currentHostInfo;
   private JdbcConnection currentConnection;
+  private final AtomicBoolean pluginResourcesReleased = new AtomicBoolean();
 
   public ConnectionProxy(ConnectionUrl connectionUrl) throws SQLException {
     this(connectionUrl, null);
@@ -118,12 +124,7 @@ public class ConnectionProxy implements ICurrentConnectionProvider, InvocationHa
         .getProperty(PropertyKey.useConnectionPlugins.getKeyName(), Boolean.toString(true)));
 
     if (pluginsEnabled) {
-      final ConnectionProxy connProxy = new ConnectionProxy(connectionUrl);
-      return (JdbcConnection)
-          java.lang.reflect.Proxy.newProxyInstance(
-              JdbcConnection.class.getClassLoader(),
-              new Class<?>[] {JdbcConnection.class},
-              connProxy);
+      return new ConnectionProxy(connectionUrl).getProxyInstance();
     }
 
     final IConnectionProvider connectionProvider = new BasicConnectionProvider();
@@ -141,12 +142,26 @@ public class ConnectionProxy implements ICurrentConnectionProvider, InvocationHa
       throws SQLException {
     IConnectionProvider connectionProvider = new BasicConnectionProvider();
     final ConnectionProxy connProxy = new ConnectionProxy(connectionUrl, connectionProvider.connect(connectionUrl.getMainHost()));
+    return connProxy.getProxyInstance();
+  }
+
+  /**
+   * Creates the {@link JdbcConnection} handed out to the application. When
+   * {@link PropertyKey#useFastConnectionProxy} is enabled, a {@link JdbcConnectionWrapper} is
+   * returned instead of a reflective {@link Proxy}.
+   *
+   * @return a {@link JdbcConnection} backed by this proxy
+   */
+  JdbcConnection getProxyInstance() {
+    if (this.connProps.getBooleanProperty(PropertyKey.useFastConnectionProxy).getValue()) {
+      return new JdbcConnectionWrapper(this);
+    }
 
     return (JdbcConnection)
         java.lang.reflect.Proxy.newProxyInstance(
             JdbcConnection.class.getClassLoader(),
             new Class<?>[] {JdbcConnection.class},
-            connProxy);
+            this);
   }
 
   @Override
@@ -184,12 +199,14 @@ public class ConnectionProxy implements ICurrentConnectionProvider, InvocationHa
 
     Object[] argsCopy = args == null ?  null : Arrays.copyOf(args, args.length);
 
+    boolean completed = false;
     try {
       Object result = this.pluginManager.execute(
           this.currentConnection.getClass(),
           methodName,
           () -> method.invoke(currentConnection, args),
           argsCopy);
+      completed = true;
       return proxyIfReturnTypeIsJdbcInterface(method.getReturnType(), result);
     } catch (Exception e) {
       // Check if the captured exception must be wrapped by an unchecked exception.
@@ -200,6 +217,71 @@ public class ConnectionProxy implements ICurrentConnectionProvider, InvocationHa
         }
       }
       throw new IllegalStateException(e.getMessage(), e);
+    } finally {
+      releasePluginResourcesIfClosed(methodName, completed);
+    }
+  }
+
+  /**
+   * Checks whether a call made through one of the {@link JdbcWrapper} objects can skip the
+   * connection plugin chain, see {@link ConnectionPluginManager#canBypassPlugins(String)}.
+   */
+  boolean canBypassPlugins(String methodName) {
+    return this.pluginManager.canBypassPlugins(methodName);
+  }
+
+  /**
+   * Passes a JDBC call made through one of the {@link JdbcWrapper} objects to the connection
+   * plugin chain. Unlike {@link #invoke(Object, Method, Object[])} this does not lock the proxy.
+   */
+  Object executeWithPlugins(
+      Class<?> methodInvokeOn,
+      String methodName,
+      Callable<?> executeSqlFunc,
+      Object[] args) throws Exception {
+    if (!JdbcConnection.class.isAssignableFrom(methodInvokeOn)) {
+      return this.pluginManager.execute(methodInvokeOn, methodName, executeSqlFunc, args);
+    }
+
+    boolean completed = false;
+    try {
+      final Object result =
+          this.pluginManager.execute(methodInvokeOn, methodName, executeSqlFunc, args);
+      completed = true;
+      return result;
+    } finally {
+      releasePluginResourcesIfClosed(methodName, completed);
+    }
+  }
+
+  /**
+   * Releases the resources held by the connection plugins, eg. node monitoring and background
+   * topology refresh, once the application has closed or aborted this connection. Connections
+   * closed by the plugins themselves, eg. during failover, keep their resources.
+   *
+   * @param methodName The name of the connection method that was called.
+   * @param completed Whether the method completed without throwing an exception. A method that
+   *                  failed only releases the resources if it left the connection closed.
+   */
+  private void releasePluginResourcesIfClosed(String methodName, boolean completed) {
+    if (!METHOD_CLOSE.equals(methodName)
+        && !METHOD_ABORT.equals(methodName)
+        && !METHOD_ABORT_INTERNAL.equals(methodName)) {
+      return;
+    }
+
+    if (!completed) {
+      try {
+        if (!this.currentConnection.isClosed()) {
+          return;
+        }
+      } catch (SQLException sqlEx) {
+        // ignore, the connection can't be used any longer
+      }
+    }
+
+    if (this.pluginResourcesReleased.compareAndSet(false, true)) {
+      this.pluginManager.releaseResources();
     }
   }
 
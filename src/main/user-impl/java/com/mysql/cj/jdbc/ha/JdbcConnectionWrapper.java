@@ -0,0 +1,1373 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import com.mysql.cj.ServerVersion;
+import com.mysql.cj.Session;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.interceptors.QueryInterceptor;
+import com.mysql.cj.jdbc.ClientInfoProvider;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcPropertySet;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.interceptors.ConnectionLifecycleInterceptor;
+import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.ServerSessionStateController;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Non-reflective {@link JdbcConnection} returned by {@link ConnectionProxy} when
+ * {@link com.mysql.cj.conf.PropertyKey#useFastConnectionProxy} is enabled. Calls are always made
+ * against the current connection of the proxy, so a connection switch made by a plugin
+ * (eg. failover) is picked up by the next call.
+ */
+public class JdbcConnectionWrapper extends JdbcWrapper implements JdbcConnection {
+
+  JdbcConnectionWrapper(ConnectionProxy connectionProxy) {
+    super(connectionProxy);
+  }
+
+  @Override
+  protected Object getWrappedObject() {
+    // the physical connection changes on failover, the proxy identifies the logical one
+    return this.connectionProxy;
+  }
+
+  @Override
+  public String toString() {
+    return this.connectionProxy.getCurrentConnection().toString();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "unwrap",
+        () -> this.connectionProxy.getCurrentConnection().unwrap(iface),
+        new Object[] {iface});
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isWrapperFor",
+        () -> this.connectionProxy.getCurrentConnection().isWrapperFor(iface),
+        new Object[] {iface});
+  }
+
+  @Override
+  public Statement createStatement() throws SQLException {
+    return wrapStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createStatement",
+        () -> this.connectionProxy.getCurrentConnection().createStatement()));
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+    return wrapStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createStatement",
+        () -> this.connectionProxy.getCurrentConnection().createStatement(resultSetType, resultSetConcurrency),
+        new Object[] {resultSetType, resultSetConcurrency}));
+  }
+
+  @Override
+  public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    return wrapStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createStatement",
+        () -> this.connectionProxy.getCurrentConnection().createStatement(resultSetType, resultSetConcurrency, resultSetHoldability),
+        new Object[] {resultSetType, resultSetConcurrency, resultSetHoldability}));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().prepareStatement(sql),
+        new Object[] {sql}));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().prepareStatement(sql, columnIndexes),
+        new Object[] {sql, columnIndexes}));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().prepareStatement(sql, columnNames),
+        new Object[] {sql, columnNames}));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().prepareStatement(sql, autoGeneratedKeys),
+        new Object[] {sql, autoGeneratedKeys}));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().prepareStatement(sql, resultSetType, resultSetConcurrency),
+        new Object[] {sql, resultSetType, resultSetConcurrency}));
+  }
+
+  @Override
+  public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+        new Object[] {sql, resultSetType, resultSetConcurrency, resultSetHoldability}));
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql) throws SQLException {
+    return wrapJdbcInterface(CallableStatement.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareCall",
+        () -> this.connectionProxy.getCurrentConnection().prepareCall(sql),
+        new Object[] {sql}));
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+    return wrapJdbcInterface(CallableStatement.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareCall",
+        () -> this.connectionProxy.getCurrentConnection().prepareCall(sql, resultSetType, resultSetConcurrency),
+        new Object[] {sql, resultSetType, resultSetConcurrency}));
+  }
+
+  @Override
+  public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    return wrapJdbcInterface(CallableStatement.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "prepareCall",
+        () -> this.connectionProxy.getCurrentConnection().prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+        new Object[] {sql, resultSetType, resultSetConcurrency, resultSetHoldability}));
+  }
+
+  @Override
+  public String nativeSQL(String sql) throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "nativeSQL",
+        () -> this.connectionProxy.getCurrentConnection().nativeSQL(sql),
+        new Object[] {sql});
+  }
+
+  @Override
+  public void setAutoCommit(boolean autoCommit) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setAutoCommit",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setAutoCommit(autoCommit);
+          return null;
+        },
+        new Object[] {autoCommit});
+  }
+
+  @Override
+  public boolean getAutoCommit() throws SQLException {
+    if (canInvokeDirectly("getAutoCommit")) {
+      return this.connectionProxy.getCurrentConnection().getAutoCommit();
+    }
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getAutoCommit",
+        () -> this.connectionProxy.getCurrentConnection().getAutoCommit());
+  }
+
+  @Override
+  public void commit() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "commit",
+        () -> {
+          this.connectionProxy.getCurrentConnection().commit();
+          return null;
+        });
+  }
+
+  @Override
+  public void rollback() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "rollback",
+        () -> {
+          this.connectionProxy.getCurrentConnection().rollback();
+          return null;
+        });
+  }
+
+  @Override
+  public void rollback(Savepoint savepoint) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "rollback",
+        () -> {
+          this.connectionProxy.getCurrentConnection().rollback(savepoint);
+          return null;
+        },
+        new Object[] {savepoint});
+  }
+
+  @Override
+  public void close() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "close",
+        () -> {
+          this.connectionProxy.getCurrentConnection().close();
+          return null;
+        });
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    if (canInvokeDirectly("isClosed")) {
+      return this.connectionProxy.getCurrentConnection().isClosed();
+    }
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isClosed",
+        () -> this.connectionProxy.getCurrentConnection().isClosed());
+  }
+
+  @Override
+  public DatabaseMetaData getMetaData() throws SQLException {
+    return wrapJdbcInterface(DatabaseMetaData.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getMetaData",
+        () -> this.connectionProxy.getCurrentConnection().getMetaData()));
+  }
+
+  @Override
+  public void setReadOnly(boolean readOnly) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setReadOnly",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setReadOnly(readOnly);
+          return null;
+        },
+        new Object[] {readOnly});
+  }
+
+  @Override
+  public boolean isReadOnly() throws SQLException {
+    if (canInvokeDirectly("isReadOnly")) {
+      return this.connectionProxy.getCurrentConnection().isReadOnly();
+    }
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isReadOnly",
+        () -> this.connectionProxy.getCurrentConnection().isReadOnly());
+  }
+
+  @Override
+  public void setCatalog(String catalog) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setCatalog",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setCatalog(catalog);
+          return null;
+        },
+        new Object[] {catalog});
+  }
+
+  @Override
+  public String getCatalog() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getCatalog",
+        () -> this.connectionProxy.getCurrentConnection().getCatalog());
+  }
+
+  @Override
+  public void setTransactionIsolation(int level) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setTransactionIsolation",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setTransactionIsolation(level);
+          return null;
+        },
+        new Object[] {level});
+  }
+
+  @Override
+  public int getTransactionIsolation() throws SQLException {
+    if (canInvokeDirectly("getTransactionIsolation")) {
+      return this.connectionProxy.getCurrentConnection().getTransactionIsolation();
+    }
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getTransactionIsolation",
+        () -> this.connectionProxy.getCurrentConnection().getTransactionIsolation());
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getWarnings",
+        () -> this.connectionProxy.getCurrentConnection().getWarnings());
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "clearWarnings",
+        () -> {
+          this.connectionProxy.getCurrentConnection().clearWarnings();
+          return null;
+        });
+  }
+
+  @Override
+  public Map<String, Class<?>> getTypeMap() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getTypeMap",
+        () -> this.connectionProxy.getCurrentConnection().getTypeMap());
+  }
+
+  @Override
+  public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setTypeMap",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setTypeMap(map);
+          return null;
+        },
+        new Object[] {map});
+  }
+
+  @Override
+  public void setHoldability(int holdability) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setHoldability",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setHoldability(holdability);
+          return null;
+        },
+        new Object[] {holdability});
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getHoldability",
+        () -> this.connectionProxy.getCurrentConnection().getHoldability());
+  }
+
+  @Override
+  public Savepoint setSavepoint() throws SQLException {
+    return wrapJdbcInterface(Savepoint.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setSavepoint",
+        () -> this.connectionProxy.getCurrentConnection().setSavepoint()));
+  }
+
+  @Override
+  public Savepoint setSavepoint(String name) throws SQLException {
+    return wrapJdbcInterface(Savepoint.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setSavepoint",
+        () -> this.connectionProxy.getCurrentConnection().setSavepoint(name),
+        new Object[] {name}));
+  }
+
+  @Override
+  public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "releaseSavepoint",
+        () -> {
+          this.connectionProxy.getCurrentConnection().releaseSavepoint(savepoint);
+          return null;
+        },
+        new Object[] {savepoint});
+  }
+
+  @Override
+  public Clob createClob() throws SQLException {
+    return wrapJdbcInterface(Clob.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createClob",
+        () -> this.connectionProxy.getCurrentConnection().createClob()));
+  }
+
+  @Override
+  public Blob createBlob() throws SQLException {
+    return wrapJdbcInterface(Blob.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createBlob",
+        () -> this.connectionProxy.getCurrentConnection().createBlob()));
+  }
+
+  @Override
+  public NClob createNClob() throws SQLException {
+    return wrapJdbcInterface(NClob.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createNClob",
+        () -> this.connectionProxy.getCurrentConnection().createNClob()));
+  }
+
+  @Override
+  public SQLXML createSQLXML() throws SQLException {
+    return wrapJdbcInterface(SQLXML.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createSQLXML",
+        () -> this.connectionProxy.getCurrentConnection().createSQLXML()));
+  }
+
+  @Override
+  public boolean isValid(int timeout) throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isValid",
+        () -> this.connectionProxy.getCurrentConnection().isValid(timeout),
+        new Object[] {timeout});
+  }
+
+  @Override
+  public void setClientInfo(Properties properties) throws SQLClientInfoException {
+    try {
+      execute(
+          this.connectionProxy.getCurrentConnection().getClass(),
+          "setClientInfo",
+          () -> {
+            this.connectionProxy.getCurrentConnection().setClientInfo(properties);
+            return null;
+          },
+          new Object[] {properties});
+    } catch (SQLClientInfoException | RuntimeException e) {
+      throw e;
+    } catch (SQLException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void setClientInfo(String name, String value) throws SQLClientInfoException {
+    try {
+      execute(
+          this.connectionProxy.getCurrentConnection().getClass(),
+          "setClientInfo",
+          () -> {
+            this.connectionProxy.getCurrentConnection().setClientInfo(name, value);
+            return null;
+          },
+          new Object[] {name, value});
+    } catch (SQLClientInfoException | RuntimeException e) {
+      throw e;
+    } catch (SQLException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public Properties getClientInfo() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getClientInfo",
+        () -> this.connectionProxy.getCurrentConnection().getClientInfo());
+  }
+
+  @Override
+  public String getClientInfo(String name) throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getClientInfo",
+        () -> this.connectionProxy.getCurrentConnection().getClientInfo(name),
+        new Object[] {name});
+  }
+
+  @Override
+  public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+    return wrapJdbcInterface(Array.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createArrayOf",
+        () -> this.connectionProxy.getCurrentConnection().createArrayOf(typeName, elements),
+        new Object[] {typeName, elements}));
+  }
+
+  @Override
+  public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+    return wrapJdbcInterface(Struct.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createStruct",
+        () -> this.connectionProxy.getCurrentConnection().createStruct(typeName, attributes),
+        new Object[] {typeName, attributes}));
+  }
+
+  @Override
+  public void setSchema(String schema) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setSchema",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setSchema(schema);
+          return null;
+        },
+        new Object[] {schema});
+  }
+
+  @Override
+  public String getSchema() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getSchema",
+        () -> this.connectionProxy.getCurrentConnection().getSchema());
+  }
+
+  @Override
+  public void abort(Executor executor) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "abort",
+        () -> {
+          this.connectionProxy.getCurrentConnection().abort(executor);
+          return null;
+        },
+        new Object[] {executor});
+  }
+
+  @Override
+  public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setNetworkTimeout",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setNetworkTimeout(executor, milliseconds);
+          return null;
+        },
+        new Object[] {executor, milliseconds});
+  }
+
+  @Override
+  public int getNetworkTimeout() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getNetworkTimeout",
+        () -> this.connectionProxy.getCurrentConnection().getNetworkTimeout());
+  }
+
+  @Override
+  public void createNewIO(boolean isForReconnect) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "createNewIO",
+        () -> {
+          this.connectionProxy.getCurrentConnection().createNewIO(isForReconnect);
+          return null;
+        },
+        new Object[] {isForReconnect});
+  }
+
+  @Override
+  public long getId() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getId",
+        () -> this.connectionProxy.getCurrentConnection().getId());
+  }
+
+  @Override
+  public Properties getProperties() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getProperties",
+        () -> this.connectionProxy.getCurrentConnection().getProperties());
+  }
+
+  @Override
+  public Object getConnectionMutex() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getConnectionMutex",
+        () -> this.connectionProxy.getCurrentConnection().getConnectionMutex());
+  }
+
+  @Override
+  public Session getSession() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getSession",
+        () -> this.connectionProxy.getCurrentConnection().getSession());
+  }
+
+  @Override
+  public String getURL() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getURL",
+        () -> this.connectionProxy.getCurrentConnection().getURL());
+  }
+
+  @Override
+  public String getUser() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getUser",
+        () -> this.connectionProxy.getCurrentConnection().getUser());
+  }
+
+  @Override
+  public ExceptionInterceptor getExceptionInterceptor() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getExceptionInterceptor",
+        () -> this.connectionProxy.getCurrentConnection().getExceptionInterceptor());
+  }
+
+  @Override
+  public void checkClosed() {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "checkClosed",
+        () -> {
+          this.connectionProxy.getCurrentConnection().checkClosed();
+          return null;
+        });
+  }
+
+  @Override
+  public void normalClose() {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "normalClose",
+        () -> {
+          this.connectionProxy.getCurrentConnection().normalClose();
+          return null;
+        });
+  }
+
+  @Override
+  public void cleanup(Throwable whyCleanedUp) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "cleanup",
+        () -> {
+          this.connectionProxy.getCurrentConnection().cleanup(whyCleanedUp);
+          return null;
+        },
+        new Object[] {whyCleanedUp});
+  }
+
+  @Override
+  public ServerSessionStateController getServerSessionStateController() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getServerSessionStateController",
+        () -> this.connectionProxy.getCurrentConnection().getServerSessionStateController());
+  }
+
+  @Override
+  public void transactionBegun() {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "transactionBegun",
+        () -> {
+          this.connectionProxy.getCurrentConnection().transactionBegun();
+          return null;
+        });
+  }
+
+  @Override
+  public void transactionCompleted() {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "transactionCompleted",
+        () -> {
+          this.connectionProxy.getCurrentConnection().transactionCompleted();
+          return null;
+        });
+  }
+
+  @Override
+  public JdbcPropertySet getPropertySet() {
+    return wrapJdbcInterface(JdbcPropertySet.class, executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getPropertySet",
+        () -> this.connectionProxy.getCurrentConnection().getPropertySet()));
+  }
+
+  @Override
+  public void changeUser(String userName, String newPassword) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "changeUser",
+        () -> {
+          this.connectionProxy.getCurrentConnection().changeUser(userName, newPassword);
+          return null;
+        },
+        new Object[] {userName, newPassword});
+  }
+
+  @Deprecated
+  @Override
+  public void clearHasTriedMaster() {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "clearHasTriedMaster",
+        () -> {
+          this.connectionProxy.getCurrentConnection().clearHasTriedMaster();
+          return null;
+        });
+  }
+
+  @Override
+  public PreparedStatement clientPrepareStatement(String sql) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "clientPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().clientPrepareStatement(sql),
+        new Object[] {sql}));
+  }
+
+  @Override
+  public PreparedStatement clientPrepareStatement(String sql, int[] autoGenKeyIndexes) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "clientPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().clientPrepareStatement(sql, autoGenKeyIndexes),
+        new Object[] {sql, autoGenKeyIndexes}));
+  }
+
+  @Override
+  public PreparedStatement clientPrepareStatement(String sql, String[] autoGenKeyColNames) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "clientPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().clientPrepareStatement(sql, autoGenKeyColNames),
+        new Object[] {sql, autoGenKeyColNames}));
+  }
+
+  @Override
+  public PreparedStatement clientPrepareStatement(String sql, int autoGenKeyIndex) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "clientPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().clientPrepareStatement(sql, autoGenKeyIndex),
+        new Object[] {sql, autoGenKeyIndex}));
+  }
+
+  @Override
+  public PreparedStatement clientPrepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "clientPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().clientPrepareStatement(sql, resultSetType, resultSetConcurrency),
+        new Object[] {sql, resultSetType, resultSetConcurrency}));
+  }
+
+  @Override
+  public PreparedStatement clientPrepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "clientPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().clientPrepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+        new Object[] {sql, resultSetType, resultSetConcurrency, resultSetHoldability}));
+  }
+
+  @Override
+  public int getActiveStatementCount() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getActiveStatementCount",
+        () -> this.connectionProxy.getCurrentConnection().getActiveStatementCount());
+  }
+
+  @Override
+  public long getIdleFor() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getIdleFor",
+        () -> this.connectionProxy.getCurrentConnection().getIdleFor());
+  }
+
+  @Override
+  public String getStatementComment() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getStatementComment",
+        () -> this.connectionProxy.getCurrentConnection().getStatementComment());
+  }
+
+  @Deprecated
+  @Override
+  public boolean hasTriedMaster() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "hasTriedMaster",
+        () -> this.connectionProxy.getCurrentConnection().hasTriedMaster());
+  }
+
+  @Override
+  public boolean isInGlobalTx() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isInGlobalTx",
+        () -> this.connectionProxy.getCurrentConnection().isInGlobalTx());
+  }
+
+  @Override
+  public void setInGlobalTx(boolean flag) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setInGlobalTx",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setInGlobalTx(flag);
+          return null;
+        },
+        new Object[] {flag});
+  }
+
+  @Override
+  public boolean isSourceConnection() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isSourceConnection",
+        () -> this.connectionProxy.getCurrentConnection().isSourceConnection());
+  }
+
+  @Override
+  public boolean isSameResource(JdbcConnection c) {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isSameResource",
+        () -> this.connectionProxy.getCurrentConnection().isSameResource(c),
+        new Object[] {c});
+  }
+
+  @Override
+  public boolean lowerCaseTableNames() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "lowerCaseTableNames",
+        () -> this.connectionProxy.getCurrentConnection().lowerCaseTableNames());
+  }
+
+  @Override
+  public void ping() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "ping",
+        () -> {
+          this.connectionProxy.getCurrentConnection().ping();
+          return null;
+        });
+  }
+
+  @Override
+  public void resetServerState() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "resetServerState",
+        () -> {
+          this.connectionProxy.getCurrentConnection().resetServerState();
+          return null;
+        });
+  }
+
+  @Override
+  public PreparedStatement serverPrepareStatement(String sql) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "serverPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().serverPrepareStatement(sql),
+        new Object[] {sql}));
+  }
+
+  @Override
+  public PreparedStatement serverPrepareStatement(String sql, int[] autoGenKeyIndexes) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "serverPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().serverPrepareStatement(sql, autoGenKeyIndexes),
+        new Object[] {sql, autoGenKeyIndexes}));
+  }
+
+  @Override
+  public PreparedStatement serverPrepareStatement(String sql, String[] autoGenKeyColNames) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "serverPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().serverPrepareStatement(sql, autoGenKeyColNames),
+        new Object[] {sql, autoGenKeyColNames}));
+  }
+
+  @Override
+  public PreparedStatement serverPrepareStatement(String sql, int autoGenKeyIndex) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "serverPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().serverPrepareStatement(sql, autoGenKeyIndex),
+        new Object[] {sql, autoGenKeyIndex}));
+  }
+
+  @Override
+  public PreparedStatement serverPrepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "serverPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().serverPrepareStatement(sql, resultSetType, resultSetConcurrency),
+        new Object[] {sql, resultSetType, resultSetConcurrency}));
+  }
+
+  @Override
+  public PreparedStatement serverPrepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+    return wrapPreparedStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "serverPrepareStatement",
+        () -> this.connectionProxy.getCurrentConnection().serverPrepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability),
+        new Object[] {sql, resultSetType, resultSetConcurrency, resultSetHoldability}));
+  }
+
+  @Override
+  public void setFailedOver(boolean flag) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setFailedOver",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setFailedOver(flag);
+          return null;
+        },
+        new Object[] {flag});
+  }
+
+  @Override
+  public void setStatementComment(String comment) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setStatementComment",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setStatementComment(comment);
+          return null;
+        },
+        new Object[] {comment});
+  }
+
+  @Override
+  public void shutdownServer() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "shutdownServer",
+        () -> {
+          this.connectionProxy.getCurrentConnection().shutdownServer();
+          return null;
+        });
+  }
+
+  @Override
+  public int getAutoIncrementIncrement() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getAutoIncrementIncrement",
+        () -> this.connectionProxy.getCurrentConnection().getAutoIncrementIncrement());
+  }
+
+  @Override
+  public boolean hasSameProperties(JdbcConnection c) {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "hasSameProperties",
+        () -> this.connectionProxy.getCurrentConnection().hasSameProperties(c),
+        new Object[] {c});
+  }
+
+  @Override
+  public String getHost() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getHost",
+        () -> this.connectionProxy.getCurrentConnection().getHost());
+  }
+
+  @Override
+  public String getHostPortPair() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getHostPortPair",
+        () -> this.connectionProxy.getCurrentConnection().getHostPortPair());
+  }
+
+  @Override
+  public void setProxy(JdbcConnection proxy) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setProxy",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setProxy(proxy);
+          return null;
+        },
+        new Object[] {proxy});
+  }
+
+  @Override
+  public boolean isServerLocal() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isServerLocal",
+        () -> this.connectionProxy.getCurrentConnection().isServerLocal());
+  }
+
+  @Override
+  public int getSessionMaxRows() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getSessionMaxRows",
+        () -> this.connectionProxy.getCurrentConnection().getSessionMaxRows());
+  }
+
+  @Override
+  public void setSessionMaxRows(int max) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setSessionMaxRows",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setSessionMaxRows(max);
+          return null;
+        },
+        new Object[] {max});
+  }
+
+  @Override
+  public void abortInternal() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "abortInternal",
+        () -> {
+          this.connectionProxy.getCurrentConnection().abortInternal();
+          return null;
+        });
+  }
+
+  @Override
+  public boolean isProxySet() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isProxySet",
+        () -> this.connectionProxy.getCurrentConnection().isProxySet());
+  }
+
+  @Override
+  public CachedResultSetMetaData getCachedMetaData(String sql) {
+    return wrapJdbcInterface(CachedResultSetMetaData.class, executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getCachedMetaData",
+        () -> this.connectionProxy.getCurrentConnection().getCachedMetaData(sql),
+        new Object[] {sql}));
+  }
+
+  @Override
+  public String getCharacterSetMetadata() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getCharacterSetMetadata",
+        () -> this.connectionProxy.getCurrentConnection().getCharacterSetMetadata());
+  }
+
+  @Override
+  public Statement getMetadataSafeStatement() throws SQLException {
+    return wrapStatement(execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getMetadataSafeStatement",
+        () -> this.connectionProxy.getCurrentConnection().getMetadataSafeStatement()));
+  }
+
+  @Override
+  public ServerVersion getServerVersion() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getServerVersion",
+        () -> this.connectionProxy.getCurrentConnection().getServerVersion());
+  }
+
+  @Override
+  public List<QueryInterceptor> getQueryInterceptorsInstances() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getQueryInterceptorsInstances",
+        () -> this.connectionProxy.getCurrentConnection().getQueryInterceptorsInstances());
+  }
+
+  @Override
+  public void initializeResultsMetadataFromCache(String sql, CachedResultSetMetaData cachedMetaData, ResultSetInternalMethods resultSet) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "initializeResultsMetadataFromCache",
+        () -> {
+          this.connectionProxy.getCurrentConnection().initializeResultsMetadataFromCache(sql, cachedMetaData, resultSet);
+          return null;
+        },
+        new Object[] {sql, cachedMetaData, resultSet});
+  }
+
+  @Override
+  public void initializeSafeQueryInterceptors() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "initializeSafeQueryInterceptors",
+        () -> {
+          this.connectionProxy.getCurrentConnection().initializeSafeQueryInterceptors();
+          return null;
+        });
+  }
+
+  @Override
+  public void setConnectionLifecycleInterceptor(ConnectionLifecycleInterceptor interceptor) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setConnectionLifecycleInterceptor",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setConnectionLifecycleInterceptor(interceptor);
+          return null;
+        },
+        new Object[] {interceptor});
+  }
+
+  @Override
+  public boolean isReadOnly(boolean useSessionStatus) throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "isReadOnly",
+        () -> this.connectionProxy.getCurrentConnection().isReadOnly(useSessionStatus),
+        new Object[] {useSessionStatus});
+  }
+
+  @Override
+  public void pingInternal(boolean checkForClosedConnection, int timeoutMillis) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "pingInternal",
+        () -> {
+          this.connectionProxy.getCurrentConnection().pingInternal(checkForClosedConnection, timeoutMillis);
+          return null;
+        },
+        new Object[] {checkForClosedConnection, timeoutMillis});
+  }
+
+  @Override
+  public void realClose(boolean calledExplicitly, boolean issueRollback, boolean skipLocalTeardown, Throwable reason) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "realClose",
+        () -> {
+          this.connectionProxy.getCurrentConnection().realClose(calledExplicitly, issueRollback, skipLocalTeardown, reason);
+          return null;
+        },
+        new Object[] {calledExplicitly, issueRollback, skipLocalTeardown, reason});
+  }
+
+  @Override
+  public void recachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "recachePreparedStatement",
+        () -> {
+          this.connectionProxy.getCurrentConnection().recachePreparedStatement(pstmt);
+          return null;
+        },
+        new Object[] {pstmt});
+  }
+
+  @Override
+  public void decachePreparedStatement(JdbcPreparedStatement pstmt) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "decachePreparedStatement",
+        () -> {
+          this.connectionProxy.getCurrentConnection().decachePreparedStatement(pstmt);
+          return null;
+        },
+        new Object[] {pstmt});
+  }
+
+  @Override
+  public void registerStatement(JdbcStatement stmt) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "registerStatement",
+        () -> {
+          this.connectionProxy.getCurrentConnection().registerStatement(stmt);
+          return null;
+        },
+        new Object[] {stmt});
+  }
+
+  @Override
+  public void setReadOnlyInternal(boolean readOnlyFlag) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setReadOnlyInternal",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setReadOnlyInternal(readOnlyFlag);
+          return null;
+        },
+        new Object[] {readOnlyFlag});
+  }
+
+  @Override
+  public boolean storesLowerCaseTableName() {
+    return executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "storesLowerCaseTableName",
+        () -> this.connectionProxy.getCurrentConnection().storesLowerCaseTableName());
+  }
+
+  @Override
+  public void throwConnectionClosedException() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "throwConnectionClosedException",
+        () -> {
+          this.connectionProxy.getCurrentConnection().throwConnectionClosedException();
+          return null;
+        });
+  }
+
+  @Override
+  public void unregisterStatement(JdbcStatement stmt) {
+    executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "unregisterStatement",
+        () -> {
+          this.connectionProxy.getCurrentConnection().unregisterStatement(stmt);
+          return null;
+        },
+        new Object[] {stmt});
+  }
+
+  @Override
+  public void unSafeQueryInterceptors() throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "unSafeQueryInterceptors",
+        () -> {
+          this.connectionProxy.getCurrentConnection().unSafeQueryInterceptors();
+          return null;
+        });
+  }
+
+  @Override
+  public JdbcConnection getMultiHostSafeProxy() {
+    return wrapJdbcInterface(JdbcConnection.class, executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getMultiHostSafeProxy",
+        () -> this.connectionProxy.getCurrentConnection().getMultiHostSafeProxy()));
+  }
+
+  @Override
+  public JdbcConnection getMultiHostParentProxy() {
+    return wrapJdbcInterface(JdbcConnection.class, executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getMultiHostParentProxy",
+        () -> this.connectionProxy.getCurrentConnection().getMultiHostParentProxy()));
+  }
+
+  @Override
+  public JdbcConnection getActiveMySQLConnection() {
+    return wrapJdbcInterface(JdbcConnection.class, executeUnchecked(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getActiveMySQLConnection",
+        () -> this.connectionProxy.getCurrentConnection().getActiveMySQLConnection()));
+  }
+
+  @Override
+  public ClientInfoProvider getClientInfoProviderImpl() throws SQLException {
+    return wrapJdbcInterface(ClientInfoProvider.class, execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getClientInfoProviderImpl",
+        () -> this.connectionProxy.getCurrentConnection().getClientInfoProviderImpl()));
+  }
+
+  @Override
+  public void setDatabase(String dbName) throws SQLException {
+    execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "setDatabase",
+        () -> {
+          this.connectionProxy.getCurrentConnection().setDatabase(dbName);
+          return null;
+        },
+        new Object[] {dbName});
+  }
+
+  @Override
+  public String getDatabase() throws SQLException {
+    return execute(
+        this.connectionProxy.getCurrentConnection().getClass(),
+        "getDatabase",
+        () -> this.connectionProxy.getCurrentConnection().getDatabase());
+  }
+}
@@ -0,0 +1,837 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.ParseInfo;
+import com.mysql.cj.QueryBindings;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.ParameterBindings;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * Non-reflective {@link JdbcPreparedStatement} wrapper that passes every call to the connection plugins.
+ */
+public class JdbcPreparedStatementWrapper extends JdbcStatementWrapper implements JdbcPreparedStatement {
+
+  protected final JdbcPreparedStatement preparedStatement;
+
+  JdbcPreparedStatementWrapper(ConnectionProxy connectionProxy, JdbcPreparedStatement preparedStatement) {
+    super(connectionProxy, preparedStatement);
+    this.preparedStatement = preparedStatement;
+  }
+
+  @Override
+  public ResultSet executeQuery() throws SQLException {
+    return wrapResultSet(execute(
+        this.preparedStatement.getClass(),
+        "executeQuery",
+        () -> this.preparedStatement.executeQuery()));
+  }
+
+  @Override
+  public int executeUpdate() throws SQLException {
+    return execute(
+        this.preparedStatement.getClass(),
+        "executeUpdate",
+        () -> this.preparedStatement.executeUpdate());
+  }
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNull",
+        () -> {
+          this.preparedStatement.setNull(parameterIndex, sqlType);
+          return null;
+        },
+        new Object[] {parameterIndex, sqlType});
+  }
+
+  @Override
+  public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNull",
+        () -> {
+          this.preparedStatement.setNull(parameterIndex, sqlType, typeName);
+          return null;
+        },
+        new Object[] {parameterIndex, sqlType, typeName});
+  }
+
+  @Override
+  public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBoolean",
+        () -> {
+          this.preparedStatement.setBoolean(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setByte(int parameterIndex, byte x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setByte",
+        () -> {
+          this.preparedStatement.setByte(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setShort(int parameterIndex, short x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setShort",
+        () -> {
+          this.preparedStatement.setShort(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setInt(int parameterIndex, int x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setInt",
+        () -> {
+          this.preparedStatement.setInt(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setLong(int parameterIndex, long x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setLong",
+        () -> {
+          this.preparedStatement.setLong(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setFloat(int parameterIndex, float x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setFloat",
+        () -> {
+          this.preparedStatement.setFloat(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setDouble(int parameterIndex, double x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setDouble",
+        () -> {
+          this.preparedStatement.setDouble(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBigDecimal",
+        () -> {
+          this.preparedStatement.setBigDecimal(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setString(int parameterIndex, String x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setString",
+        () -> {
+          this.preparedStatement.setString(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBytes",
+        () -> {
+          this.preparedStatement.setBytes(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setDate(int parameterIndex, Date x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setDate",
+        () -> {
+          this.preparedStatement.setDate(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setDate",
+        () -> {
+          this.preparedStatement.setDate(parameterIndex, x, cal);
+          return null;
+        },
+        new Object[] {parameterIndex, x, cal});
+  }
+
+  @Override
+  public void setTime(int parameterIndex, Time x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setTime",
+        () -> {
+          this.preparedStatement.setTime(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setTime",
+        () -> {
+          this.preparedStatement.setTime(parameterIndex, x, cal);
+          return null;
+        },
+        new Object[] {parameterIndex, x, cal});
+  }
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setTimestamp",
+        () -> {
+          this.preparedStatement.setTimestamp(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setTimestamp",
+        () -> {
+          this.preparedStatement.setTimestamp(parameterIndex, x, cal);
+          return null;
+        },
+        new Object[] {parameterIndex, x, cal});
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setAsciiStream",
+        () -> {
+          this.preparedStatement.setAsciiStream(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x, int length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setAsciiStream",
+        () -> {
+          this.preparedStatement.setAsciiStream(parameterIndex, x, length);
+          return null;
+        },
+        new Object[] {parameterIndex, x, length});
+  }
+
+  @Override
+  public void setAsciiStream(int parameterIndex, InputStream x, long length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setAsciiStream",
+        () -> {
+          this.preparedStatement.setAsciiStream(parameterIndex, x, length);
+          return null;
+        },
+        new Object[] {parameterIndex, x, length});
+  }
+
+  @Deprecated
+  @Override
+  public void setUnicodeStream(int parameterIndex, InputStream x, int length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setUnicodeStream",
+        () -> {
+          this.preparedStatement.setUnicodeStream(parameterIndex, x, length);
+          return null;
+        },
+        new Object[] {parameterIndex, x, length});
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBinaryStream",
+        () -> {
+          this.preparedStatement.setBinaryStream(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x, int length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBinaryStream",
+        () -> {
+          this.preparedStatement.setBinaryStream(parameterIndex, x, length);
+          return null;
+        },
+        new Object[] {parameterIndex, x, length});
+  }
+
+  @Override
+  public void setBinaryStream(int parameterIndex, InputStream x, long length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBinaryStream",
+        () -> {
+          this.preparedStatement.setBinaryStream(parameterIndex, x, length);
+          return null;
+        },
+        new Object[] {parameterIndex, x, length});
+  }
+
+  @Override
+  public void clearParameters() throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "clearParameters",
+        () -> {
+          this.preparedStatement.clearParameters();
+          return null;
+        });
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setObject",
+        () -> {
+          this.preparedStatement.setObject(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setObject",
+        () -> {
+          this.preparedStatement.setObject(parameterIndex, x, targetSqlType);
+          return null;
+        },
+        new Object[] {parameterIndex, x, targetSqlType});
+  }
+
+  @Override
+  public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setObject",
+        () -> {
+          this.preparedStatement.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+          return null;
+        },
+        new Object[] {parameterIndex, x, targetSqlType, scaleOrLength});
+  }
+
+  @Override
+  public boolean execute() throws SQLException {
+    return execute(
+        this.preparedStatement.getClass(),
+        "execute",
+        () -> this.preparedStatement.execute());
+  }
+
+  @Override
+  public void addBatch() throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "addBatch",
+        () -> {
+          this.preparedStatement.addBatch();
+          return null;
+        });
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setCharacterStream",
+        () -> {
+          this.preparedStatement.setCharacterStream(parameterIndex, reader);
+          return null;
+        },
+        new Object[] {parameterIndex, reader});
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader, int length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setCharacterStream",
+        () -> {
+          this.preparedStatement.setCharacterStream(parameterIndex, reader, length);
+          return null;
+        },
+        new Object[] {parameterIndex, reader, length});
+  }
+
+  @Override
+  public void setCharacterStream(int parameterIndex, Reader reader, long length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setCharacterStream",
+        () -> {
+          this.preparedStatement.setCharacterStream(parameterIndex, reader, length);
+          return null;
+        },
+        new Object[] {parameterIndex, reader, length});
+  }
+
+  @Override
+  public void setRef(int parameterIndex, Ref x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setRef",
+        () -> {
+          this.preparedStatement.setRef(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, InputStream inputStream) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBlob",
+        () -> {
+          this.preparedStatement.setBlob(parameterIndex, inputStream);
+          return null;
+        },
+        new Object[] {parameterIndex, inputStream});
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, Blob x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBlob",
+        () -> {
+          this.preparedStatement.setBlob(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setBlob(int parameterIndex, InputStream inputStream, long length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBlob",
+        () -> {
+          this.preparedStatement.setBlob(parameterIndex, inputStream, length);
+          return null;
+        },
+        new Object[] {parameterIndex, inputStream, length});
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Reader reader) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setClob",
+        () -> {
+          this.preparedStatement.setClob(parameterIndex, reader);
+          return null;
+        },
+        new Object[] {parameterIndex, reader});
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Clob x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setClob",
+        () -> {
+          this.preparedStatement.setClob(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setClob(int parameterIndex, Reader reader, long length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setClob",
+        () -> {
+          this.preparedStatement.setClob(parameterIndex, reader, length);
+          return null;
+        },
+        new Object[] {parameterIndex, reader, length});
+  }
+
+  @Override
+  public void setArray(int parameterIndex, Array x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setArray",
+        () -> {
+          this.preparedStatement.setArray(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    return wrapJdbcInterface(ResultSetMetaData.class, execute(
+        this.preparedStatement.getClass(),
+        "getMetaData",
+        () -> this.preparedStatement.getMetaData()));
+  }
+
+  @Override
+  public void setURL(int parameterIndex, URL x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setURL",
+        () -> {
+          this.preparedStatement.setURL(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public ParameterMetaData getParameterMetaData() throws SQLException {
+    return wrapJdbcInterface(ParameterMetaData.class, execute(
+        this.preparedStatement.getClass(),
+        "getParameterMetaData",
+        () -> this.preparedStatement.getParameterMetaData()));
+  }
+
+  @Override
+  public void setRowId(int parameterIndex, RowId x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setRowId",
+        () -> {
+          this.preparedStatement.setRowId(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setNString(int parameterIndex, String value) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNString",
+        () -> {
+          this.preparedStatement.setNString(parameterIndex, value);
+          return null;
+        },
+        new Object[] {parameterIndex, value});
+  }
+
+  @Override
+  public void setNCharacterStream(int parameterIndex, Reader value) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNCharacterStream",
+        () -> {
+          this.preparedStatement.setNCharacterStream(parameterIndex, value);
+          return null;
+        },
+        new Object[] {parameterIndex, value});
+  }
+
+  @Override
+  public void setNCharacterStream(int parameterIndex, Reader value, long length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNCharacterStream",
+        () -> {
+          this.preparedStatement.setNCharacterStream(parameterIndex, value, length);
+          return null;
+        },
+        new Object[] {parameterIndex, value, length});
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, Reader reader) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNClob",
+        () -> {
+          this.preparedStatement.setNClob(parameterIndex, reader);
+          return null;
+        },
+        new Object[] {parameterIndex, reader});
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, NClob value) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNClob",
+        () -> {
+          this.preparedStatement.setNClob(parameterIndex, value);
+          return null;
+        },
+        new Object[] {parameterIndex, value});
+  }
+
+  @Override
+  public void setNClob(int parameterIndex, Reader reader, long length) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNClob",
+        () -> {
+          this.preparedStatement.setNClob(parameterIndex, reader, length);
+          return null;
+        },
+        new Object[] {parameterIndex, reader, length});
+  }
+
+  @Override
+  public void setSQLXML(int parameterIndex, SQLXML xmlObject) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setSQLXML",
+        () -> {
+          this.preparedStatement.setSQLXML(parameterIndex, xmlObject);
+          return null;
+        },
+        new Object[] {parameterIndex, xmlObject});
+  }
+
+  @Override
+  public void realClose(boolean calledExplicitly, boolean closeOpenResults) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "realClose",
+        () -> {
+          this.preparedStatement.realClose(calledExplicitly, closeOpenResults);
+          return null;
+        },
+        new Object[] {calledExplicitly, closeOpenResults});
+  }
+
+  @Override
+  public QueryBindings<?> getQueryBindings() {
+    return executeUnchecked(
+        this.preparedStatement.getClass(),
+        "getQueryBindings",
+        () -> this.preparedStatement.getQueryBindings());
+  }
+
+  @Override
+  public byte[] getBytesRepresentation(int parameterIndex) throws SQLException {
+    return execute(
+        this.preparedStatement.getClass(),
+        "getBytesRepresentation",
+        () -> this.preparedStatement.getBytesRepresentation(parameterIndex),
+        new Object[] {parameterIndex});
+  }
+
+  @Override
+  public byte[] getOrigBytes(int parameterIndex) throws SQLException {
+    return execute(
+        this.preparedStatement.getClass(),
+        "getOrigBytes",
+        () -> this.preparedStatement.getOrigBytes(parameterIndex),
+        new Object[] {parameterIndex});
+  }
+
+  @Override
+  public ParseInfo getParseInfo() {
+    return executeUnchecked(
+        this.preparedStatement.getClass(),
+        "getParseInfo",
+        () -> this.preparedStatement.getParseInfo());
+  }
+
+  @Override
+  public boolean isNull(int paramIndex) throws SQLException {
+    return execute(
+        this.preparedStatement.getClass(),
+        "isNull",
+        () -> this.preparedStatement.isNull(paramIndex),
+        new Object[] {paramIndex});
+  }
+
+  @Override
+  public String getPreparedSql() {
+    return executeUnchecked(
+        this.preparedStatement.getClass(),
+        "getPreparedSql",
+        () -> this.preparedStatement.getPreparedSql());
+  }
+
+  @Override
+  public void setBytes(int parameterIndex, byte[] x, boolean checkForIntroducer, boolean escapeForMBChars) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBytes",
+        () -> {
+          this.preparedStatement.setBytes(parameterIndex, x, checkForIntroducer, escapeForMBChars);
+          return null;
+        },
+        new Object[] {parameterIndex, x, checkForIntroducer, escapeForMBChars});
+  }
+
+  @Override
+  public void setBytesNoEscape(int parameterIndex, byte[] parameterAsBytes) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBytesNoEscape",
+        () -> {
+          this.preparedStatement.setBytesNoEscape(parameterIndex, parameterAsBytes);
+          return null;
+        },
+        new Object[] {parameterIndex, parameterAsBytes});
+  }
+
+  @Override
+  public void setBytesNoEscapeNoQuotes(int parameterIndex, byte[] parameterAsBytes) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBytesNoEscapeNoQuotes",
+        () -> {
+          this.preparedStatement.setBytesNoEscapeNoQuotes(parameterIndex, parameterAsBytes);
+          return null;
+        },
+        new Object[] {parameterIndex, parameterAsBytes});
+  }
+
+  @Override
+  public void setBigInteger(int parameterIndex, BigInteger x) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setBigInteger",
+        () -> {
+          this.preparedStatement.setBigInteger(parameterIndex, x);
+          return null;
+        },
+        new Object[] {parameterIndex, x});
+  }
+
+  @Override
+  public void setNull(int parameterIndex, MysqlType mysqlType) throws SQLException {
+    execute(
+        this.preparedStatement.getClass(),
+        "setNull",
+        () -> {
+          this.preparedStatement.setNull(parameterIndex, mysqlType);
+          return null;
+        },
+        new Object[] {parameterIndex, mysqlType});
+  }
+
+  @Override
+  public ParameterBindings getParameterBindings() throws SQLException {
+    return wrapJdbcInterface(ParameterBindings.class, execute(
+        this.preparedStatement.getClass(),
+        "getParameterBindings",
+        () -> this.preparedStatement.getParameterBindings()));
+  }
+}
@@ -0,0 +1,2461 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import com.mysql.cj.MysqlConnection;
+import com.mysql.cj.Query;
+import com.mysql.cj.Session;
+import com.mysql.cj.WarningListener;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.result.CachedResultSetMetaData;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.ColumnDefinition;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.ResultsetRows;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Non-reflective result set wrapper that passes every call to the connection plugins.
+ */
+public class JdbcResultSetWrapper extends JdbcWrapper implements ResultSetInternalMethods, WarningListener, Resultset {
+
+  protected final ResultSetImpl resultSet;
+  // called for every row, so built once rather than on each call
+  private final Callable<Boolean> nextCall;
+  private final Callable<Boolean> wasNullCall;
+
+  JdbcResultSetWrapper(ConnectionProxy connectionProxy, ResultSetImpl resultSet) {
+    super(connectionProxy);
+    this.resultSet = resultSet;
+    this.nextCall = resultSet::next;
+    this.wasNullCall = resultSet::wasNull;
+  }
+
+  @Override
+  protected Object getWrappedObject() {
+    return this.resultSet;
+  }
+
+  @Override
+  public String toString() {
+    return this.resultSet.toString();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "unwrap",
+        () -> this.resultSet.unwrap(iface),
+        new Object[] {iface});
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "isWrapperFor",
+        () -> this.resultSet.isWrapperFor(iface),
+        new Object[] {iface});
+  }
+
+  @Override
+  public boolean next() throws SQLException {
+    if (canInvokeDirectly("next")) {
+      return this.resultSet.next();
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "next",
+        this.nextCall);
+  }
+
+  @Override
+  public void close() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "close",
+        () -> {
+          this.resultSet.close();
+          return null;
+        });
+  }
+
+  @Override
+  public boolean wasNull() throws SQLException {
+    if (canInvokeDirectly("wasNull")) {
+      return this.resultSet.wasNull();
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "wasNull",
+        this.wasNullCall);
+  }
+
+  @Override
+  public String getString(String columnLabel) throws SQLException {
+    if (canInvokeDirectly("getString")) {
+      return this.resultSet.getString(columnLabel);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getString",
+        () -> this.resultSet.getString(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public String getString(int columnIndex) throws SQLException {
+    if (canInvokeDirectly("getString")) {
+      return this.resultSet.getString(columnIndex);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getString",
+        () -> this.resultSet.getString(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public boolean getBoolean(String columnLabel) throws SQLException {
+    if (canInvokeDirectly("getBoolean")) {
+      return this.resultSet.getBoolean(columnLabel);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getBoolean",
+        () -> this.resultSet.getBoolean(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public boolean getBoolean(int columnIndex) throws SQLException {
+    if (canInvokeDirectly("getBoolean")) {
+      return this.resultSet.getBoolean(columnIndex);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getBoolean",
+        () -> this.resultSet.getBoolean(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public byte getByte(String columnLabel) throws SQLException {
+    if (canInvokeDirectly("getByte")) {
+      return this.resultSet.getByte(columnLabel);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getByte",
+        () -> this.resultSet.getByte(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public byte getByte(int columnIndex) throws SQLException {
+    if (canInvokeDirectly("getByte")) {
+      return this.resultSet.getByte(columnIndex);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getByte",
+        () -> this.resultSet.getByte(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public short getShort(String columnLabel) throws SQLException {
+    if (canInvokeDirectly("getShort")) {
+      return this.resultSet.getShort(columnLabel);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getShort",
+        () -> this.resultSet.getShort(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public short getShort(int columnIndex) throws SQLException {
+    if (canInvokeDirectly("getShort")) {
+      return this.resultSet.getShort(columnIndex);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getShort",
+        () -> this.resultSet.getShort(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public int getInt(String columnLabel) throws SQLException {
+    if (canInvokeDirectly("getInt")) {
+      return this.resultSet.getInt(columnLabel);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getInt",
+        () -> this.resultSet.getInt(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public int getInt(int columnIndex) throws SQLException {
+    if (canInvokeDirectly("getInt")) {
+      return this.resultSet.getInt(columnIndex);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getInt",
+        () -> this.resultSet.getInt(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public long getLong(String columnLabel) throws SQLException {
+    if (canInvokeDirectly("getLong")) {
+      return this.resultSet.getLong(columnLabel);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getLong",
+        () -> this.resultSet.getLong(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public long getLong(int columnIndex) throws SQLException {
+    if (canInvokeDirectly("getLong")) {
+      return this.resultSet.getLong(columnIndex);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getLong",
+        () -> this.resultSet.getLong(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public float getFloat(String columnLabel) throws SQLException {
+    if (canInvokeDirectly("getFloat")) {
+      return this.resultSet.getFloat(columnLabel);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getFloat",
+        () -> this.resultSet.getFloat(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public float getFloat(int columnIndex) throws SQLException {
+    if (canInvokeDirectly("getFloat")) {
+      return this.resultSet.getFloat(columnIndex);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getFloat",
+        () -> this.resultSet.getFloat(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public double getDouble(String columnLabel) throws SQLException {
+    if (canInvokeDirectly("getDouble")) {
+      return this.resultSet.getDouble(columnLabel);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getDouble",
+        () -> this.resultSet.getDouble(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public double getDouble(int columnIndex) throws SQLException {
+    if (canInvokeDirectly("getDouble")) {
+      return this.resultSet.getDouble(columnIndex);
+    }
+    return execute(
+        this.resultSet.getClass(),
+        "getDouble",
+        () -> this.resultSet.getDouble(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBigDecimal",
+        () -> this.resultSet.getBigDecimal(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBigDecimal",
+        () -> this.resultSet.getBigDecimal(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Deprecated
+  @Override
+  public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBigDecimal",
+        () -> this.resultSet.getBigDecimal(columnLabel, scale),
+        new Object[] {columnLabel, scale});
+  }
+
+  @Deprecated
+  @Override
+  public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBigDecimal",
+        () -> this.resultSet.getBigDecimal(columnIndex, scale),
+        new Object[] {columnIndex, scale});
+  }
+
+  @Override
+  public byte[] getBytes(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBytes",
+        () -> this.resultSet.getBytes(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public byte[] getBytes(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBytes",
+        () -> this.resultSet.getBytes(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public Date getDate(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getDate",
+        () -> this.resultSet.getDate(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public Date getDate(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getDate",
+        () -> this.resultSet.getDate(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getDate",
+        () -> this.resultSet.getDate(columnLabel, cal),
+        new Object[] {columnLabel, cal});
+  }
+
+  @Override
+  public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getDate",
+        () -> this.resultSet.getDate(columnIndex, cal),
+        new Object[] {columnIndex, cal});
+  }
+
+  @Override
+  public Time getTime(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getTime",
+        () -> this.resultSet.getTime(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public Time getTime(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getTime",
+        () -> this.resultSet.getTime(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getTime",
+        () -> this.resultSet.getTime(columnLabel, cal),
+        new Object[] {columnLabel, cal});
+  }
+
+  @Override
+  public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getTime",
+        () -> this.resultSet.getTime(columnIndex, cal),
+        new Object[] {columnIndex, cal});
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getTimestamp",
+        () -> this.resultSet.getTimestamp(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getTimestamp",
+        () -> this.resultSet.getTimestamp(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getTimestamp",
+        () -> this.resultSet.getTimestamp(columnLabel, cal),
+        new Object[] {columnLabel, cal});
+  }
+
+  @Override
+  public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getTimestamp",
+        () -> this.resultSet.getTimestamp(columnIndex, cal),
+        new Object[] {columnIndex, cal});
+  }
+
+  @Override
+  public InputStream getAsciiStream(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getAsciiStream",
+        () -> this.resultSet.getAsciiStream(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public InputStream getAsciiStream(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getAsciiStream",
+        () -> this.resultSet.getAsciiStream(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Deprecated
+  @Override
+  public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getUnicodeStream",
+        () -> this.resultSet.getUnicodeStream(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Deprecated
+  @Override
+  public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getUnicodeStream",
+        () -> this.resultSet.getUnicodeStream(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public InputStream getBinaryStream(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBinaryStream",
+        () -> this.resultSet.getBinaryStream(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public InputStream getBinaryStream(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBinaryStream",
+        () -> this.resultSet.getBinaryStream(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getWarnings",
+        () -> this.resultSet.getWarnings());
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "clearWarnings",
+        () -> {
+          this.resultSet.clearWarnings();
+          return null;
+        });
+  }
+
+  @Override
+  public String getCursorName() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getCursorName",
+        () -> this.resultSet.getCursorName());
+  }
+
+  @Override
+  public ResultSetMetaData getMetaData() throws SQLException {
+    return wrapJdbcInterface(ResultSetMetaData.class, execute(
+        this.resultSet.getClass(),
+        "getMetaData",
+        () -> this.resultSet.getMetaData()));
+  }
+
+  @Override
+  public Object getObject(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObject",
+        () -> this.resultSet.getObject(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public Object getObject(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObject",
+        () -> this.resultSet.getObject(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObject",
+        () -> this.resultSet.getObject(columnLabel, type),
+        new Object[] {columnLabel, type});
+  }
+
+  @Override
+  public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObject",
+        () -> this.resultSet.getObject(columnLabel, map),
+        new Object[] {columnLabel, map});
+  }
+
+  @Override
+  public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObject",
+        () -> this.resultSet.getObject(columnIndex, type),
+        new Object[] {columnIndex, type});
+  }
+
+  @Override
+  public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObject",
+        () -> this.resultSet.getObject(columnIndex, map),
+        new Object[] {columnIndex, map});
+  }
+
+  @Override
+  public int findColumn(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "findColumn",
+        () -> this.resultSet.findColumn(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public Reader getCharacterStream(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getCharacterStream",
+        () -> this.resultSet.getCharacterStream(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public Reader getCharacterStream(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getCharacterStream",
+        () -> this.resultSet.getCharacterStream(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public boolean isBeforeFirst() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "isBeforeFirst",
+        () -> this.resultSet.isBeforeFirst());
+  }
+
+  @Override
+  public boolean isAfterLast() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "isAfterLast",
+        () -> this.resultSet.isAfterLast());
+  }
+
+  @Override
+  public boolean isFirst() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "isFirst",
+        () -> this.resultSet.isFirst());
+  }
+
+  @Override
+  public boolean isLast() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "isLast",
+        () -> this.resultSet.isLast());
+  }
+
+  @Override
+  public void beforeFirst() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "beforeFirst",
+        () -> {
+          this.resultSet.beforeFirst();
+          return null;
+        });
+  }
+
+  @Override
+  public void afterLast() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "afterLast",
+        () -> {
+          this.resultSet.afterLast();
+          return null;
+        });
+  }
+
+  @Override
+  public boolean first() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "first",
+        () -> this.resultSet.first());
+  }
+
+  @Override
+  public boolean last() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "last",
+        () -> this.resultSet.last());
+  }
+
+  @Override
+  public int getRow() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getRow",
+        () -> this.resultSet.getRow());
+  }
+
+  @Override
+  public boolean absolute(int row) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "absolute",
+        () -> this.resultSet.absolute(row),
+        new Object[] {row});
+  }
+
+  @Override
+  public boolean relative(int rows) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "relative",
+        () -> this.resultSet.relative(rows),
+        new Object[] {rows});
+  }
+
+  @Override
+  public boolean previous() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "previous",
+        () -> this.resultSet.previous());
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "setFetchDirection",
+        () -> {
+          this.resultSet.setFetchDirection(direction);
+          return null;
+        },
+        new Object[] {direction});
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getFetchDirection",
+        () -> this.resultSet.getFetchDirection());
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "setFetchSize",
+        () -> {
+          this.resultSet.setFetchSize(rows);
+          return null;
+        },
+        new Object[] {rows});
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getFetchSize",
+        () -> this.resultSet.getFetchSize());
+  }
+
+  @Override
+  public int getType() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getType",
+        () -> this.resultSet.getType());
+  }
+
+  @Override
+  public int getConcurrency() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getConcurrency",
+        () -> this.resultSet.getConcurrency());
+  }
+
+  @Override
+  public boolean rowUpdated() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "rowUpdated",
+        () -> this.resultSet.rowUpdated());
+  }
+
+  @Override
+  public boolean rowInserted() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "rowInserted",
+        () -> this.resultSet.rowInserted());
+  }
+
+  @Override
+  public boolean rowDeleted() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "rowDeleted",
+        () -> this.resultSet.rowDeleted());
+  }
+
+  @Override
+  public void updateNull(String columnLabel) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNull",
+        () -> {
+          this.resultSet.updateNull(columnLabel);
+          return null;
+        },
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public void updateNull(int columnIndex) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNull",
+        () -> {
+          this.resultSet.updateNull(columnIndex);
+          return null;
+        },
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBoolean",
+        () -> {
+          this.resultSet.updateBoolean(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBoolean",
+        () -> {
+          this.resultSet.updateBoolean(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateByte(String columnLabel, byte x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateByte",
+        () -> {
+          this.resultSet.updateByte(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateByte(int columnIndex, byte x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateByte",
+        () -> {
+          this.resultSet.updateByte(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateShort(String columnLabel, short x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateShort",
+        () -> {
+          this.resultSet.updateShort(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateShort(int columnIndex, short x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateShort",
+        () -> {
+          this.resultSet.updateShort(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateInt(String columnLabel, int x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateInt",
+        () -> {
+          this.resultSet.updateInt(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateInt(int columnIndex, int x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateInt",
+        () -> {
+          this.resultSet.updateInt(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateLong(String columnLabel, long x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateLong",
+        () -> {
+          this.resultSet.updateLong(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateLong(int columnIndex, long x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateLong",
+        () -> {
+          this.resultSet.updateLong(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateFloat(String columnLabel, float x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateFloat",
+        () -> {
+          this.resultSet.updateFloat(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateFloat(int columnIndex, float x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateFloat",
+        () -> {
+          this.resultSet.updateFloat(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateDouble(String columnLabel, double x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateDouble",
+        () -> {
+          this.resultSet.updateDouble(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateDouble(int columnIndex, double x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateDouble",
+        () -> {
+          this.resultSet.updateDouble(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBigDecimal",
+        () -> {
+          this.resultSet.updateBigDecimal(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBigDecimal",
+        () -> {
+          this.resultSet.updateBigDecimal(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateString(String columnLabel, String x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateString",
+        () -> {
+          this.resultSet.updateString(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateString(int columnIndex, String x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateString",
+        () -> {
+          this.resultSet.updateString(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBytes",
+        () -> {
+          this.resultSet.updateBytes(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBytes",
+        () -> {
+          this.resultSet.updateBytes(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateDate(String columnLabel, Date x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateDate",
+        () -> {
+          this.resultSet.updateDate(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateDate(int columnIndex, Date x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateDate",
+        () -> {
+          this.resultSet.updateDate(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateTime(String columnLabel, Time x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateTime",
+        () -> {
+          this.resultSet.updateTime(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateTime(int columnIndex, Time x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateTime",
+        () -> {
+          this.resultSet.updateTime(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateTimestamp",
+        () -> {
+          this.resultSet.updateTimestamp(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateTimestamp",
+        () -> {
+          this.resultSet.updateTimestamp(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateAsciiStream",
+        () -> {
+          this.resultSet.updateAsciiStream(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateAsciiStream",
+        () -> {
+          this.resultSet.updateAsciiStream(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateAsciiStream",
+        () -> {
+          this.resultSet.updateAsciiStream(columnLabel, x, length);
+          return null;
+        },
+        new Object[] {columnLabel, x, length});
+  }
+
+  @Override
+  public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateAsciiStream",
+        () -> {
+          this.resultSet.updateAsciiStream(columnLabel, x, length);
+          return null;
+        },
+        new Object[] {columnLabel, x, length});
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateAsciiStream",
+        () -> {
+          this.resultSet.updateAsciiStream(columnIndex, x, length);
+          return null;
+        },
+        new Object[] {columnIndex, x, length});
+  }
+
+  @Override
+  public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateAsciiStream",
+        () -> {
+          this.resultSet.updateAsciiStream(columnIndex, x, length);
+          return null;
+        },
+        new Object[] {columnIndex, x, length});
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBinaryStream",
+        () -> {
+          this.resultSet.updateBinaryStream(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBinaryStream",
+        () -> {
+          this.resultSet.updateBinaryStream(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBinaryStream",
+        () -> {
+          this.resultSet.updateBinaryStream(columnLabel, x, length);
+          return null;
+        },
+        new Object[] {columnLabel, x, length});
+  }
+
+  @Override
+  public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBinaryStream",
+        () -> {
+          this.resultSet.updateBinaryStream(columnLabel, x, length);
+          return null;
+        },
+        new Object[] {columnLabel, x, length});
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBinaryStream",
+        () -> {
+          this.resultSet.updateBinaryStream(columnIndex, x, length);
+          return null;
+        },
+        new Object[] {columnIndex, x, length});
+  }
+
+  @Override
+  public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBinaryStream",
+        () -> {
+          this.resultSet.updateBinaryStream(columnIndex, x, length);
+          return null;
+        },
+        new Object[] {columnIndex, x, length});
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateCharacterStream",
+        () -> {
+          this.resultSet.updateCharacterStream(columnLabel, reader);
+          return null;
+        },
+        new Object[] {columnLabel, reader});
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateCharacterStream",
+        () -> {
+          this.resultSet.updateCharacterStream(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader, int length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateCharacterStream",
+        () -> {
+          this.resultSet.updateCharacterStream(columnLabel, reader, length);
+          return null;
+        },
+        new Object[] {columnLabel, reader, length});
+  }
+
+  @Override
+  public void updateCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateCharacterStream",
+        () -> {
+          this.resultSet.updateCharacterStream(columnLabel, reader, length);
+          return null;
+        },
+        new Object[] {columnLabel, reader, length});
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateCharacterStream",
+        () -> {
+          this.resultSet.updateCharacterStream(columnIndex, x, length);
+          return null;
+        },
+        new Object[] {columnIndex, x, length});
+  }
+
+  @Override
+  public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateCharacterStream",
+        () -> {
+          this.resultSet.updateCharacterStream(columnIndex, x, length);
+          return null;
+        },
+        new Object[] {columnIndex, x, length});
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateObject",
+        () -> {
+          this.resultSet.updateObject(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateObject",
+        () -> {
+          this.resultSet.updateObject(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateObject(String columnLabel, Object x, int scaleOrLength) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateObject",
+        () -> {
+          this.resultSet.updateObject(columnLabel, x, scaleOrLength);
+          return null;
+        },
+        new Object[] {columnLabel, x, scaleOrLength});
+  }
+
+  @Override
+  public void updateObject(int columnIndex, Object x, int scaleOrLength) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateObject",
+        () -> {
+          this.resultSet.updateObject(columnIndex, x, scaleOrLength);
+          return null;
+        },
+        new Object[] {columnIndex, x, scaleOrLength});
+  }
+
+  @Override
+  public void insertRow() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "insertRow",
+        () -> {
+          this.resultSet.insertRow();
+          return null;
+        });
+  }
+
+  @Override
+  public void updateRow() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateRow",
+        () -> {
+          this.resultSet.updateRow();
+          return null;
+        });
+  }
+
+  @Override
+  public void deleteRow() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "deleteRow",
+        () -> {
+          this.resultSet.deleteRow();
+          return null;
+        });
+  }
+
+  @Override
+  public void refreshRow() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "refreshRow",
+        () -> {
+          this.resultSet.refreshRow();
+          return null;
+        });
+  }
+
+  @Override
+  public void cancelRowUpdates() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "cancelRowUpdates",
+        () -> {
+          this.resultSet.cancelRowUpdates();
+          return null;
+        });
+  }
+
+  @Override
+  public void moveToInsertRow() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "moveToInsertRow",
+        () -> {
+          this.resultSet.moveToInsertRow();
+          return null;
+        });
+  }
+
+  @Override
+  public void moveToCurrentRow() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "moveToCurrentRow",
+        () -> {
+          this.resultSet.moveToCurrentRow();
+          return null;
+        });
+  }
+
+  @Override
+  public Statement getStatement() throws SQLException {
+    return wrapStatement(execute(
+        this.resultSet.getClass(),
+        "getStatement",
+        () -> this.resultSet.getStatement()));
+  }
+
+  @Override
+  public Ref getRef(String columnLabel) throws SQLException {
+    return wrapJdbcInterface(Ref.class, execute(
+        this.resultSet.getClass(),
+        "getRef",
+        () -> this.resultSet.getRef(columnLabel),
+        new Object[] {columnLabel}));
+  }
+
+  @Override
+  public Ref getRef(int columnIndex) throws SQLException {
+    return wrapJdbcInterface(Ref.class, execute(
+        this.resultSet.getClass(),
+        "getRef",
+        () -> this.resultSet.getRef(columnIndex),
+        new Object[] {columnIndex}));
+  }
+
+  @Override
+  public Blob getBlob(String columnLabel) throws SQLException {
+    return wrapJdbcInterface(Blob.class, execute(
+        this.resultSet.getClass(),
+        "getBlob",
+        () -> this.resultSet.getBlob(columnLabel),
+        new Object[] {columnLabel}));
+  }
+
+  @Override
+  public Blob getBlob(int columnIndex) throws SQLException {
+    return wrapJdbcInterface(Blob.class, execute(
+        this.resultSet.getClass(),
+        "getBlob",
+        () -> this.resultSet.getBlob(columnIndex),
+        new Object[] {columnIndex}));
+  }
+
+  @Override
+  public Clob getClob(String columnLabel) throws SQLException {
+    return wrapJdbcInterface(Clob.class, execute(
+        this.resultSet.getClass(),
+        "getClob",
+        () -> this.resultSet.getClob(columnLabel),
+        new Object[] {columnLabel}));
+  }
+
+  @Override
+  public Clob getClob(int columnIndex) throws SQLException {
+    return wrapJdbcInterface(Clob.class, execute(
+        this.resultSet.getClass(),
+        "getClob",
+        () -> this.resultSet.getClob(columnIndex),
+        new Object[] {columnIndex}));
+  }
+
+  @Override
+  public Array getArray(String columnLabel) throws SQLException {
+    return wrapJdbcInterface(Array.class, execute(
+        this.resultSet.getClass(),
+        "getArray",
+        () -> this.resultSet.getArray(columnLabel),
+        new Object[] {columnLabel}));
+  }
+
+  @Override
+  public Array getArray(int columnIndex) throws SQLException {
+    return wrapJdbcInterface(Array.class, execute(
+        this.resultSet.getClass(),
+        "getArray",
+        () -> this.resultSet.getArray(columnIndex),
+        new Object[] {columnIndex}));
+  }
+
+  @Override
+  public URL getURL(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getURL",
+        () -> this.resultSet.getURL(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public URL getURL(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getURL",
+        () -> this.resultSet.getURL(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public void updateRef(String columnLabel, Ref x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateRef",
+        () -> {
+          this.resultSet.updateRef(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateRef(int columnIndex, Ref x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateRef",
+        () -> {
+          this.resultSet.updateRef(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream inputStream) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBlob",
+        () -> {
+          this.resultSet.updateBlob(columnLabel, inputStream);
+          return null;
+        },
+        new Object[] {columnLabel, inputStream});
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, Blob x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBlob",
+        () -> {
+          this.resultSet.updateBlob(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream inputStream) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBlob",
+        () -> {
+          this.resultSet.updateBlob(columnIndex, inputStream);
+          return null;
+        },
+        new Object[] {columnIndex, inputStream});
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, Blob x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBlob",
+        () -> {
+          this.resultSet.updateBlob(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateBlob(String columnLabel, InputStream inputStream, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBlob",
+        () -> {
+          this.resultSet.updateBlob(columnLabel, inputStream, length);
+          return null;
+        },
+        new Object[] {columnLabel, inputStream, length});
+  }
+
+  @Override
+  public void updateBlob(int columnIndex, InputStream inputStream, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateBlob",
+        () -> {
+          this.resultSet.updateBlob(columnIndex, inputStream, length);
+          return null;
+        },
+        new Object[] {columnIndex, inputStream, length});
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader reader) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateClob",
+        () -> {
+          this.resultSet.updateClob(columnLabel, reader);
+          return null;
+        },
+        new Object[] {columnLabel, reader});
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Clob x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateClob",
+        () -> {
+          this.resultSet.updateClob(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader reader) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateClob",
+        () -> {
+          this.resultSet.updateClob(columnIndex, reader);
+          return null;
+        },
+        new Object[] {columnIndex, reader});
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Clob x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateClob",
+        () -> {
+          this.resultSet.updateClob(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateClob(String columnLabel, Reader reader, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateClob",
+        () -> {
+          this.resultSet.updateClob(columnLabel, reader, length);
+          return null;
+        },
+        new Object[] {columnLabel, reader, length});
+  }
+
+  @Override
+  public void updateClob(int columnIndex, Reader reader, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateClob",
+        () -> {
+          this.resultSet.updateClob(columnIndex, reader, length);
+          return null;
+        },
+        new Object[] {columnIndex, reader, length});
+  }
+
+  @Override
+  public void updateArray(String columnLabel, Array x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateArray",
+        () -> {
+          this.resultSet.updateArray(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateArray(int columnIndex, Array x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateArray",
+        () -> {
+          this.resultSet.updateArray(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public RowId getRowId(String columnLabel) throws SQLException {
+    return wrapJdbcInterface(RowId.class, execute(
+        this.resultSet.getClass(),
+        "getRowId",
+        () -> this.resultSet.getRowId(columnLabel),
+        new Object[] {columnLabel}));
+  }
+
+  @Override
+  public RowId getRowId(int columnIndex) throws SQLException {
+    return wrapJdbcInterface(RowId.class, execute(
+        this.resultSet.getClass(),
+        "getRowId",
+        () -> this.resultSet.getRowId(columnIndex),
+        new Object[] {columnIndex}));
+  }
+
+  @Override
+  public void updateRowId(String columnLabel, RowId x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateRowId",
+        () -> {
+          this.resultSet.updateRowId(columnLabel, x);
+          return null;
+        },
+        new Object[] {columnLabel, x});
+  }
+
+  @Override
+  public void updateRowId(int columnIndex, RowId x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateRowId",
+        () -> {
+          this.resultSet.updateRowId(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public int getHoldability() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getHoldability",
+        () -> this.resultSet.getHoldability());
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "isClosed",
+        () -> this.resultSet.isClosed());
+  }
+
+  @Override
+  public void updateNString(String columnLabel, String nString) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNString",
+        () -> {
+          this.resultSet.updateNString(columnLabel, nString);
+          return null;
+        },
+        new Object[] {columnLabel, nString});
+  }
+
+  @Override
+  public void updateNString(int columnIndex, String nString) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNString",
+        () -> {
+          this.resultSet.updateNString(columnIndex, nString);
+          return null;
+        },
+        new Object[] {columnIndex, nString});
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader reader) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNClob",
+        () -> {
+          this.resultSet.updateNClob(columnLabel, reader);
+          return null;
+        },
+        new Object[] {columnLabel, reader});
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, NClob nClob) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNClob",
+        () -> {
+          this.resultSet.updateNClob(columnLabel, nClob);
+          return null;
+        },
+        new Object[] {columnLabel, nClob});
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader reader) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNClob",
+        () -> {
+          this.resultSet.updateNClob(columnIndex, reader);
+          return null;
+        },
+        new Object[] {columnIndex, reader});
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, NClob nClob) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNClob",
+        () -> {
+          this.resultSet.updateNClob(columnIndex, nClob);
+          return null;
+        },
+        new Object[] {columnIndex, nClob});
+  }
+
+  @Override
+  public void updateNClob(String columnLabel, Reader reader, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNClob",
+        () -> {
+          this.resultSet.updateNClob(columnLabel, reader, length);
+          return null;
+        },
+        new Object[] {columnLabel, reader, length});
+  }
+
+  @Override
+  public void updateNClob(int columnIndex, Reader reader, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNClob",
+        () -> {
+          this.resultSet.updateNClob(columnIndex, reader, length);
+          return null;
+        },
+        new Object[] {columnIndex, reader, length});
+  }
+
+  @Override
+  public NClob getNClob(String columnLabel) throws SQLException {
+    return wrapJdbcInterface(NClob.class, execute(
+        this.resultSet.getClass(),
+        "getNClob",
+        () -> this.resultSet.getNClob(columnLabel),
+        new Object[] {columnLabel}));
+  }
+
+  @Override
+  public NClob getNClob(int columnIndex) throws SQLException {
+    return wrapJdbcInterface(NClob.class, execute(
+        this.resultSet.getClass(),
+        "getNClob",
+        () -> this.resultSet.getNClob(columnIndex),
+        new Object[] {columnIndex}));
+  }
+
+  @Override
+  public SQLXML getSQLXML(String columnLabel) throws SQLException {
+    return wrapJdbcInterface(SQLXML.class, execute(
+        this.resultSet.getClass(),
+        "getSQLXML",
+        () -> this.resultSet.getSQLXML(columnLabel),
+        new Object[] {columnLabel}));
+  }
+
+  @Override
+  public SQLXML getSQLXML(int columnIndex) throws SQLException {
+    return wrapJdbcInterface(SQLXML.class, execute(
+        this.resultSet.getClass(),
+        "getSQLXML",
+        () -> this.resultSet.getSQLXML(columnIndex),
+        new Object[] {columnIndex}));
+  }
+
+  @Override
+  public void updateSQLXML(String columnLabel, SQLXML xmlObject) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateSQLXML",
+        () -> {
+          this.resultSet.updateSQLXML(columnLabel, xmlObject);
+          return null;
+        },
+        new Object[] {columnLabel, xmlObject});
+  }
+
+  @Override
+  public void updateSQLXML(int columnIndex, SQLXML xmlObject) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateSQLXML",
+        () -> {
+          this.resultSet.updateSQLXML(columnIndex, xmlObject);
+          return null;
+        },
+        new Object[] {columnIndex, xmlObject});
+  }
+
+  @Override
+  public String getNString(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getNString",
+        () -> this.resultSet.getNString(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public String getNString(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getNString",
+        () -> this.resultSet.getNString(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public Reader getNCharacterStream(String columnLabel) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getNCharacterStream",
+        () -> this.resultSet.getNCharacterStream(columnLabel),
+        new Object[] {columnLabel});
+  }
+
+  @Override
+  public Reader getNCharacterStream(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getNCharacterStream",
+        () -> this.resultSet.getNCharacterStream(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader reader) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNCharacterStream",
+        () -> {
+          this.resultSet.updateNCharacterStream(columnLabel, reader);
+          return null;
+        },
+        new Object[] {columnLabel, reader});
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNCharacterStream",
+        () -> {
+          this.resultSet.updateNCharacterStream(columnIndex, x);
+          return null;
+        },
+        new Object[] {columnIndex, x});
+  }
+
+  @Override
+  public void updateNCharacterStream(String columnLabel, Reader reader, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNCharacterStream",
+        () -> {
+          this.resultSet.updateNCharacterStream(columnLabel, reader, length);
+          return null;
+        },
+        new Object[] {columnLabel, reader, length});
+  }
+
+  @Override
+  public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "updateNCharacterStream",
+        () -> {
+          this.resultSet.updateNCharacterStream(columnIndex, x, length);
+          return null;
+        },
+        new Object[] {columnIndex, x, length});
+  }
+
+  @Override
+  public void closeOwner(boolean calledExplicitly) {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "closeOwner",
+        () -> {
+          this.resultSet.closeOwner(calledExplicitly);
+          return null;
+        },
+        new Object[] {calledExplicitly});
+  }
+
+  @Override
+  public MysqlConnection getConnection() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getConnection",
+        () -> this.resultSet.getConnection());
+  }
+
+  @Override
+  public Session getSession() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getSession",
+        () -> this.resultSet.getSession());
+  }
+
+  @Override
+  public Object getSyncMutex() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getSyncMutex",
+        () -> this.resultSet.getSyncMutex());
+  }
+
+  @Override
+  public String getPointOfOrigin() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getPointOfOrigin",
+        () -> this.resultSet.getPointOfOrigin());
+  }
+
+  @Override
+  public int getOwnerFetchSize() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getOwnerFetchSize",
+        () -> this.resultSet.getOwnerFetchSize());
+  }
+
+  @Override
+  public Query getOwningQuery() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getOwningQuery",
+        () -> this.resultSet.getOwningQuery());
+  }
+
+  @Override
+  public int getOwningStatementMaxRows() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getOwningStatementMaxRows",
+        () -> this.resultSet.getOwningStatementMaxRows());
+  }
+
+  @Override
+  public int getOwningStatementFetchSize() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getOwningStatementFetchSize",
+        () -> this.resultSet.getOwningStatementFetchSize());
+  }
+
+  @Override
+  public long getOwningStatementServerId() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getOwningStatementServerId",
+        () -> this.resultSet.getOwningStatementServerId());
+  }
+
+  @Override
+  public void setColumnDefinition(ColumnDefinition metadata) {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "setColumnDefinition",
+        () -> {
+          this.resultSet.setColumnDefinition(metadata);
+          return null;
+        },
+        new Object[] {metadata});
+  }
+
+  @Override
+  public ColumnDefinition getColumnDefinition() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getColumnDefinition",
+        () -> this.resultSet.getColumnDefinition());
+  }
+
+  @Override
+  public boolean hasRows() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "hasRows",
+        () -> this.resultSet.hasRows());
+  }
+
+  @Override
+  public ResultsetRows getRows() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getRows",
+        () -> this.resultSet.getRows());
+  }
+
+  @Override
+  public void initRowsWithMetadata() {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "initRowsWithMetadata",
+        () -> {
+          this.resultSet.initRowsWithMetadata();
+          return null;
+        });
+  }
+
+  @Override
+  public int getResultId() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getResultId",
+        () -> this.resultSet.getResultId());
+  }
+
+  @Override
+  public void setNextResultset(Resultset nextResultset) {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "setNextResultset",
+        () -> {
+          this.resultSet.setNextResultset(nextResultset);
+          return null;
+        },
+        new Object[] {nextResultset});
+  }
+
+  @Override
+  public Resultset getNextResultset() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getNextResultset",
+        () -> this.resultSet.getNextResultset());
+  }
+
+  @Override
+  public void clearNextResultset() {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "clearNextResultset",
+        () -> {
+          this.resultSet.clearNextResultset();
+          return null;
+        });
+  }
+
+  @Override
+  public long getUpdateCount() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getUpdateCount",
+        () -> this.resultSet.getUpdateCount());
+  }
+
+  @Override
+  public long getUpdateID() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getUpdateID",
+        () -> this.resultSet.getUpdateID());
+  }
+
+  @Override
+  public String getServerInfo() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getServerInfo",
+        () -> this.resultSet.getServerInfo());
+  }
+
+  @Override
+  public Object getObjectStoredProc(String columnName, int desiredSqlType) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObjectStoredProc",
+        () -> this.resultSet.getObjectStoredProc(columnName, desiredSqlType),
+        new Object[] {columnName, desiredSqlType});
+  }
+
+  @Override
+  public Object getObjectStoredProc(int columnIndex, int desiredSqlType) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObjectStoredProc",
+        () -> this.resultSet.getObjectStoredProc(columnIndex, desiredSqlType),
+        new Object[] {columnIndex, desiredSqlType});
+  }
+
+  @Override
+  public Object getObjectStoredProc(String colName, Map<Object, Object> map, int desiredSqlType) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObjectStoredProc",
+        () -> this.resultSet.getObjectStoredProc(colName, map, desiredSqlType),
+        new Object[] {colName, map, desiredSqlType});
+  }
+
+  @Override
+  public Object getObjectStoredProc(int i, Map<Object, Object> map, int desiredSqlType) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getObjectStoredProc",
+        () -> this.resultSet.getObjectStoredProc(i, map, desiredSqlType),
+        new Object[] {i, map, desiredSqlType});
+  }
+
+  @Override
+  public void realClose(boolean calledExplicitly) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "realClose",
+        () -> {
+          this.resultSet.realClose(calledExplicitly);
+          return null;
+        },
+        new Object[] {calledExplicitly});
+  }
+
+  @Override
+  public void setFirstCharOfQuery(char firstCharUpperCase) {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "setFirstCharOfQuery",
+        () -> {
+          this.resultSet.setFirstCharOfQuery(firstCharUpperCase);
+          return null;
+        },
+        new Object[] {firstCharUpperCase});
+  }
+
+  @Override
+  public void setOwningStatement(JdbcStatement owningStatement) {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "setOwningStatement",
+        () -> {
+          this.resultSet.setOwningStatement(owningStatement);
+          return null;
+        },
+        new Object[] {owningStatement});
+  }
+
+  @Override
+  public char getFirstCharOfQuery() {
+    return executeUnchecked(
+        this.resultSet.getClass(),
+        "getFirstCharOfQuery",
+        () -> this.resultSet.getFirstCharOfQuery());
+  }
+
+  @Override
+  public void setStatementUsedForFetchingRows(JdbcPreparedStatement stmt) {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "setStatementUsedForFetchingRows",
+        () -> {
+          this.resultSet.setStatementUsedForFetchingRows(stmt);
+          return null;
+        },
+        new Object[] {stmt});
+  }
+
+  @Override
+  public void setWrapperStatement(Statement wrapperStatement) {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "setWrapperStatement",
+        () -> {
+          this.resultSet.setWrapperStatement(wrapperStatement);
+          return null;
+        },
+        new Object[] {wrapperStatement});
+  }
+
+  @Override
+  public void initializeWithMetadata() throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "initializeWithMetadata",
+        () -> {
+          this.resultSet.initializeWithMetadata();
+          return null;
+        });
+  }
+
+  @Override
+  public void populateCachedMetaData(CachedResultSetMetaData cachedMetaData) throws SQLException {
+    execute(
+        this.resultSet.getClass(),
+        "populateCachedMetaData",
+        () -> {
+          this.resultSet.populateCachedMetaData(cachedMetaData);
+          return null;
+        },
+        new Object[] {cachedMetaData});
+  }
+
+  @Override
+  public BigInteger getBigInteger(int columnIndex) throws SQLException {
+    return execute(
+        this.resultSet.getClass(),
+        "getBigInteger",
+        () -> this.resultSet.getBigInteger(columnIndex),
+        new Object[] {columnIndex});
+  }
+
+  @Override
+  public void warningEncountered(String warning) {
+    executeUnchecked(
+        this.resultSet.getClass(),
+        "warningEncountered",
+        () -> {
+          this.resultSet.warningEncountered(warning);
+          return null;
+        },
+        new Object[] {warning});
+  }
+}
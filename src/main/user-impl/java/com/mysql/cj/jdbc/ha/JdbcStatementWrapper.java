@@ -0,0 +1,905 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import com.mysql.cj.CancelQueryTask;
+import com.mysql.cj.PingTarget;
+import com.mysql.cj.Query.CancelStatus;
+import com.mysql.cj.Query;
+import com.mysql.cj.QueryAttributesBindings;
+import com.mysql.cj.Session;
+import com.mysql.cj.exceptions.ExceptionInterceptor;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.LoadDataRowEncoder;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
+import com.mysql.cj.protocol.Message;
+import com.mysql.cj.protocol.ProtocolEntityFactory;
+import com.mysql.cj.protocol.Resultset;
+import com.mysql.cj.protocol.Resultset.Type;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-reflective {@link JdbcStatement} wrapper that passes every call to the connection plugins.
+ */
+public class JdbcStatementWrapper extends JdbcWrapper implements JdbcStatement {
+
+  protected final JdbcStatement statement;
+
+  JdbcStatementWrapper(ConnectionProxy connectionProxy, JdbcStatement statement) {
+    super(connectionProxy);
+    this.statement = statement;
+  }
+
+  @Override
+  protected Object getWrappedObject() {
+    return this.statement;
+  }
+
+  @Override
+  public String toString() {
+    return this.statement.toString();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "unwrap",
+        () -> this.statement.unwrap(iface),
+        new Object[] {iface});
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "isWrapperFor",
+        () -> this.statement.isWrapperFor(iface),
+        new Object[] {iface});
+  }
+
+  @Override
+  public ResultSet executeQuery(String sql) throws SQLException {
+    return wrapResultSet(execute(
+        this.statement.getClass(),
+        "executeQuery",
+        () -> this.statement.executeQuery(sql),
+        new Object[] {sql}));
+  }
+
+  @Override
+  public int executeUpdate(String sql) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "executeUpdate",
+        () -> this.statement.executeUpdate(sql),
+        new Object[] {sql});
+  }
+
+  @Override
+  public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "executeUpdate",
+        () -> this.statement.executeUpdate(sql, columnIndexes),
+        new Object[] {sql, columnIndexes});
+  }
+
+  @Override
+  public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "executeUpdate",
+        () -> this.statement.executeUpdate(sql, columnNames),
+        new Object[] {sql, columnNames});
+  }
+
+  @Override
+  public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "executeUpdate",
+        () -> this.statement.executeUpdate(sql, autoGeneratedKeys),
+        new Object[] {sql, autoGeneratedKeys});
+  }
+
+  @Override
+  public void close() throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "close",
+        () -> {
+          this.statement.close();
+          return null;
+        });
+  }
+
+  @Override
+  public int getMaxFieldSize() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getMaxFieldSize",
+        () -> this.statement.getMaxFieldSize());
+  }
+
+  @Override
+  public void setMaxFieldSize(int max) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "setMaxFieldSize",
+        () -> {
+          this.statement.setMaxFieldSize(max);
+          return null;
+        },
+        new Object[] {max});
+  }
+
+  @Override
+  public int getMaxRows() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getMaxRows",
+        () -> this.statement.getMaxRows());
+  }
+
+  @Override
+  public void setMaxRows(int max) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "setMaxRows",
+        () -> {
+          this.statement.setMaxRows(max);
+          return null;
+        },
+        new Object[] {max});
+  }
+
+  @Override
+  public void setEscapeProcessing(boolean enable) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "setEscapeProcessing",
+        () -> {
+          this.statement.setEscapeProcessing(enable);
+          return null;
+        },
+        new Object[] {enable});
+  }
+
+  @Override
+  public int getQueryTimeout() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getQueryTimeout",
+        () -> this.statement.getQueryTimeout());
+  }
+
+  @Override
+  public void setQueryTimeout(int seconds) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "setQueryTimeout",
+        () -> {
+          this.statement.setQueryTimeout(seconds);
+          return null;
+        },
+        new Object[] {seconds});
+  }
+
+  @Override
+  public void cancel() throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "cancel",
+        () -> {
+          this.statement.cancel();
+          return null;
+        });
+  }
+
+  @Override
+  public SQLWarning getWarnings() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getWarnings",
+        () -> this.statement.getWarnings());
+  }
+
+  @Override
+  public void clearWarnings() throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "clearWarnings",
+        () -> {
+          this.statement.clearWarnings();
+          return null;
+        });
+  }
+
+  @Override
+  public void setCursorName(String name) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "setCursorName",
+        () -> {
+          this.statement.setCursorName(name);
+          return null;
+        },
+        new Object[] {name});
+  }
+
+  @Override
+  public boolean execute(String sql) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "execute",
+        () -> this.statement.execute(sql),
+        new Object[] {sql});
+  }
+
+  @Override
+  public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "execute",
+        () -> this.statement.execute(sql, columnIndexes),
+        new Object[] {sql, columnIndexes});
+  }
+
+  @Override
+  public boolean execute(String sql, String[] columnNames) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "execute",
+        () -> this.statement.execute(sql, columnNames),
+        new Object[] {sql, columnNames});
+  }
+
+  @Override
+  public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "execute",
+        () -> this.statement.execute(sql, autoGeneratedKeys),
+        new Object[] {sql, autoGeneratedKeys});
+  }
+
+  @Override
+  public ResultSet getResultSet() throws SQLException {
+    return wrapResultSet(execute(
+        this.statement.getClass(),
+        "getResultSet",
+        () -> this.statement.getResultSet()));
+  }
+
+  @Override
+  public int getUpdateCount() throws SQLException {
+    if (canInvokeDirectly("getUpdateCount")) {
+      return this.statement.getUpdateCount();
+    }
+    return execute(
+        this.statement.getClass(),
+        "getUpdateCount",
+        () -> this.statement.getUpdateCount());
+  }
+
+  @Override
+  public boolean getMoreResults() throws SQLException {
+    if (canInvokeDirectly("getMoreResults")) {
+      return this.statement.getMoreResults();
+    }
+    return execute(
+        this.statement.getClass(),
+        "getMoreResults",
+        () -> this.statement.getMoreResults());
+  }
+
+  @Override
+  public boolean getMoreResults(int current) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getMoreResults",
+        () -> this.statement.getMoreResults(current),
+        new Object[] {current});
+  }
+
+  @Override
+  public void setFetchDirection(int direction) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "setFetchDirection",
+        () -> {
+          this.statement.setFetchDirection(direction);
+          return null;
+        },
+        new Object[] {direction});
+  }
+
+  @Override
+  public int getFetchDirection() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getFetchDirection",
+        () -> this.statement.getFetchDirection());
+  }
+
+  @Override
+  public void setFetchSize(int rows) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "setFetchSize",
+        () -> {
+          this.statement.setFetchSize(rows);
+          return null;
+        },
+        new Object[] {rows});
+  }
+
+  @Override
+  public int getFetchSize() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getFetchSize",
+        () -> this.statement.getFetchSize());
+  }
+
+  @Override
+  public int getResultSetConcurrency() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getResultSetConcurrency",
+        () -> this.statement.getResultSetConcurrency());
+  }
+
+  @Override
+  public int getResultSetType() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getResultSetType",
+        () -> this.statement.getResultSetType());
+  }
+
+  @Override
+  public void addBatch(String sql) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "addBatch",
+        () -> {
+          this.statement.addBatch(sql);
+          return null;
+        },
+        new Object[] {sql});
+  }
+
+  @Override
+  public void clearBatch() throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "clearBatch",
+        () -> {
+          this.statement.clearBatch();
+          return null;
+        });
+  }
+
+  @Override
+  public int[] executeBatch() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "executeBatch",
+        () -> this.statement.executeBatch());
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    return wrapJdbcInterface(Connection.class, execute(
+        this.statement.getClass(),
+        "getConnection",
+        () -> this.statement.getConnection()));
+  }
+
+  @Override
+  public ResultSet getGeneratedKeys() throws SQLException {
+    return wrapResultSet(execute(
+        this.statement.getClass(),
+        "getGeneratedKeys",
+        () -> this.statement.getGeneratedKeys()));
+  }
+
+  @Override
+  public int getResultSetHoldability() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "getResultSetHoldability",
+        () -> this.statement.getResultSetHoldability());
+  }
+
+  @Override
+  public boolean isClosed() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "isClosed",
+        () -> this.statement.isClosed());
+  }
+
+  @Override
+  public void setPoolable(boolean poolable) throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "setPoolable",
+        () -> {
+          this.statement.setPoolable(poolable);
+          return null;
+        },
+        new Object[] {poolable});
+  }
+
+  @Override
+  public boolean isPoolable() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "isPoolable",
+        () -> this.statement.isPoolable());
+  }
+
+  @Override
+  public void closeOnCompletion() throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "closeOnCompletion",
+        () -> {
+          this.statement.closeOnCompletion();
+          return null;
+        });
+  }
+
+  @Override
+  public boolean isCloseOnCompletion() throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "isCloseOnCompletion",
+        () -> this.statement.isCloseOnCompletion());
+  }
+
+  @Override
+  public int getId() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getId",
+        () -> this.statement.getId());
+  }
+
+  @Override
+  public void setCancelStatus(CancelStatus cs) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setCancelStatus",
+        () -> {
+          this.statement.setCancelStatus(cs);
+          return null;
+        },
+        new Object[] {cs});
+  }
+
+  @Override
+  public void checkCancelTimeout() {
+    executeUnchecked(
+        this.statement.getClass(),
+        "checkCancelTimeout",
+        () -> {
+          this.statement.checkCancelTimeout();
+          return null;
+        });
+  }
+
+  @Override
+  public <T extends Resultset, M extends Message> ProtocolEntityFactory<T, M> getResultSetFactory() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getResultSetFactory",
+        () -> this.statement.getResultSetFactory());
+  }
+
+  @Override
+  public Session getSession() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getSession",
+        () -> this.statement.getSession());
+  }
+
+  @Override
+  public Object getCancelTimeoutMutex() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getCancelTimeoutMutex",
+        () -> this.statement.getCancelTimeoutMutex());
+  }
+
+  @Override
+  public void resetCancelledState() {
+    executeUnchecked(
+        this.statement.getClass(),
+        "resetCancelledState",
+        () -> {
+          this.statement.resetCancelledState();
+          return null;
+        });
+  }
+
+  @Override
+  public void closeQuery() {
+    executeUnchecked(
+        this.statement.getClass(),
+        "closeQuery",
+        () -> {
+          this.statement.closeQuery();
+          return null;
+        });
+  }
+
+  @Override
+  public void addBatch(Object batch) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "addBatch",
+        () -> {
+          this.statement.addBatch(batch);
+          return null;
+        },
+        new Object[] {batch});
+  }
+
+  @Override
+  public List<Object> getBatchedArgs() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getBatchedArgs",
+        () -> this.statement.getBatchedArgs());
+  }
+
+  @Override
+  public void clearBatchedArgs() {
+    executeUnchecked(
+        this.statement.getClass(),
+        "clearBatchedArgs",
+        () -> {
+          this.statement.clearBatchedArgs();
+          return null;
+        });
+  }
+
+  @Override
+  public QueryAttributesBindings getQueryAttributesBindings() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getQueryAttributesBindings",
+        () -> this.statement.getQueryAttributesBindings());
+  }
+
+  @Override
+  public int getResultFetchSize() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getResultFetchSize",
+        () -> this.statement.getResultFetchSize());
+  }
+
+  @Override
+  public void setResultFetchSize(int fetchSize) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setResultFetchSize",
+        () -> {
+          this.statement.setResultFetchSize(fetchSize);
+          return null;
+        },
+        new Object[] {fetchSize});
+  }
+
+  @Override
+  public Type getResultType() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getResultType",
+        () -> this.statement.getResultType());
+  }
+
+  @Override
+  public void setResultType(Type resultSetType) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setResultType",
+        () -> {
+          this.statement.setResultType(resultSetType);
+          return null;
+        },
+        new Object[] {resultSetType});
+  }
+
+  @Override
+  public int getTimeoutInMillis() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getTimeoutInMillis",
+        () -> this.statement.getTimeoutInMillis());
+  }
+
+  @Override
+  public void setTimeoutInMillis(int timeoutInMillis) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setTimeoutInMillis",
+        () -> {
+          this.statement.setTimeoutInMillis(timeoutInMillis);
+          return null;
+        },
+        new Object[] {timeoutInMillis});
+  }
+
+  @Override
+  public void setExecuteTime(long executeTime) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setExecuteTime",
+        () -> {
+          this.statement.setExecuteTime(executeTime);
+          return null;
+        },
+        new Object[] {executeTime});
+  }
+
+  @Override
+  public long getExecuteTime() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getExecuteTime",
+        () -> this.statement.getExecuteTime());
+  }
+
+  @Override
+  public CancelQueryTask startQueryTimer(Query stmtToCancel, int timeout) {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "startQueryTimer",
+        () -> this.statement.startQueryTimer(stmtToCancel, timeout),
+        new Object[] {stmtToCancel, timeout});
+  }
+
+  @Override
+  public AtomicBoolean getStatementExecuting() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getStatementExecuting",
+        () -> this.statement.getStatementExecuting());
+  }
+
+  @Override
+  public String getCurrentDatabase() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getCurrentDatabase",
+        () -> this.statement.getCurrentDatabase());
+  }
+
+  @Override
+  public void setCurrentDatabase(String currentDb) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setCurrentDatabase",
+        () -> {
+          this.statement.setCurrentDatabase(currentDb);
+          return null;
+        },
+        new Object[] {currentDb});
+  }
+
+  @Override
+  public boolean isClearWarningsCalled() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "isClearWarningsCalled",
+        () -> this.statement.isClearWarningsCalled());
+  }
+
+  @Override
+  public void setClearWarningsCalled(boolean clearWarningsCalled) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setClearWarningsCalled",
+        () -> {
+          this.statement.setClearWarningsCalled(clearWarningsCalled);
+          return null;
+        },
+        new Object[] {clearWarningsCalled});
+  }
+
+  @Override
+  public void statementBegins() {
+    executeUnchecked(
+        this.statement.getClass(),
+        "statementBegins",
+        () -> {
+          this.statement.statementBegins();
+          return null;
+        });
+  }
+
+  @Override
+  public void stopQueryTimer(CancelQueryTask timeoutTask, boolean rethrowCancelReason, boolean checkCancelTimeout) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "stopQueryTimer",
+        () -> {
+          this.statement.stopQueryTimer(timeoutTask, rethrowCancelReason, checkCancelTimeout);
+          return null;
+        },
+        new Object[] {timeoutTask, rethrowCancelReason, checkCancelTimeout});
+  }
+
+  @Override
+  public void enableStreamingResults() throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "enableStreamingResults",
+        () -> {
+          this.statement.enableStreamingResults();
+          return null;
+        });
+  }
+
+  @Override
+  public void disableStreamingResults() throws SQLException {
+    execute(
+        this.statement.getClass(),
+        "disableStreamingResults",
+        () -> {
+          this.statement.disableStreamingResults();
+          return null;
+        });
+  }
+
+  @Override
+  public void setLocalInfileInputStream(InputStream stream) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setLocalInfileInputStream",
+        () -> {
+          this.statement.setLocalInfileInputStream(stream);
+          return null;
+        },
+        new Object[] {stream});
+  }
+
+  @Override
+  public InputStream getLocalInfileInputStream() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getLocalInfileInputStream",
+        () -> this.statement.getLocalInfileInputStream());
+  }
+
+  @Override
+  public <T> long executeLoadData(String sql, Iterator<? extends T> rows, LoadDataRowEncoder<? super T> encoder) throws SQLException {
+    return execute(
+        this.statement.getClass(),
+        "executeLoadData",
+        () -> this.statement.executeLoadData(sql, rows, encoder),
+        new Object[] {sql, rows, encoder});
+  }
+
+  @Override
+  public void setPingTarget(PingTarget pingTarget) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setPingTarget",
+        () -> {
+          this.statement.setPingTarget(pingTarget);
+          return null;
+        },
+        new Object[] {pingTarget});
+  }
+
+  @Override
+  public ExceptionInterceptor getExceptionInterceptor() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getExceptionInterceptor",
+        () -> this.statement.getExceptionInterceptor());
+  }
+
+  @Override
+  public void removeOpenResultSet(ResultSetInternalMethods rs) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "removeOpenResultSet",
+        () -> {
+          this.statement.removeOpenResultSet(rs);
+          return null;
+        },
+        new Object[] {rs});
+  }
+
+  @Override
+  public int getOpenResultSetCount() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getOpenResultSetCount",
+        () -> this.statement.getOpenResultSetCount());
+  }
+
+  @Override
+  public void setHoldResultsOpenOverClose(boolean holdResultsOpenOverClose) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setHoldResultsOpenOverClose",
+        () -> {
+          this.statement.setHoldResultsOpenOverClose(holdResultsOpenOverClose);
+          return null;
+        },
+        new Object[] {holdResultsOpenOverClose});
+  }
+
+  @Override
+  public Query getQuery() {
+    return executeUnchecked(
+        this.statement.getClass(),
+        "getQuery",
+        () -> this.statement.getQuery());
+  }
+
+  @Override
+  public void setAttribute(String name, Object value) {
+    executeUnchecked(
+        this.statement.getClass(),
+        "setAttribute",
+        () -> {
+          this.statement.setAttribute(name, value);
+          return null;
+        },
+        new Object[] {name, value});
+  }
+
+  @Override
+  public void clearAttributes() {
+    executeUnchecked(
+        this.statement.getClass(),
+        "clearAttributes",
+        () -> {
+          this.statement.clearAttributes();
+          return null;
+        });
+  }
+}
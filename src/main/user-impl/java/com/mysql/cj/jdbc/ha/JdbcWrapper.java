@@ -0,0 +1,169 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha;
+
+import com.mysql.cj.jdbc.CallableStatement;
+import com.mysql.cj.jdbc.ClientPreparedStatement;
+import com.mysql.cj.jdbc.StatementImpl;
+import com.mysql.cj.jdbc.result.ResultSetImpl;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Callable;
+
+/**
+ * Base class for the non-reflective JDBC wrappers used by {@link ConnectionProxy} when
+ * {@link com.mysql.cj.conf.PropertyKey#useFastConnectionProxy} is enabled.
+ *
+ * <p>Every JDBC call is passed to the connection plugin chain with a pre-built {@link Callable}
+ * instead of going through {@link java.lang.reflect.Proxy} and {@link java.lang.reflect.Method#invoke},
+ * and no lock is taken on the connection proxy. JDBC objects returned by the wrapped objects are
+ * wrapped as well so that their calls also reach the plugins.
+ */
+public abstract class JdbcWrapper {
+
+  protected final ConnectionProxy connectionProxy;
+
+  protected JdbcWrapper(ConnectionProxy connectionProxy) {
+    this.connectionProxy = connectionProxy;
+  }
+
+  /**
+   * Returns the JDBC object calls are passed to, which decides the equality of wrappers.
+   *
+   * @return The wrapped object.
+   */
+  protected abstract Object getWrappedObject();
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || obj.getClass() != getClass()) {
+      return false;
+    }
+    return getWrappedObject().equals(((JdbcWrapper) obj).getWrappedObject());
+  }
+
+  @Override
+  public int hashCode() {
+    return getWrappedObject().hashCode();
+  }
+
+  /**
+   * Checks whether a method can be invoked on the wrapped object without going through the
+   * connection plugin chain, which is the case when no plugin but the default one receives it.
+   * Such calls save the arguments array, the callable and the boxed result of a call through
+   * the chain.
+   *
+   * @param methodName The name of the method being invoked.
+   * @return true if the method can be invoked directly.
+   */
+  protected boolean canInvokeDirectly(String methodName) {
+    return this.connectionProxy.canBypassPlugins(methodName);
+  }
+
+  protected <T> T execute(
+      Class<?> methodInvokeOn,
+      String methodName,
+      Callable<T> executeSqlFunc) throws SQLException {
+    return execute(methodInvokeOn, methodName, executeSqlFunc, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <T> T execute(
+      Class<?> methodInvokeOn,
+      String methodName,
+      Callable<T> executeSqlFunc,
+      Object[] args) throws SQLException {
+    try {
+      return (T) this.connectionProxy.executeWithPlugins(methodInvokeOn, methodName, executeSqlFunc, args);
+    } catch (SQLException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  protected <T> T executeUnchecked(
+      Class<?> methodInvokeOn,
+      String methodName,
+      Callable<T> executeSqlFunc) {
+    return executeUnchecked(methodInvokeOn, methodName, executeSqlFunc, null);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <T> T executeUnchecked(
+      Class<?> methodInvokeOn,
+      String methodName,
+      Callable<T> executeSqlFunc,
+      Object[] args) {
+    try {
+      return (T) this.connectionProxy.executeWithPlugins(methodInvokeOn, methodName, executeSqlFunc, args);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Wraps a statement returned by the driver. Callable statements and unknown implementations
+   * fall back to the reflective proxy so that all of their interfaces stay visible to the caller.
+   *
+   * @param statement The statement to wrap.
+   * @return The wrapped statement.
+   */
+  protected Statement wrapStatement(Statement statement) {
+    if (statement instanceof ClientPreparedStatement && !(statement instanceof CallableStatement)) {
+      return new JdbcPreparedStatementWrapper(this.connectionProxy, (ClientPreparedStatement) statement);
+    }
+    if (statement instanceof StatementImpl && !(statement instanceof PreparedStatement)) {
+      return new JdbcStatementWrapper(this.connectionProxy, (StatementImpl) statement);
+    }
+    return wrapJdbcInterface(Statement.class, statement);
+  }
+
+  protected PreparedStatement wrapPreparedStatement(PreparedStatement statement) {
+    return (PreparedStatement) wrapStatement(statement);
+  }
+
+  protected ResultSet wrapResultSet(ResultSet resultSet) {
+    if (resultSet instanceof ResultSetImpl) {
+      return new JdbcResultSetWrapper(this.connectionProxy, (ResultSetImpl) resultSet);
+    }
+    return wrapJdbcInterface(ResultSet.class, resultSet);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <T> T wrapJdbcInterface(Class<T> returnType, T toProxy) {
+    return (T) this.connectionProxy.proxyIfReturnTypeIsJdbcInterface(returnType, toProxy);
+  }
+}
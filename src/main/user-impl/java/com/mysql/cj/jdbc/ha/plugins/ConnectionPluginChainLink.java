@@ -0,0 +1,127 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins;
+
+import com.mysql.cj.conf.ConnectionUrl;
+
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+/**
+ * Link placed in front of a section of the connection plugin chain. JDBC method calls go
+ * straight to the first plugin of the section subscribed to that method, while all other calls
+ * go through every plugin of the section in order.
+ *
+ * <p>The dispatch table is built once from {@link IConnectionPlugin#getSubscribedMethods()}.
+ */
+class ConnectionPluginChainLink implements IConnectionPlugin {
+
+  private final IConnectionPlugin next;
+  private final IConnectionPlugin defaultTarget;
+  private final Map<String, IConnectionPlugin> targetsByMethod = new HashMap<>();
+
+  /**
+   * Builds a link in front of the given plugins.
+   *
+   * @param plugins The plugins following this link, in chain order. The last one must be the
+   *     {@link DefaultConnectionPlugin}, which receives any call no other plugin subscribed to.
+   */
+  ConnectionPluginChainLink(List<IConnectionPlugin> plugins) {
+    this.next = plugins.get(0);
+    final IConnectionPlugin tail = plugins.get(plugins.size() - 1);
+
+    IConnectionPlugin target = tail;
+    for (final IConnectionPlugin plugin : plugins) {
+      if (plugin == tail || plugin.getSubscribedMethods().contains(ALL_METHODS)) {
+        target = plugin;
+        break;
+      }
+    }
+    this.defaultTarget = target;
+
+    for (int i = plugins.size() - 2; i >= 0; i--) {
+      final Set<String> methods = plugins.get(i).getSubscribedMethods();
+      if (methods.contains(ALL_METHODS)) {
+        // Every method seen so far is intercepted here first.
+        for (final Map.Entry<String, IConnectionPlugin> entry : this.targetsByMethod.entrySet()) {
+          entry.setValue(plugins.get(i));
+        }
+        continue;
+      }
+      for (final String method : methods) {
+        this.targetsByMethod.put(method, plugins.get(i));
+      }
+    }
+
+    // Drop the entries that resolve to the default target anyway.
+    this.targetsByMethod.values().removeIf(plugin -> plugin == this.defaultTarget);
+  }
+
+  @Override
+  public Object execute(
+      Class<?> methodInvokeOn,
+      String methodName,
+      Callable<?> executeSqlFunc,
+      Object[] args) throws Exception {
+    return getTarget(methodName).execute(methodInvokeOn, methodName, executeSqlFunc, args);
+  }
+
+  /**
+   * Returns the plugin receiving the calls to the given JDBC method.
+   *
+   * @param methodName The name of the method.
+   * @return The first plugin of the section subscribed to the method.
+   */
+  IConnectionPlugin getTarget(String methodName) {
+    final IConnectionPlugin target = this.targetsByMethod.get(methodName);
+    return target == null ? this.defaultTarget : target;
+  }
+
+  @Override
+  public void openInitialConnection(ConnectionUrl connectionUrl) throws SQLException {
+    this.next.openInitialConnection(connectionUrl);
+  }
+
+  @Override
+  public void releaseResources() {
+    this.next.releaseResources();
+  }
+
+  @Override
+  public void transactionBegun() {
+    this.next.transactionBegun();
+  }
+
+  @Override
+  public void transactionCompleted() {
+    this.next.transactionCompleted();
+  }
+}
@@ -35,6 +35,8 @@ import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.Util;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 /**
@@ -52,6 +54,9 @@ public class ConnectionPluginManager implements ITransactionContextHandler {
   protected Log logger;
   protected PropertySet propertySet = null;
   protected IConnectionPlugin headPlugin = null;
+  protected IConnectionPlugin defaultPlugin = null;
+  // entry point for JDBC method calls, skipping the plugins not subscribed to the method
+  protected IConnectionPlugin dispatchPlugin = null;
   ICurrentConnectionProvider currentConnectionProvider;
 
   public ConnectionPluginManager(Log logger) {
@@ -88,13 +93,17 @@ public class ConnectionPluginManager implements ITransactionContextHandler {
       factoryClazzNames = DEFAULT_PLUGIN_FACTORIES;
     }
 
-    this.headPlugin = new DefaultConnectionPluginFactory()
+    final IConnectionPlugin defaultPlugin = new DefaultConnectionPluginFactory()
         .getInstance(
             this.currentConnectionProvider,
             this.propertySet,
             null,
             this.logger);
 
+    // plugins of the chain in order, with the default one at the tail
+    final List<IConnectionPlugin> plugins = new ArrayList<>();
+    plugins.add(defaultPlugin);
+
     if (!StringUtils.isNullOrEmpty(factoryClazzNames)) {
       IConnectionPluginFactory[] factories =
           Util.<IConnectionPluginFactory>loadClasses(
@@ -106,14 +115,21 @@ public class ConnectionPluginManager implements ITransactionContextHandler {
       // make a chain of analyzers with default one at the tail
 
       for (int i = factories.length - 1; i >= 0; i--) {
-        this.headPlugin = factories[i]
+        final IConnectionPlugin nextPlugin = plugins.size() == 1
+            ? defaultPlugin
+            : new ConnectionPluginChainLink(new ArrayList<>(plugins));
+        plugins.add(0, factories[i]
             .getInstance(
                 this.currentConnectionProvider,
                 this.propertySet,
-                this.headPlugin,
-                this.logger);
+                nextPlugin,
+                this.logger));
       }
     }
+
+    this.headPlugin = plugins.get(0);
+    this.defaultPlugin = defaultPlugin;
+    this.dispatchPlugin = plugins.size() == 1 ? defaultPlugin : new ConnectionPluginChainLink(plugins);
   }
 
   /**
@@ -130,7 +146,25 @@ public class ConnectionPluginManager implements ITransactionContextHandler {
       String methodName,
       Callable<?> executeSqlFunc,
       Object[] args) throws Exception {
-    return this.headPlugin.execute(methodInvokeOn, methodName, executeSqlFunc, args);
+    return this.dispatchPlugin.execute(methodInvokeOn, methodName, executeSqlFunc, args);
+  }
+
+  /**
+   * Check whether calls to a JDBC method can skip the connection plugin chain. They can when no
+   * plugin other than the {@link DefaultConnectionPlugin} receives them and the default plugin
+   * has no failure to log at trace level.
+   *
+   * @param methodName The name of the method being invoked.
+   * @return true if the method can be invoked without the plugins.
+   */
+  public boolean canBypassPlugins(String methodName) {
+    if (this.logger.isTraceEnabled()) {
+      return false;
+    }
+    final IConnectionPlugin target = this.dispatchPlugin instanceof ConnectionPluginChainLink
+        ? ((ConnectionPluginChainLink) this.dispatchPlugin).getTarget(methodName)
+        : this.dispatchPlugin;
+    return target == this.defaultPlugin;
   }
 
   /**
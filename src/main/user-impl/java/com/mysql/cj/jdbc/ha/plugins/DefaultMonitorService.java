@@ -34,7 +34,6 @@ import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.log.Log;
 
 import java.util.Set;
-import java.util.concurrent.Executors;
 
 /**
  * This class handles the creation and clean up of monitoring threads to servers with one
@@ -47,6 +46,17 @@ public class DefaultMonitorService implements IMonitorService {
   final IMonitorInitializer monitorInitializer;
 
   public DefaultMonitorService(Log logger) {
+    this(IExecutorServiceInitializer.daemonCachedThreadPool(), logger);
+  }
+
+  /**
+   * Initialize the service.
+   *
+   * @param executorServiceInitializer Creates the thread pool running the monitors, eg.
+   *     {@link IExecutorServiceInitializer#virtualThreadPerTask()}.
+   * @param logger A {@link Log} implementation.
+   */
+  public DefaultMonitorService(IExecutorServiceInitializer executorServiceInitializer, Log logger) {
     this(
         (hostInfo, propertySet, monitorService) -> new Monitor(
             new BasicConnectionProvider(),
@@ -55,11 +65,7 @@ public class DefaultMonitorService implements IMonitorService {
             propertySet.getIntegerProperty(PropertyKey.monitorDisposalTime).getValue(),
             monitorService,
             logger),
-        () -> Executors.newCachedThreadPool(r -> {
-          final Thread monitoringThread = new Thread(r);
-          monitoringThread.setDaemon(true);
-          return monitoringThread;
-        }),
+        executorServiceInitializer,
         logger
     );
   }
@@ -71,7 +77,8 @@ public class DefaultMonitorService implements IMonitorService {
 
     this.monitorInitializer = monitorInitializer;
     this.logger = logger;
-    this.threadContainer = MonitorThreadContainer.getInstance(executorServiceInitializer);
+    // monitor services of different classes create different kinds of monitors, don't mix them
+    this.threadContainer = MonitorThreadContainer.getInstance(getClass(), executorServiceInitializer);
   }
 
   @Override
@@ -99,6 +106,7 @@ public class DefaultMonitorService implements IMonitorService {
         failureDetectionTimeMillis,
         failureDetectionIntervalMillis,
         failureDetectionCount);
+    context.setMonitor(monitor, this.threadContainer.getNode(nodeKeys));
 
     monitor.startMonitoring(context);
     this.threadContainer.addTask(monitor);
@@ -106,6 +114,56 @@ public class DefaultMonitorService implements IMonitorService {
     return context;
   }
 
+  @Override
+  public MonitorConnectionContext startMonitoring(
+      MonitorConnectionContext reusableContext,
+      JdbcConnection connectionToAbort,
+      Set<String> nodeKeys,
+      HostInfo hostInfo,
+      PropertySet propertySet,
+      int failureDetectionTimeMillis,
+      int failureDetectionIntervalMillis,
+      int failureDetectionCount) {
+
+    if (!canReuse(reusableContext, connectionToAbort)) {
+      return startMonitoring(
+          connectionToAbort,
+          nodeKeys,
+          hostInfo,
+          propertySet,
+          failureDetectionTimeMillis,
+          failureDetectionIntervalMillis,
+          failureDetectionCount);
+    }
+
+    final IMonitor monitor = reusableContext.getMonitor();
+    reusableContext.reset(
+        failureDetectionTimeMillis,
+        failureDetectionIntervalMillis,
+        failureDetectionCount);
+
+    monitor.startMonitoring(reusableContext);
+    this.threadContainer.addTask(monitor);
+
+    return reusableContext;
+  }
+
+  /**
+   * A context can only be reused once monitoring has stopped, for the same connection, and as
+   * long as its monitor has not been released or reset since the context was last used.
+   */
+  private boolean canReuse(MonitorConnectionContext context, JdbcConnection connectionToAbort) {
+    if (context == null
+        || context.isActiveContext()
+        || context.getMonitor() == null
+        || context.getConnectionToAbort() != connectionToAbort) {
+      return false;
+    }
+
+    final String node = context.getMonitorNodeKey();
+    return node != null && this.threadContainer.getMonitor(node) == context.getMonitor();
+  }
+
   @Override
   public void stopMonitoring(MonitorConnectionContext context) {
     if (context == null) {
@@ -113,6 +171,11 @@ public class DefaultMonitorService implements IMonitorService {
       return;
     }
 
+    if (context.getMonitor() != null) {
+      context.getMonitor().stopMonitoring(context);
+      return;
+    }
+
     // Any 1 node is enough to find the monitor containing the context
     // All nodes will map to the same monitor
     final String node = this.threadContainer.getNode(context.getNodeKeys());
@@ -140,7 +203,7 @@ public class DefaultMonitorService implements IMonitorService {
   @Override
   public void releaseResources() {
     this.threadContainer = null;
-    MonitorThreadContainer.releaseInstance();
+    MonitorThreadContainer.releaseInstance(getClass());
   }
 
   @Override
@@ -29,6 +29,8 @@ package com.mysql.cj.jdbc.ha.plugins;
 import com.mysql.cj.conf.ConnectionUrl;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.Callable;
 
 /**
@@ -36,6 +38,10 @@ import java.util.concurrent.Callable;
  * and to clean up resources used before closing the plugin.
  */
 public interface IConnectionPlugin extends ITransactionContextHandler {
+
+  /** Subscription to every JDBC method. */
+  String ALL_METHODS = "*";
+
   Object execute(
       Class<?> methodInvokeOn,
       String methodName,
@@ -46,4 +52,16 @@ public interface IConnectionPlugin extends ITransactionContextHandler {
   void openInitialConnection(ConnectionUrl connectionUrl) throws SQLException;
 
   void releaseResources();
+
+  /**
+   * Names of the JDBC methods this plugin needs to intercept. The {@link ConnectionPluginManager}
+   * reads the subscription once when the plugin chain is built, and calls to any other method
+   * skip this plugin's {@link #execute(Class, String, Callable, Object[])}. Return a set containing
+   * {@link #ALL_METHODS} to intercept every call.
+   *
+   * @return the names of the subscribed methods.
+   */
+  default Set<String> getSubscribedMethods() {
+    return Collections.singleton(ALL_METHODS);
+  }
 }
@@ -27,6 +27,7 @@
 package com.mysql.cj.jdbc.ha.plugins;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Interface for passing a specific {@link ExecutorService} to use by the {@link MonitorThreadContainer}.
@@ -34,4 +35,36 @@ import java.util.concurrent.ExecutorService;
 @FunctionalInterface
 public interface IExecutorServiceInitializer {
   ExecutorService createExecutorService();
+
+  /**
+   * Creates a cached thread pool of daemon threads.
+   *
+   * @return the initializer.
+   */
+  static IExecutorServiceInitializer daemonCachedThreadPool() {
+    return () -> Executors.newCachedThreadPool(r -> {
+      final Thread monitoringThread = new Thread(r);
+      monitoringThread.setDaemon(true);
+      return monitoringThread;
+    });
+  }
+
+  /**
+   * Creates an executor starting a new virtual thread for each task when the JVM supports
+   * virtual threads, or a cached thread pool of daemon threads otherwise.
+   *
+   * @return the initializer.
+   */
+  static IExecutorServiceInitializer virtualThreadPerTask() {
+    return () -> {
+      try {
+        return (ExecutorService) Executors.class
+            .getMethod("newVirtualThreadPerTaskExecutor")
+            .invoke(null);
+      } catch (ReflectiveOperationException | RuntimeException ex) {
+        // virtual threads are not available in this JVM
+        return daemonCachedThreadPool().createExecutorService();
+      }
+    };
+  }
 }
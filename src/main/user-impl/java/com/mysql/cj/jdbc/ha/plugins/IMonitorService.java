@@ -46,6 +46,41 @@ public interface IMonitorService {
       int failureDetectionIntervalMillis,
       int failureDetectionCount);
 
+  /**
+   * Start monitoring a connection, reusing a {@link MonitorConnectionContext} returned by a
+   * previous call once monitoring of that call has been stopped. This avoids creating a new
+   * context, and looking up the {@link IMonitor}, for every monitored JDBC method call.
+   *
+   * @param reusableContext A context previously returned for the same connection, or null.
+   * @param connectionToAbort The connection to abort if the node becomes unavailable.
+   * @param nodeKeys All known references to the server.
+   * @param hostInfo Information such as hostname of the server.
+   * @param propertySet The user configuration for the current connection.
+   * @param failureDetectionTimeMillis Grace period after which node monitoring starts.
+   * @param failureDetectionIntervalMillis Interval between each failed connection check.
+   * @param failureDetectionCount Number of failed connection checks before considering
+   *                              database node as unhealthy.
+   * @return the context representing the monitored connection, which may be the given one.
+   */
+  default MonitorConnectionContext startMonitoring(
+      MonitorConnectionContext reusableContext,
+      JdbcConnection connectionToAbort,
+      Set<String> nodeKeys,
+      HostInfo hostInfo,
+      PropertySet propertySet,
+      int failureDetectionTimeMillis,
+      int failureDetectionIntervalMillis,
+      int failureDetectionCount) {
+    return startMonitoring(
+        connectionToAbort,
+        nodeKeys,
+        hostInfo,
+        propertySet,
+        failureDetectionTimeMillis,
+        failureDetectionIntervalMillis,
+        failureDetectionCount);
+  }
+
   /**
    * Stop monitoring for a connection represented by the given
    * {@link MonitorConnectionContext}. Removes the context from the {@link Monitor}.
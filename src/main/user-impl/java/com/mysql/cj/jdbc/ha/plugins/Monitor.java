@@ -33,12 +33,11 @@ import com.mysql.cj.log.Log;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -61,17 +60,16 @@ public class Monitor implements IMonitor {
   private static final int THREAD_SLEEP_WHEN_INACTIVE_MILLIS = 100;
   private static final String MONITORING_PROPERTY_PREFIX = "monitoring-";
 
-  private final Queue<MonitorConnectionContext> contexts = new ConcurrentLinkedQueue<>();
+  private final Set<MonitorConnectionContext> contexts = ConcurrentHashMap.newKeySet();
   private final IConnectionProvider connectionProvider;
   private final Log logger;
   private final PropertySet propertySet;
   private final HostInfo hostInfo;
   private Connection monitoringConn = null;
-  private int connectionCheckIntervalMillis = Integer.MAX_VALUE;
   private final AtomicLong lastContextUsedTimestamp = new AtomicLong();
   private final long monitorDisposalTime;
   private final IMonitorService monitorService;
-  private final AtomicBoolean stopped = new AtomicBoolean(true);
+  protected final AtomicBoolean stopped = new AtomicBoolean(true);
 
   /**
    * Store the monitoring configuration for a connection.
@@ -103,10 +101,7 @@ public class Monitor implements IMonitor {
   }
 
   @Override
-  public synchronized void startMonitoring(MonitorConnectionContext context) {
-    this.connectionCheckIntervalMillis = Math.min(
-        this.connectionCheckIntervalMillis,
-        context.getFailureDetectionIntervalMillis());
+  public void startMonitoring(MonitorConnectionContext context) {
     final long currentTime = this.getCurrentTimeMillis();
     context.setStartMonitorTime(currentTime);
     this.lastContextUsedTimestamp.set(currentTime);
@@ -114,7 +109,7 @@ public class Monitor implements IMonitor {
   }
 
   @Override
-  public synchronized void stopMonitoring(MonitorConnectionContext context) {
+  public void stopMonitoring(MonitorConnectionContext context) {
     if (context == null) {
       logger.logWarn(NullArgumentMessage.getMessage("context"));
       return;
@@ -123,12 +118,10 @@ public class Monitor implements IMonitor {
       this.contexts.remove(context);
       context.invalidate();
     }
-    this.connectionCheckIntervalMillis = findShortestIntervalMillis();
   }
 
-  public synchronized void clearContexts() {
+  public void clearContexts() {
     this.contexts.clear();
-    this.connectionCheckIntervalMillis = findShortestIntervalMillis();
   }
 
   @Override
@@ -136,44 +129,72 @@ public class Monitor implements IMonitor {
     try {
       this.stopped.set(false);
       while (true) {
-        if (!this.contexts.isEmpty()) {
-          final long statusCheckStartTime = this.getCurrentTimeMillis();
-          this.lastContextUsedTimestamp.set(statusCheckStartTime);
-
-          final ConnectionStatus status =
-              checkConnectionStatus(this.getConnectionCheckIntervalMillis());
-
-          for (MonitorConnectionContext monitorContext : this.contexts) {
-            monitorContext.updateConnectionStatus(
-                statusCheckStartTime,
-                statusCheckStartTime + status.elapsedTime,
-                status.isValid);
-          }
-
-          TimeUnit.MILLISECONDS.sleep(Math.max(
-              0,
-              this.getConnectionCheckIntervalMillis() - status.elapsedTime));
-        } else {
-          if ((this.getCurrentTimeMillis() - this.lastContextUsedTimestamp.get())
-              >= this.monitorDisposalTime) {
-            monitorService.notifyUnused(this);
-            break;
-          }
-          TimeUnit.MILLISECONDS.sleep(THREAD_SLEEP_WHEN_INACTIVE_MILLIS);
+        final long delayMillis = runStep();
+        if (delayMillis < 0) {
+          break;
         }
+        TimeUnit.MILLISECONDS.sleep(delayMillis);
       }
     } catch (InterruptedException intEx) {
       // do nothing; exit thread
     } finally {
-      if (this.monitoringConn != null) {
-        try {
-          this.monitoringConn.close();
-        } catch (SQLException ex) {
-          // ignore
-        }
+      dispose();
+    }
+  }
+
+  /**
+   * Check the server once and update the status of all the monitored connections.
+   *
+   * @return the time to wait in milliseconds before the next step, or a negative value if the
+   *     monitor has been inactive for longer than the disposal time and should stop.
+   */
+  long runStep() {
+    if (!this.contexts.isEmpty()) {
+      final long statusCheckStartTime = this.getCurrentTimeMillis();
+      this.lastContextUsedTimestamp.set(statusCheckStartTime);
+
+      // Only the contexts monitored when the check started, and not reused since, get its result
+      final MonitorConnectionContext[] checkedContexts =
+          this.contexts.toArray(new MonitorConnectionContext[0]);
+      final long[] generations = new long[checkedContexts.length];
+      for (int i = 0; i < checkedContexts.length; i++) {
+        generations[i] = checkedContexts[i].getGeneration();
+      }
+
+      final ConnectionStatus status =
+          checkConnectionStatus(this.getConnectionCheckIntervalMillis());
+
+      for (int i = 0; i < checkedContexts.length; i++) {
+        checkedContexts[i].updateConnectionStatus(
+            generations[i],
+            statusCheckStartTime,
+            statusCheckStartTime + status.elapsedTime,
+            status.isValid);
       }
-      this.stopped.set(true);
+
+      return Math.max(0, this.getConnectionCheckIntervalMillis() - status.elapsedTime);
     }
+
+    if ((this.getCurrentTimeMillis() - this.lastContextUsedTimestamp.get())
+        >= this.monitorDisposalTime) {
+      monitorService.notifyUnused(this);
+      return -1;
+    }
+    return THREAD_SLEEP_WHEN_INACTIVE_MILLIS;
+  }
+
+  /**
+   * Close the monitoring connection and mark this monitor as stopped.
+   */
+  void dispose() {
+    if (this.monitoringConn != null) {
+      try {
+        this.monitoringConn.close();
+      } catch (SQLException ex) {
+        // ignore
+      }
+    }
+    this.stopped.set(true);
   }
 
   /**
@@ -226,12 +247,24 @@ public class Monitor implements IMonitor {
     return System.currentTimeMillis();
   }
 
+  /**
+   * Get the shortest failure detection interval of all the monitored connections. This is only
+   * computed by the monitoring thread, so starting and stopping the monitoring of a connection
+   * never has to scan the other connections.
+   *
+   * @return the interval in milliseconds, or 0 if no connection is monitored.
+   */
   int getConnectionCheckIntervalMillis() {
-    if (this.connectionCheckIntervalMillis == Integer.MAX_VALUE) {
-      // connectionCheckIntervalMillis is at Integer.MAX_VALUE because there are no contexts available.
+    int shortestIntervalMillis = Integer.MAX_VALUE;
+    for (final MonitorConnectionContext context : this.contexts) {
+      shortestIntervalMillis = Math.min(shortestIntervalMillis, context.getFailureDetectionIntervalMillis());
+    }
+
+    if (shortestIntervalMillis == Integer.MAX_VALUE) {
+      // there are no contexts available
       return 0;
     }
-    return this.connectionCheckIntervalMillis;
+    return shortestIntervalMillis;
   }
 
   @Override
@@ -250,14 +283,4 @@ public class Monitor implements IMonitor {
         props);
   }
 
-  private int findShortestIntervalMillis() {
-    if (this.contexts.isEmpty()) {
-      return Integer.MAX_VALUE;
-    }
-
-    return this.contexts.stream()
-        .min(Comparator.comparing(MonitorConnectionContext::getFailureDetectionIntervalMillis))
-        .map(MonitorConnectionContext::getFailureDetectionIntervalMillis)
-        .orElse(0);
-  }
 }
@@ -37,19 +37,26 @@ import java.util.Set;
  * whether a server should be considered unhealthy.
  */
 public class MonitorConnectionContext {
-  private final int failureDetectionIntervalMillis;
-  private final int failureDetectionTimeMillis;
-  private final int failureDetectionCount;
+  private int failureDetectionIntervalMillis;
+  private int failureDetectionTimeMillis;
+  private int failureDetectionCount;
 
   private final Set<String> nodeKeys;
   private final Log log;
   private final JdbcConnection connectionToAbort;
 
-  private long startMonitorTime;
+  private volatile long startMonitorTime;
   private long invalidNodeStartTime;
   private int failureCount;
-  private boolean nodeUnhealthy;
-  private boolean activeContext = true;
+  private volatile boolean nodeUnhealthy;
+  private volatile boolean activeContext = true;
+  // changes whenever the context is reset or invalidated, so that the result of a status check
+  // started before then is not applied to the context's next use
+  private volatile long generation;
+
+  // monitor this context was last registered with, to skip the node key lookups
+  private IMonitor monitor;
+  private String monitorNodeKey;
 
   /**
    * Constructor.
@@ -78,6 +85,50 @@ public class MonitorConnectionContext {
     this.failureDetectionCount = failureDetectionCount;
   }
 
+  /**
+   * Prepare this context to be used again for a new monitored method call on the same
+   * connection.
+   *
+   * @param failureDetectionTimeMillis Grace period after which node monitoring starts.
+   * @param failureDetectionIntervalMillis Interval between each failed connection check.
+   * @param failureDetectionCount Number of failed connection checks before considering
+   *                              database node as unhealthy.
+   */
+  synchronized void reset(
+      int failureDetectionTimeMillis,
+      int failureDetectionIntervalMillis,
+      int failureDetectionCount) {
+    this.failureDetectionTimeMillis = failureDetectionTimeMillis;
+    this.failureDetectionIntervalMillis = failureDetectionIntervalMillis;
+    this.failureDetectionCount = failureDetectionCount;
+    this.failureCount = 0;
+    this.invalidNodeStartTime = 0;
+    this.nodeUnhealthy = false;
+    this.activeContext = true;
+    this.generation++;
+  }
+
+  long getGeneration() {
+    return this.generation;
+  }
+
+  IMonitor getMonitor() {
+    return this.monitor;
+  }
+
+  String getMonitorNodeKey() {
+    return this.monitorNodeKey;
+  }
+
+  void setMonitor(IMonitor monitor, String monitorNodeKey) {
+    this.monitor = monitor;
+    this.monitorNodeKey = monitorNodeKey;
+  }
+
+  JdbcConnection getConnectionToAbort() {
+    return this.connectionToAbort;
+  }
+
   void setStartMonitorTime(long startMonitorTime) {
     this.startMonitorTime = startMonitorTime;
   }
@@ -134,8 +185,9 @@ public class MonitorConnectionContext {
     return this.activeContext;
   }
 
-  public void invalidate() {
+  public synchronized void invalidate() {
     this.activeContext = false;
+    this.generation++;
   }
 
   synchronized void abortConnection() {
@@ -165,7 +217,24 @@ public class MonitorConnectionContext {
       long statusCheckStartTime,
       long currentTime,
       boolean isValid) {
-    if (!this.activeContext) {
+    updateConnectionStatus(this.generation, statusCheckStartTime, currentTime, isValid);
+  }
+
+  /**
+   * Update whether the connection is still valid, unless the context has been reset or
+   * invalidated since the status check started.
+   *
+   * @param generation The generation of this context when the status check started.
+   * @param statusCheckStartTime The time when connection status check started in milliseconds.
+   * @param currentTime The time when connection status check ended in milliseconds.
+   * @param isValid Whether the connection is valid.
+   */
+  synchronized void updateConnectionStatus(
+      long generation,
+      long statusCheckStartTime,
+      long currentTime,
+      boolean isValid) {
+    if (!this.activeContext || generation != this.generation) {
       return;
     }
 
@@ -207,19 +276,23 @@ public class MonitorConnectionContext {
           (long) this.getFailureDetectionIntervalMillis() * Math.max(0, this.getFailureDetectionCount());
 
       if (invalidNodeDurationMillis >= maxInvalidNodeDurationMillis) {
-        this.log.logTrace(
-            String.format(
-                "[MonitorConnectionContext] node '%s' is *dead*.",
-                nodeKeys));
+        if (this.log.isTraceEnabled()) {
+          this.log.logTrace(
+              String.format(
+                  "[MonitorConnectionContext] node '%s' is *dead*.",
+                  nodeKeys));
+        }
         this.setNodeUnhealthy(true);
         this.abortConnection();
         return;
       }
 
-      this.log.logTrace(String.format(
-          "[MonitorConnectionContext] node '%s' is not *responding* (%d).",
-          nodeKeys,
-          this.getFailureCount()));
+      if (this.log.isTraceEnabled()) {
+        this.log.logTrace(String.format(
+            "[MonitorConnectionContext] node '%s' is not *responding* (%d).",
+            nodeKeys,
+            this.getFailureCount()));
+      }
       return;
     }
 
@@ -227,9 +300,11 @@ public class MonitorConnectionContext {
     this.resetInvalidNodeStartTime();
     this.setNodeUnhealthy(false);
 
-    this.log.logTrace(
-        String.format(
-            "[MonitorConnectionContext] node '%s' is *alive*.",
-            nodeKeys));
+    if (this.log.isTraceEnabled()) {
+      this.log.logTrace(
+          String.format(
+              "[MonitorConnectionContext] node '%s' is *alive*.",
+              nodeKeys));
+    }
   }
 }
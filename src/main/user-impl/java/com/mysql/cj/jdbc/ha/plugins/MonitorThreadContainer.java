@@ -27,6 +27,7 @@
 package com.mysql.cj.jdbc.ha.plugins;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
@@ -36,56 +37,83 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 
 /**
- * This singleton class keeps track of all the monitoring threads and handles the creation
- * and clean up of each monitoring thread.
+ * This class keeps track of all the monitoring threads and handles the creation and clean up of
+ * each monitoring thread. There is one instance per {@link IMonitorService} implementation, so
+ * that services creating different kinds of monitors never share them.
  */
 public class MonitorThreadContainer {
-  private static MonitorThreadContainer singleton = null;
-  private static final AtomicInteger CLASS_USAGE_COUNT = new AtomicInteger();
+  // guarded by LOCK_OBJECT
+  private static final Map<Class<?>, MonitorThreadContainer> INSTANCES = new HashMap<>();
+  private int usageCount = 0;
   private final Map<String, IMonitor> monitorMap = new ConcurrentHashMap<>();
   private final Map<IMonitor, Future<?>> tasksMap = new ConcurrentHashMap<>();
   private final Queue<IMonitor> availableMonitors = new ConcurrentLinkedDeque<>();
   private final ExecutorService threadPool;
+  private ScheduledExecutorService scheduler;
+  private boolean released = false;
   private static final Object LOCK_OBJECT = new Object();
 
   /**
-   * Create an instance of the {@link MonitorThreadContainer}.
+   * Create an instance of the {@link MonitorThreadContainer} used by the
+   * {@link DefaultMonitorService}.
    *
-   * @return a singleton instance of the {@link MonitorThreadContainer}.
+   * @return the shared instance of the {@link MonitorThreadContainer}.
    */
   public static MonitorThreadContainer getInstance() {
     return getInstance(Executors::newCachedThreadPool);
   }
 
   static MonitorThreadContainer getInstance(IExecutorServiceInitializer executorServiceInitializer) {
-    if (singleton == null) {
-      synchronized (LOCK_OBJECT) {
-        singleton = new MonitorThreadContainer(executorServiceInitializer);
-      }
-      CLASS_USAGE_COUNT.set(0);
+    return getInstance(DefaultMonitorService.class, executorServiceInitializer);
+  }
+
+  /**
+   * Get the container of the given {@link IMonitorService} implementation, creating it if this
+   * is its first user. Each call must be matched by a call to {@link #releaseInstance(Class)}.
+   *
+   * @param monitorServiceClass The class of the monitor service using the container.
+   * @param executorServiceInitializer Creates the thread pool of a new container.
+   * @return the instance of the {@link MonitorThreadContainer} for that implementation.
+   */
+  static MonitorThreadContainer getInstance(
+      Class<?> monitorServiceClass,
+      IExecutorServiceInitializer executorServiceInitializer) {
+    synchronized (LOCK_OBJECT) {
+      final MonitorThreadContainer container = INSTANCES.computeIfAbsent(
+          monitorServiceClass,
+          k -> new MonitorThreadContainer(executorServiceInitializer));
+      container.usageCount++;
+      return container;
     }
-    CLASS_USAGE_COUNT.getAndIncrement();
-    return singleton;
   }
 
   /**
-   * Release resources held in the {@link MonitorThreadContainer} and clear references
-   * to the container.
+   * Release resources held in the {@link MonitorThreadContainer} of the
+   * {@link DefaultMonitorService} and clear references to the container.
    */
   public static void releaseInstance() {
-    if (singleton == null) {
-      return;
-    }
+    releaseInstance(DefaultMonitorService.class);
+  }
 
-    if (CLASS_USAGE_COUNT.decrementAndGet() <= 0) {
-      synchronized (LOCK_OBJECT) {
-        singleton.releaseResources();
-        singleton = null;
+  /**
+   * Release a use of the container of the given {@link IMonitorService} implementation. The last
+   * release stops its monitors and clears references to it.
+   *
+   * @param monitorServiceClass The class of the monitor service using the container.
+   */
+  static void releaseInstance(Class<?> monitorServiceClass) {
+    synchronized (LOCK_OBJECT) {
+      final MonitorThreadContainer container = INSTANCES.get(monitorServiceClass);
+      if (container == null || --container.usageCount > 0) {
+        return;
       }
+      INSTANCES.remove(monitorServiceClass);
+      container.releaseResources();
     }
   }
 
@@ -105,6 +133,26 @@ public class MonitorThreadContainer {
     return threadPool;
   }
 
+  /**
+   * Get the scheduler shared by all the {@link ScheduledMonitor} instances. The scheduler only
+   * times the health checks, which run on the thread pool of this container.
+   *
+   * @return the shared {@link ScheduledExecutorService}.
+   */
+  public synchronized ScheduledExecutorService getScheduler() {
+    if (this.released) {
+      throw new RejectedExecutionException();
+    }
+    if (this.scheduler == null) {
+      this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        final Thread schedulerThread = new Thread(r);
+        schedulerThread.setDaemon(true);
+        return schedulerThread;
+      });
+    }
+    return this.scheduler;
+  }
+
   String getNode(Set<String> nodeKeys) {
     return getNode(nodeKeys, null);
   }
@@ -148,9 +196,31 @@ public class MonitorThreadContainer {
   }
 
   void addTask(IMonitor monitor) {
+    if (tasksMap.containsKey(monitor)) {
+      // Most calls are for monitors that are already running, skip allocating the mapping function
+      return;
+    }
     tasksMap.computeIfAbsent(monitor, k -> threadPool.submit(monitor));
   }
 
+  /**
+   * Record the pending run of a monitor that reschedules itself, such as a
+   * {@link ScheduledMonitor}, so that releasing the monitor cancels that run rather than the one
+   * started by {@link #addTask(IMonitor)}. A monitor started by {@link #addTask(IMonitor)} can call
+   * this from its first run: the map blocks the call until the submitted task has been recorded.
+   *
+   * @param monitor The monitor.
+   * @param task The pending run of the monitor.
+   * @return false if the monitor has been released meanwhile, in which case the caller must
+   *     cancel the task.
+   */
+  boolean updateTask(IMonitor monitor, Future<?> task) {
+    // a run that already fired and rescheduled the monitor must not replace the newer one
+    return tasksMap.computeIfPresent(
+        monitor,
+        (k, current) -> task.isDone() && !current.isDone() ? current : task) != null;
+  }
+
   /**
    * Clear all references used by the given monitor.
    * Put the monitor in to a queue waiting to be reused.
@@ -195,5 +265,17 @@ public class MonitorThreadContainer {
     if (threadPool != null) {
       threadPool.shutdownNow();
     }
+
+    synchronized (this) {
+      released = true;
+      if (scheduler != null) {
+        scheduler.shutdownNow();
+      }
+    }
+
+    // Scheduled monitors waiting for their next check are not interrupted by the shutdown
+    tasksMap.keySet().stream()
+        .filter(ScheduledMonitor.class::isInstance)
+        .forEach(monitor -> ((ScheduledMonitor) monitor).dispose());
   }
 }
@@ -30,16 +30,34 @@ import com.mysql.cj.conf.ConnectionUrl;
 import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.conf.RuntimeProperty;
+import com.mysql.cj.conf.RuntimeProperty.RuntimePropertyListener;
 import com.mysql.cj.exceptions.CJCommunicationsException;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcPreparedStatement;
 import com.mysql.cj.jdbc.ha.ConnectionProxy;
+import com.mysql.cj.jdbc.result.ResultSetInternalMethods;
 import com.mysql.cj.log.Log;
 
+import java.lang.reflect.Method;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.Ref;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
 import java.sql.Statement;
+import java.sql.Struct;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -50,12 +68,19 @@ import java.util.function.Supplier;
  * Monitor the server while the connection is executing methods for more sophisticated
  * failure detection.
  */
-public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
+public class NodeMonitoringConnectionPlugin implements IConnectionPlugin, RuntimePropertyListener {
 
   private static final String RETRIEVE_HOST_PORT_SQL =
       "SELECT CONCAT(@@hostname, ':', @@port)";
   private static final List<String> METHODS_STARTING_WITH = Arrays.asList("get", "abort");
   private static final List<String> METHODS_EQUAL_TO = Arrays.asList("close", "next");
+  // JDBC interfaces whose methods can be passed to the connection plugins
+  private static final List<Class<?>> JDBC_INTERFACES = Arrays.asList(
+      JdbcConnection.class, JdbcPreparedStatement.class, CallableStatement.class,
+      ResultSetInternalMethods.class, DatabaseMetaData.class, ResultSetMetaData.class,
+      ParameterMetaData.class, Blob.class, Clob.class, NClob.class, SQLXML.class,
+      Array.class, Struct.class, Ref.class, Savepoint.class);
+  private static final Set<String> SUBSCRIBED_METHODS = getMonitoredMethods();
 
   protected IConnectionPlugin nextPlugin;
   protected Log logger;
@@ -65,6 +90,17 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
   private final Set<String> nodeKeys = new HashSet<>();
   private final ICurrentConnectionProvider currentConnectionProvider;
   private JdbcConnection connection;
+  private MonitorConnectionContext monitorContext;
+
+  // Cached failure detection settings, kept up to date by handlePropertyChange
+  private RuntimeProperty<Boolean> failureDetectionEnabledProperty;
+  private RuntimeProperty<Integer> failureDetectionTimeProperty;
+  private RuntimeProperty<Integer> failureDetectionIntervalProperty;
+  private RuntimeProperty<Integer> failureDetectionCountProperty;
+  private volatile boolean failureDetectionEnabled;
+  private volatile int failureDetectionTimeMillis;
+  private volatile int failureDetectionIntervalMillis;
+  private volatile int failureDetectionCount;
 
   /**
    * Initialize the node monitoring plugin.
@@ -85,7 +121,7 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
         propertySet,
         nextPlugin,
         logger,
-        () -> new DefaultMonitorService(logger));
+        () -> createMonitorService(propertySet, logger));
   }
 
   NodeMonitoringConnectionPlugin(
@@ -106,11 +142,77 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
     this.nextPlugin = nextPlugin;
     this.monitorServiceSupplier = monitorServiceSupplier;
 
+    initFailureDetectionSettings();
+
     if (this.connection != null) {
       generateNodeKeys(this.connection);
     }
   }
 
+  private static IMonitorService createMonitorService(PropertySet propertySet, Log logger) {
+    final IExecutorServiceInitializer executorServiceInitializer =
+        propertySet.getBooleanProperty(PropertyKey.monitorUseVirtualThreads).getValue()
+            ? IExecutorServiceInitializer.virtualThreadPerTask()
+            : IExecutorServiceInitializer.daemonCachedThreadPool();
+
+    if (propertySet.getBooleanProperty(PropertyKey.monitorUseSharedScheduler).getValue()) {
+      return new ScheduledMonitorService(executorServiceInitializer, logger);
+    }
+    return new DefaultMonitorService(executorServiceInitializer, logger);
+  }
+
+  private void initFailureDetectionSettings() {
+    this.failureDetectionEnabledProperty =
+        this.propertySet.getBooleanProperty(PropertyKey.failureDetectionEnabled);
+    this.failureDetectionTimeProperty =
+        this.propertySet.getIntegerProperty(PropertyKey.failureDetectionTime);
+    this.failureDetectionIntervalProperty =
+        this.propertySet.getIntegerProperty(PropertyKey.failureDetectionInterval);
+    this.failureDetectionCountProperty =
+        this.propertySet.getIntegerProperty(PropertyKey.failureDetectionCount);
+
+    for (final RuntimeProperty<?> property : getFailureDetectionProperties()) {
+      if (property != null) {
+        property.addListener(this);
+      }
+    }
+
+    refreshFailureDetectionSettings();
+  }
+
+  private List<RuntimeProperty<?>> getFailureDetectionProperties() {
+    return Arrays.asList(
+        this.failureDetectionEnabledProperty,
+        this.failureDetectionTimeProperty,
+        this.failureDetectionIntervalProperty,
+        this.failureDetectionCountProperty);
+  }
+
+  private void refreshFailureDetectionSettings() {
+    this.failureDetectionEnabled = this.failureDetectionEnabledProperty != null
+        && Boolean.TRUE.equals(this.failureDetectionEnabledProperty.getValue());
+    if (this.failureDetectionTimeProperty != null) {
+      this.failureDetectionTimeMillis = this.failureDetectionTimeProperty.getValue();
+    }
+    if (this.failureDetectionIntervalProperty != null) {
+      this.failureDetectionIntervalMillis = this.failureDetectionIntervalProperty.getValue();
+    }
+    if (this.failureDetectionCountProperty != null) {
+      this.failureDetectionCount = this.failureDetectionCountProperty.getValue();
+    }
+  }
+
+  /**
+   * Failure detection settings are read once and refreshed whenever they are changed, instead
+   * of being looked up for every JDBC method call.
+   *
+   * @param prop The property that has changed.
+   */
+  @Override
+  public void handlePropertyChange(RuntimeProperty<?> prop) {
+    refreshFailureDetectionSettings();
+  }
+
   /**
    * Executes the given SQL function with {@link Monitor} if connection monitoring is enabled.
    * Otherwise, executes the SQL function directly.
@@ -127,48 +229,41 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
       Class<?> methodInvokeOn,
       String methodName,
       Callable<?> executeSqlFunc, Object[] args) throws Exception {
-    // update config settings since they may change
-    final boolean isEnabled = this.propertySet
-        .getBooleanProperty(PropertyKey.failureDetectionEnabled)
-        .getValue();
-
-    if (!isEnabled || !this.doesNeedMonitoring(methodInvokeOn, methodName)) {
+    if (!this.failureDetectionEnabled || !this.doesNeedMonitoring(methodInvokeOn, methodName)) {
       // do direct call
       return this.nextPlugin.execute(methodInvokeOn, methodName, executeSqlFunc, args);
     }
     // ... otherwise, use a separate thread to execute method
 
-    final int failureDetectionTimeMillis = this.propertySet
-        .getIntegerProperty(PropertyKey.failureDetectionTime)
-        .getValue();
-    final int failureDetectionIntervalMillis = this.propertySet
-        .getIntegerProperty(PropertyKey.failureDetectionInterval)
-        .getValue();
-    final int failureDetectionCount = this.propertySet
-        .getIntegerProperty(PropertyKey.failureDetectionCount)
-        .getValue();
-
     initMonitorService();
 
     Object result;
     MonitorConnectionContext monitorContext = null;
 
     try {
-      this.logger.logTrace(String.format(
-          "[NodeMonitoringConnectionPlugin.execute]: method=%s.%s, monitoring is activated",
-          methodInvokeOn.getName(),
-          methodName));
+      if (this.logger.isTraceEnabled()) {
+        this.logger.logTrace(String.format(
+            "[NodeMonitoringConnectionPlugin.execute]: method=%s.%s, monitoring is activated",
+            methodInvokeOn.getName(),
+            methodName));
+      }
 
       this.checkIfChanged(this.currentConnectionProvider.getCurrentConnection());
 
+      // A nested monitored call, eg. from a result set while its statement is executing,
+      // needs a context of its own
+      final MonitorConnectionContext reusableContext = this.monitorContext;
+      this.monitorContext = null;
+
       monitorContext = this.monitorService.startMonitoring(
+          reusableContext,
           this.connection, //abort current connection if needed
           this.nodeKeys,
           this.currentConnectionProvider.getCurrentHostInfo(),
           this.propertySet,
-          failureDetectionTimeMillis,
-          failureDetectionIntervalMillis,
-          failureDetectionCount);
+          this.failureDetectionTimeMillis,
+          this.failureDetectionIntervalMillis,
+          this.failureDetectionCount);
 
       result = this.nextPlugin.execute(methodInvokeOn, methodName, executeSqlFunc, args);
 
@@ -181,11 +276,14 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
             throw new CJCommunicationsException("Node is unavailable.");
           }
         }
+        this.monitorContext = monitorContext;
+      }
+      if (this.logger.isTraceEnabled()) {
+        this.logger.logTrace(String.format(
+            "[NodeMonitoringConnectionPlugin.execute]: method=%s.%s, monitoring is deactivated",
+            methodInvokeOn.getName(),
+            methodName));
       }
-      this.logger.logTrace(String.format(
-          "[NodeMonitoringConnectionPlugin.execute]: method=%s.%s, monitoring is deactivated",
-          methodInvokeOn.getName(),
-          methodName));
     }
 
     return result;
@@ -213,6 +311,21 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
     // boolean isJdbcStatement = Statement.class.isAssignableFrom(methodInvokeOn);
     // boolean isJdbcResultSet = ResultSet.class.isAssignableFrom(methodInvokeOn);
 
+    return isMonitoredMethod(methodName);
+  }
+
+  /**
+   * Only the methods that require monitoring are passed to this plugin. Subclasses overriding
+   * {@link #doesNeedMonitoring(Class, String)} need to override this method as well.
+   *
+   * @return the names of the JDBC methods that require monitoring.
+   */
+  @Override
+  public Set<String> getSubscribedMethods() {
+    return SUBSCRIBED_METHODS;
+  }
+
+  private static boolean isMonitoredMethod(String methodName) {
     for (final String method : METHODS_STARTING_WITH) {
       if (methodName.startsWith(method)) {
         return false;
@@ -229,6 +342,18 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
     return true;
   }
 
+  private static Set<String> getMonitoredMethods() {
+    final Set<String> methods = new HashSet<>();
+    for (final Class<?> jdbcInterface : JDBC_INTERFACES) {
+      for (final Method method : jdbcInterface.getMethods()) {
+        if (isMonitoredMethod(method.getName())) {
+          methods.add(method.getName());
+        }
+      }
+    }
+    return Collections.unmodifiableSet(methods);
+  }
+
   private void initMonitorService() {
     if (this.monitorService == null) {
       this.monitorService = this.monitorServiceSupplier.get();
@@ -256,11 +381,18 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
    */
   @Override
   public void releaseResources() {
+    for (final RuntimeProperty<?> property : getFailureDetectionProperties()) {
+      if (property != null) {
+        property.removeListener(this);
+      }
+    }
+
     if (this.monitorService != null) {
       this.monitorService.releaseResources();
     }
 
     this.monitorService = null;
+    this.monitorContext = null;
     this.nextPlugin.releaseResources();
   }
 
@@ -284,6 +416,7 @@ public class NodeMonitoringConnectionPlugin implements IConnectionPlugin {
         this.monitorService.stopMonitoringForAllConnections(this.nodeKeys);
       }
       this.connection = newConnection;
+      this.monitorContext = null;
       generateNodeKeys(this.connection);
     }
   }
@@ -0,0 +1,123 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins;
+
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.log.Log;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link Monitor} that does not own a thread. Each run checks the server once, then the
+ * next check is scheduled on the scheduler shared by all monitors and executed on the thread
+ * pool of the {@link MonitorThreadContainer}. A thread is only busy while a check is in progress.
+ */
+public class ScheduledMonitor extends Monitor {
+
+  private final MonitorThreadContainer threadContainer;
+  private final Log logger;
+
+  /**
+   * Store the monitoring configuration for a connection.
+   *
+   * @param connectionProvider A provider for creating new connections.
+   * @param hostInfo The {@link HostInfo} of the server this {@link Monitor} instance is
+   *                 monitoring.
+   * @param propertySet The {@link PropertySet} containing additional monitoring configuration.
+   * @param monitorDisposalTime Time before stopping the monitoring where there are no active
+   *                            connection to the server this instance is monitoring.
+   * @param monitorService A reference to the {@link IMonitorService} implementation
+   *                       that initialized this class.
+   * @param threadContainer The container providing the scheduler and the thread pool.
+   * @param logger A {@link Log} implementation.
+   */
+  public ScheduledMonitor(
+      IConnectionProvider connectionProvider,
+      HostInfo hostInfo,
+      PropertySet propertySet,
+      long monitorDisposalTime,
+      IMonitorService monitorService,
+      MonitorThreadContainer threadContainer,
+      Log logger) {
+    super(connectionProvider, hostInfo, propertySet, monitorDisposalTime, monitorService, logger);
+    this.threadContainer = threadContainer;
+    this.logger = logger;
+  }
+
+  @Override
+  public void run() {
+    this.stopped.set(false);
+
+    final long delayMillis;
+    try {
+      delayMillis = runStep();
+    } catch (RuntimeException ex) {
+      this.logger.logTrace("[ScheduledMonitor.run]: Unexpected error during the health check", ex);
+      dispose();
+      return;
+    }
+
+    if (delayMillis < 0 || Thread.currentThread().isInterrupted()) {
+      dispose();
+      return;
+    }
+
+    try {
+      trackNextRun(this.threadContainer.getScheduler().schedule(
+          this::submitCheck,
+          delayMillis,
+          TimeUnit.MILLISECONDS));
+    } catch (RejectedExecutionException ex) {
+      // the container has been released
+      dispose();
+    }
+  }
+
+  private void submitCheck() {
+    try {
+      // the scheduled future tracked by run() covers this check until it starts
+      this.threadContainer.getThreadPool().execute(this);
+    } catch (RejectedExecutionException ex) {
+      // the container has been released
+      dispose();
+    }
+  }
+
+  /**
+   * Let the container cancel the pending run when the monitor is released.
+   */
+  private void trackNextRun(Future<?> nextRun) {
+    if (!this.threadContainer.updateTask(this, nextRun)) {
+      // released while this run was in progress
+      nextRun.cancel(true);
+      dispose();
+    }
+  }
+}
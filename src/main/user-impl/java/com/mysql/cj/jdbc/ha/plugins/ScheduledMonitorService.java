@@ -0,0 +1,62 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.log.Log;
+
+/**
+ * A {@link DefaultMonitorService} driving all the node health checks from one shared scheduler
+ * with {@link ScheduledMonitor}, instead of dedicating a sleeping thread to each monitored node.
+ */
+public class ScheduledMonitorService extends DefaultMonitorService {
+
+  public ScheduledMonitorService(Log logger) {
+    this(IExecutorServiceInitializer.daemonCachedThreadPool(), logger);
+  }
+
+  /**
+   * Initialize the service.
+   *
+   * @param executorServiceInitializer Creates the thread pool running the health checks, eg.
+   *     {@link IExecutorServiceInitializer#virtualThreadPerTask()}.
+   * @param logger A {@link Log} implementation.
+   */
+  public ScheduledMonitorService(IExecutorServiceInitializer executorServiceInitializer, Log logger) {
+    super(
+        (hostInfo, propertySet, monitorService) -> new ScheduledMonitor(
+            new BasicConnectionProvider(),
+            hostInfo,
+            propertySet,
+            propertySet.getIntegerProperty(PropertyKey.monitorDisposalTime).getValue(),
+            monitorService,
+            ((DefaultMonitorService) monitorService).threadContainer,
+            logger),
+        executorServiceInitializer,
+        logger);
+  }
+}
@@ -32,9 +32,9 @@ import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.PropertySet;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.ha.plugins.IConnectionProvider;
 import com.mysql.cj.log.Log;
 import com.mysql.cj.log.NullLogger;
-import com.mysql.cj.util.ExpiringCache;
 import com.mysql.cj.util.Util;
 
 import java.sql.ResultSet;
@@ -45,6 +45,7 @@ import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -52,6 +53,9 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -59,6 +63,10 @@ import java.util.function.Supplier;
  * information_schema.replica_host_status table to obtain cluster topology and caches it. Different
  * instances of this service with the same 'clusterId' shares the same topology cache. Cache also
  * includes a list of down hosts. That helps to avoid unnecessary attempts to connect them.
+ *
+ * <p>The cached topology of a cluster is an immutable snapshot. Updates build a new snapshot and
+ * swap it atomically, so reading the topology never takes a lock, and updates of different
+ * clusters never wait for each other.
  */
 public class AuroraTopologyService implements ITopologyService {
 
@@ -80,15 +88,20 @@ public class AuroraTopologyService implements ITopologyService {
   static final String FIELD_LAST_UPDATED = "LAST_UPDATE_TIMESTAMP";
   static final String FIELD_REPLICA_LAG = "REPLICA_LAG_IN_MILLISECONDS";
 
-  public static final ExpiringCache<String, ClusterTopologyInfo> topologyCache =
-      new ExpiringCache<>(DEFAULT_CACHE_EXPIRE_MS);
-  private static final Object cacheLock = new Object();
+  public static final Map<String, ClusterTopologyInfo> topologyCache = new ConcurrentHashMap<>();
+  private static volatile int cacheExpireTimeMs = DEFAULT_CACHE_EXPIRE_MS;
+  private static final AtomicLong topologyVersionSequence = new AtomicLong();
+  // expired topologies are dropped when read, and the ones of clusters no longer used are swept
+  // at most once per expiration time
+  private static final AtomicLong nextCacheSweepTimeMs = new AtomicLong();
 
   protected String clusterId;
   protected HostInfo clusterInstanceTemplate;
 
   protected IClusterAwareMetricsContainer metricsContainer;
 
+  private volatile boolean backgroundRefresh = false;
+
   /** Null logger shared by all connections at startup. */
   protected static final Log NULL_LOGGER = new NullLogger(Log.LOGGER_INSTANCE_NAME);
 
@@ -124,7 +137,8 @@ public class AuroraTopologyService implements ITopologyService {
    * @param expireTimeMs Topology cache expiration time in millis
    */
   public static void setExpireTime(int expireTimeMs) {
-    topologyCache.setExpireTime(expireTimeMs);
+    cacheExpireTimeMs = expireTimeMs;
+    nextCacheSweepTimeMs.set(0);
   }
 
   /**
@@ -135,6 +149,8 @@ public class AuroraTopologyService implements ITopologyService {
    */
   @Override
   public void setClusterId(String clusterId) {
+    // The background refresh belongs to the previous cluster
+    stopBackgroundRefresh();
     this.log.logTrace(Messages.getString(
         "AuroraTopologyService.1",
         new Object[] {clusterId}));
@@ -185,7 +201,7 @@ public class AuroraTopologyService implements ITopologyService {
   @Override
   public List<HostInfo> getTopology(JdbcConnection conn, boolean forceUpdate)
       throws SQLException {
-    ClusterTopologyInfo clusterTopologyInfo = topologyCache.get(this.clusterId);
+    ClusterTopologyInfo clusterTopologyInfo = getCachedTopologyInfo();
 
     if (clusterTopologyInfo == null
         || Util.isNullOrEmpty(clusterTopologyInfo.hosts)
@@ -195,7 +211,7 @@ public class AuroraTopologyService implements ITopologyService {
       ClusterTopologyInfo latestTopologyInfo = queryForTopology(conn);
 
       if (!Util.isNullOrEmpty(latestTopologyInfo.hosts)) {
-        clusterTopologyInfo = updateCache(clusterTopologyInfo, latestTopologyInfo);
+        clusterTopologyInfo = updateCache(latestTopologyInfo);
       } else if (clusterTopologyInfo == null
           || clusterTopologyInfo.hosts == null
           || forceUpdate) {
@@ -206,9 +222,67 @@ public class AuroraTopologyService implements ITopologyService {
     return clusterTopologyInfo.hosts;
   }
 
+  /**
+   * Check whether the cached topology is outdated. When the topology is refreshed in the
+   * background, it's only outdated once the refresher missed a refresh, eg. because it could not
+   * connect to the cluster, so that the calling thread falls back to querying the topology.
+   */
   private boolean refreshNeeded(ClusterTopologyInfo info) {
     Instant lastUpdateTime = info.lastUpdated;
-    return lastUpdateTime == null || Duration.between(lastUpdateTime, Instant.now()).toMillis() > refreshRateInMilliseconds;
+    long maxAgeMs = this.backgroundRefresh
+        ? 2L * Math.max(refreshRateInMilliseconds, ClusterTopologyRefresher.MIN_REFRESH_RATE_MS)
+        : refreshRateInMilliseconds;
+    return lastUpdateTime == null || Duration.between(lastUpdateTime, Instant.now()).toMillis() > maxAgeMs;
+  }
+
+  /**
+   * Query the topology and store it in the cache. Used by the {@link ClusterTopologyRefresher}
+   * of the current cluster.
+   *
+   * @param conn The monitoring connection of the refresher.
+   */
+  void refreshTopology(JdbcConnection conn) throws SQLException {
+    ClusterTopologyInfo latestTopologyInfo = queryForTopology(conn);
+    if (!Util.isNullOrEmpty(latestTopologyInfo.hosts)) {
+      updateCache(latestTopologyInfo);
+    }
+  }
+
+  /**
+   * Get the cached hosts, outdated or not.
+   *
+   * @return the cached hosts, or null if there's no topology in the cache.
+   */
+  List<HostInfo> getCachedHosts() {
+    ClusterTopologyInfo info = getCachedTopologyInfo();
+    return info == null ? null : info.hosts;
+  }
+
+  /**
+   * Start keeping the topology of the current cluster up to date in the background. All the
+   * service instances with the same cluster Id share a single {@link ClusterTopologyRefresher}.
+   *
+   * @param connectionProvider Creates the connection used to query the topology.
+   * @param host The host to query the topology from, eg. the cluster endpoint.
+   * @param connectionProps The connection properties used to connect to the host.
+   */
+  @Override
+  public void startBackgroundRefresh(
+      IConnectionProvider connectionProvider,
+      HostInfo host,
+      Map<String, String> connectionProps) {
+    ClusterTopologyRefresher.register(
+        this, connectionProvider, host, connectionProps, this.refreshRateInMilliseconds, this.log);
+    this.backgroundRefresh = true;
+  }
+
+  /** Stop refreshing the topology in the background for this service instance. */
+  @Override
+  public void stopBackgroundRefresh() {
+    if (this.backgroundRefresh) {
+      this.backgroundRefresh = false;
+      ClusterTopologyRefresher.unregister(this);
+    }
   }
 
   /**
@@ -363,33 +437,84 @@ public class AuroraTopologyService implements ITopologyService {
   }
 
   /**
-   * Store the information for the topology in the cache, creating the information object if it did not previously exist
-   * in the cache.
+   * Get the cached topology snapshot of the current cluster.
+   *
+   * @return The cached {@link ClusterTopologyInfo}, or null if there's none or it has expired.
+   */
+  private ClusterTopologyInfo getCachedTopologyInfo() {
+    ClusterTopologyInfo info = topologyCache.get(this.clusterId);
+    if (info != null && info.isExpired()) {
+      topologyCache.remove(this.clusterId, info);
+      return null;
+    }
+    return info;
+  }
+
+  /**
+   * Store the results of a topology query in the cache. The new snapshot keeps the last used
+   * reader of the previous one, and gets a new topology version.
    *
-   * @param clusterTopologyInfo The cluster topology info that existed in the cache before the topology query. This parameter
-   *                            will be null if no topology info for the cluster has been created in the cache yet.
    * @param latestTopologyInfo The results of the current topology query
    * @return The {@link ClusterTopologyInfo} stored in the cache by this method, representing the most up-to-date
    *         information we have about the topology.
    */
-  private ClusterTopologyInfo updateCache(
-      ClusterTopologyInfo clusterTopologyInfo,
-      ClusterTopologyInfo latestTopologyInfo) {
-    if (clusterTopologyInfo == null) {
-      clusterTopologyInfo = latestTopologyInfo;
-    } else {
-      clusterTopologyInfo.hosts = latestTopologyInfo.hosts;
-      clusterTopologyInfo.downHosts = latestTopologyInfo.downHosts;
-      clusterTopologyInfo.isMultiWriterCluster = latestTopologyInfo.isMultiWriterCluster;
-    }
-    clusterTopologyInfo.lastUpdated = Instant.now();
+  private ClusterTopologyInfo updateCache(ClusterTopologyInfo latestTopologyInfo) {
+    ClusterTopologyInfo clusterTopologyInfo = topologyCache.compute(
+        this.clusterId,
+        (key, current) -> new ClusterTopologyInfo(
+            latestTopologyInfo.hosts,
+            latestTopologyInfo.downHosts,
+            current == null || current.isExpired() ? null : current.lastUsedReader,
+            Instant.now(),
+            latestTopologyInfo.isMultiWriterCluster,
+            topologyVersionSequence.incrementAndGet(),
+            System.currentTimeMillis()));
 
-    synchronized (cacheLock) {
-      topologyCache.put(this.clusterId, clusterTopologyInfo);
-    }
+    sweepExpiredTopologies();
     return clusterTopologyInfo;
   }
 
+  /**
+   * Drop the topology of clusters that are no longer used. The cache is only scanned once per
+   * expiration time, by a single thread.
+   */
+  private static void sweepExpiredTopologies() {
+    final long currentTimeMs = System.currentTimeMillis();
+    final long sweepTimeMs = nextCacheSweepTimeMs.get();
+    if (currentTimeMs < sweepTimeMs
+        || !nextCacheSweepTimeMs.compareAndSet(sweepTimeMs, currentTimeMs + cacheExpireTimeMs)) {
+      return;
+    }
+    topologyCache.values().removeIf(ClusterTopologyInfo::isExpired);
+  }
+
+  /**
+   * Update the cached topology snapshot of the current cluster. Updates of the same cluster are
+   * serialized, while readers keep using the previous snapshot until the new one is stored.
+   *
+   * @param update Builds the new snapshot from the current one, which is null if there's no
+   *     topology in the cache.
+   */
+  private void updateCachedTopologyInfo(Function<ClusterTopologyInfo, ClusterTopologyInfo> update) {
+    topologyCache.compute(
+        this.clusterId,
+        (key, current) -> update.apply(current == null || current.isExpired() ? null : current));
+  }
+
+  /**
+   * Get the version of the cached topology. The version increases every time the topology of any
+   * cluster is refreshed, so comparing versions is a cheap way to find out whether the topology
+   * may have changed.
+   *
+   * @return The topology version, or {@link ITopologyService#NO_TOPOLOGY_VERSION} if there's no
+   *     topology in the cache.
+   */
+  @Override
+  public long getTopologyVersion() {
+    ClusterTopologyInfo info = getCachedTopologyInfo();
+    return info == null ? NO_TOPOLOGY_VERSION : info.version;
+  }
+
   /**
    * Get cached topology.
    *
@@ -398,7 +523,7 @@ public class AuroraTopologyService implements ITopologyService {
    */
   @Override
   public List<HostInfo> getCachedTopology() {
-    ClusterTopologyInfo info = topologyCache.get(this.clusterId);
+    ClusterTopologyInfo info = getCachedTopologyInfo();
     return info == null || refreshNeeded(info) ? null : info.hosts;
   }
 
@@ -410,7 +535,7 @@ public class AuroraTopologyService implements ITopologyService {
    */
   @Override
   public HostInfo getLastUsedReaderHost() {
-    ClusterTopologyInfo info = topologyCache.get(this.clusterId);
+    ClusterTopologyInfo info = getCachedTopologyInfo();
     return info == null || refreshNeeded(info) ? null : info.lastUsedReader;
   }
 
@@ -422,12 +547,7 @@ public class AuroraTopologyService implements ITopologyService {
   @Override
   public void setLastUsedReaderHost(HostInfo reader) {
     if (reader != null) {
-      synchronized (cacheLock) {
-        ClusterTopologyInfo info = topologyCache.get(this.clusterId);
-        if (info != null) {
-          info.lastUsedReader = reader;
-        }
-      }
+      updateCachedTopologyInfo(info -> info == null ? null : info.withLastUsedReader(reader));
     }
   }
 
@@ -446,7 +566,7 @@ public class AuroraTopologyService implements ITopologyService {
         if (resultSet.next()) {
           instanceName = resultSet.getString(GET_INSTANCE_NAME_COL);
         }
-        ClusterTopologyInfo clusterTopologyInfo = topologyCache.get(this.clusterId);
+        ClusterTopologyInfo clusterTopologyInfo = getCachedTopologyInfo();
         return instanceNameToHost(
             instanceName, clusterTopologyInfo == null ? null : clusterTopologyInfo.hosts);
       }
@@ -476,12 +596,10 @@ public class AuroraTopologyService implements ITopologyService {
    */
   @Override
   public Set<String> getDownHosts() {
-    synchronized (cacheLock) {
-      ClusterTopologyInfo clusterTopologyInfo = topologyCache.get(this.clusterId);
-      return clusterTopologyInfo != null && clusterTopologyInfo.downHosts != null
-          ? clusterTopologyInfo.downHosts
-          : new HashSet<>();
-    }
+    ClusterTopologyInfo clusterTopologyInfo = getCachedTopologyInfo();
+    return clusterTopologyInfo != null
+        ? clusterTopologyInfo.downHosts
+        : Collections.emptySet();
   }
 
   /**
@@ -494,21 +612,18 @@ public class AuroraTopologyService implements ITopologyService {
     if (downHost == null) {
       return;
     }
-    synchronized (cacheLock) {
-      ClusterTopologyInfo clusterTopologyInfo = topologyCache.get(this.clusterId);
-      if (clusterTopologyInfo == null) {
-        clusterTopologyInfo = new ClusterTopologyInfo(
+    final String downHostPortPair = downHost.getHostPortPair();
+    updateCachedTopologyInfo(info -> {
+      if (info == null) {
+        return new ClusterTopologyInfo(
             new ArrayList<>(),
-            new HashSet<>(),
+            Collections.singleton(downHostPortPair),
             null,
             Instant.now(),
             false);
-        topologyCache.put(this.clusterId, clusterTopologyInfo);
-      } else if (clusterTopologyInfo.downHosts == null) {
-        clusterTopologyInfo.downHosts = new HashSet<>();
       }
-      clusterTopologyInfo.downHosts.add(downHost.getHostPortPair());
-    }
+      return info.downHosts.contains(downHostPortPair) ? info : info.withDownHost(downHostPortPair, true);
+    });
   }
 
   /**
@@ -521,12 +636,10 @@ public class AuroraTopologyService implements ITopologyService {
     if (host == null) {
       return;
     }
-    synchronized (cacheLock) {
-      ClusterTopologyInfo clusterTopologyInfo = topologyCache.get(this.clusterId);
-      if (clusterTopologyInfo != null && clusterTopologyInfo.downHosts != null) {
-        clusterTopologyInfo.downHosts.remove(host.getHostPortPair());
-      }
-    }
+    final String hostPortPair = host.getHostPortPair();
+    updateCachedTopologyInfo(info -> info == null || !info.downHosts.contains(hostPortPair)
+        ? info
+        : info.withDownHost(hostPortPair, false));
   }
 
   /**
@@ -536,12 +649,8 @@ public class AuroraTopologyService implements ITopologyService {
    */
   @Override
   public boolean isMultiWriterCluster() {
-    synchronized (cacheLock) {
-      ClusterTopologyInfo clusterTopologyInfo = topologyCache.get(this.clusterId);
-      return (clusterTopologyInfo != null
-          && clusterTopologyInfo.downHosts != null
-          && clusterTopologyInfo.isMultiWriterCluster);
-    }
+    ClusterTopologyInfo clusterTopologyInfo = getCachedTopologyInfo();
+    return clusterTopologyInfo != null && clusterTopologyInfo.isMultiWriterCluster;
   }
 
   /**
@@ -553,10 +662,10 @@ public class AuroraTopologyService implements ITopologyService {
   @Override
   public void setRefreshRate(int refreshRate) {
     this.refreshRateInMilliseconds = refreshRate;
-    if (topologyCache.getExpireTime() < this.refreshRateInMilliseconds) {
-      synchronized (cacheLock) {
-        if (topologyCache.getExpireTime() < this.refreshRateInMilliseconds) {
-          topologyCache.setExpireTime(this.refreshRateInMilliseconds);
+    if (cacheExpireTimeMs < this.refreshRateInMilliseconds) {
+      synchronized (AuroraTopologyService.class) {
+        if (cacheExpireTimeMs < this.refreshRateInMilliseconds) {
+          cacheExpireTimeMs = this.refreshRateInMilliseconds;
         }
       }
     }
@@ -565,34 +674,67 @@ public class AuroraTopologyService implements ITopologyService {
   /** Clear topology cache for all clusters. */
   @Override
   public void clearAll() {
-    synchronized (cacheLock) {
-      topologyCache.clear();
-    }
+    topologyCache.clear();
   }
 
   /** Clear topology cache for the current cluster. */
   @Override
   public void clear() {
-    synchronized (cacheLock) {
-      topologyCache.remove(this.clusterId);
-    }
+    topologyCache.remove(this.clusterId);
   }
 
+  /**
+   * An immutable snapshot of the topology of a cluster. Any change creates a new snapshot.
+   */
   private static class ClusterTopologyInfo {
-    public Instant lastUpdated;
-    public Set<String> downHosts;
-    public List<HostInfo> hosts;
-    public HostInfo lastUsedReader;
-    public boolean isMultiWriterCluster;
+    final Instant lastUpdated;
+    final Set<String> downHosts;
+    final List<HostInfo> hosts;
+    final HostInfo lastUsedReader;
+    final boolean isMultiWriterCluster;
+    final long version;
+    // Time the topology was stored in the cache, used to expire it
+    final long cachedTimeMs;
 
     ClusterTopologyInfo(
         List<HostInfo> hosts, Set<String> downHosts, HostInfo lastUsedReader,
         Instant lastUpdated, boolean isMultiWriterCluster) {
-      this.hosts = hosts;
-      this.downHosts = downHosts;
+      this(hosts, downHosts, lastUsedReader, lastUpdated, isMultiWriterCluster,
+          NO_TOPOLOGY_VERSION, System.currentTimeMillis());
+    }
+
+    private ClusterTopologyInfo(
+        List<HostInfo> hosts, Set<String> downHosts, HostInfo lastUsedReader,
+        Instant lastUpdated, boolean isMultiWriterCluster, long version, long cachedTimeMs) {
+      this.hosts = Collections.unmodifiableList(hosts);
+      this.downHosts = Collections.unmodifiableSet(downHosts);
       this.lastUsedReader = lastUsedReader;
       this.lastUpdated = lastUpdated;
       this.isMultiWriterCluster = isMultiWriterCluster;
+      this.version = version;
+      this.cachedTimeMs = cachedTimeMs;
+    }
+
+    ClusterTopologyInfo withLastUsedReader(HostInfo reader) {
+      return new ClusterTopologyInfo(
+          this.hosts, this.downHosts, reader, this.lastUpdated, this.isMultiWriterCluster,
+          this.version, this.cachedTimeMs);
+    }
+
+    ClusterTopologyInfo withDownHost(String hostPortPair, boolean isDown) {
+      final Set<String> newDownHosts = new HashSet<>(this.downHosts);
+      if (isDown) {
+        newDownHosts.add(hostPortPair);
+      } else {
+        newDownHosts.remove(hostPortPair);
+      }
+      return new ClusterTopologyInfo(
+          this.hosts, newDownHosts, this.lastUsedReader, this.lastUpdated,
+          this.isMultiWriterCluster, this.version, this.cachedTimeMs);
+    }
+
+    boolean isExpired() {
+      return System.currentTimeMillis() - this.cachedTimeMs >= cacheExpireTimeMs;
     }
   }
 }
@@ -35,7 +35,8 @@ import com.mysql.cj.log.Log;
  * of executing sql statement to the moment when driver identifies a communication error and starts
  * a failover process (a process to re-connect to another cluster instance). - Writer Failover
  * Procedure Duration of time running writer failover procedure. - Reader Failover Procedure
- * Duration of time running reader failover procedure.
+ * Duration of time running reader failover procedure. - Failover Task Queueing Duration of time a
+ * failover task waits for a thread of the shared failover executor.
  *
  * <p>Performance (hit-miss) metrics: - Successful Failover Reconnects A total number of failover
  * events vs a number of successful ones - Used Last Connected Reader Number of time driver utilises
@@ -57,6 +58,8 @@ public class ClusterAwareMetrics {
       new ClusterAwareTimeMetricsHolder("Writer Failover Procedure");
   private final ClusterAwareTimeMetricsHolder readerFailoverProcedure =
       new ClusterAwareTimeMetricsHolder("Reader Failover Procedure");
+  private final ClusterAwareTimeMetricsHolder failoverTaskQueueing =
+      new ClusterAwareTimeMetricsHolder("Failover Task Queueing");
   private final ClusterAwareHitMissMetricsHolder failoverConnects =
       new ClusterAwareHitMissMetricsHolder("Successful Failover Reconnects");
   private final ClusterAwareHitMissMetricsHolder invalidInitialConnection =
@@ -80,6 +83,10 @@ public class ClusterAwareMetrics {
     this.readerFailoverProcedure.registerQueryExecutionTime(timeMs);
   }
 
+  public void registerFailoverTaskQueueingTime(long timeMs) {
+    this.failoverTaskQueueing.registerQueryExecutionTime(timeMs);
+  }
+
   public void registerFailoverConnects(boolean isHit) {
     this.failoverConnects.register(isHit);
   }
@@ -104,6 +111,7 @@ public class ClusterAwareMetrics {
     this.failureDetection.reportMetrics(log);
     this.writerFailoverProcedure.reportMetrics(log);
     this.readerFailoverProcedure.reportMetrics(log);
+    this.failoverTaskQueueing.reportMetrics(log);
     this.useCachedTopology.reportMetrics(log);
     this.useLastConnectedReader.reportMetrics(log);
     this.invalidInitialConnection.reportMetrics(log);
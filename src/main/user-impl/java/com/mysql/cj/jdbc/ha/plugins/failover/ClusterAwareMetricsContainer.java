@@ -74,6 +74,11 @@ public class ClusterAwareMetricsContainer implements IClusterAwareMetricsContain
         register(metrics -> metrics.registerReaderFailoverProcedureTime(timeMs));
     }
 
+    @Override
+    public void registerFailoverTaskQueueingTime(long timeMs) {
+        register(metrics -> metrics.registerFailoverTaskQueueingTime(timeMs));
+    }
+
     @Override
     public void registerFailoverConnects(boolean isHit) {
         register(metrics -> metrics.registerFailoverConnects(isHit));
@@ -28,6 +28,7 @@ package com.mysql.cj.jdbc.ha.plugins.failover;
 
 import com.mysql.cj.Messages;
 import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyDefinitions.ReaderSelectionStrategy;
 import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.ha.ConnectionUtils;
 import com.mysql.cj.jdbc.ha.plugins.IConnectionProvider;
@@ -42,28 +43,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 /**
  * An implementation of ReaderFailoverHandler.
  *
  * <p>Reader Failover Process goal is to connect to any available reader. In order to connect
- * faster, this implementation tries to connect to two readers at the same time. The first
- * successfully connected reader is returned as the process result. If both readers are unavailable
- * (i.e. could not be connected to), the process picks up another pair of readers and repeat. If no
- * reader has been connected to, the process may consider a writer host, and other hosts marked
- * down, to connect to.
+ * faster, this implementation tries to connect to two readers at the same time, in the order of
+ * the {@link IReaderSelectionStrategy}. The first successfully connected reader is returned as the
+ * process result. If both readers are unavailable (i.e. could not be connected to), the process
+ * picks up another pair of readers and repeat. If no reader has been connected to, the process
+ * may consider a writer host, and other hosts marked down, to connect to.
+ *
+ * <p>Connection attempts run on the {@link FailoverExecutor} shared by all the connections.
  */
 public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler {
   protected static final int DEFAULT_FAILOVER_TIMEOUT = 60000; // 60 sec
   protected static final int DEFAULT_READER_CONNECT_TIMEOUT = 30000; // 30 sec
+  private static final long NO_END_TIME = 0;
 
   /** Null logger shared by all connections at startup. */
   protected static final Log NULL_LOGGER = new NullLogger(Log.LOGGER_INSTANCE_NAME);
@@ -75,6 +74,9 @@ public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler
   protected int timeoutMs;
   protected final IConnectionProvider connProvider;
   protected final ITopologyService topologyService;
+  protected final IReaderSelectionStrategy readerSelectionStrategy;
+  protected final FailoverExecutor failoverExecutor;
+  protected final IClusterAwareMetricsContainer metricsContainer;
 
   /**
    * ClusterAwareReaderFailoverHandler constructor.
@@ -119,6 +121,47 @@ public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler
       int failoverTimeoutMs,
       int timeoutMs,
       Log log) {
+    this(
+        topologyService,
+        connProvider,
+        initialConnectionProps,
+        failoverTimeoutMs,
+        timeoutMs,
+        ReaderSelectionStrategies.create(ReaderSelectionStrategy.RANDOM, 0),
+        FailoverExecutor.getInstance(),
+        null,
+        log);
+  }
+
+  /**
+   * ClusterAwareReaderFailoverHandler constructor.
+   *
+   * @param topologyService An implementation of {@link ITopologyService} that obtains and
+   *                        caches a cluster's topology.
+   * @param connProvider A provider for creating new connections.
+   * @param initialConnectionProps The initial connection properties to copy over to the
+   *                               new reader.
+   * @param failoverTimeoutMs Maximum allowed time in milliseconds to attempt reconnecting
+   *                         to a new reader instance after a cluster failover is initiated.
+   * @param timeoutMs Maximum allowed time for the entire reader failover process.
+   * @param readerSelectionStrategy The order in which the active readers are tried.
+   * @param failoverExecutor The {@link FailoverExecutor} running the connection attempts.
+   * @param metricsContainer The container receiving the failover task queueing times, or null.
+   * @param log An implementation of {@link Log}.
+   */
+  public ClusterAwareReaderFailoverHandler(
+      ITopologyService topologyService,
+      IConnectionProvider connProvider,
+      Map<String, String> initialConnectionProps,
+      int failoverTimeoutMs,
+      int timeoutMs,
+      IReaderSelectionStrategy readerSelectionStrategy,
+      FailoverExecutor failoverExecutor,
+      IClusterAwareMetricsContainer metricsContainer,
+      Log log) {
+    this.readerSelectionStrategy = readerSelectionStrategy;
+    this.failoverExecutor = failoverExecutor;
+    this.metricsContainer = metricsContainer;
     this.topologyService = topologyService;
     this.connProvider = connProvider;
     this.initialConnectionProps = initialConnectionProps;
@@ -160,65 +203,45 @@ public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler
           false);
     }
 
-    ExecutorService executor = Executors.newSingleThreadExecutor();
-    Future<ReaderFailoverResult> future =
-        submitInternalFailoverTask(hosts, currentHost, executor);
-    return getInternalFailoverResult(executor, future);
-  }
-
-  private Future<ReaderFailoverResult> submitInternalFailoverTask(
-      List<HostInfo> hosts,
-      HostInfo currentHost,
-      ExecutorService executor) {
-    Future<ReaderFailoverResult> future = executor.submit(() -> {
-      ReaderFailoverResult result = null;
-      while (result == null || !result.isConnected()) {
-        result = failoverInternal(hosts, currentHost);
-        TimeUnit.SECONDS.sleep(1);
-      }
-      return result;
-    });
-    executor.shutdown();
-    return future;
-  }
-
-  private ReaderFailoverResult getInternalFailoverResult(
-      ExecutorService executor,
-      Future<ReaderFailoverResult> future) throws SQLException {
     ReaderFailoverResult defaultResult = new ReaderFailoverResult(
         null, FailoverConnectionPlugin.NO_CONNECTION_INDEX, false);
+    final long endTimeMs = System.currentTimeMillis() + this.maxFailoverTimeoutMs;
     try {
-      ReaderFailoverResult result =
-          future.get(this.maxFailoverTimeoutMs, TimeUnit.MILLISECONDS);
-      return result == null ? defaultResult : result;
+      while (true) {
+        ReaderFailoverResult result = failoverInternal(hosts, currentHost, endTimeMs);
+        if (result.isConnected()) {
+          return result;
+        }
+
+        long remainingTimeMs = endTimeMs - System.currentTimeMillis();
+        if (remainingTimeMs <= 0) {
+          return defaultResult;
+        }
+        TimeUnit.MILLISECONDS.sleep(Math.min(remainingTimeMs, 1000));
+      }
 
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
       throw new SQLException(
           Messages.getString("ClusterAwareReaderFailoverHandler.1"), "70100", e);
 
-    } catch (ExecutionException e) {
-      return defaultResult;
-
-    } catch (TimeoutException e) {
-      future.cancel(true);
-      return defaultResult;
-
-    } finally {
-      if (!executor.isTerminated()) {
-        executor.shutdownNow(); // terminate all remaining tasks
+    } catch (SQLException e) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw e;
       }
+      return defaultResult;
     }
   }
 
   protected ReaderFailoverResult failoverInternal(
       List<HostInfo> hosts,
-      HostInfo currentHost)
+      HostInfo currentHost,
+      long endTimeMs)
       throws SQLException {
     this.topologyService.addToDownHostList(currentHost);
     Set<String> downHosts = topologyService.getDownHosts();
     List<HostTuple> hostGroup = getHostTuplesByPriority(hosts, downHosts);
-    return getConnectionFromHostGroup(hostGroup);
+    return getConnectionFromHostGroup(hostGroup, endTimeMs);
   }
 
   public List<HostTuple> getHostTuplesByPriority(List<HostInfo> hosts, Set<String> downHosts) {
@@ -245,7 +268,7 @@ public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler
         activeReaders.add(new HostTuple(host, i));
       }
     }
-    Collections.shuffle(activeReaders);
+    this.readerSelectionStrategy.orderReaders(activeReaders);
     list.addAll(activeReaders);
   }
 
@@ -284,7 +307,7 @@ public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler
 
     Set<String> downHosts = topologyService.getDownHosts();
     List<HostTuple> tuples = getReaderTuplesByPriority(hostList, downHosts);
-    return getConnectionFromHostGroup(tuples);
+    return getConnectionFromHostGroup(tuples, NO_END_TIME);
   }
 
   public List<HostTuple> getReaderTuplesByPriority(
@@ -311,21 +334,27 @@ public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler
     list.addAll(downReaders);
   }
 
-  private ReaderFailoverResult getConnectionFromHostGroup(List<HostTuple> hostGroup)
+  private ReaderFailoverResult getConnectionFromHostGroup(
+      List<HostTuple> hostGroup,
+      long endTimeMs)
       throws SQLException {
-    ExecutorService executor = Executors.newFixedThreadPool(2);
-    CompletionService<ReaderFailoverResult> completionService =
-        new ExecutorCompletionService<>(executor);
+    FailoverExecutor.FailoverTaskGroup<ReaderFailoverResult> taskGroup =
+        this.failoverExecutor.createTaskGroup(
+            this.metricsContainer == null ? null : this.metricsContainer::registerFailoverTaskQueueingTime);
 
     try {
       for (int i = 0; i < hostGroup.size(); i += 2) {
         // submit connection attempt tasks in batches of 2
         ReaderFailoverResult result =
-            getResultFromNextTaskBatch(hostGroup, executor, completionService, i);
+            getResultFromNextTaskBatch(hostGroup, taskGroup, i, endTimeMs);
         if (result.isConnected()) {
           return result;
         }
 
+        if (endTimeMs != NO_END_TIME && System.currentTimeMillis() >= endTimeMs) {
+          break;
+        }
+
         try {
           TimeUnit.MILLISECONDS.sleep(1);
         } catch (InterruptedException e) {
@@ -340,25 +369,25 @@ public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler
           FailoverConnectionPlugin.NO_CONNECTION_INDEX,
           false);
     } finally {
-      executor.shutdownNow();
+      taskGroup.cancelAll();
     }
   }
 
   private ReaderFailoverResult getResultFromNextTaskBatch(
       List<HostTuple> hostGroup,
-      ExecutorService executor,
-      CompletionService<ReaderFailoverResult> completionService,
-      int i) throws SQLException {
+      FailoverExecutor.FailoverTaskGroup<ReaderFailoverResult> taskGroup,
+      int i,
+      long endTimeMs) throws SQLException {
     ReaderFailoverResult result;
     int numTasks = i + 1 < hostGroup.size() ? 2 : 1;
-    completionService.submit(new ConnectionAttemptTask(hostGroup.get(i)));
+    taskGroup.submit(new ConnectionAttemptTask(hostGroup.get(i)));
     if (numTasks == 2) {
-      completionService.submit(new ConnectionAttemptTask(hostGroup.get(i + 1)));
+      taskGroup.submit(new ConnectionAttemptTask(hostGroup.get(i + 1)));
     }
     for (int taskNum = 0; taskNum < numTasks; taskNum++) {
-      result = getNextResult(completionService);
+      result = getNextResult(taskGroup, endTimeMs);
       if (result.isConnected()) {
-        executor.shutdownNow();
+        taskGroup.cancelAll();
         this.log.logDebug(
             Messages.getString(
                 "ClusterAwareReaderFailoverHandler.2",
@@ -372,13 +401,19 @@ public class ClusterAwareReaderFailoverHandler implements IReaderFailoverHandler
         false);
   }
 
-  private ReaderFailoverResult getNextResult(CompletionService<ReaderFailoverResult> service)
+  private ReaderFailoverResult getNextResult(
+      FailoverExecutor.FailoverTaskGroup<ReaderFailoverResult> taskGroup,
+      long endTimeMs)
       throws SQLException {
     ReaderFailoverResult defaultResult = new ReaderFailoverResult(
         null, FailoverConnectionPlugin.NO_CONNECTION_INDEX, false);
+    long pollTimeoutMs = this.timeoutMs;
+    if (endTimeMs != NO_END_TIME) {
+      pollTimeoutMs = Math.max(0, Math.min(pollTimeoutMs, endTimeMs - System.currentTimeMillis()));
+    }
     try {
       Future<ReaderFailoverResult> future =
-          service.poll(this.timeoutMs, TimeUnit.MILLISECONDS);
+          taskGroup.poll(pollTimeoutMs, TimeUnit.MILLISECONDS);
       if (future == null) {
         return defaultResult;
       }
@@ -37,16 +37,16 @@ import com.mysql.cj.util.Util;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * An implementation of WriterFailoverHandler.
@@ -55,11 +55,21 @@ import java.util.concurrent.TimeUnit;
  * may be disrupted either by temporary network issue, or due to writer host unavailability during
  * cluster failover. This handler tries both approaches in parallel: 1) try to re-connect to the
  * same writer host, 2) try to update cluster topology and connect to a newly elected writer.
+ *
+ * <p>Both tasks run on the {@link FailoverExecutor} shared by all the connections.
+ *
+ * <p>Unless disabled with {@code coalesceWriterFailover}, only one connection per
+ * cluster runs this process at a time. The other connections of the same cluster failing over
+ * meanwhile wait for its outcome, no longer than the time it has left, and connect directly to the
+ * writer it found, so the cluster is probed once however many connections fail over.
  */
 public class ClusterAwareWriterFailoverHandler implements IWriterFailoverHandler {
 
   static final int WRITER_CONNECTION_INDEX = 0;
 
+  /** The writer failover processes in progress, by cluster id. */
+  static final Map<String, WriterDiscovery> writerDiscoveries = new ConcurrentHashMap<>();
+
   /** Null logger shared by all connections at startup. */
   protected static final Log NULL_LOGGER = new NullLogger(Log.LOGGER_INSTANCE_NAME);
 
@@ -73,6 +83,9 @@ public class ClusterAwareWriterFailoverHandler implements IWriterFailoverHandler
   protected ITopologyService topologyService;
   protected IConnectionProvider connectionProvider;
   protected IReaderFailoverHandler readerFailoverHandler;
+  protected FailoverExecutor failoverExecutor;
+  protected IClusterAwareMetricsContainer metricsContainer;
+  protected boolean coalesceFailovers = true;
 
   /**
    * ClusterAwareWriterFailoverHandler constructor.
@@ -87,6 +100,7 @@ public class ClusterAwareWriterFailoverHandler implements IWriterFailoverHandler
     this.connectionProvider = connectionProvider;
     this.readerFailoverHandler = readerFailoverHandler;
     this.initialConnectionProps = initialConnectionProps;
+    this.failoverExecutor = FailoverExecutor.getInstance();
 
     if (log != null) {
       this.log = log;
@@ -116,6 +130,35 @@ public class ClusterAwareWriterFailoverHandler implements IWriterFailoverHandler
     this.reconnectWriterIntervalMs = reconnectWriterIntervalMs;
   }
 
+  /**
+   * ClusterAwareWriterFailoverHandler constructor.
+   */
+  public ClusterAwareWriterFailoverHandler(
+      ITopologyService topologyService,
+      IConnectionProvider connectionProvider,
+      IReaderFailoverHandler readerFailoverHandler,
+      Map<String, String> initialConnectionProps,
+      int failoverTimeoutMs,
+      int readTopologyIntervalMs,
+      int reconnectWriterIntervalMs,
+      FailoverExecutor failoverExecutor,
+      IClusterAwareMetricsContainer metricsContainer,
+      boolean coalesceFailovers,
+      Log log) {
+    this(
+        topologyService,
+        connectionProvider,
+        readerFailoverHandler,
+        initialConnectionProps,
+        failoverTimeoutMs,
+        readTopologyIntervalMs,
+        reconnectWriterIntervalMs,
+        log);
+    this.failoverExecutor = failoverExecutor;
+    this.metricsContainer = metricsContainer;
+    this.coalesceFailovers = coalesceFailovers;
+  }
+
   /**
    * Called to start Writer Failover Process.
    *
@@ -130,17 +173,105 @@ public class ClusterAwareWriterFailoverHandler implements IWriterFailoverHandler
       return new WriterFailoverResult(false, false, null, null, "None");
     }
 
-    ExecutorService executorService = Executors.newFixedThreadPool(2);
-    CompletionService<WriterFailoverResult> completionService =
-        new ExecutorCompletionService<>(executorService);
-    submitTasks(currentTopology, executorService, completionService);
+    final String clusterId = this.coalesceFailovers ? this.topologyService.getClusterId() : null;
+    if (clusterId == null) {
+      return failoverInternal(currentTopology, this.maxFailoverTimeoutMs);
+    }
+
+    final WriterDiscovery discovery =
+        new WriterDiscovery(System.currentTimeMillis() + this.maxFailoverTimeoutMs);
+    final WriterDiscovery discoveryInProgress = writerDiscoveries.putIfAbsent(clusterId, discovery);
+    if (discoveryInProgress != null) {
+      return joinWriterDiscovery(discoveryInProgress, currentTopology);
+    }
 
+    List<HostInfo> discoveredTopology = Collections.emptyList();
     try {
-      WriterFailoverResult result = getNextResult(executorService, completionService);
+      WriterFailoverResult result = failoverInternal(currentTopology, this.maxFailoverTimeoutMs);
+      if (result.isConnected() && !Util.isNullOrEmpty(result.getTopology())) {
+        discoveredTopology = result.getTopology();
+      }
+      return result;
+    } finally {
+      writerDiscoveries.remove(clusterId, discovery);
+      discovery.topology.complete(discoveredTopology);
+    }
+  }
+
+  /**
+   * Wait for the writer failover process of another connection to the same cluster, and connect
+   * to the writer it found. The process is run by this connection, for the rest of its failover
+   * timeout, if the writer found can't be connected to.
+   */
+  private WriterFailoverResult joinWriterDiscovery(
+      WriterDiscovery discovery,
+      List<HostInfo> currentTopology) throws SQLException {
+    this.log.logDebug(Messages.getString("ClusterAwareWriterFailoverHandler.16"));
+
+    final long startTimeMs = System.currentTimeMillis();
+    final long waitTimeMs = Math.min(this.maxFailoverTimeoutMs, discovery.deadlineMs - startTimeMs);
+    final List<HostInfo> latestTopology;
+    try {
+      latestTopology = discovery.topology.get(Math.max(0, waitTimeMs), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw createInterruptedException(e);
+    } catch (ExecutionException | TimeoutException e) {
+      this.log.logDebug(Messages.getString("ClusterAwareWriterFailoverHandler.3"));
+      return new WriterFailoverResult(false, false, null, null, "None");
+    }
+
+    if (latestTopology.isEmpty()) {
+      this.log.logDebug(Messages.getString("ClusterAwareWriterFailoverHandler.3"));
+      return new WriterFailoverResult(false, false, null, null, "None");
+    }
+
+    final HostInfo writerHost = latestTopology.get(WRITER_CONNECTION_INDEX);
+    try {
+      final JdbcConnection conn = this.connectionProvider.connect(
+          ConnectionUtils.copyWithAdditionalProps(writerHost, this.initialConnectionProps));
+      this.topologyService.removeFromDownHostList(writerHost);
+      final WriterFailoverResult result = new WriterFailoverResult(
+          true,
+          !isSameInstance(writerHost, currentTopology.get(WRITER_CONNECTION_INDEX)),
+          latestTopology,
+          conn,
+          "Shared");
+      logTaskSuccess(result);
+      return result;
+    } catch (SQLException e) {
+      this.log.logDebug(Messages.getString(
+          "ClusterAwareWriterFailoverHandler.17",
+          new Object[] {writerHost.getHostPortPair()}));
+      final long remainingTimeMs =
+          this.maxFailoverTimeoutMs - (System.currentTimeMillis() - startTimeMs);
+      if (remainingTimeMs <= 0) {
+        this.log.logDebug(Messages.getString("ClusterAwareWriterFailoverHandler.3"));
+        return new WriterFailoverResult(false, false, null, null, "None");
+      }
+      return failoverInternal(currentTopology, remainingTimeMs);
+    }
+  }
+
+  private static boolean isSameInstance(HostInfo host, HostInfo otherHost) {
+    final String instanceName = host.getHostProperties().get(TopologyServicePropertyKeys.INSTANCE_NAME);
+    return instanceName != null
+        && instanceName.equals(otherHost.getHostProperties().get(TopologyServicePropertyKeys.INSTANCE_NAME));
+  }
+
+  private WriterFailoverResult failoverInternal(List<HostInfo> currentTopology, long timeoutMs)
+      throws SQLException {
+    FailoverExecutor.FailoverTaskGroup<WriterFailoverResult> taskGroup =
+        this.failoverExecutor.createTaskGroup(
+            this.metricsContainer == null ? null : this.metricsContainer::registerFailoverTaskQueueingTime);
+    submitTasks(currentTopology, taskGroup);
+
+    try {
+      WriterFailoverResult result = getNextResult(taskGroup, timeoutMs);
       if (result.isConnected()) {
         return result;
       }
-      result = getNextResult(executorService, completionService);
+      result = getNextResult(taskGroup, timeoutMs);
       if (result.isConnected()) {
         return result;
       }
@@ -148,40 +279,36 @@ public class ClusterAwareWriterFailoverHandler implements IWriterFailoverHandler
       this.log.logDebug(Messages.getString("ClusterAwareWriterFailoverHandler.3"));
       return new WriterFailoverResult(false, false, null, null, "None");
     } finally {
-      if (!executorService.isTerminated()) {
-        executorService.shutdownNow(); // terminate all remaining tasks
-      }
+      taskGroup.cancelAll(); // terminate all remaining tasks
     }
   }
 
   private void submitTasks(
-      List<HostInfo> currentTopology, ExecutorService executorService,
-      CompletionService<WriterFailoverResult> completionService) {
+      List<HostInfo> currentTopology,
+      FailoverExecutor.FailoverTaskGroup<WriterFailoverResult> taskGroup) {
     HostInfo writerHost = currentTopology.get(WRITER_CONNECTION_INDEX);
     HostInfo writerHostWithInitialProps = ConnectionUtils.copyWithAdditionalProps(
         writerHost,
         this.initialConnectionProps);
     this.topologyService.addToDownHostList(writerHost);
-    completionService.submit(new ReconnectToWriterHandler(writerHostWithInitialProps));
-    completionService.submit(new WaitForNewWriterHandler(
+    taskGroup.submit(new ReconnectToWriterHandler(writerHostWithInitialProps));
+    taskGroup.submit(new WaitForNewWriterHandler(
         currentTopology,
         writerHostWithInitialProps));
-    executorService.shutdown();
   }
 
   private WriterFailoverResult getNextResult(
-      ExecutorService executorService,
-      CompletionService<WriterFailoverResult> completionService) throws SQLException {
+      FailoverExecutor.FailoverTaskGroup<WriterFailoverResult> taskGroup,
+      long timeoutMs) throws SQLException {
     try {
-      Future<WriterFailoverResult> firstCompleted = completionService.poll(
-          this.maxFailoverTimeoutMs, TimeUnit.MILLISECONDS);
+      Future<WriterFailoverResult> firstCompleted = taskGroup.poll(timeoutMs, TimeUnit.MILLISECONDS);
       if (firstCompleted == null) {
         // The task was unsuccessful and we have timed out
         return new WriterFailoverResult(false, false, new ArrayList<>(), null, "None");
       }
       WriterFailoverResult result = firstCompleted.get();
       if (result.isConnected()) {
-        executorService.shutdownNow();
+        taskGroup.cancelAll();
         logTaskSuccess(result);
         return result;
       }
@@ -224,6 +351,19 @@ public class ClusterAwareWriterFailoverHandler implements IWriterFailoverHandler
         e);
   }
 
+  /**
+   * A writer failover process in progress. It completes with the latest topology once connected
+   * to a writer, or with an empty topology if the process failed.
+   */
+  static class WriterDiscovery {
+    final CompletableFuture<List<HostInfo>> topology = new CompletableFuture<>();
+    final long deadlineMs;
+
+    WriterDiscovery(long deadlineMs) {
+      this.deadlineMs = deadlineMs;
+    }
+  }
+
   /** Internal class responsible for re-connecting to the current writer (aka TaskA). */
   private class ReconnectToWriterHandler implements Callable<WriterFailoverResult> {
     private final HostInfo originalWriterHost;
@@ -0,0 +1,225 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins.failover;
+
+import com.mysql.cj.Messages;
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.ha.ConnectionUtils;
+import com.mysql.cj.jdbc.ha.plugins.IConnectionProvider;
+import com.mysql.cj.log.Log;
+import com.mysql.cj.util.Util;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps the topology of a cluster up to date in the background. There is at most one refresher
+ * per cluster Id, shared by all the {@link AuroraTopologyService} instances of that cluster. It
+ * queries the topology over its own monitoring connection at the topology refresh rate and stores
+ * the result in the shared topology cache, so connections can use the cached topology without
+ * querying it themselves.
+ *
+ * <p>The refresher is stopped, and its connection closed, when the last topology service using it
+ * is released.
+ */
+class ClusterTopologyRefresher {
+
+  static final int MIN_REFRESH_RATE_MS = 100;
+
+  private static final Map<String, ClusterTopologyRefresher> refreshers = new ConcurrentHashMap<>();
+
+  private final String clusterId;
+  private final IConnectionProvider connectionProvider;
+  private final HostInfo initialHost;
+  private final Map<String, String> initialConnectionProps;
+  private final Log log;
+  private final Set<AuroraTopologyService> services = new LinkedHashSet<>();
+  private final ScheduledExecutorService executor;
+  private JdbcConnection monitoringConnection;
+
+  private ClusterTopologyRefresher(
+      String clusterId,
+      IConnectionProvider connectionProvider,
+      HostInfo initialHost,
+      Map<String, String> initialConnectionProps,
+      Log log) {
+    this.clusterId = clusterId;
+    this.connectionProvider = connectionProvider;
+    this.initialHost = initialHost;
+    this.initialConnectionProps = initialConnectionProps;
+    this.log = log;
+    this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      final Thread thread = new Thread(runnable, "aws-mysql-jdbc-topology-refresher");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Register a topology service with the refresher of its cluster, starting the refresher if this
+   * is the first service of the cluster.
+   *
+   * @param service The topology service to keep up to date.
+   * @param connectionProvider Creates the monitoring connection.
+   * @param initialHost The host the monitoring connection connects to first, eg. the cluster
+   *                    endpoint.
+   * @param initialConnectionProps The connection properties of the monitoring connection.
+   * @param refreshRateMs The interval between two topology queries.
+   * @param log An implementation of {@link Log}.
+   */
+  static void register(
+      AuroraTopologyService service,
+      IConnectionProvider connectionProvider,
+      HostInfo initialHost,
+      Map<String, String> initialConnectionProps,
+      int refreshRateMs,
+      Log log) {
+    refreshers.compute(service.getClusterId(), (clusterId, refresher) -> {
+      if (refresher == null) {
+        refresher = new ClusterTopologyRefresher(
+            clusterId, connectionProvider, initialHost, initialConnectionProps, log);
+        final long periodMs = Math.max(refreshRateMs, MIN_REFRESH_RATE_MS);
+        refresher.executor.scheduleWithFixedDelay(
+            refresher::refresh, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        log.logDebug(Messages.getString("ClusterTopologyRefresher.1", new Object[] {clusterId}));
+      }
+      synchronized (refresher.services) {
+        refresher.services.add(service);
+      }
+      return refresher;
+    });
+  }
+
+  /**
+   * Unregister a topology service from the refresher of its cluster. The refresher stops once no
+   * service uses it anymore.
+   *
+   * @param service The topology service that no longer needs background refreshes.
+   */
+  static void unregister(AuroraTopologyService service) {
+    refreshers.computeIfPresent(service.getClusterId(), (clusterId, refresher) -> {
+      synchronized (refresher.services) {
+        refresher.services.remove(service);
+        if (!refresher.services.isEmpty()) {
+          return refresher;
+        }
+      }
+      refresher.stop();
+      return null;
+    });
+  }
+
+  private void stop() {
+    // Close the connection on the refresher thread, after any refresh in progress. Queued
+    // tasks still run after shutdown while the periodic refresh is cancelled.
+    this.executor.execute(this::closeMonitoringConnection);
+    this.executor.shutdown();
+    this.log.logDebug(Messages.getString("ClusterTopologyRefresher.2", new Object[] {this.clusterId}));
+  }
+
+  void refresh() {
+    final AuroraTopologyService service;
+    synchronized (this.services) {
+      if (this.services.isEmpty()) {
+        return;
+      }
+      service = this.services.iterator().next();
+    }
+
+    try {
+      final JdbcConnection connection = getMonitoringConnection(service);
+      if (connection != null) {
+        service.refreshTopology(connection);
+      }
+    } catch (SQLException e) {
+      // Reconnect on the next refresh, possibly to another host
+      this.log.logDebug(Messages.getString(
+          "ClusterTopologyRefresher.3",
+          new Object[] {this.clusterId, e.getMessage()}));
+      closeMonitoringConnection();
+    } catch (RuntimeException e) {
+      // Keep refreshing, an exception would cancel the scheduled task
+      this.log.logDebug(Messages.getString(
+          "ClusterTopologyRefresher.3",
+          new Object[] {this.clusterId, e.getMessage()}));
+    }
+  }
+
+  private JdbcConnection getMonitoringConnection(AuroraTopologyService service) throws SQLException {
+    if (this.monitoringConnection != null && !this.monitoringConnection.isClosed()) {
+      return this.monitoringConnection;
+    }
+
+    final List<HostInfo> candidates = new ArrayList<>();
+    candidates.add(this.initialHost);
+    final List<HostInfo> cachedHosts = service.getCachedHosts();
+    if (!Util.isNullOrEmpty(cachedHosts)) {
+      candidates.addAll(cachedHosts);
+    }
+
+    SQLException lastException = null;
+    for (final HostInfo host : candidates) {
+      if (host == null) {
+        continue;
+      }
+      try {
+        this.monitoringConnection = this.connectionProvider.connect(
+            ConnectionUtils.copyWithAdditionalProps(host, this.initialConnectionProps));
+        return this.monitoringConnection;
+      } catch (SQLException e) {
+        lastException = e;
+      }
+    }
+
+    if (lastException != null) {
+      throw lastException;
+    }
+    return null;
+  }
+
+  private void closeMonitoringConnection() {
+    if (this.monitoringConnection == null) {
+      return;
+    }
+
+    try {
+      this.monitoringConnection.close();
+    } catch (SQLException e) {
+      // ignore
+    }
+    this.monitoringConnection = null;
+  }
+}
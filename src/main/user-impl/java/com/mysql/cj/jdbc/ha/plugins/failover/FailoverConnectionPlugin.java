@@ -31,6 +31,7 @@ import com.mysql.cj.NativeSession;
 import com.mysql.cj.conf.ConnectionUrl;
 import com.mysql.cj.conf.ConnectionUrlParser;
 import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyDefinitions.ReaderSelectionStrategy;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.conf.PropertySet;
 import com.mysql.cj.conf.RuntimeProperty;
@@ -55,11 +56,13 @@ import com.mysql.cj.util.Util;
 import java.io.EOFException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -122,14 +125,20 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
   protected boolean isRds = false;
   protected ITopologyService topologyService;
   protected List<HostInfo> hosts = new ArrayList<>();
+  protected long topologyVersion = ITopologyService.NO_TOPOLOGY_VERSION;
+  protected IReaderSelectionStrategy readerSelectionStrategy;
 
   // Configuration settings
   protected boolean enableFailoverSetting = true;
   protected int clusterTopologyRefreshRateMsSetting;
+  protected boolean clusterTopologyBackgroundRefreshSetting;
   protected int failoverTimeoutMsSetting;
   protected int failoverClusterTopologyRefreshRateMsSetting;
   protected int failoverWriterReconnectIntervalMsSetting;
+  protected boolean coalesceWriterFailoverSetting;
   protected int failoverReaderConnectTimeoutMsSetting;
+  protected ReaderSelectionStrategy readerSelectionStrategySetting;
+  protected int readerMaxReplicaLagMsSetting;
   protected String clusterIdSetting;
   protected String clusterInstanceHostPatternSetting;
   protected int failoverConnectTimeoutMs;
@@ -144,6 +153,7 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
 
   private long invokeStartTimeMs;
   private long failoverStartTimeMs;
+  private HostInfo connectedHost;
 
   public FailoverConnectionPlugin(
       ICurrentConnectionProvider currentConnectionProvider,
@@ -187,6 +197,7 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
     this.topologyService = topologyServiceSupplier.get();
     topologyService.setRefreshRate(this.clusterTopologyRefreshRateMsSetting);
 
+    final FailoverExecutor failoverExecutor = FailoverExecutor.getInstance(this.propertySet);
     this.readerFailoverHandler =
         new ClusterAwareReaderFailoverHandler(
             this.topologyService,
@@ -194,6 +205,9 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
             this.initialConnectionProps,
             this.failoverTimeoutMsSetting,
             this.failoverReaderConnectTimeoutMsSetting,
+            this.readerSelectionStrategy,
+            failoverExecutor,
+            this.metricsContainer,
             this.logger);
     this.writerFailoverHandler =
         new ClusterAwareWriterFailoverHandler(
@@ -204,6 +218,9 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
             this.failoverTimeoutMsSetting,
             this.failoverClusterTopologyRefreshRateMsSetting,
             this.failoverWriterReconnectIntervalMsSetting,
+            failoverExecutor,
+            this.metricsContainer,
+            this.coalesceWriterFailoverSetting,
             this.logger);
 
     initProxy();
@@ -252,6 +269,19 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
     return result;
   }
 
+  /**
+   * The plugin intercepts every JDBC method when failover is enabled, and none otherwise.
+   * {@link PropertyKey#enableClusterAwareFailover} is only read when the plugin is created.
+   *
+   * @return the names of the subscribed methods.
+   */
+  @Override
+  public Set<String> getSubscribedMethods() {
+    return this.enableFailoverSetting
+        ? Collections.singleton(ALL_METHODS)
+        : Collections.emptySet();
+  }
+
   @Override
   public void transactionBegun() {
     this.inTransaction = true;
@@ -266,6 +296,10 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
 
   @Override
   public void releaseResources() {
+    if (this.topologyService != null) {
+      this.topologyService.stopBackgroundRefresh();
+    }
+    trackConnectedHost(null);
     this.nextPlugin.releaseResources();
   }
 
@@ -303,6 +337,8 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
       propertySet
         .getIntegerProperty(PropertyKey.clusterTopologyRefreshRateMs)
         .getValue();
+    this.clusterTopologyBackgroundRefreshSetting =
+      propertySet.getBooleanProperty(PropertyKey.clusterTopologyBackgroundRefresh).getValue();
     this.failoverTimeoutMsSetting =
       propertySet.getIntegerProperty(PropertyKey.failoverTimeoutMs).getValue();
     this.failoverClusterTopologyRefreshRateMsSetting =
@@ -313,10 +349,20 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
       propertySet
         .getIntegerProperty(PropertyKey.failoverWriterReconnectIntervalMs)
         .getValue();
+    this.coalesceWriterFailoverSetting =
+      propertySet.getBooleanProperty(PropertyKey.coalesceWriterFailover).getValue();
     this.failoverReaderConnectTimeoutMsSetting =
       propertySet
         .getIntegerProperty(PropertyKey.failoverReaderConnectTimeoutMs)
         .getValue();
+    this.readerSelectionStrategySetting =
+      propertySet
+        .<ReaderSelectionStrategy>getEnumProperty(PropertyKey.readerSelectionStrategy)
+        .getValue();
+    this.readerMaxReplicaLagMsSetting =
+      propertySet.getIntegerProperty(PropertyKey.readerMaxReplicaLagMs).getValue();
+    this.readerSelectionStrategy =
+      ReaderSelectionStrategies.create(this.readerSelectionStrategySetting, this.readerMaxReplicaLagMsSetting);
     this.clusterIdSetting =
       propertySet.getStringProperty(PropertyKey.clusterId).getValue();
     this.clusterInstanceHostPatternSetting =
@@ -348,6 +394,7 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
       pickNewConnection();
       return;
     }
+    trackConnectedHost(this.hosts.get(this.currentHostIndex));
 
     if (validWriterConnection()) {
       metricsContainer.registerInvalidInitialConnection(false);
@@ -411,16 +458,19 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
     metricsContainer.registerUseLastConnectedReader(false);
 
     if (clusterContainsReader()) {
-      return getRandomReaderIndex();
+      return getPreferredReaderIndex();
     } else {
       return NO_CONNECTION_INDEX;
     }
   }
 
-  private int getRandomReaderIndex() {
-    int max = this.hosts.size() - 1;
-    int min = WRITER_CONNECTION_INDEX + 1;
-    return (int) (Math.random() * ((max - min) + 1)) + min;
+  private int getPreferredReaderIndex() {
+    List<ClusterAwareReaderFailoverHandler.HostTuple> readers = new ArrayList<>(this.hosts.size() - 1);
+    for (int i = WRITER_CONNECTION_INDEX + 1; i < this.hosts.size(); i++) {
+      readers.add(new ClusterAwareReaderFailoverHandler.HostTuple(this.hosts.get(i), i));
+    }
+    this.readerSelectionStrategy.orderReaders(readers);
+    return readers.get(0).getIndex();
   }
 
   protected void initializeTopology() throws SQLException {
@@ -447,6 +497,13 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
           .getIntegerProperty(PropertyKey.socketTimeout)
           .setValue(this.failoverSocketTimeoutMs);
       ((NativeSession) currentConnection.getSession()).setSocketTimeout(this.failoverSocketTimeoutMs);
+
+      if (this.clusterTopologyBackgroundRefreshSetting) {
+        this.topologyService.startBackgroundRefresh(
+            this.connectionProvider,
+            this.currentConnectionProvider.getCurrentHostInfo(),
+            this.initialConnectionProps);
+      }
     }
   }
 
@@ -585,6 +642,7 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
     } catch (SQLException e) {
       // swallow this exception, current connection should be useless anyway.
     }
+    trackConnectedHost(null);
   }
 
   protected synchronized void pickNewConnection() throws SQLException {
@@ -695,9 +753,18 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
 
     List<HostInfo> latestTopology =
         this.topologyService.getTopology(connection, forceUpdate);
+    long latestTopologyVersion = this.topologyService.getTopologyVersion();
+
+    if (latestTopology == this.hosts
+        && latestTopologyVersion != ITopologyService.NO_TOPOLOGY_VERSION
+        && latestTopologyVersion == this.topologyVersion) {
+      // The cached topology snapshot hasn't changed since the last call
+      return;
+    }
 
     updateHostIndex(latestTopology);
     this.hosts = latestTopology;
+    this.topologyVersion = latestTopologyVersion;
   }
 
   boolean isCurrentConnectionReadOnly() {
@@ -1168,19 +1235,26 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
   }
 
   private void setClusterId(String host, int port) {
+    String clusterId = null;
     if (!StringUtils.isNullOrEmpty(this.clusterIdSetting)) {
-      this.topologyService.setClusterId(this.clusterIdSetting);
+      clusterId = this.clusterIdSetting;
     } else if (this.isRdsProxy) {
       // Each proxy is associated with a single cluster so it's safe to use RDS Proxy Url as cluster identification
-      this.topologyService.setClusterId(host + ":" + port);
+      clusterId = host + ":" + port;
     } else if (this.isRds) {
       // If it's a cluster endpoint, or a reader cluster endpoint, then let's use it as the cluster ID
       String clusterRdsHostUrl = getRdsClusterHostUrl(host);
       if (!StringUtils.isNullOrEmpty(clusterRdsHostUrl)) {
-        this.topologyService.setClusterId(clusterRdsHostUrl + ":" + port);
+        clusterId = clusterRdsHostUrl + ":" + port;
       }
     }
 
+    if (clusterId != null) {
+      this.topologyService.setClusterId(clusterId);
+      // Connections to cluster instances share the cached server configuration of the cluster
+      this.initialConnectionProps.put(PropertyKey.clusterId.getKeyName(), clusterId);
+    }
+
     metricsContainer.setClusterId(this.topologyService.getClusterId());
   }
 
@@ -1238,6 +1312,21 @@ public class FailoverConnectionPlugin implements IConnectionPlugin {
     this.currentConnectionProvider.setCurrentConnection(
         connection,
         hostInfo);
+    trackConnectedHost(hostInfo);
+  }
+
+  /**
+   * Keep the number of connections per host up to date for the least connections reader
+   * selection strategy.
+   */
+  private void trackConnectedHost(HostInfo host) {
+    if (this.connectedHost != null) {
+      ReaderSelectionStrategies.connectionClosed(this.connectedHost);
+    }
+    this.connectedHost = host;
+    if (host != null) {
+      ReaderSelectionStrategies.connectionOpened(host);
+    }
   }
 
   private void updateHostIndex(List<HostInfo> latestTopology) throws SQLException {
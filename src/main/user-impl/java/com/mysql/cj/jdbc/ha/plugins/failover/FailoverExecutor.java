@@ -0,0 +1,243 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins.failover;
+
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.conf.PropertySet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+/**
+ * A bounded thread pool shared by the failover processes of all the connections, so that a cluster
+ * failover doesn't create new threads for every connection failing over.
+ *
+ * <p>Tasks wait in a bounded queue when all the threads are busy, and are rejected once the queue
+ * is full. A rejected task fails, as if its connection attempt had failed. A task submitted by
+ * another failover task, eg. the reader connection attempts of the writer failover, runs on a
+ * separate pool of the same size that has no queue, so failover tasks never wait for each other:
+ * a nested task fails right away when all the threads of that pool are busy.
+ *
+ * <p>The pool is created by the first connection with failover enabled, so only the settings of
+ * that connection are used.
+ */
+public class FailoverExecutor {
+
+  static final int DEFAULT_MAX_THREADS = 64;
+  static final int DEFAULT_QUEUE_SIZE = 1024;
+  static final long KEEP_ALIVE_TIME_MS = 60000;
+
+  private static final ThreadLocal<Boolean> runningFailoverTask = ThreadLocal.withInitial(() -> false);
+  private static FailoverExecutor instance;
+
+  private final ThreadPoolExecutor executor;
+  private final ThreadPoolExecutor nestedTaskExecutor;
+
+  FailoverExecutor(int maxThreads, int queueSize, boolean useVirtualThreads) {
+    this.executor = new ThreadPoolExecutor(
+        maxThreads,
+        maxThreads,
+        KEEP_ALIVE_TIME_MS,
+        TimeUnit.MILLISECONDS,
+        queueSize > 0 ? new LinkedBlockingQueue<>(queueSize) : new SynchronousQueue<>(),
+        threadFactory(useVirtualThreads, "aws-mysql-jdbc-failover-"));
+    this.executor.allowCoreThreadTimeOut(true);
+
+    // the executor hands a nested task over to an idle thread, or starts a new one, or rejects
+    // it, in a single step
+    this.nestedTaskExecutor = new ThreadPoolExecutor(
+        0,
+        maxThreads,
+        KEEP_ALIVE_TIME_MS,
+        TimeUnit.MILLISECONDS,
+        new SynchronousQueue<>(),
+        threadFactory(useVirtualThreads, "aws-mysql-jdbc-failover-nested-"));
+  }
+
+  /**
+   * Get the failover executor shared by all connections, creating it with the settings of the
+   * given connection if it doesn't exist yet.
+   *
+   * @param propertySet The configuration of the connection.
+   * @return the shared {@link FailoverExecutor}.
+   */
+  public static synchronized FailoverExecutor getInstance(PropertySet propertySet) {
+    if (instance == null) {
+      instance = new FailoverExecutor(
+          propertySet.getIntegerProperty(PropertyKey.failoverExecutorMaxThreads).getValue(),
+          propertySet.getIntegerProperty(PropertyKey.failoverExecutorQueueSize).getValue(),
+          propertySet.getBooleanProperty(PropertyKey.failoverExecutorUseVirtualThreads).getValue());
+    }
+    return instance;
+  }
+
+  /**
+   * Get the failover executor shared by all connections, creating it with the default settings if
+   * it doesn't exist yet.
+   *
+   * @return the shared {@link FailoverExecutor}.
+   */
+  public static synchronized FailoverExecutor getInstance() {
+    if (instance == null) {
+      instance = new FailoverExecutor(DEFAULT_MAX_THREADS, DEFAULT_QUEUE_SIZE, false);
+    }
+    return instance;
+  }
+
+  /**
+   * Create a group of tasks for a single failover process.
+   *
+   * @param queueingTimeListener Receives the time in millis each task waited for a thread, or
+   *                             null.
+   * @param <T> The result type of the tasks.
+   * @return a new {@link FailoverTaskGroup}.
+   */
+  <T> FailoverTaskGroup<T> createTaskGroup(LongConsumer queueingTimeListener) {
+    return new FailoverTaskGroup<>(queueingTimeListener);
+  }
+
+  private static ThreadFactory threadFactory(boolean useVirtualThreads, String namePrefix) {
+    return useVirtualThreads ? virtualThreadFactory(namePrefix) : daemonThreadFactory(namePrefix);
+  }
+
+  private static ThreadFactory daemonThreadFactory(String namePrefix) {
+    final AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> {
+      final Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  private static ThreadFactory virtualThreadFactory(String fallbackNamePrefix) {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder")
+          .getMethod("factory")
+          .invoke(builder);
+    } catch (ReflectiveOperationException | RuntimeException ex) {
+      // virtual threads are not available in this JVM
+      return daemonThreadFactory(fallbackNamePrefix);
+    }
+  }
+
+  /**
+   * The tasks of a single failover process. The results are returned in completion order, and
+   * the remaining tasks are cancelled at the end of the process.
+   *
+   * @param <T> The result type of the tasks.
+   */
+  class FailoverTaskGroup<T> {
+    private final LongConsumer queueingTimeListener;
+    private final BlockingQueue<Future<T>> completedTasks = new LinkedBlockingQueue<>();
+    private final List<Future<T>> tasks = new ArrayList<>();
+
+    private FailoverTaskGroup(LongConsumer queueingTimeListener) {
+      this.queueingTimeListener = queueingTimeListener;
+    }
+
+    /**
+     * Submit a task. The task fails with a {@link RejectedExecutionException} if the executor is
+     * saturated. A task submitted by another failover task fails when no thread of the nested task
+     * pool is available.
+     *
+     * @param task The task to run.
+     */
+    void submit(Callable<T> task) {
+      final long submitTimeMs = System.currentTimeMillis();
+      final GroupTask groupTask = new GroupTask(() -> {
+        if (this.queueingTimeListener != null) {
+          this.queueingTimeListener.accept(System.currentTimeMillis() - submitTimeMs);
+        }
+        final boolean nested = runningFailoverTask.get();
+        runningFailoverTask.set(true);
+        try {
+          return task.call();
+        } finally {
+          runningFailoverTask.set(nested);
+        }
+      });
+      this.tasks.add(groupTask);
+
+      try {
+        if (runningFailoverTask.get()) {
+          nestedTaskExecutor.execute(groupTask);
+        } else {
+          executor.execute(groupTask);
+        }
+      } catch (RejectedExecutionException e) {
+        groupTask.reject(e);
+      }
+    }
+
+    /**
+     * Get the next completed task, waiting up to the given time if none is completed yet.
+     *
+     * @param timeout How long to wait.
+     * @param unit The unit of the timeout.
+     * @return the completed task, or null if the time elapsed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    Future<T> poll(long timeout, TimeUnit unit) throws InterruptedException {
+      return this.completedTasks.poll(timeout, unit);
+    }
+
+    /** Cancel all the tasks that are still waiting or running. */
+    void cancelAll() {
+      for (final Future<T> task : this.tasks) {
+        task.cancel(true);
+      }
+    }
+
+    private class GroupTask extends FutureTask<T> {
+      GroupTask(Callable<T> callable) {
+        super(callable);
+      }
+
+      void reject(RejectedExecutionException e) {
+        setException(e);
+      }
+
+      @Override
+      protected void done() {
+        completedTasks.add(this);
+      }
+    }
+  }
+}
@@ -32,6 +32,7 @@ public interface IClusterAwareMetricsContainer {
     void registerFailureDetectionTime(long timeMs);
     void registerWriterFailoverProcedureTime(long timeMs);
     void registerReaderFailoverProcedureTime(long timeMs);
+    void registerFailoverTaskQueueingTime(long timeMs);
     void registerFailoverConnects(boolean isHit);
     void registerInvalidInitialConnection(boolean isHit);
     void registerUseLastConnectedReader(boolean isHit);
@@ -28,9 +28,11 @@ package com.mysql.cj.jdbc.ha.plugins.failover;
 
 import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.ha.plugins.IConnectionProvider;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -42,6 +44,8 @@ import java.util.Set;
  */
 public interface ITopologyService {
 
+  long NO_TOPOLOGY_VERSION = 0;
+
   /**
    * Set unique cluster identifier for topology service instance.
    *
@@ -83,6 +87,16 @@ public interface ITopologyService {
   List<HostInfo> getTopology(JdbcConnection conn, boolean forceUpdate)
       throws SQLException;
 
+  /**
+   * Get the version of the cached topology. A different version than the one seen previously
+   * means that the topology may have changed.
+   *
+   * @return The topology version, or {@link #NO_TOPOLOGY_VERSION} if it's not available.
+   */
+  default long getTopologyVersion() {
+    return NO_TOPOLOGY_VERSION;
+  }
+
   /**
    * Get cached topology.
    *
@@ -150,6 +164,25 @@ public interface ITopologyService {
    */
   void setRefreshRate(int refreshRate);
 
+  /**
+   * Keep the topology of the current cluster up to date in the background, so that {@link
+   * #getTopology(JdbcConnection, boolean)} can return the cached topology without querying it.
+   * Topology services that do not support background refreshes ignore this call.
+   *
+   * @param connectionProvider Creates the connection used to query the topology.
+   * @param host The host to query the topology from, eg. the cluster endpoint.
+   * @param connectionProps The connection properties used to connect to the host.
+   */
+  default void startBackgroundRefresh(
+      IConnectionProvider connectionProvider,
+      HostInfo host,
+      Map<String, String> connectionProps) {
+  }
+
+  /** Stop refreshing the topology in the background for this topology service instance. */
+  default void stopBackgroundRefresh() {
+  }
+
   /** Clear topology service for all clusters. */
   void clearAll();
 
@@ -0,0 +1,196 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins.failover;
+
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyDefinitions.ReaderSelectionStrategy;
+import com.mysql.cj.jdbc.ha.plugins.failover.ClusterAwareReaderFailoverHandler.HostTuple;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link IReaderSelectionStrategy} implementations matching the values of the
+ * 'readerSelectionStrategy' setting.
+ *
+ * <p>Except for {@link ReaderSelectionStrategy#RANDOM}, readers with a replica lag above the
+ * maximum acceptable lag are placed last, from the least to the most lagging, so they are only
+ * used when no other reader is available. The replica lag is read from the topology. Readers
+ * without a known lag are never placed last for lagging and the weighted strategy weighs them as
+ * up-to-date, but the lowest lag strategy orders them after the readers with a known lag.
+ */
+public class ReaderSelectionStrategies {
+
+  /** Replica lag halving the chance of a reader to be chosen by the weighted strategy. */
+  static final double WEIGHT_HALVING_LAG_MS = 1000;
+
+  private static final double UNKNOWN_LAG = -1;
+  private static final Map<String, AtomicInteger> openConnections = new ConcurrentHashMap<>();
+
+  private ReaderSelectionStrategies() {
+  }
+
+  /**
+   * Create the strategy for the given setting.
+   *
+   * @param strategy The value of the 'readerSelectionStrategy' setting.
+   * @param maxReplicaLagMs The maximum acceptable replica lag, or 0 to accept any lag.
+   * @return the {@link IReaderSelectionStrategy}.
+   */
+  public static IReaderSelectionStrategy create(ReaderSelectionStrategy strategy, int maxReplicaLagMs) {
+    switch (strategy) {
+      case LOWEST_LAG:
+        return new LagBoundedStrategy(maxReplicaLagMs) {
+          @Override
+          protected void orderAcceptedReaders(List<HostTuple> readers) {
+            Collections.shuffle(readers);
+            readers.sort(BY_LAG);
+          }
+        };
+      case LAG_BOUNDED_RANDOM:
+        return new LagBoundedStrategy(maxReplicaLagMs) {
+          @Override
+          protected void orderAcceptedReaders(List<HostTuple> readers) {
+            Collections.shuffle(readers);
+          }
+        };
+      case LEAST_CONNECTIONS:
+        return new LagBoundedStrategy(maxReplicaLagMs) {
+          @Override
+          protected void orderAcceptedReaders(List<HostTuple> readers) {
+            Collections.shuffle(readers);
+            readers.sort(Comparator.comparingInt(reader -> getOpenConnections(reader.getHost())));
+          }
+        };
+      case WEIGHTED:
+        return new LagBoundedStrategy(maxReplicaLagMs) {
+          @Override
+          protected void orderAcceptedReaders(List<HostTuple> readers) {
+            orderByWeightedRandom(readers);
+          }
+        };
+      case RANDOM:
+      default:
+        return Collections::shuffle;
+    }
+  }
+
+  /**
+   * Register a connection opened to the given host, for the least connections strategy.
+   *
+   * @param host The host connected to.
+   */
+  static void connectionOpened(HostInfo host) {
+    openConnections.computeIfAbsent(host.getHostPortPair(), key -> new AtomicInteger()).incrementAndGet();
+  }
+
+  /**
+   * Register a connection to the given host being closed or replaced.
+   *
+   * @param host The host of the connection.
+   */
+  static void connectionClosed(HostInfo host) {
+    openConnections.computeIfPresent(
+        host.getHostPortPair(),
+        (key, count) -> count.decrementAndGet() <= 0 ? null : count);
+  }
+
+  static int getOpenConnections(HostInfo host) {
+    final AtomicInteger count = openConnections.get(host.getHostPortPair());
+    return count == null ? 0 : count.get();
+  }
+
+  static double getReplicaLag(HostInfo host) {
+    final String lag = host.getHostProperties().get(TopologyServicePropertyKeys.REPLICA_LAG);
+    if (lag == null) {
+      return UNKNOWN_LAG;
+    }
+    try {
+      return Double.parseDouble(lag);
+    } catch (NumberFormatException e) {
+      return UNKNOWN_LAG;
+    }
+  }
+
+  /**
+   * Weighted random ordering without replacement: each reader gets the key u^(1/weight) for a
+   * random u in [0, 1), and readers are sorted by decreasing key.
+   */
+  private static void orderByWeightedRandom(List<HostTuple> readers) {
+    final ThreadLocalRandom random = ThreadLocalRandom.current();
+    final Map<HostTuple, Double> keys = new HashMap<>();
+    for (final HostTuple reader : readers) {
+      final double lag = Math.max(0, getReplicaLag(reader.getHost()));
+      final double weight = WEIGHT_HALVING_LAG_MS / (WEIGHT_HALVING_LAG_MS + lag);
+      keys.put(reader, Math.pow(random.nextDouble(), 1 / weight));
+    }
+    readers.sort(Comparator.comparingDouble((HostTuple reader) -> keys.get(reader)).reversed());
+  }
+
+  private abstract static class LagBoundedStrategy implements IReaderSelectionStrategy {
+    /** Orders readers by increasing replica lag, readers without a known lag last. */
+    protected static final Comparator<HostTuple> BY_LAG = Comparator.comparingDouble(reader -> {
+      final double lag = getReplicaLag(reader.getHost());
+      return lag == UNKNOWN_LAG ? Double.MAX_VALUE : lag;
+    });
+
+    private final int maxReplicaLagMs;
+
+    LagBoundedStrategy(int maxReplicaLagMs) {
+      this.maxReplicaLagMs = maxReplicaLagMs;
+    }
+
+    @Override
+    public void orderReaders(List<HostTuple> readers) {
+      final List<HostTuple> acceptedReaders = new ArrayList<>(readers.size());
+      final List<HostTuple> laggingReaders = new ArrayList<>();
+      for (final HostTuple reader : readers) {
+        if (this.maxReplicaLagMs > 0 && getReplicaLag(reader.getHost()) > this.maxReplicaLagMs) {
+          laggingReaders.add(reader);
+        } else {
+          acceptedReaders.add(reader);
+        }
+      }
+
+      orderAcceptedReaders(acceptedReaders);
+      laggingReaders.sort(BY_LAG);
+
+      readers.clear();
+      readers.addAll(acceptedReaders);
+      readers.addAll(laggingReaders);
+    }
+
+    protected abstract void orderAcceptedReaders(List<HostTuple> readers);
+  }
+}
@@ -110,6 +110,7 @@ import com.mysql.cj.result.LocalTimeValueFactory;
 import com.mysql.cj.result.LongValueFactory;
 import com.mysql.cj.result.OffsetDateTimeValueFactory;
 import com.mysql.cj.result.OffsetTimeValueFactory;
+import com.mysql.cj.result.Row;
 import com.mysql.cj.result.ShortValueFactory;
 import com.mysql.cj.result.SqlDateValueFactory;
 import com.mysql.cj.result.SqlTimeValueFactory;
@@ -704,6 +705,13 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public boolean getBoolean(int columnIndex) throws SQLException {
+        synchronized (checkClosed().getConnectionMutex()) {
+            if (getPrimitiveIntegerBits(columnIndex) <= Long.SIZE) {
+                long l = this.thisRow.getLong(columnIndex - 1);
+                // same as BooleanValueFactory
+                return l == -1 || l > 0;
+            }
+        }
         Boolean res = getObject(columnIndex, Boolean.TYPE);
         return res == null ? false : res;
     }
@@ -805,6 +813,14 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public double getDouble(int columnIndex) throws SQLException {
+        synchronized (checkClosed().getConnectionMutex()) {
+            if (getPrimitiveIntegerBits(columnIndex) <= Long.SIZE) {
+                return this.thisRow.getLong(columnIndex - 1);
+            }
+            if (isPrimitiveFloatingPoint(columnIndex)) {
+                return this.thisRow.getDouble(columnIndex - 1);
+            }
+        }
         Double res = getObject(columnIndex, Double.TYPE);
         return res == null ? (double) 0 : res;
     }
@@ -827,6 +843,11 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public int getInt(int columnIndex) throws SQLException {
+        synchronized (checkClosed().getConnectionMutex()) {
+            if (getPrimitiveIntegerBits(columnIndex) <= Integer.SIZE) {
+                return (int) this.thisRow.getLong(columnIndex - 1);
+            }
+        }
         Integer res = getObject(columnIndex, Integer.TYPE);
         return res == null ? 0 : res;
     }
@@ -853,10 +874,69 @@ public class ResultSetImpl extends NativeResultset implements ResultSetInternalM
 
     @Override
     public long getLong(int columnIndex) throws SQLException {
+        synchronized (checkClosed().getConnectionMutex()) {
+            if (getPrimitiveIntegerBits(columnIndex) <= Long.SIZE) {
+                return this.thisRow.getLong(columnIndex - 1);
+            }
+        }
         Long res = getObject(columnIndex, Long.TYPE);
         return res == null ? 0L : res;
     }
 
+    /**
+     * Checks the row position and the column index, then tells whether the given column holds integers which can be read from the current row with
+     * {@link Row#getLong(int)}, without boxing and value factories.
+     * 
+     * @param columnIndex
+     *            the first column is 1, the second is 2,...
+     * @return the number of bits of a signed integer able to hold every value of the column, or {@link Integer#MAX_VALUE} if the column must be read
+     *         with a value factory
+     * @throws SQLException
+     *             if the row position or the column index is not valid
+     */
+    private int getPrimitiveIntegerBits(int columnIndex) throws SQLException {
+        checkRowPos();
+        checkColumnBounds(columnIndex);
+
+        if (this.thisRow.supportsPrimitiveGetters()) {
+            Field f = this.columnDefinition.getFields()[columnIndex - 1];
+            switch (f.getMysqlTypeId()) {
+                case MysqlType.FIELD_TYPE_TINY:
+                    return f.isUnsigned() ? 9 : 8;
+                case MysqlType.FIELD_TYPE_SHORT:
+                    return f.isUnsigned() ? 17 : 16;
+                case MysqlType.FIELD_TYPE_INT24:
+                    return f.isUnsigned() ? 25 : 24;
+                case MysqlType.FIELD_TYPE_LONG:
+                    return f.isUnsigned() ? 33 : 32;
+                case MysqlType.FIELD_TYPE_LONGLONG:
+                    return f.isUnsigned() ? Integer.MAX_VALUE : 64;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Tells whether the given column holds FLOAT, DOUBLE or DECIMAL values which can be read from the current row with {@link Row#getDouble(int)}. Must be
+     * called after {@link #getPrimitiveIntegerBits(int)}, which checks the row position and the column index.
+     * 
+     * @param columnIndex
+     *            the first column is 1, the second is 2,...
+     * @return true if the column can be read without a value factory
+     */
+    private boolean isPrimitiveFloatingPoint(int columnIndex) {
+        if (this.thisRow.supportsPrimitiveGetters()) {
+            switch (this.columnDefinition.getFields()[columnIndex - 1].getMysqlTypeId()) {
+                case MysqlType.FIELD_TYPE_FLOAT:
+                case MysqlType.FIELD_TYPE_DOUBLE:
+                case MysqlType.FIELD_TYPE_DECIMAL:
+                case MysqlType.FIELD_TYPE_NEWDECIMAL:
+                    return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public long getLong(String columnName) throws SQLException {
         return getLong(findColumn(columnName));
@@ -0,0 +1,126 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LoadDataRowsInputStream}.
+ */
+public class LoadDataRowsInputStreamTest {
+
+    private static String readAll(InputStream in, int chunkSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[chunkSize];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            assertTrue(n > 0 && n <= chunkSize);
+            out.write(buf, 0, n);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testEncoding() throws Exception {
+        List<Object[]> rows = Arrays.asList(new Object[] { 1, "plain", null }, new Object[] { -42L, "tab\tnew\nline\rback\\slash\0", true },
+                new Object[] { Long.MIN_VALUE, "café \\N 😀", new BigDecimal("1E+3") },
+                new Object[] { (short) 7, new byte[] { 'a', '\t', (byte) 0xff }, 2.5 });
+        LoadDataRowsInputStream<Object[]> in = new LoadDataRowsInputStream<>(rows.iterator(), (row, writer) -> {
+            for (Object value : row) {
+                writer.writeObject(value);
+            }
+        });
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        byte[] expected = ("1\tplain\t\\N\n" + "-42\ttab\\tnew\\nline\\rback\\\\slash\\0\t1\n"
+                + "-9223372036854775808\tcafé \\\\N 😀\t1000\n" + "7\ta\\t?\t2.5\n").getBytes(StandardCharsets.UTF_8);
+        expected[expected.length - 6] = (byte) 0xff;
+        assertEquals(Arrays.toString(expected), Arrays.toString(out.toByteArray()));
+        assertEquals(4, in.getRowCount());
+        assertNull(in.getFailure());
+    }
+
+    @Test
+    public void testChunkedReads() throws Exception {
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            expected.append(i).append('\t').append("row ").append(i).append('\n');
+        }
+        for (int chunkSize : new int[] { 1, 7, 4096, 1024 * 1024 }) {
+            Iterator<Integer> rows = IntStream.range(0, 10000).iterator();
+            LoadDataRowsInputStream<Integer> in = new LoadDataRowsInputStream<>(rows, (row, writer) -> {
+                writer.writeLong(row);
+                writer.writeString("row " + row);
+            });
+            assertEquals(expected.toString(), readAll(in, chunkSize));
+            assertEquals(10000, in.getRowCount());
+        }
+    }
+
+    @Test
+    public void testFailure() throws Exception {
+        IllegalStateException failure = new IllegalStateException("bad row");
+        Iterator<Integer> rows = IntStream.range(0, 5).iterator();
+        LoadDataRowsInputStream<Integer> in = new LoadDataRowsInputStream<>(rows, (row, writer) -> {
+            writer.writeLong(row);
+            if (row == 3) {
+                writer.writeString("partial");
+                throw failure;
+            }
+            writer.writeNull();
+        });
+
+        // the partially encoded row is not sent
+        assertEquals("0\t\\N\n1\t\\N\n2\t\\N\n", readAll(in, 16));
+        assertEquals(3, in.getRowCount());
+        assertSame(failure, in.getFailure());
+        assertEquals(-1, in.read());
+    }
+}
@@ -27,12 +27,17 @@
 package com.mysql.cj.jdbc.ha;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -40,6 +45,8 @@ import com.mysql.cj.conf.ConnectionUrl;
 import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.jdbc.ConnectionImpl;
+import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.StatementImpl;
 import com.mysql.cj.jdbc.ha.plugins.ConnectionPluginManager;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,6 +59,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Properties;
+import java.util.concurrent.Callable;
 
 /**
  * ClusterAwareConnectionProxyTest class.
@@ -62,6 +70,7 @@ public class ConnectionProxyTest {
   @Mock private ConnectionImpl mockConnection;
   @Mock private ConnectionImpl mockConnection2;
   @Mock private Statement mockStatement;
+  @Mock private StatementImpl mockStatementImpl;
   @Mock private HostInfo mockHostInfo;
   @Mock private ConnectionPluginManager mockPluginManager;
   private AutoCloseable closeable;
@@ -147,6 +156,121 @@ public class ConnectionProxyTest {
     assertSame(mockHostInfo, proxy.getCurrentHostInfo());
   }
 
+  @Test
+  public void testFastConnectionProxyReturnsWrapper() throws SQLException {
+    final String url =
+        "jdbc:mysql:aws://somehost:1234/test?"
+            + PropertyKey.useFastConnectionProxy.getKeyName()
+            + "=true";
+    final ConnectionUrl conStr =
+        ConnectionUrl.getConnectionUrlInstance(url, new Properties());
+    final ConnectionProxy proxy = getConnectionProxy(conStr);
+
+    final JdbcConnection connection = proxy.getProxyInstance();
+    assertTrue(connection instanceof JdbcConnectionWrapper);
+    assertFalse(Proxy.isProxyClass(connection.getClass()));
+  }
+
+  @Test
+  public void testFastConnectionProxyExecutesThroughPlugins() throws Exception {
+    when(mockPluginManager.execute(any(), any(), any(), any()))
+        .thenAnswer(invocation -> ((Callable<?>) invocation.getArgument(2)).call());
+    when(mockConnection.createStatement()).thenReturn(mockStatementImpl);
+    when(mockStatementImpl.getMaxRows()).thenReturn(10);
+
+    final ConnectionUrl conStr =
+        ConnectionUrl.getConnectionUrlInstance(DEFAULT_CONNECTION_STR, new Properties());
+    final ConnectionProxy proxy = getConnectionProxy(conStr);
+    final JdbcConnectionWrapper connection = new JdbcConnectionWrapper(proxy);
+
+    final Statement statement = connection.createStatement();
+    assertTrue(statement instanceof JdbcStatementWrapper);
+    assertEquals(10, statement.getMaxRows());
+
+    verify(mockPluginManager).execute(any(), eq("createStatement"), any(), any());
+    verify(mockPluginManager).execute(any(), eq("getMaxRows"), any(), any());
+  }
+
+  @Test
+  public void testFastConnectionProxyThrowsException() throws Exception {
+    doThrow(new SQLException())
+        .when(mockPluginManager)
+        .execute(any(), eq("createStatement"), any(), any());
+
+    final ConnectionUrl conStr =
+        ConnectionUrl.getConnectionUrlInstance(DEFAULT_CONNECTION_STR, new Properties());
+    final JdbcConnectionWrapper connection = new JdbcConnectionWrapper(getConnectionProxy(conStr));
+
+    assertThrows(SQLException.class, connection::createStatement);
+  }
+
+  @Test
+  public void testFastConnectionProxyBypassesPlugins() throws Exception {
+    when(mockPluginManager.canBypassPlugins("getAutoCommit")).thenReturn(true);
+    when(mockConnection.getAutoCommit()).thenReturn(true);
+
+    final ConnectionUrl conStr =
+        ConnectionUrl.getConnectionUrlInstance(DEFAULT_CONNECTION_STR, new Properties());
+    final JdbcConnectionWrapper connection = new JdbcConnectionWrapper(getConnectionProxy(conStr));
+
+    assertTrue(connection.getAutoCommit());
+    verify(mockConnection).getAutoCommit();
+    verify(mockPluginManager, never()).execute(any(), eq("getAutoCommit"), any(), any());
+  }
+
+  @Test
+  public void testFastConnectionProxyEquality() throws SQLException {
+    final ConnectionUrl conStr =
+        ConnectionUrl.getConnectionUrlInstance(DEFAULT_CONNECTION_STR, new Properties());
+    final ConnectionProxy proxy = getConnectionProxy(conStr);
+
+    assertEquals(new JdbcConnectionWrapper(proxy), new JdbcConnectionWrapper(proxy));
+    assertEquals(new JdbcConnectionWrapper(proxy).hashCode(), new JdbcConnectionWrapper(proxy).hashCode());
+    assertNotEquals(new JdbcConnectionWrapper(proxy), new JdbcConnectionWrapper(getConnectionProxy(conStr)));
+    assertEquals(
+        new JdbcStatementWrapper(proxy, mockStatementImpl),
+        new JdbcStatementWrapper(proxy, mockStatementImpl));
+  }
+
+  @Test
+  public void testCloseReleasesPluginResources() throws Throwable {
+    final ConnectionUrl conStr =
+        ConnectionUrl.getConnectionUrlInstance(DEFAULT_CONNECTION_STR, new Properties());
+    final ConnectionProxy proxy = getConnectionProxy(conStr);
+
+    proxy.invoke(null, Connection.class.getMethod("createStatement"), null);
+    verify(mockPluginManager, never()).releaseResources();
+
+    proxy.invoke(null, Connection.class.getMethod("close"), null);
+    proxy.invoke(null, Connection.class.getMethod("close"), null);
+    verify(mockPluginManager, times(1)).releaseResources();
+  }
+
+  @Test
+  public void testFastConnectionProxyCloseReleasesPluginResources() throws Exception {
+    final ConnectionUrl conStr =
+        ConnectionUrl.getConnectionUrlInstance(DEFAULT_CONNECTION_STR, new Properties());
+    final JdbcConnectionWrapper connection = new JdbcConnectionWrapper(getConnectionProxy(conStr));
+
+    connection.close();
+    verify(mockPluginManager).releaseResources();
+  }
+
+  @Test
+  public void testFailedAbortKeepsPluginResources() throws Exception {
+    doThrow(new SQLException())
+        .when(mockPluginManager)
+        .execute(any(), eq("abort"), any(), any());
+    when(mockConnection.isClosed()).thenReturn(false);
+
+    final ConnectionUrl conStr =
+        ConnectionUrl.getConnectionUrlInstance(DEFAULT_CONNECTION_STR, new Properties());
+    final JdbcConnectionWrapper connection = new JdbcConnectionWrapper(getConnectionProxy(conStr));
+
+    assertThrows(SQLException.class, () -> connection.abort(null));
+    verify(mockPluginManager, never()).releaseResources();
+  }
+
   @AfterEach
   void cleanUp() throws Exception {
     closeable.close();
@@ -0,0 +1,121 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.Callable;
+
+class ConnectionPluginChainLinkTest {
+  private static final Object[] EMPTY_ARGS = {};
+
+  @Mock IConnectionPlugin subscribedPlugin;
+  @Mock IConnectionPlugin allMethodsPlugin;
+  @Mock IConnectionPlugin defaultPlugin;
+  @Mock Callable<?> sqlFunction;
+  private AutoCloseable closeable;
+
+  @BeforeEach
+  void init() throws Exception {
+    closeable = MockitoAnnotations.openMocks(this);
+
+    when(subscribedPlugin.getSubscribedMethods())
+        .thenReturn(new HashSet<>(Arrays.asList("executeQuery", "commit")));
+    when(allMethodsPlugin.getSubscribedMethods())
+        .thenReturn(Collections.singleton(IConnectionPlugin.ALL_METHODS));
+    when(defaultPlugin.getSubscribedMethods())
+        .thenReturn(Collections.singleton(IConnectionPlugin.ALL_METHODS));
+    when(subscribedPlugin.execute(any(), any(), any(), any())).thenReturn("subscribed");
+    when(allMethodsPlugin.execute(any(), any(), any(), any())).thenReturn("all");
+    when(defaultPlugin.execute(any(), any(), any(), any())).thenReturn("default");
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    closeable.close();
+  }
+
+  @Test
+  void test_1_skipUnsubscribedPlugins() throws Exception {
+    final ConnectionPluginChainLink link =
+        new ConnectionPluginChainLink(Arrays.asList(subscribedPlugin, defaultPlugin));
+
+    assertEquals("subscribed", link.execute(Object.class, "executeQuery", sqlFunction, EMPTY_ARGS));
+    assertEquals("default", link.execute(Object.class, "getString", sqlFunction, EMPTY_ARGS));
+
+    verify(subscribedPlugin, never()).execute(any(), eq("getString"), any(), any());
+  }
+
+  @Test
+  void test_2_firstSubscribedPluginReceivesCall() throws Exception {
+    final ConnectionPluginChainLink link = new ConnectionPluginChainLink(
+        Arrays.asList(allMethodsPlugin, subscribedPlugin, defaultPlugin));
+
+    assertEquals("all", link.execute(Object.class, "executeQuery", sqlFunction, EMPTY_ARGS));
+    assertEquals("all", link.execute(Object.class, "getString", sqlFunction, EMPTY_ARGS));
+
+    verify(subscribedPlugin, never()).execute(any(), any(), any(), any());
+  }
+
+  @Test
+  void test_3_lifecycleCallsFollowFullChain() throws Exception {
+    final ConnectionPluginChainLink link =
+        new ConnectionPluginChainLink(Arrays.asList(subscribedPlugin, defaultPlugin));
+
+    link.releaseResources();
+    link.transactionBegun();
+    link.transactionCompleted();
+
+    verify(subscribedPlugin).releaseResources();
+    verify(subscribedPlugin).transactionBegun();
+    verify(subscribedPlugin).transactionCompleted();
+  }
+
+  @Test
+  void test_4_targetOfMethod() {
+    final ConnectionPluginChainLink link =
+        new ConnectionPluginChainLink(Arrays.asList(subscribedPlugin, defaultPlugin));
+
+    assertSame(subscribedPlugin, link.getTarget("commit"));
+    assertSame(defaultPlugin, link.getTarget("getString"));
+  }
+}
@@ -29,7 +29,9 @@ package com.mysql.cj.jdbc.ha.plugins;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -296,4 +298,78 @@ class DefaultMonitorServiceTest {
     monitorService.releaseResources();
     monitorService.releaseResources();
   }
+
+  @Test
+  void test_10_startMonitoringReusesStoppedContext() {
+    final MonitorConnectionContext context = monitorService.startMonitoring(
+        connection,
+        NODE_KEYS,
+        info,
+        propertySet,
+        FAILURE_DETECTION_TIME_MILLIS,
+        FAILURE_DETECTION_INTERVAL_MILLIS,
+        FAILURE_DETECTION_COUNT);
+
+    // The context is still in use, a new one is required.
+    final MonitorConnectionContext activeContext = monitorService.startMonitoring(
+        context,
+        connection,
+        NODE_KEYS,
+        info,
+        propertySet,
+        FAILURE_DETECTION_TIME_MILLIS,
+        FAILURE_DETECTION_INTERVAL_MILLIS,
+        FAILURE_DETECTION_COUNT);
+    assertNotEquals(context, activeContext);
+
+    // The monitor invalidates the context when monitoring stops.
+    monitorService.stopMonitoring(context);
+    context.invalidate();
+
+    final MonitorConnectionContext reusedContext = monitorService.startMonitoring(
+        context,
+        connection,
+        NODE_KEYS,
+        info,
+        propertySet,
+        FAILURE_DETECTION_TIME_MILLIS,
+        FAILURE_DETECTION_INTERVAL_MILLIS,
+        FAILURE_DETECTION_COUNT);
+
+    assertSame(context, reusedContext);
+    assertTrue(reusedContext.isActiveContext());
+    verify(monitorA, times(3)).startMonitoring(any());
+    verify(monitorInitializer).createMonitor(
+        eq(info),
+        eq(propertySet),
+        eq(monitorService));
+  }
+
+  @Test
+  void test_11_startMonitoringDoesNotReuseContextOfResetMonitor() {
+    final MonitorConnectionContext context = monitorService.startMonitoring(
+        connection,
+        NODE_KEYS,
+        info,
+        propertySet,
+        FAILURE_DETECTION_TIME_MILLIS,
+        FAILURE_DETECTION_INTERVAL_MILLIS,
+        FAILURE_DETECTION_COUNT);
+    monitorService.stopMonitoring(context);
+    context.invalidate();
+
+    monitorService.stopMonitoringForAllConnections(NODE_KEYS);
+
+    final MonitorConnectionContext newContext = monitorService.startMonitoring(
+        context,
+        connection,
+        NODE_KEYS,
+        info,
+        propertySet,
+        FAILURE_DETECTION_TIME_MILLIS,
+        FAILURE_DETECTION_INTERVAL_MILLIS,
+        FAILURE_DETECTION_COUNT);
+
+    assertNotEquals(context, newContext);
+  }
 }
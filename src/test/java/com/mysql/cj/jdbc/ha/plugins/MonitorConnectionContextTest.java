@@ -122,4 +122,30 @@ class MonitorConnectionContextTest {
     context.setConnectionValid(false, statusCheckStartTime, statusCheckEndTime);
     Assertions.assertTrue(context.isNodeUnhealthy());
   }
+
+  @Test
+  public void test_5_updateConnectionStatusIgnoredAfterReset() {
+    final long generation = context.getGeneration();
+    context.reset(0, FAILURE_DETECTION_INTERVAL_MILLIS, 0);
+
+    // A check that started before the context was reset reports the node as dead
+    final long currentTimeMillis = System.currentTimeMillis();
+    context.updateConnectionStatus(generation, currentTimeMillis, currentTimeMillis + 1, false);
+    Assertions.assertFalse(context.isNodeUnhealthy());
+    Assertions.assertEquals(0, context.getFailureCount());
+
+    context.updateConnectionStatus(
+        context.getGeneration(), currentTimeMillis, currentTimeMillis + 1, false);
+    Assertions.assertTrue(context.isNodeUnhealthy());
+  }
+
+  @Test
+  public void test_6_updateConnectionStatusIgnoredAfterInvalidate() {
+    final long generation = context.getGeneration();
+    context.invalidate();
+
+    final long currentTimeMillis = System.currentTimeMillis();
+    context.updateConnectionStatus(generation, currentTimeMillis, currentTimeMillis + 1, false);
+    Assertions.assertEquals(0, context.getFailureCount());
+  }
 }
@@ -0,0 +1,114 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+class MonitorThreadContainerTest {
+
+  private static final IExecutorServiceInitializer EXECUTOR_SERVICE_INITIALIZER =
+      IExecutorServiceInitializer.daemonCachedThreadPool();
+
+  @Test
+  void test_1_containerPerMonitorService() {
+    final MonitorThreadContainer defaultContainer =
+        MonitorThreadContainer.getInstance(DefaultMonitorService.class, EXECUTOR_SERVICE_INITIALIZER);
+    final MonitorThreadContainer scheduledContainer =
+        MonitorThreadContainer.getInstance(ScheduledMonitorService.class, EXECUTOR_SERVICE_INITIALIZER);
+    try {
+      assertNotSame(defaultContainer, scheduledContainer);
+      assertSame(defaultContainer, MonitorThreadContainer.getInstance(EXECUTOR_SERVICE_INITIALIZER));
+      MonitorThreadContainer.releaseInstance();
+
+      final IMonitor monitor = new TestMonitor();
+      defaultContainer.getOrCreateMonitor(Collections.singleton("node"), () -> monitor);
+      assertSame(monitor, defaultContainer.getMonitor("node"));
+      assertFalse(scheduledContainer.getMonitorMap().containsKey("node"));
+    } finally {
+      MonitorThreadContainer.releaseInstance(DefaultMonitorService.class);
+      MonitorThreadContainer.releaseInstance(ScheduledMonitorService.class);
+    }
+  }
+
+  @Test
+  void test_2_updateTaskTracksLatestRun() {
+    final MonitorThreadContainer container =
+        MonitorThreadContainer.getInstance(ScheduledMonitorService.class, EXECUTOR_SERVICE_INITIALIZER);
+    try {
+      final IMonitor monitor = new TestMonitor();
+      assertFalse(container.updateTask(monitor, new CompletableFuture<>()));
+
+      container.addTask(monitor);
+      final CompletableFuture<Void> nextRun = new CompletableFuture<>();
+      assertTrue(container.updateTask(monitor, nextRun));
+      assertSame(nextRun, container.getTasksMap().get(monitor));
+
+      // a run that already fired doesn't replace the one it scheduled
+      final Future<?> firedRun = CompletableFuture.completedFuture(null);
+      assertTrue(container.updateTask(monitor, firedRun));
+      assertSame(nextRun, container.getTasksMap().get(monitor));
+
+      container.releaseResource(monitor);
+      assertTrue(nextRun.isCancelled());
+      assertFalse(container.updateTask(monitor, new CompletableFuture<>()));
+    } finally {
+      MonitorThreadContainer.releaseInstance(ScheduledMonitorService.class);
+    }
+  }
+
+  private static class TestMonitor implements IMonitor {
+    @Override
+    public void startMonitoring(MonitorConnectionContext context) {
+    }
+
+    @Override
+    public void stopMonitoring(MonitorConnectionContext context) {
+    }
+
+    @Override
+    public void clearContexts() {
+    }
+
+    @Override
+    public boolean isStopped() {
+      return false;
+    }
+
+    @Override
+    public void run() {
+    }
+  }
+}
@@ -222,6 +222,20 @@ class NodeMonitoringConnectionPluginTest {
         eq(EMPTY_ARGS));
   }
 
+  @Test
+  void test_4_releaseResourcesRemovesPropertyListeners() {
+    initializePlugin();
+    verify(failureDetectionEnabledProperty).addListener(plugin);
+
+    plugin.releaseResources();
+
+    verify(failureDetectionEnabledProperty).removeListener(plugin);
+    verify(failureDetectionTimeProperty).removeListener(plugin);
+    verify(failureDetectionIntervalProperty).removeListener(plugin);
+    verify(failureDetectionCountProperty).removeListener(plugin);
+    verify(mockPlugin).releaseResources();
+  }
+
   private void initializePlugin() {
     plugin = new NodeMonitoringConnectionPlugin(proxy,
         propertySet,
@@ -0,0 +1,144 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyBoolean;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertySet;
+import com.mysql.cj.log.Log;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+class ScheduledMonitorTest {
+
+  @Mock
+  IConnectionProvider connectionProvider;
+  @Mock
+  HostInfo hostInfo;
+  @Mock
+  PropertySet propertySet;
+  @Mock
+  Log log;
+  @Mock
+  DefaultMonitorService monitorService;
+  @Mock
+  MonitorThreadContainer threadContainer;
+  @Mock
+  ScheduledExecutorService scheduler;
+  @Mock
+  ScheduledFuture<?> nextCheck;
+
+  private static final long NEXT_CHECK_DELAY_MILLIS = 30;
+
+  private AutoCloseable closeable;
+  private ScheduledMonitor monitor;
+
+  @BeforeEach
+  void init() {
+    closeable = MockitoAnnotations.openMocks(this);
+
+    when(threadContainer.getScheduler()).thenReturn(scheduler);
+    doReturn(nextCheck).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+    monitor = spy(new ScheduledMonitor(
+        connectionProvider,
+        hostInfo,
+        propertySet,
+        60_000,
+        monitorService,
+        threadContainer,
+        log));
+  }
+
+  @AfterEach
+  void cleanUp() throws Exception {
+    closeable.close();
+  }
+
+  @Test
+  void test_1_runSchedulesNextCheck() {
+    doReturn(NEXT_CHECK_DELAY_MILLIS).when(monitor).runStep();
+    when(threadContainer.updateTask(monitor, nextCheck)).thenReturn(true);
+
+    monitor.run();
+
+    verify(scheduler).schedule(any(Runnable.class), eq(NEXT_CHECK_DELAY_MILLIS), eq(TimeUnit.MILLISECONDS));
+    verify(threadContainer).updateTask(monitor, nextCheck);
+    verify(nextCheck, never()).cancel(anyBoolean());
+    assertFalse(monitor.isStopped());
+  }
+
+  @Test
+  void test_2_runStopsWhenMonitorIsUnused() {
+    doReturn(-1L).when(monitor).runStep();
+
+    monitor.run();
+
+    verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    assertTrue(monitor.isStopped());
+  }
+
+  @Test
+  void test_3_runStopsWhenSchedulerIsShutDown() {
+    doReturn(NEXT_CHECK_DELAY_MILLIS).when(monitor).runStep();
+    when(threadContainer.getScheduler()).thenThrow(new RejectedExecutionException());
+
+    monitor.run();
+
+    assertTrue(monitor.isStopped());
+  }
+
+  @Test
+  void test_4_runCancelsNextCheckWhenReleased() {
+    doReturn(NEXT_CHECK_DELAY_MILLIS).when(monitor).runStep();
+    when(threadContainer.updateTask(monitor, nextCheck)).thenReturn(false);
+
+    monitor.run();
+
+    verify(nextCheck).cancel(true);
+    assertTrue(monitor.isStopped());
+  }
+}
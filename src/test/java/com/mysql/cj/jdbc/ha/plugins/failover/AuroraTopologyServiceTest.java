@@ -28,9 +28,14 @@ package com.mysql.cj.jdbc.ha.plugins.failover;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -40,6 +45,7 @@ import com.mysql.cj.conf.HostInfo;
 import com.mysql.cj.jdbc.ConnectionImpl;
 import com.mysql.cj.jdbc.JdbcConnection;
 import com.mysql.cj.jdbc.StatementImpl;
+import com.mysql.cj.jdbc.ha.plugins.IConnectionProvider;
 import com.mysql.cj.jdbc.result.ResultSetImpl;
 import com.mysql.cj.log.Log;
 import org.junit.jupiter.api.BeforeEach;
@@ -52,9 +58,11 @@ import java.sql.SQLException;
 import java.sql.SQLSyntaxErrorException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.UUID;
 
 /** AuroraTopologyServiceTest class. */
@@ -536,4 +544,136 @@ public class AuroraTopologyServiceTest {
     spyProvider.clearAll();
     assertEquals(0, AuroraTopologyService.topologyCache.size());
   }
+
+  @Test
+  public void testExpiredTopologiesOfOtherClustersAreSwept() throws SQLException, InterruptedException {
+    final JdbcConnection mockConn = Mockito.mock(ConnectionImpl.class);
+    final Statement mockStatement = Mockito.mock(StatementImpl.class);
+    final ResultSet mockResultSet = Mockito.mock(ResultSetImpl.class);
+    stubTopologyQuery(mockConn, mockStatement, mockResultSet);
+
+    AuroraTopologyService.setExpireTime(500);
+    spyProvider.getTopology(mockConn, false);
+    assertEquals(1, AuroraTopologyService.topologyCache.size());
+
+    // the topology of a cluster isn't swept while it's in use
+    final String otherClusterId = UUID.randomUUID().toString();
+    spyProvider.setClusterId(otherClusterId);
+    spyProvider.getTopology(mockConn, false);
+    assertEquals(2, AuroraTopologyService.topologyCache.size());
+
+    Thread.sleep(700);
+
+    spyProvider.getTopology(mockConn, true);
+    assertEquals(1, AuroraTopologyService.topologyCache.size());
+    assertTrue(AuroraTopologyService.topologyCache.containsKey(otherClusterId));
+  }
+
+  @Test
+  public void testTopologyVersion() throws SQLException {
+    final JdbcConnection mockConn = Mockito.mock(ConnectionImpl.class);
+    final Statement mockStatement = Mockito.mock(StatementImpl.class);
+    final ResultSet mockResultSet = Mockito.mock(ResultSetImpl.class);
+    stubTopologyQuery(mockConn, mockStatement, mockResultSet);
+    final HostInfo downHost = new HostInfo(null, "down-instance", 1234, null, null);
+    final String url =
+        "jdbc:mysql:aws://my-cluster-name.cluster-XYZ.us-east-2.rds.amazonaws.com:1234/test";
+    final ConnectionUrl conStr = ConnectionUrl.getConnectionUrlInstance(url, new Properties());
+    final HostInfo mainHost = conStr.getMainHost();
+
+    final HostInfo clusterInstanceInfo =
+        new HostInfo(
+            conStr,
+            "?.XYZ.us-east-2.rds.amazonaws.com",
+            mainHost.getPort(),
+            mainHost.getUser(),
+            mainHost.getPassword(),
+            mainHost.isPasswordless(),
+            mainHost.getHostProperties());
+    spyProvider.setClusterInstanceTemplate(clusterInstanceInfo);
+
+    assertEquals(ITopologyService.NO_TOPOLOGY_VERSION, spyProvider.getTopologyVersion());
+
+    final List<HostInfo> topology = spyProvider.getTopology(mockConn, false);
+    final long version = spyProvider.getTopologyVersion();
+    assertNotEquals(ITopologyService.NO_TOPOLOGY_VERSION, version);
+
+    // Marking hosts down doesn't change the topology
+    spyProvider.addToDownHostList(downHost);
+    assertEquals(version, spyProvider.getTopologyVersion());
+    assertSame(topology, spyProvider.getTopology(mockConn, false));
+
+    stubTopologyResponseData(mockResultSet);
+    final List<HostInfo> latestTopology = spyProvider.getTopology(mockConn, true);
+    assertTrue(spyProvider.getTopologyVersion() > version);
+    assertNotSame(topology, latestTopology);
+  }
+
+  @Test
+  public void testDownHostsSnapshot() {
+    final HostInfo hostA = new HostInfo(null, "instance-a", 1234, null, null);
+    final HostInfo hostB = new HostInfo(null, "instance-b", 1234, null, null);
+
+    spyProvider.addToDownHostList(hostA);
+    final Set<String> downHosts = spyProvider.getDownHosts();
+    assertThrows(UnsupportedOperationException.class, () -> downHosts.add("instance-c:1234"));
+
+    spyProvider.addToDownHostList(hostB);
+    spyProvider.removeFromDownHostList(hostA);
+
+    // The previous snapshot is unchanged
+    assertEquals(1, downHosts.size());
+    assertTrue(downHosts.contains(hostA.getHostPortPair()));
+
+    final Set<String> latestDownHosts = spyProvider.getDownHosts();
+    assertEquals(1, latestDownHosts.size());
+    assertTrue(latestDownHosts.contains(hostB.getHostPortPair()));
+  }
+
+  @Test
+  public void testBackgroundRefreshKeepsTopologyUpToDate() throws Exception {
+    final JdbcConnection mockConn = Mockito.mock(ConnectionImpl.class);
+    final Statement mockStatement = Mockito.mock(StatementImpl.class);
+    final ResultSet mockResultSet = Mockito.mock(ResultSetImpl.class);
+    stubTopologyQuery(mockConn, mockStatement, mockResultSet);
+    final ConnectionImpl mockMonitoringConn = Mockito.mock(ConnectionImpl.class);
+    final Statement mockMonitoringStatement = Mockito.mock(StatementImpl.class);
+    final ResultSet mockMonitoringResultSet = Mockito.mock(ResultSetImpl.class);
+    stubTopologyQuery(mockMonitoringConn, mockMonitoringStatement, mockMonitoringResultSet);
+    final IConnectionProvider mockConnectionProvider = Mockito.mock(IConnectionProvider.class);
+    when(mockConnectionProvider.connect(any(HostInfo.class))).thenReturn(mockMonitoringConn);
+
+    final String url =
+        "jdbc:mysql:aws://my-cluster-name.cluster-XYZ.us-east-2.rds.amazonaws.com:1234/test";
+    final ConnectionUrl conStr = ConnectionUrl.getConnectionUrlInstance(url, new Properties());
+    final HostInfo mainHost = conStr.getMainHost();
+
+    final HostInfo clusterInstanceInfo =
+        new HostInfo(
+            conStr,
+            "?.XYZ.us-east-2.rds.amazonaws.com",
+            mainHost.getPort(),
+            mainHost.getUser(),
+            mainHost.getPassword(),
+            mainHost.isPasswordless(),
+            mainHost.getHostProperties());
+    spyProvider.setClusterInstanceTemplate(clusterInstanceInfo);
+    spyProvider.setRefreshRate(1000); // 1 sec
+
+    spyProvider.getTopology(mockConn, false);
+    verify(spyProvider, times(1)).queryForTopology(mockConn);
+
+    spyProvider.startBackgroundRefresh(mockConnectionProvider, mainHost, new HashMap<>());
+    try {
+      verify(spyProvider, timeout(3000)).queryForTopology(mockMonitoringConn);
+
+      // The topology is refreshed in the background, the connection isn't used to query it
+      assertEquals(3, spyProvider.getTopology(mockConn, false).size());
+      verify(spyProvider, times(1)).queryForTopology(mockConn);
+    } finally {
+      spyProvider.stopBackgroundRefresh();
+    }
+
+    verify(mockMonitoringConn, timeout(2000)).close();
+  }
 }
@@ -34,6 +34,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.refEq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -53,6 +54,10 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ClusterAwareWriterFailoverHandlerTest class.
@@ -515,4 +520,168 @@ public class ClusterAwareWriterFailoverHandlerTest {
     verify(mockTopologyService, times(1)).addToDownHostList(refEq(writerHost));
     verify(mockTopologyService, atLeastOnce()).addToDownHostList(refEq(newWriterHost));
   }
+
+  /**
+   * Verify that concurrent writer failovers of connections to the same cluster share a single
+   * writer failover process.
+   *
+   * <p>topology: no changes; first connection: re-connects to the writer after a delay; second
+   * connection: fails over while the first connection is in progress; expected test result: both
+   * connections connected to the writer, and the topology queried only by the first connection
+   */
+  @Test
+  public void testConcurrentFailoversShareWriterDiscovery() throws Exception {
+    final AuroraTopologyService mockTopologyService = Mockito.mock(AuroraTopologyService.class);
+    final IConnectionProvider mockConnectionProvider = Mockito.mock(IConnectionProvider.class);
+    final ConnectionImpl mockConnection = Mockito.mock(ConnectionImpl.class);
+    final IReaderFailoverHandler mockReaderFailover = Mockito.mock(IReaderFailoverHandler.class);
+
+    final HostInfo writerHost = ClusterAwareTestUtils.createBasicHostInfo("writer-host", "test");
+    final HostInfo readerA_Host = ClusterAwareTestUtils.createBasicHostInfo("reader-a-host", "test");
+    final List<HostInfo> currentTopology = new ArrayList<>();
+    currentTopology.add(writerHost);
+    currentTopology.add(readerA_Host);
+
+    when(mockTopologyService.getClusterId()).thenReturn("shared-discovery-cluster");
+    when(mockConnectionProvider.connect(refEq(writerHost)))
+        .thenAnswer(
+            (Answer<JdbcConnection>)
+                invocation -> {
+                  Thread.sleep(500);
+                  return mockConnection;
+                })
+        .thenReturn(mockConnection);
+    when(mockTopologyService.getTopology(any(JdbcConnection.class), eq(true)))
+        .thenReturn(currentTopology);
+    when(mockReaderFailover.getReaderConnection(ArgumentMatchers.anyList()))
+        .thenThrow(SQLException.class);
+
+    final ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      final Future<WriterFailoverResult> first = executor.submit(
+          () -> createHandler(mockTopologyService, mockConnectionProvider, mockReaderFailover)
+              .failover(currentTopology));
+      TimeUnit.MILLISECONDS.sleep(100);
+      final Future<WriterFailoverResult> second = executor.submit(
+          () -> createHandler(mockTopologyService, mockConnectionProvider, mockReaderFailover)
+              .failover(currentTopology));
+
+      final WriterFailoverResult firstResult = first.get(10, TimeUnit.SECONDS);
+      final WriterFailoverResult secondResult = second.get(10, TimeUnit.SECONDS);
+      assertTrue(firstResult.isConnected());
+      assertTrue(secondResult.isConnected());
+      assertFalse(secondResult.isNewHost());
+      assertSame(mockConnection, secondResult.getNewConnection());
+      assertEquals(currentTopology, secondResult.getTopology());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(mockTopologyService, times(1)).getTopology(any(JdbcConnection.class), eq(true));
+    verify(mockConnectionProvider, times(2)).connect(refEq(writerHost));
+    assertTrue(ClusterAwareWriterFailoverHandler.writerDiscoveries.isEmpty());
+  }
+
+  /**
+   * Verify that a connection doesn't wait for the writer failover process of another connection
+   * longer than the time that process has left.
+   *
+   * <p>topology: no changes; another connection: started its failover process long ago and never
+   * completes; expected test result: the failover gives up once the other process has timed out
+   */
+  @Test
+  public void testSharedWriterDiscoveryWaitLimitedToItsRemainingTime() throws SQLException {
+    final AuroraTopologyService mockTopologyService = Mockito.mock(AuroraTopologyService.class);
+    final IConnectionProvider mockConnectionProvider = Mockito.mock(IConnectionProvider.class);
+    final IReaderFailoverHandler mockReaderFailover = Mockito.mock(IReaderFailoverHandler.class);
+
+    final HostInfo writerHost = ClusterAwareTestUtils.createBasicHostInfo("writer-host", "test");
+    final List<HostInfo> currentTopology = new ArrayList<>();
+    currentTopology.add(writerHost);
+
+    final String clusterId = "expiring-discovery-cluster";
+    when(mockTopologyService.getClusterId()).thenReturn(clusterId);
+    final ClusterAwareWriterFailoverHandler.WriterDiscovery discovery =
+        new ClusterAwareWriterFailoverHandler.WriterDiscovery(System.currentTimeMillis() + 200);
+    ClusterAwareWriterFailoverHandler.writerDiscoveries.put(clusterId, discovery);
+    try {
+      final long startTimeMs = System.currentTimeMillis();
+      final WriterFailoverResult result =
+          createHandler(mockTopologyService, mockConnectionProvider, mockReaderFailover)
+              .failover(currentTopology);
+      final long elapsedTimeMs = System.currentTimeMillis() - startTimeMs;
+
+      assertFalse(result.isConnected());
+      assertTrue(elapsedTimeMs < 2000, "waited " + elapsedTimeMs + " ms");
+      verify(mockConnectionProvider, never()).connect(any(HostInfo.class));
+    } finally {
+      ClusterAwareWriterFailoverHandler.writerDiscoveries.remove(clusterId, discovery);
+    }
+  }
+
+  /**
+   * Verify that a connection runs its own writer failover process when coalescing is disabled.
+   *
+   * <p>topology: no changes; another connection: failover process in progress; expected test
+   * result: the connection re-connects to the writer without waiting
+   */
+  @Test
+  public void testCoalescingDisabled() throws SQLException {
+    final AuroraTopologyService mockTopologyService = Mockito.mock(AuroraTopologyService.class);
+    final IConnectionProvider mockConnectionProvider = Mockito.mock(IConnectionProvider.class);
+    final ConnectionImpl mockConnection = Mockito.mock(ConnectionImpl.class);
+    final IReaderFailoverHandler mockReaderFailover = Mockito.mock(IReaderFailoverHandler.class);
+
+    final HostInfo writerHost = ClusterAwareTestUtils.createBasicHostInfo("writer-host", "test");
+    final List<HostInfo> currentTopology = new ArrayList<>();
+    currentTopology.add(writerHost);
+
+    final String clusterId = "uncoalesced-cluster";
+    when(mockTopologyService.getClusterId()).thenReturn(clusterId);
+    when(mockConnectionProvider.connect(refEq(writerHost))).thenReturn(mockConnection);
+    when(mockTopologyService.getTopology(any(JdbcConnection.class), eq(true)))
+        .thenReturn(currentTopology);
+    when(mockReaderFailover.getReaderConnection(ArgumentMatchers.anyList()))
+        .thenThrow(SQLException.class);
+
+    final ClusterAwareWriterFailoverHandler.WriterDiscovery discovery =
+        new ClusterAwareWriterFailoverHandler.WriterDiscovery(System.currentTimeMillis() + 60000);
+    ClusterAwareWriterFailoverHandler.writerDiscoveries.put(clusterId, discovery);
+    try {
+      final ClusterAwareWriterFailoverHandler handler = new ClusterAwareWriterFailoverHandler(
+          mockTopologyService,
+          mockConnectionProvider,
+          mockReaderFailover,
+          new HashMap<>(),
+          5000,
+          2000,
+          2000,
+          FailoverExecutor.getInstance(),
+          null,
+          false,
+          mockLog);
+      final WriterFailoverResult result = handler.failover(currentTopology);
+
+      assertTrue(result.isConnected());
+      assertSame(mockConnection, result.getNewConnection());
+      assertFalse(discovery.topology.isDone());
+    } finally {
+      ClusterAwareWriterFailoverHandler.writerDiscoveries.remove(clusterId, discovery);
+    }
+  }
+
+  private ClusterAwareWriterFailoverHandler createHandler(
+      ITopologyService topologyService,
+      IConnectionProvider connectionProvider,
+      IReaderFailoverHandler readerFailoverHandler) {
+    return new ClusterAwareWriterFailoverHandler(
+        topologyService,
+        connectionProvider,
+        readerFailoverHandler,
+        new HashMap<>(),
+        5000,
+        2000,
+        2000,
+        mockLog);
+  }
 }
@@ -638,6 +638,56 @@ class FailoverConnectionPluginTest {
     assertFalse(failoverPlugin.isFailoverEnabled());
   }
 
+  @Test
+  void testOpenConnectionsTrackedUntilClosed() throws SQLException {
+    final String url =
+        "jdbc:mysql:aws://my-cluster-name.cluster-ro-XYZ.us-east-2.rds.amazonaws.com";
+    final String host = url.split(PREFIX)[1];
+    when(mockHostInfo.getDatabaseUrl()).thenReturn(url);
+    when(mockHostInfo.getHost()).thenReturn(host);
+
+    final HostInfo writerHost =
+        ClusterAwareTestUtils.createBasicHostInfo("tracked-writer-host", "test");
+    final HostInfo readerHost =
+        ClusterAwareTestUtils.createBasicHostInfo("tracked-reader-host", "test");
+    final List<HostInfo> topology = new ArrayList<>();
+    topology.add(writerHost);
+    topology.add(readerHost);
+
+    when(mockConnectionProvider.connect(refEq(readerHost))).thenReturn(mockConnection);
+    when(mockTopologyService.getCachedTopology()).thenReturn(topology);
+    when(mockTopologyService.getLastUsedReaderHost()).thenReturn(readerHost);
+    when(mockTopologyService.getTopology(
+        eq(mockConnection),
+        any(Boolean.class))).thenReturn(topology);
+    when(mockTopologyService.getHostByName(mockConnection)).thenReturn(readerHost);
+
+    final FailoverConnectionPlugin firstPlugin = initFailoverPlugin();
+    final FailoverConnectionPlugin secondPlugin = initFailoverPlugin();
+    assertEquals(2, ReaderSelectionStrategies.getOpenConnections(readerHost));
+
+    // the connection is closed by the application
+    firstPlugin.releaseResources();
+    assertEquals(1, ReaderSelectionStrategies.getOpenConnections(readerHost));
+
+    // the connection is dropped to fail over to another host
+    secondPlugin.invalidateCurrentConnection();
+    assertEquals(0, ReaderSelectionStrategies.getOpenConnections(readerHost));
+
+    secondPlugin.releaseResources();
+    assertEquals(0, ReaderSelectionStrategies.getOpenConnections(readerHost));
+  }
+
+  @Test
+  void testReleaseResourcesStopsBackgroundRefresh() throws SQLException {
+    final FailoverConnectionPlugin failoverPlugin = initFailoverPlugin();
+
+    failoverPlugin.releaseResources();
+
+    verify(mockTopologyService).stopBackgroundRefresh();
+    verify(mockNextPlugin).releaseResources();
+  }
+
   @AfterEach
   void cleanUp() throws Exception {
     closeable.close();
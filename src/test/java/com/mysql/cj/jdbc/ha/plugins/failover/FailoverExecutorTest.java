@@ -0,0 +1,162 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins.failover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FailoverExecutorTest class.
+ */
+public class FailoverExecutorTest {
+
+  @Test
+  public void testQueueingTimeIsReported() throws Exception {
+    final FailoverExecutor executor = new FailoverExecutor(1, 10, false);
+    final List<Long> queueingTimes = new CopyOnWriteArrayList<>();
+    final FailoverExecutor.FailoverTaskGroup<String> taskGroup =
+        executor.createTaskGroup(queueingTimes::add);
+
+    taskGroup.submit(() -> {
+      TimeUnit.MILLISECONDS.sleep(200);
+      return "first";
+    });
+    taskGroup.submit(() -> "second");
+
+    assertEquals("first", taskGroup.poll(5, TimeUnit.SECONDS).get());
+    assertEquals("second", taskGroup.poll(5, TimeUnit.SECONDS).get());
+    assertEquals(2, queueingTimes.size());
+    assertTrue(queueingTimes.get(1) >= 150);
+  }
+
+  @Test
+  public void testTaskFailsWhenQueueIsFull() throws Exception {
+    final FailoverExecutor executor = new FailoverExecutor(1, 0, false);
+    final CountDownLatch release = new CountDownLatch(1);
+    final FailoverExecutor.FailoverTaskGroup<String> taskGroup = executor.createTaskGroup(null);
+
+    taskGroup.submit(() -> {
+      release.await();
+      return "running";
+    });
+    taskGroup.submit(() -> "rejected");
+
+    final Future<String> rejected = taskGroup.poll(5, TimeUnit.SECONDS);
+    assertNotNull(rejected);
+    final ExecutionException e = assertThrows(ExecutionException.class, rejected::get);
+    assertTrue(e.getCause() instanceof RejectedExecutionException);
+
+    release.countDown();
+    assertEquals("running", taskGroup.poll(5, TimeUnit.SECONDS).get());
+  }
+
+  @Test
+  public void testNestedTaskRunsWhenNoThreadIsIdle() throws Exception {
+    final FailoverExecutor executor = new FailoverExecutor(1, 10, false);
+    final FailoverExecutor.FailoverTaskGroup<Thread> outerGroup = executor.createTaskGroup(null);
+
+    outerGroup.submit(() -> {
+      final FailoverExecutor.FailoverTaskGroup<Thread> innerGroup = executor.createTaskGroup(null);
+      innerGroup.submit(Thread::currentThread);
+      final Future<Thread> inner = innerGroup.poll(1, TimeUnit.SECONDS);
+      return inner == null ? null : inner.get();
+    });
+
+    final Future<Thread> outer = outerGroup.poll(5, TimeUnit.SECONDS);
+    assertNotNull(outer);
+    assertNotNull(outer.get());
+    assertTrue(outer.get().getName().startsWith("aws-mysql-jdbc-failover-nested-"));
+  }
+
+  @Test
+  public void testNestedTaskFailsWhenNoNestedThreadIsAvailable() throws Exception {
+    final FailoverExecutor executor = new FailoverExecutor(1, 10, false);
+    final CountDownLatch release = new CountDownLatch(1);
+    final FailoverExecutor.FailoverTaskGroup<String> outerGroup = executor.createTaskGroup(null);
+
+    outerGroup.submit(() -> {
+      final FailoverExecutor.FailoverTaskGroup<String> innerGroup = executor.createTaskGroup(null);
+      innerGroup.submit(() -> {
+        release.await();
+        return "running";
+      });
+      innerGroup.submit(() -> "rejected");
+
+      final Future<String> rejected = innerGroup.poll(1, TimeUnit.SECONDS);
+      release.countDown();
+      try {
+        return rejected == null ? null : rejected.get();
+      } catch (ExecutionException e) {
+        return e.getCause().getClass().getSimpleName();
+      }
+    });
+
+    final Future<String> outer = outerGroup.poll(5, TimeUnit.SECONDS);
+    assertNotNull(outer);
+    assertEquals(RejectedExecutionException.class.getSimpleName(), outer.get());
+  }
+
+  @Test
+  public void testCancelAllInterruptsRunningTasks() throws Exception {
+    final FailoverExecutor executor = new FailoverExecutor(2, 10, false);
+    final CountDownLatch started = new CountDownLatch(1);
+    final CountDownLatch interrupted = new CountDownLatch(1);
+    final FailoverExecutor.FailoverTaskGroup<String> taskGroup = executor.createTaskGroup(null);
+
+    taskGroup.submit(() -> {
+      started.countDown();
+      try {
+        TimeUnit.SECONDS.sleep(30);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+      return null;
+    });
+
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    taskGroup.cancelAll();
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testSharedInstance() {
+    assertSame(FailoverExecutor.getInstance(), FailoverExecutor.getInstance());
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice,
+ * this list of conditions and the following disclaimer.
+ *
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ * this list of conditions and the following disclaimer in the documentation and/or
+ * other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY
+ * EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES
+ * OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT
+ * SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ * INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT
+ * LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+
+package com.mysql.cj.jdbc.ha.plugins.failover;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mysql.cj.conf.ConnectionUrl;
+import com.mysql.cj.conf.HostInfo;
+import com.mysql.cj.conf.PropertyDefinitions.ReaderSelectionStrategy;
+import com.mysql.cj.jdbc.ha.plugins.failover.ClusterAwareReaderFailoverHandler.HostTuple;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * ReaderSelectionStrategiesTest class.
+ */
+public class ReaderSelectionStrategiesTest {
+
+  @Test
+  public void testRandom() {
+    final List<HostTuple> readers = createReaders(50, 10, 20);
+    ReaderSelectionStrategies.create(ReaderSelectionStrategy.RANDOM, 15).orderReaders(readers);
+    assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), new HashSet<>(getIndexes(readers)));
+  }
+
+  @Test
+  public void testLowestLag() {
+    final List<HostTuple> readers = createReaders(50, 10, 20);
+    ReaderSelectionStrategies.create(ReaderSelectionStrategy.LOWEST_LAG, 0).orderReaders(readers);
+    assertEquals(Arrays.asList(2, 3, 1), getIndexes(readers));
+  }
+
+  @Test
+  public void testLowestLagWithUnknownLag() {
+    final List<HostTuple> readers = createReaders(Double.NaN, 50, 10);
+    ReaderSelectionStrategies.create(ReaderSelectionStrategy.LOWEST_LAG, 20).orderReaders(readers);
+    assertEquals(Arrays.asList(3, 1, 2), getIndexes(readers));
+  }
+
+  @Test
+  public void testLagBoundedRandom() {
+    final IReaderSelectionStrategy strategy =
+        ReaderSelectionStrategies.create(ReaderSelectionStrategy.LAG_BOUNDED_RANDOM, 30);
+    for (int i = 0; i < 20; i++) {
+      final List<HostTuple> readers = createReaders(500, 10, 20, 50);
+      strategy.orderReaders(readers);
+      assertEquals(
+          new HashSet<>(Arrays.asList(2, 3)),
+          new HashSet<>(getIndexes(readers).subList(0, 2)));
+      assertEquals(Arrays.asList(4, 1), getIndexes(readers).subList(2, 4));
+    }
+  }
+
+  @Test
+  public void testLeastConnections() {
+    final List<HostTuple> readers = createReaders(0, 0, 0);
+    final HostInfo busyReader = readers.get(0).getHost();
+    final HostInfo idleReader = readers.get(1).getHost();
+    final HostInfo usedReader = readers.get(2).getHost();
+    ReaderSelectionStrategies.connectionOpened(busyReader);
+    ReaderSelectionStrategies.connectionOpened(busyReader);
+    ReaderSelectionStrategies.connectionOpened(usedReader);
+    try {
+      ReaderSelectionStrategies.create(ReaderSelectionStrategy.LEAST_CONNECTIONS, 0).orderReaders(readers);
+      assertEquals(Arrays.asList(2, 3, 1), getIndexes(readers));
+    } finally {
+      ReaderSelectionStrategies.connectionClosed(busyReader);
+      ReaderSelectionStrategies.connectionClosed(busyReader);
+      ReaderSelectionStrategies.connectionClosed(usedReader);
+    }
+    assertEquals(0, ReaderSelectionStrategies.getOpenConnections(busyReader));
+    assertEquals(0, ReaderSelectionStrategies.getOpenConnections(idleReader));
+  }
+
+  @Test
+  public void testWeighted() {
+    final IReaderSelectionStrategy strategy =
+        ReaderSelectionStrategies.create(ReaderSelectionStrategy.WEIGHTED, 0);
+    int freshReaderFirst = 0;
+    for (int i = 0; i < 1000; i++) {
+      final List<HostTuple> readers = createReaders(100_000, 0);
+      strategy.orderReaders(readers);
+      if (readers.get(0).getIndex() == 2) {
+        freshReaderFirst++;
+      }
+    }
+    assertTrue(freshReaderFirst > 900);
+  }
+
+  private List<HostTuple> createReaders(double... replicaLags) {
+    final List<HostTuple> readers = new ArrayList<>();
+    for (int i = 0; i < replicaLags.length; i++) {
+      final String instanceName = "selection-reader-" + (i + 1);
+      final Map<String, String> properties = new HashMap<>();
+      properties.put(TopologyServicePropertyKeys.INSTANCE_NAME, instanceName);
+      if (!Double.isNaN(replicaLags[i])) {
+        properties.put(TopologyServicePropertyKeys.REPLICA_LAG, Double.toString(replicaLags[i]));
+      }
+      final ConnectionUrl url = ConnectionUrl.getConnectionUrlInstance(
+          "jdbc:mysql:aws://" + instanceName + ".com:1234/", new Properties());
+      readers.add(new HostTuple(
+          new HostInfo(url, instanceName + ".com", 1234, null, null, properties), i + 1));
+    }
+    return readers;
+  }
+
+  private List<Integer> getIndexes(List<HostTuple> readers) {
+    final List<Integer> indexes = new ArrayList<>();
+    for (final HostTuple reader : readers) {
+      indexes.add(reader.getIndex());
+    }
+    return indexes;
+  }
+}
@@ -0,0 +1,202 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SocketChannelInputStream} and {@link SocketChannelOutputStream} over a loopback connection.
+ */
+public class SocketChannelStreamsTest {
+
+    private ServerSocketChannel server;
+    private SocketChannel client;
+    private SocketChannel peer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.server = ServerSocketChannel.open();
+        this.server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        this.client = SocketChannel.open(this.server.getLocalAddress());
+        this.peer = this.server.accept();
+        this.client.configureBlocking(false);
+        this.peer.configureBlocking(false);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        this.client.close();
+        this.peer.close();
+        this.server.close();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        SocketChannelOutputStream out = new SocketChannelOutputStream(this.client, new SocketChannelSelector(this.client), 1024);
+        SocketChannelInputStream in = new SocketChannelInputStream(this.peer, new SocketChannelSelector(this.peer), 1024);
+
+        for (int length : new int[] { 1, 100, 1023, 5000, 3 * 1024 * 1024 }) {
+            byte[] data = new byte[length];
+            for (int i = 0; i < length; i++) {
+                data[i] = (byte) (i * 13);
+            }
+            byte[] received = new byte[length + 5];
+
+            // the reader runs concurrently, as large writes block until the peer reads
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            Thread reader = new Thread(() -> {
+                try {
+                    new FullReadInputStream(in).readFully(received, 0, received.length);
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            });
+            reader.start();
+
+            out.write(0x7f);
+            out.write(new byte[] { 1, 2, 3, 4 }, 0, 4); // "header" followed by the payload
+            out.write(data, 0, length);
+            out.flush();
+
+            reader.join(10000);
+            assertNull(failure.get());
+            assertEquals(0x7f, received[0]);
+            assertEquals(4, received[4]);
+            byte[] payload = new byte[length];
+            System.arraycopy(received, 5, payload, 0, length);
+            assertArrayEquals(data, payload);
+        }
+    }
+
+    @Test
+    public void testSharedSelector() throws Exception {
+        SocketChannelSelector selector = new SocketChannelSelector(this.client);
+        SocketChannelOutputStream out = new SocketChannelOutputStream(this.client, selector, 1024);
+        SocketChannelInputStream in = new SocketChannelInputStream(this.client, selector, 1024);
+
+        int length = 3 * 1024 * 1024;
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 7);
+        }
+
+        // the peer echoes everything back once it has received it, so the client waits for writes first, then for reads
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread echo = new Thread(() -> {
+            try {
+                this.peer.configureBlocking(true);
+                ByteBuffer echoed = ByteBuffer.allocate(length);
+                while (echoed.hasRemaining()) {
+                    this.peer.read(echoed);
+                }
+                echoed.flip();
+                while (echoed.hasRemaining()) {
+                    this.peer.write(echoed);
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        echo.start();
+
+        out.write(data, 0, length);
+        out.flush();
+        byte[] received = new byte[length];
+        new FullReadInputStream(in).readFully(received, 0, length);
+
+        echo.join(10000);
+        assertNull(failure.get());
+        assertArrayEquals(data, received);
+    }
+
+    @Test
+    public void testReadTimeout() throws Exception {
+        SocketChannelInputStream in = new SocketChannelInputStream(this.peer, new SocketChannelSelector(this.peer), 1024);
+        this.peer.socket().setSoTimeout(100);
+
+        long start = System.currentTimeMillis();
+        assertThrows(SocketTimeoutException.class, () -> in.read());
+        assertTrue(System.currentTimeMillis() - start >= 90);
+    }
+
+    @Test
+    public void testCloseWakesUpReader() throws Exception {
+        SocketChannelInputStream in = new SocketChannelInputStream(this.peer, new SocketChannelSelector(this.peer), 1024);
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                in.read();
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        reader.start();
+        Thread.sleep(100);
+        in.close();
+        reader.join(5000);
+
+        assertTrue(failure.get() instanceof IOException);
+        assertThrows(IOException.class, () -> in.read());
+    }
+
+    @Test
+    public void testDetach() throws Exception {
+        SocketChannelOutputStream out = new SocketChannelOutputStream(this.client, new SocketChannelSelector(this.client), 1024);
+        out.write(new byte[] { 1, 2, 3 }, 0, 3);
+        out.detach();
+        this.client.configureBlocking(true);
+
+        SocketChannelInputStream in = new SocketChannelInputStream(this.peer, new SocketChannelSelector(this.peer), 1024);
+        byte[] received = new byte[3];
+        new FullReadInputStream(in).readFully(received, 0, 3);
+        assertArrayEquals(new byte[] { 1, 2, 3 }, received);
+        in.detach();
+        this.peer.configureBlocking(true);
+    }
+}
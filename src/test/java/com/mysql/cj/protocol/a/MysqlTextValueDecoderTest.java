@@ -34,6 +34,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import com.mysql.cj.Constants;
@@ -189,4 +193,27 @@ public class MysqlTextValueDecoderTest {
         assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:00Z"));
         assertFalse(MysqlTextValueDecoder.isTimestamp("2004-01-01 10:00:00+01:00"));
     }
+
+    @Test
+    public void testParseDouble() {
+        String[] values = { "0", "-0", "1", "-1", "0.1", "-0.1", "12345.6789", "123456789012345", "0.000000000000000000001", "3.14159265358979",
+                "99999999999999.9", "5.", ".5", "+2.5", "1234567890.0123456789", "0.30000000000000004", "1e10", "-1.5E-7", "1.7976931348623157E308",
+                "123456789012345678901234567890", "0.00000000000000000000000001" };
+        for (String value : values) {
+            byte[] bytes = ("x" + value + "x").getBytes(StandardCharsets.US_ASCII);
+            assertEquals(Double.parseDouble(value), MysqlTextValueDecoder.parseDouble(bytes, 1, bytes.length - 2), value);
+        }
+
+        // the same results as for DECIMAL values decoded to BigDecimal
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            BigDecimal d = BigDecimal.valueOf(random.nextLong() % 1000000000000000L, random.nextInt(20));
+            byte[] bytes = d.toPlainString().getBytes(StandardCharsets.US_ASCII);
+            assertEquals(d.doubleValue(), MysqlTextValueDecoder.parseDouble(bytes, 0, bytes.length), d.toPlainString());
+        }
+
+        assertThrows(NumberFormatException.class, () -> MysqlTextValueDecoder.parseDouble(new byte[0], 0, 0));
+        assertThrows(NumberFormatException.class, () -> MysqlTextValueDecoder.parseDouble(new byte[] { '-', '.' }, 0, 2));
+        assertThrows(NumberFormatException.class, () -> MysqlTextValueDecoder.parseDouble(new byte[] { '1', 'a' }, 0, 2));
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.Constants;
+
+/**
+ * Tests for {@link PacketBufferPool} and pooled {@link NativePacketPayload}s.
+ */
+public class PacketBufferPoolTest {
+
+    @Test
+    public void testSizeClasses() {
+        PacketBufferPool pool = new PacketBufferPool(1024 * 1024);
+        assertEquals(PacketBufferPool.MIN_BUFFER_LENGTH, pool.acquire(1).length);
+        assertEquals(256, pool.acquire(256).length);
+        assertEquals(512, pool.acquire(257).length);
+        assertEquals(65536, pool.acquire(40000).length);
+        assertEquals(PacketBufferPool.MAX_BUFFER_LENGTH, pool.acquire(NativeConstants.MAX_PACKET_SIZE).length);
+        // larger than the largest class, served exactly
+        assertEquals(PacketBufferPool.MAX_BUFFER_LENGTH + 1, pool.acquire(PacketBufferPool.MAX_BUFFER_LENGTH + 1).length);
+    }
+
+    @Test
+    public void testReuse() {
+        PacketBufferPool pool = new PacketBufferPool(1024 * 1024);
+        byte[] buf = pool.acquire(1000);
+        pool.release(buf);
+        assertEquals(1024, pool.getPooledBytes());
+        assertSame(buf, pool.acquire(700));
+        assertEquals(0, pool.getPooledBytes());
+        assertNotSame(buf, pool.acquire(700));
+
+        // arrays not allocated by the pool are ignored
+        pool.release(new byte[1000]);
+        pool.release(new byte[16]);
+        pool.release(null);
+        assertEquals(0, pool.getPooledBytes());
+    }
+
+    @Test
+    public void testLimits() {
+        PacketBufferPool pool = new PacketBufferPool(4096);
+        pool.release(pool.acquire(4096));
+        assertEquals(4096, pool.getPooledBytes());
+        pool.release(pool.acquire(256));
+        assertEquals(4096, pool.getPooledBytes());
+
+        pool.clear();
+        for (int i = 0; i < 10; i++) {
+            pool.release(new byte[256]);
+        }
+        assertEquals(4 * 256, pool.getPooledBytes());
+    }
+
+    @Test
+    public void testTrim() {
+        PacketBufferPool pool = new PacketBufferPool(1024 * 1024);
+        pool.release(new byte[256]);
+        pool.release(new byte[4096]);
+        pool.release(new byte[65536]);
+        pool.trim(4096);
+        assertEquals(256 + 4096, pool.getPooledBytes());
+        pool.trim(0);
+        assertEquals(0, pool.getPooledBytes());
+    }
+
+    @Test
+    public void testDisabled() {
+        PacketBufferPool pool = new PacketBufferPool(0);
+        assertEquals(1000, pool.acquire(1000).length);
+        pool.release(new byte[1024]);
+        assertEquals(0, pool.getPooledBytes());
+
+        NativePacketPayload packet = new NativePacketPayload(10, pool);
+        assertEquals(10, packet.getCapacity());
+        packet.release();
+        assertEquals(0, pool.getPooledBytes());
+    }
+
+    @Test
+    public void testPooledPayload() {
+        PacketBufferPool pool = new PacketBufferPool(1024 * 1024);
+        NativePacketPayload packet = new NativePacketPayload(100, pool);
+        assertEquals(256, packet.getCapacity());
+
+        byte[] data = new byte[1000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        packet.setPosition(0);
+        packet.writeBytes(NativeConstants.StringLengthDataType.STRING_FIXED, data);
+        assertEquals(2048, packet.getCapacity());
+        // the outgrown buffer went back to the pool
+        assertEquals(256, pool.getPooledBytes());
+
+        byte[] written = new byte[data.length];
+        System.arraycopy(packet.getByteBuffer(), 0, written, 0, data.length);
+        assertArrayEquals(data, written);
+
+        packet.ensureBufferLength(5000);
+        assertEquals(8192, packet.getCapacity());
+        assertEquals(256 + 2048, pool.getPooledBytes());
+
+        packet.release();
+        assertSame(Constants.EMPTY_BYTE_ARRAY, packet.getByteBuffer());
+        assertEquals(256 + 2048 + 8192, pool.getPooledBytes());
+    }
+}
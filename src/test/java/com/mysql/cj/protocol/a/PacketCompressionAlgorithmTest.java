@@ -0,0 +1,158 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.conf.PropertyKey;
+import com.mysql.cj.exceptions.WrongArgumentException;
+
+/**
+ * Tests for {@link PacketCompressionAlgorithm} negotiation and the {@link PacketCompressor} implementations.
+ */
+public class PacketCompressionAlgorithmTest {
+
+    private static final int ALL_COMPRESSION_FLAGS = NativeServerSession.CLIENT_COMPRESS | NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM;
+
+    @Test
+    public void testNegotiate() {
+        assertSame(PacketCompressionAlgorithm.ZLIB, PacketCompressionAlgorithm.negotiate("zlib", ALL_COMPRESSION_FLAGS));
+        assertSame(PacketCompressionAlgorithm.ZSTD, PacketCompressionAlgorithm.negotiate("zstd,zlib", ALL_COMPRESSION_FLAGS));
+        assertSame(PacketCompressionAlgorithm.ZLIB, PacketCompressionAlgorithm.negotiate(" ZLIB , zstd", ALL_COMPRESSION_FLAGS));
+        // server without zstd support
+        assertSame(PacketCompressionAlgorithm.ZLIB, PacketCompressionAlgorithm.negotiate("zstd,zlib", NativeServerSession.CLIENT_COMPRESS));
+        assertNull(PacketCompressionAlgorithm.negotiate("zstd", NativeServerSession.CLIENT_COMPRESS));
+        assertNull(PacketCompressionAlgorithm.negotiate("zlib", 0));
+        assertNull(PacketCompressionAlgorithm.negotiate("", ALL_COMPRESSION_FLAGS));
+
+        assertThrows(WrongArgumentException.class, () -> PacketCompressionAlgorithm.negotiate("lz4,zlib", ALL_COMPRESSION_FLAGS));
+    }
+
+    @Test
+    public void testFromClientParam() {
+        assertNull(PacketCompressionAlgorithm.fromClientParam(NativeServerSession.CLIENT_PROTOCOL_41));
+        assertSame(PacketCompressionAlgorithm.ZLIB,
+                PacketCompressionAlgorithm.fromClientParam(NativeServerSession.CLIENT_PROTOCOL_41 | NativeServerSession.CLIENT_COMPRESS));
+        assertSame(PacketCompressionAlgorithm.ZSTD, PacketCompressionAlgorithm
+                .fromClientParam(NativeServerSession.CLIENT_PROTOCOL_41 | NativeServerSession.CLIENT_ZSTD_COMPRESSION_ALGORITHM));
+    }
+
+    @Test
+    public void testZlibRoundTrip() throws IOException {
+        testRoundTrip(PacketCompressionAlgorithm.ZLIB);
+    }
+
+    @Test
+    public void testZstdRoundTrip() throws IOException {
+        assertTrue(PacketCompressionAlgorithm.ZSTD.isAvailable());
+        testRoundTrip(PacketCompressionAlgorithm.ZSTD);
+    }
+
+    @Test
+    public void testCompressionThreshold() throws IOException {
+        byte[] packet = new byte[1000]; // highly compressible
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PacketBufferPool pool = new PacketBufferPool(1024 * 1024);
+
+        CompressedPacketSender sender = new CompressedPacketSender(new BufferedOutputStream(out), pool, PacketCompressionAlgorithm.ZLIB.createCompressor(3, pool),
+                2000);
+        sender.send(packet, packet.length, (byte) 0);
+        sender.stop();
+        // sent as is: uncompressed length 0 in the compressed header
+        assertEquals(CompressedPacketSender.COMP_HEADER_LENGTH + NativeConstants.HEADER_LENGTH + packet.length, out.size());
+        assertEquals(0, NativeUtils.decodeMysqlThreeByteInteger(out.toByteArray(), 4));
+
+        out.reset();
+        sender = new CompressedPacketSender(new BufferedOutputStream(out), pool, PacketCompressionAlgorithm.ZLIB.createCompressor(3, pool), 500);
+        sender.send(packet, packet.length, (byte) 0);
+        sender.stop();
+        assertTrue(out.size() < packet.length);
+        assertEquals(NativeConstants.HEADER_LENGTH + packet.length, NativeUtils.decodeMysqlThreeByteInteger(out.toByteArray(), 4));
+    }
+
+    private void testRoundTrip(PacketCompressionAlgorithm algorithm) throws IOException {
+        PacketBufferPool pool = new PacketBufferPool(1024 * 1024);
+        for (int packetLength : new int[] { 10, 100, 5000, 100000, NativeConstants.MAX_PACKET_SIZE + 100 }) {
+            byte[] packet = new byte[packetLength];
+            for (int i = 0; i < packetLength; i += 7) {
+                packet[i] = (byte) (i * 31);
+            }
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            CompressedPacketSender sender = new CompressedPacketSender(new BufferedOutputStream(out), pool, algorithm.createCompressor(3, pool),
+                    CompressedPacketSender.MIN_COMPRESS_LEN);
+            sender.send(packet, packetLength, (byte) 0);
+            sender.stop();
+            assertTrue(out.size() < packetLength + 100);
+
+            CompressedInputStream in = new CompressedInputStream(new ByteArrayInputStream(out.toByteArray()),
+                    new DefaultPropertySet().getBooleanProperty(PropertyKey.traceProtocol), null, pool, algorithm.createCompressor(3, pool));
+            byte[] received = new byte[packetLength];
+            int offset = 0;
+            byte[] header = new byte[NativeConstants.HEADER_LENGTH];
+            do {
+                readFully(in, header, header.length);
+                int length = NativeUtils.decodeMysqlThreeByteInteger(header);
+                byte[] part = new byte[length];
+                readFully(in, part, length);
+                System.arraycopy(part, 0, received, offset, length);
+                offset += length;
+                if (length < NativeConstants.MAX_PACKET_SIZE) {
+                    break;
+                }
+            } while (true);
+            in.close();
+
+            assertEquals(packetLength, offset);
+            assertArrayEquals(packet, received);
+        }
+    }
+
+    private static void readFully(CompressedInputStream in, byte[] b, int length) throws IOException {
+        int n = 0;
+        while (n < length) {
+            n += in.read(b, n, length - n);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TextValueEncoder}.
+ */
+public class TextValueEncoderTest {
+
+    @Test
+    public void testEncodeLong() {
+        long[] values = { 0, 1, -1, 9, 10, -10, 99, 100, 123456789, -987654321, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE };
+        for (long value : values) {
+            byte[] expected = String.valueOf(value).getBytes(StandardCharsets.US_ASCII);
+            assertEquals(expected.length, TextValueEncoder.getEncodedLength(value), String.valueOf(value));
+
+            byte[] dest = new byte[expected.length + 2];
+            assertEquals(expected.length + 1, TextValueEncoder.encodeLong(dest, 1, value));
+            assertArrayEquals(expected, Arrays.copyOfRange(dest, 1, expected.length + 1), String.valueOf(value));
+        }
+    }
+
+    @Test
+    public void testEncodeString() {
+        assertEncodedString("''", "", false);
+        assertEncodedString("'abc'", "abc", false);
+        assertEncodedString("'a\\0b\\nc\\rd\\\\e''f\\Zg'", "a\u0000b\nc\rd\\e'f\u001ag", false);
+        assertEncodedString("'say \"hi\"'", "say \"hi\"", false);
+        assertEncodedString("'say \\\"hi\\\"'", "say \"hi\"", true);
+        assertEncodedString("'été € 中文 😀'", "été € 中文 😀", false);
+        // unpaired surrogates become '?', as with String.getBytes()
+        assertEncodedString("'a?b?'", "a\ud83db\ude00", false);
+    }
+
+    @Test
+    public void testEncodeToPacket() {
+        NativePacketPayload packet = new NativePacketPayload(4);
+        packet.writeInteger(NativeConstants.IntegerDataType.INT1, NativeConstants.COM_QUERY);
+        TextValueEncoder.encodeLong(packet, -42);
+        packet.writeInteger(NativeConstants.IntegerDataType.INT1, ',');
+        TextValueEncoder.encodeString(packet, "it's", false);
+
+        byte[] expected = "\u0003-42,'it''s'".getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, packet.getPosition());
+        assertEquals(expected.length, packet.getPayloadLength());
+        assertArrayEquals(expected, Arrays.copyOf(packet.getByteBuffer(), packet.getPosition()));
+    }
+
+    private void assertEncodedString(String expected, String value, boolean escapeDoubleQuotes) {
+        byte[] expectedBytes = expected.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expectedBytes.length, TextValueEncoder.getEncodedLength(value, escapeDoubleQuotes), expected);
+
+        byte[] dest = new byte[expectedBytes.length];
+        assertEquals(expectedBytes.length, TextValueEncoder.encodeString(dest, 0, value, escapeDoubleQuotes));
+        assertArrayEquals(expectedBytes, dest, expected);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.protocol.a.result;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.mysql.cj.MysqlType;
+import com.mysql.cj.conf.DefaultPropertySet;
+import com.mysql.cj.protocol.a.MysqlBinaryValueDecoder;
+import com.mysql.cj.protocol.a.MysqlTextValueDecoder;
+import com.mysql.cj.result.DefaultColumnDefinition;
+import com.mysql.cj.result.Field;
+import com.mysql.cj.result.IntegerValueFactory;
+import com.mysql.cj.result.LongValueFactory;
+import com.mysql.cj.result.Row;
+import com.mysql.cj.result.StringValueFactory;
+import com.mysql.cj.util.LazyString;
+
+/**
+ * Tests for {@link PackedRowStore} and {@link PackedRow}.
+ */
+public class PackedRowStoreTest {
+    private static final DefaultColumnDefinition COLUMNS = new DefaultColumnDefinition(new Field[] { //
+            field("id", MysqlType.FIELD_TYPE_LONG, MysqlType.INT), //
+            field("name", MysqlType.FIELD_TYPE_VAR_STRING, MysqlType.VARCHAR), //
+            field("total", MysqlType.FIELD_TYPE_LONGLONG, MysqlType.BIGINT) });
+
+    private final DefaultPropertySet propertySet = new DefaultPropertySet();
+
+    @Test
+    public void testTextRows() {
+        testTextRows(false);
+    }
+
+    @Test
+    public void testTextRowsOffHeap() {
+        testTextRows(true);
+    }
+
+    private void testTextRows(boolean offHeap) {
+        PackedRowStore store = new PackedRowStore(COLUMNS, new MysqlTextValueDecoder(), null, offHeap);
+        String longName = repeat('x', 300);
+        addRow(store, textRow("1", null, "-5"));
+        addRow(store, textRow("2", longName, "12345678901"));
+        addRow(store, textRow("3", "", null));
+
+        assertEquals(3, store.size());
+
+        Row row = store.get(0).setMetadata(COLUMNS);
+        assertEquals(Integer.valueOf(1), row.getValue(0, new IntegerValueFactory(this.propertySet)));
+        assertFalse(row.wasNull());
+        assertTrue(row.getNull(1));
+        assertNull(row.getBytes(1));
+        assertNull(row.getValue(1, new StringValueFactory(this.propertySet)));
+        assertTrue(row.wasNull());
+        assertEquals(Long.valueOf(-5), row.getValue(2, new LongValueFactory(this.propertySet)));
+        assertTrue(row.supportsPrimitiveGetters());
+        assertEquals(1, row.getLong(0));
+        assertFalse(row.wasNull());
+        assertEquals(-5, row.getLong(2));
+        assertEquals(-5.0, row.getDouble(2));
+
+        row = store.get(1).setMetadata(COLUMNS);
+        assertEquals(longName, row.getValue(1, new StringValueFactory(this.propertySet)));
+        assertEquals(Long.valueOf(12345678901L), row.getValue(2, new LongValueFactory(this.propertySet)));
+        assertArrayEquals("2".getBytes(StandardCharsets.US_ASCII), row.getBytes(0));
+
+        row = store.get(2).setMetadata(COLUMNS);
+        assertEquals("", row.getValue(1, new StringValueFactory(this.propertySet)));
+        assertFalse(row.getNull(1));
+        assertTrue(row.getNull(2));
+        assertEquals(0, row.getLong(2));
+        assertTrue(row.wasNull());
+        assertFalse(((PackedRow) row).isBinaryEncoded());
+    }
+
+    @Test
+    public void testBinaryRows() {
+        PackedRowStore store = new PackedRowStore(COLUMNS, new MysqlBinaryValueDecoder(), null, false);
+        addRow(store, binaryRow(7, "seven", null));
+        addRow(store, binaryRow(-1, null, Long.MAX_VALUE));
+
+        Row row = store.get(0).setMetadata(COLUMNS);
+        assertTrue(((PackedRow) row).isBinaryEncoded());
+        assertFalse(row.supportsPrimitiveGetters());
+        assertEquals(Integer.valueOf(7), row.getValue(0, new IntegerValueFactory(this.propertySet)));
+        assertEquals("seven", row.getValue(1, new StringValueFactory(this.propertySet)));
+        assertTrue(row.getNull(2));
+
+        row = store.get(1).setMetadata(COLUMNS);
+        assertEquals(Integer.valueOf(-1), row.getValue(0, new IntegerValueFactory(this.propertySet)));
+        assertTrue(row.getNull(1));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), row.getValue(2, new LongValueFactory(this.propertySet)));
+    }
+
+    @Test
+    public void testRowsSpanSeveralChunks() {
+        PackedRowStore store = new PackedRowStore(COLUMNS, new MysqlTextValueDecoder(), null, false);
+        String largeName = repeat('y', PackedRowStore.MAX_CHUNK_SIZE + 10);
+        int rowCount = 10000;
+        for (int i = 0; i < rowCount; i++) {
+            addRow(store, textRow(String.valueOf(i), i == rowCount / 2 ? largeName : "name" + i, String.valueOf(i * 10L)));
+        }
+
+        assertEquals(rowCount, store.size());
+        assertTrue(store.getAllocatedBytes() > PackedRowStore.MAX_CHUNK_SIZE + PackedRowStore.INITIAL_CHUNK_SIZE);
+        for (int i = 0; i < rowCount; i++) {
+            Row row = store.get(i).setMetadata(COLUMNS);
+            assertEquals(Integer.valueOf(i), row.getValue(0, new IntegerValueFactory(this.propertySet)));
+            assertEquals(i == rowCount / 2 ? largeName : "name" + i, row.getValue(1, new StringValueFactory(this.propertySet)));
+            assertEquals(Long.valueOf(i * 10L), row.getValue(2, new LongValueFactory(this.propertySet)));
+        }
+    }
+
+    @Test
+    public void testSingleCursor() {
+        PackedRowStore store = new PackedRowStore(COLUMNS, new MysqlTextValueDecoder(), null, true);
+        addRow(store, textRow("1", "first", "10"));
+        addRow(store, textRow("2", null, "20"));
+
+        Row row = store.get(0).setMetadata(COLUMNS);
+        assertEquals("first", row.getValue(1, new StringValueFactory(this.propertySet)));
+        assertSame(row, store.get(1));
+        assertTrue(row.getNull(1));
+        assertEquals(20, row.getLong(2));
+        assertSame(row, store.get(0));
+        assertArrayEquals("first".getBytes(StandardCharsets.US_ASCII), row.getBytes(1));
+        assertEquals(10.0, row.getDouble(2));
+    }
+
+    @Test
+    public void testStoreIsReadOnly() {
+        PackedRowStore store = new PackedRowStore(COLUMNS, new MysqlTextValueDecoder(), null, false);
+        addRow(store, textRow("1", "a", "2"));
+
+        assertThrows(UnsupportedOperationException.class, () -> store.add(store.get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> store.remove(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+    }
+
+    private static Field field(String name, int mysqlTypeId, MysqlType mysqlType) {
+        return new Field(new LazyString(null), new LazyString("t"), new LazyString("t"), new LazyString(name), new LazyString(name), 10, mysqlTypeId,
+                (short) 0, 0, 33, "UTF-8", mysqlType);
+    }
+
+    private static void addRow(PackedRowStore store, byte[] payload) {
+        // copy from the middle of a larger buffer, as rows are read from reusable packets
+        byte[] packet = new byte[payload.length + 8];
+        System.arraycopy(payload, 0, packet, 4, payload.length);
+        store.addRow(packet, 4, payload.length);
+        Arrays.fill(packet, (byte) 0);
+    }
+
+    private static byte[] textRow(String... values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (String value : values) {
+            if (value == null) {
+                out.write(251);
+            } else {
+                writeLengthEncodedString(out, value.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] binaryRow(Integer id, String name, Long total) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int nullBitmap = (id == null ? 4 : 0) | (name == null ? 8 : 0) | (total == null ? 16 : 0);
+        out.write(nullBitmap);
+        if (id != null) {
+            out.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(id).array(), 0, 4);
+        }
+        if (name != null) {
+            writeLengthEncodedString(out, name.getBytes(StandardCharsets.UTF_8));
+        }
+        if (total != null) {
+            out.write(ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putLong(total).array(), 0, 8);
+        }
+        return out.toByteArray();
+    }
+
+    private static void writeLengthEncodedString(ByteArrayOutputStream out, byte[] value) {
+        int length = value.length;
+        if (length < 251) {
+            out.write(length);
+        } else if (length < 65536) {
+            out.write(252);
+            out.write(length);
+            out.write(length >>> 8);
+        } else {
+            out.write(253);
+            out.write(length);
+            out.write(length >>> 8);
+            out.write(length >>> 16);
+        }
+        out.write(value, 0, length);
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * AWS JDBC Driver for MySQL
+ * Copyright Amazon.com Inc. or affiliates.
+ *
+ * This program is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License, version 2.0, as published by the
+ * Free Software Foundation.
+ *
+ * This program is also distributed with certain software (including but not
+ * limited to OpenSSL) that is licensed under separate terms, as designated in a
+ * particular file or component or in included license documentation. The
+ * authors of this program hereby grant you an additional permission to link the
+ * program and your derivative works with the separately licensed software that
+ * they have included with MySQL.
+ *
+ * Without limiting anything contained in the foregoing, this file, which is
+ * part of this connector, is also subject to the Universal FOSS Exception,
+ * version 1.0, a copy of which can be found at
+ * http://oss.oracle.com/licenses/universal-foss-exception.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License, version 2.0,
+ * for more details.
+ *
+ * You should have received a copy of the GNU General Public License along with
+ * this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin St, Fifth Floor, Boston, MA 02110-1301  USA
+ */
+
+package com.mysql.cj.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ConcurrentLRUCache}.
+ */
+public class ConcurrentLRUCacheTest {
+
+    @Test
+    public void testGetPut() {
+        ConcurrentLRUCache<String, Integer> cache = new ConcurrentLRUCache<>(10);
+        assertNull(cache.get("a"));
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(2), cache.get("b"));
+        cache.put("a", 3);
+        assertEquals(Integer.valueOf(3), cache.get("a"));
+        assertEquals(2, cache.size());
+        assertEquals(3, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertEquals(Integer.valueOf(2), cache.remove("b"));
+        assertNull(cache.get("b"));
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEviction() {
+        List<String> removed = new ArrayList<>();
+        ConcurrentLRUCache<String, Integer> cache = new ConcurrentLRUCache<String, Integer>(10, 1) {
+            @Override
+            protected void onEviction(String key, Integer value) {
+                removed.add(key);
+            }
+        };
+        for (int i = 0; i < 10; i++) {
+            cache.put("k" + i, i);
+        }
+        assertEquals(10, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+
+        // a full cache evicts only the least recently used entry for each insert
+        cache.get("k0");
+        cache.put("k10", 10);
+        assertEquals(10, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals("k1", removed.get(0));
+
+        cache.put("k11", 11);
+        assertEquals(10, cache.size());
+        assertEquals(2, removed.size());
+        assertEquals("k2", removed.get(1));
+        assertNotNull(cache.get("k0"));
+
+        // replacing a value returns the old one instead of reporting an eviction
+        removed.clear();
+        assertEquals(Integer.valueOf(10), cache.put("k10", 12));
+        assertEquals(0, removed.size());
+
+        // a smaller size takes effect with the next insert, which is never evicted itself; replacing a value counts as a use
+        cache.setMaxSize(3);
+        cache.put("k12", 12);
+        assertEquals(3, cache.size());
+        assertNotNull(cache.get("k12"));
+        assertNotNull(cache.get("k10"));
+        assertNotNull(cache.get("k0"));
+        assertNull(cache.get("k11"));
+
+        cache.setMaxSize(1);
+        cache.put("k13", 13);
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get("k13"));
+        assertEquals(1, cache.keySet().size());
+    }
+
+    @Test
+    public void testSegmentedEviction() {
+        ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(100, ConcurrentLRUCache.MAX_SEGMENTS);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+            // keep reading the first keys, so that they stay the most recently used ones of their segments
+            for (int j = 0; j < 5; j++) {
+                cache.get(j);
+            }
+            assertFalse(cache.size() > 100, "size " + cache.size());
+        }
+        assertEquals(100, cache.size());
+        assertEquals(900, cache.getEvictionCount());
+        assertEquals(100, cache.keySet().size());
+        for (int j = 0; j < 5; j++) {
+            assertNotNull(cache.get(j));
+        }
+        assertNotNull(cache.get(999));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 100000; i++) {
+                        int key = random.nextInt(500);
+                        Integer value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, key * 2);
+                        } else {
+                            assertEquals(key * 2, value.intValue());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(800000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getEvictionCount() > 0);
+
+        assertEquals(100, cache.size());
+        assertEquals(100, cache.keySet().size());
+    }
+}
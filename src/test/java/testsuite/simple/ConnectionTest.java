@@ -72,8 +72,11 @@ import java.sql.Types;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
 import java.util.concurrent.Callable;
@@ -85,9 +88,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import com.mysql.cj.CacheAdapter;
 import com.mysql.cj.CharsetMappingWrapper;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.NativeSession;
+import com.mysql.cj.NativeSessionWrapper;
 import com.mysql.cj.PreparedQuery;
 import com.mysql.cj.Query;
 import com.mysql.cj.conf.ConnectionUrl;
@@ -120,6 +125,7 @@ import com.mysql.cj.protocol.a.TimeTrackingPacketReader;
 import com.mysql.cj.protocol.a.TimeTrackingPacketSender;
 import com.mysql.cj.protocol.a.TracingPacketReader;
 import com.mysql.cj.protocol.a.TracingPacketSender;
+import com.mysql.cj.util.PerVmServerConfigCacheFactory;
 import com.mysql.cj.util.TimeUtil;
 import com.mysql.cj.util.Util;
 
@@ -2887,4 +2893,142 @@ public class ConnectionTest extends BaseTestCase {
         assertSessionStatusEquals(con.createStatement(), "ssl_version", "TLSv1.2");
         con.close();
     }
+
+    /**
+     * Tests that the session variables set while a connection is initialized are all applied when they are deferred and sent together.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testDeferredSessionInitialization() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        // the out of range sort_buffer_size raises a truncation warning
+        props.setProperty(PropertyKey.sessionVariables.getKeyName(), "@testDeferredSessionInit=1,net_write_timeout=123,sort_buffer_size=1");
+        props.setProperty(PropertyKey.jdbcCompliantTruncation.getKeyName(), "true");
+        props.setProperty(PropertyKey.connectionTimeZone.getKeyName(), "+01:00");
+        props.setProperty(PropertyKey.forceConnectionTimeZoneToSession.getKeyName(), "true");
+
+        // without cache, with cache miss and with cache hit, when there is no query to pipeline the deferred variables with
+        for (String cacheServerConfiguration : new String[] { "false", "true", "true" }) {
+            props.setProperty(PropertyKey.cacheServerConfiguration.getKeyName(), cacheServerConfiguration);
+            Connection testConn = getConnectionWithProps(props);
+            try {
+                this.rs = testConn.createStatement().executeQuery("SELECT @testDeferredSessionInit, @@session.net_write_timeout, @@session.sql_mode,"
+                        + " @@session.time_zone, @@session.autocommit, @@session.character_set_results");
+                assertTrue(this.rs.next());
+                assertEquals(1, this.rs.getInt(1));
+                assertEquals(123, this.rs.getInt(2));
+                assertTrue(this.rs.getString(3).contains("STRICT_TRANS_TABLES"));
+                assertEquals("+01:00", this.rs.getString(4));
+                assertEquals(1, this.rs.getInt(5));
+                assertNull(this.rs.getString(6));
+                assertTrue(testConn.getAutoCommit());
+
+                // a user change sets the variables again
+                ((JdbcConnection) testConn).changeUser(mainConnectionUrl.getMainHost().getUser(), mainConnectionUrl.getMainHost().getPassword());
+                this.rs = testConn.createStatement().executeQuery("SELECT @testDeferredSessionInit, @@session.net_write_timeout");
+                assertTrue(this.rs.next());
+                assertEquals(1, this.rs.getInt(1));
+                assertEquals(123, this.rs.getInt(2));
+            } finally {
+                testConn.close();
+            }
+        }
+    }
+
+    /**
+     * Tests that the deferred session variables are sent on their own, and still applied, when query profiling or slow query logging observe every
+     * command.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testDeferredSessionInitializationWithoutPipelining() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.sessionVariables.getKeyName(), "@testDeferredSessionInit=2,net_write_timeout=124");
+
+        for (PropertyKey observer : new PropertyKey[] { PropertyKey.profileSQL, PropertyKey.logSlowQueries }) {
+            Properties observedProps = new Properties();
+            observedProps.putAll(props);
+            observedProps.setProperty(observer.getKeyName(), "true");
+            Connection testConn = getConnectionWithProps(observedProps);
+            try {
+                this.rs = testConn.createStatement().executeQuery("SELECT @testDeferredSessionInit, @@session.net_write_timeout");
+                assertTrue(this.rs.next());
+                assertEquals(2, this.rs.getInt(1));
+                assertEquals(124, this.rs.getInt(2));
+            } finally {
+                testConn.close();
+            }
+        }
+    }
+
+    /**
+     * Tests that connections to different instances of a cluster share the server configuration cached by the first of them.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testClusterServerConfigCache() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.cacheServerConfiguration.getKeyName(), "true");
+        props.setProperty(PropertyKey.clusterId.getKeyName(), "testClusterServerConfigCache-" + System.currentTimeMillis());
+
+        // the connect timeout only makes the database URL, hence the instance cache key, of each connection unique
+        String instanceUrl = dbUrl + (dbUrl.contains("?") ? "&" : "?") + PropertyKey.connectTimeout.getKeyName() + "=";
+
+        Connection testConn = getConnectionWithProps(instanceUrl + "60001", props);
+        String clusterKey = NativeSessionWrapper.getServerConfigClusterKey((NativeSession) ((MysqlConnection) testConn).getSession());
+        testConn.close();
+
+        // mark the cluster snapshot so that its use by other connections can be observed
+        CacheAdapter<String, Map<String, String>> cache = new PerVmServerConfigCacheFactory().getInstance(null, null, 0, 0);
+        Map<String, String> snapshot = cache.get(clusterKey);
+        assertNotNull(snapshot);
+        Map<String, String> markedSnapshot = new HashMap<>(snapshot);
+        markedSnapshot.put("testClusterServerConfigCache", "1");
+        cache.invalidate(clusterKey);
+        cache.put(clusterKey, Collections.unmodifiableMap(markedSnapshot));
+
+        testConn = getConnectionWithProps(instanceUrl + "60002", props);
+        try {
+            assertEquals("1", ((MysqlConnection) testConn).getSession().getServerSession().getServerVariable("testClusterServerConfigCache"));
+        } finally {
+            testConn.close();
+        }
+
+        // the snapshot isn't shared with connections whose session values may differ
+        props.setProperty(PropertyKey.sessionVariables.getKeyName(), "sql_mode='NO_BACKSLASH_ESCAPES'");
+        testConn = getConnectionWithProps(instanceUrl + "60003", props);
+        try {
+            assertNull(((MysqlConnection) testConn).getSession().getServerSession().getServerVariable("testClusterServerConfigCache"));
+            assertTrue(((MysqlConnection) testConn).getSession().getServerSession().isNoBackslashEscapesSet());
+        } finally {
+            testConn.close();
+        }
+        props.remove(PropertyKey.sessionVariables.getKeyName());
+        testConn = getConnectionWithProps(instanceUrl + "60004", props);
+        try {
+            assertEquals("1", ((MysqlConnection) testConn).getSession().getServerSession().getServerVariable("testClusterServerConfigCache"));
+            assertFalse(((MysqlConnection) testConn).getSession().getServerSession().isNoBackslashEscapesSet());
+        } finally {
+            testConn.close();
+        }
+
+        // an expired snapshot is loaded again
+        props.setProperty(PropertyKey.serverConfigCacheTtlMs.getKeyName(), "1");
+        Thread.sleep(10);
+        testConn = getConnectionWithProps(instanceUrl + "60005", props);
+        try {
+            assertNull(((MysqlConnection) testConn).getSession().getServerSession().getServerVariable("testClusterServerConfigCache"));
+        } finally {
+            testConn.close();
+        }
+    }
 }
@@ -1468,4 +1468,60 @@ public class ResultSetTest extends BaseTestCase {
             }
         });
     }
+
+    /**
+     * Tests that getInt(), getLong(), getDouble() and getBoolean(), which read text protocol values without value factories, return the same as
+     * getObject() with the corresponding type.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPrimitiveGetters() throws Exception {
+        createTable("testPrimitiveGetters", "(id INT PRIMARY KEY, ti TINYINT, tu TINYINT UNSIGNED, si SMALLINT, mu MEDIUMINT UNSIGNED, i INT, iu INT UNSIGNED,"
+                + " bi BIGINT, bu BIGINT UNSIGNED, f FLOAT, d DOUBLE, m DECIMAL(30,10), s VARCHAR(20))");
+        this.stmt.executeUpdate("INSERT INTO testPrimitiveGetters VALUES (1, -128, 255, -32768, 16777215, -2147483648, 4294967295, -9223372036854775808,"
+                + " 18446744073709551615, -1.5, 1.7976931348623157E308, -12345678901234567890.0123456789, '-1')");
+        this.stmt.executeUpdate("INSERT INTO testPrimitiveGetters VALUES (2, -1, 0, 1, 0, 2147483647, 0, 9223372036854775807, 1234, 0.1,"
+                + " 0.30000000000000004, 98765.43, '0.5')");
+        this.stmt.executeUpdate("INSERT INTO testPrimitiveGetters (id) VALUES (3)");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), "DISABLED");
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), "true");
+        Connection spsConn = getConnectionWithProps(props);
+
+        try {
+            for (int variant = 0; variant < 2; variant++) {
+                this.rs = variant == 0 ? this.stmt.executeQuery("SELECT * FROM testPrimitiveGetters ORDER BY id")
+                        : spsConn.prepareStatement("SELECT * FROM testPrimitiveGetters ORDER BY id").executeQuery();
+                int columnCount = this.rs.getMetaData().getColumnCount();
+
+                while (this.rs.next()) {
+                    for (int c = 2; c <= columnCount; c++) {
+                        final int columnIndex = c;
+                        String message = "row " + this.rs.getInt(1) + ", column " + this.rs.getMetaData().getColumnName(c);
+                        assertPrimitiveGetter(message, () -> this.rs.getObject(columnIndex, Integer.class), () -> this.rs.getInt(columnIndex), 0);
+                        assertPrimitiveGetter(message, () -> this.rs.getObject(columnIndex, Long.class), () -> this.rs.getLong(columnIndex), 0L);
+                        assertPrimitiveGetter(message, () -> this.rs.getObject(columnIndex, Double.class), () -> this.rs.getDouble(columnIndex), 0.0);
+                        assertPrimitiveGetter(message, () -> this.rs.getObject(columnIndex, Boolean.class), () -> this.rs.getBoolean(columnIndex), false);
+                    }
+                }
+            }
+        } finally {
+            spsConn.close();
+        }
+    }
+
+    private <T> void assertPrimitiveGetter(String message, Callable<T> objectGetter, Callable<T> primitiveGetter, T nullValue) throws Exception {
+        T expected;
+        try {
+            expected = objectGetter.call();
+        } catch (Exception e) {
+            assertThrows(message, e.getClass(), primitiveGetter);
+            return;
+        }
+        assertEquals(expected == null ? nullValue : expected, primitiveGetter.call(), message);
+        assertEquals(expected == null, this.rs.wasNull(), message);
+    }
 }
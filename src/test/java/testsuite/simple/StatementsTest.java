@@ -29,10 +29,12 @@
 
 package testsuite.simple;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -57,6 +59,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientException;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -70,10 +73,12 @@ import java.time.OffsetTime;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Properties;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -82,18 +87,22 @@ import org.junit.jupiter.api.Test;
 import com.mysql.cj.CharsetMappingWrapper;
 import com.mysql.cj.MysqlConnection;
 import com.mysql.cj.MysqlType;
+import com.mysql.cj.PerVmParseInfoCacheFactory;
+import com.mysql.cj.SharedResultSetMetadataCache;
 import com.mysql.cj.conf.PropertyDefinitions.SslMode;
 import com.mysql.cj.conf.PropertyKey;
 import com.mysql.cj.exceptions.MysqlErrorNumbers;
 import com.mysql.cj.jdbc.ClientPreparedStatement;
 import com.mysql.cj.jdbc.ConnectionImpl;
 import com.mysql.cj.jdbc.JdbcConnection;
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.mysql.cj.jdbc.LoadDataRowEncoder;
 import com.mysql.cj.jdbc.ParameterBindings;
 import com.mysql.cj.jdbc.ServerPreparedStatement;
 import com.mysql.cj.jdbc.exceptions.MySQLStatementCancelledException;
 import com.mysql.cj.jdbc.exceptions.MySQLTimeoutException;
 import com.mysql.cj.jdbc.interceptors.ServerStatusDiffInterceptor;
-import com.mysql.cj.util.LRUCache;
+import com.mysql.cj.util.BoundedCache;
 import com.mysql.cj.util.StringUtils;
 import com.mysql.cj.util.TimeUtil;
 
@@ -1120,6 +1129,66 @@ public class StatementsTest extends BaseTestCase {
         }
     }
 
+    /**
+     * Tests cursor fetches sized by "cursorFetchBufferSize" and prefetched with "prefetchCursorRows".
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testAdaptiveCursorFetch() throws Exception {
+        createTable("testAdaptiveCursorFetch", "(id INT PRIMARY KEY, data VARCHAR(1000))");
+        StringBuilder insert = new StringBuilder("INSERT INTO testAdaptiveCursorFetch VALUES ");
+        for (int i = 0; i < 2000; i++) {
+            insert.append(i > 0 ? ", (" : "(").append(i).append(", REPEAT('x', ").append(i % 2 == 0 ? 10 : 900).append("))");
+        }
+        this.stmt.executeUpdate(insert.toString());
+
+        for (String prefetch : new String[] { "false", "true" }) {
+            Properties props = new Properties();
+            props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+            props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+            props.setProperty(PropertyKey.useCursorFetch.getKeyName(), "true");
+            props.setProperty(PropertyKey.cursorFetchBufferSize.getKeyName(), "16k");
+            props.setProperty(PropertyKey.prefetchCursorRows.getKeyName(), prefetch);
+
+            Connection fetchConn = getConnectionWithProps(props);
+            try {
+                PreparedStatement fetchStmt = fetchConn.prepareStatement("SELECT id, data FROM testAdaptiveCursorFetch ORDER BY id");
+                fetchStmt.setFetchSize(5);
+                Statement otherStmt = fetchConn.createStatement();
+
+                this.rs = fetchStmt.executeQuery();
+                for (int i = 0; i < 2000; i++) {
+                    assertTrue(this.rs.next(), "prefetch=" + prefetch);
+                    assertEquals(i, this.rs.getInt(1));
+                    assertEquals(i % 2 == 0 ? 10 : 900, this.rs.getString(2).length());
+
+                    if (i % 97 == 0) {
+                        // other statements on the connection wait for a fetch running in the background
+                        ResultSet otherRs = otherStmt.executeQuery("SELECT " + i);
+                        assertTrue(otherRs.next());
+                        assertEquals(i, otherRs.getInt(1));
+                        otherRs.close();
+                    }
+                }
+                assertFalse(this.rs.next());
+
+                // closing a partially read result set waits for the background fetch
+                this.rs = fetchStmt.executeQuery();
+                assertTrue(this.rs.next());
+                assertTrue(this.rs.next());
+                this.rs.close();
+                fetchStmt.close();
+
+                ResultSet otherRs = otherStmt.executeQuery("SELECT COUNT(*) FROM testAdaptiveCursorFetch");
+                assertTrue(otherRs.next());
+                assertEquals(2000, otherRs.getInt(1));
+            } finally {
+                fetchConn.close();
+            }
+        }
+    }
+
     @Test
     public void testSelectColumns() throws SQLException {
         for (int i = 6; i < MAX_COLUMNS_TO_TEST; i += STEP) {
@@ -1601,6 +1670,241 @@ public class StatementsTest extends BaseTestCase {
         }
     }
 
+    /**
+     * Tests the pipelined execution of batches enabled by 'maxPipelinedCommands'.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPipelinedBatch() throws Exception {
+        createTable("pipelinedBatch", "(id INT NOT NULL PRIMARY KEY, val INT)");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.continueBatchOnError.getKeyName(), "true");
+
+        for (boolean useServerPrepStmts : new boolean[] { false, true }) {
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), Boolean.toString(useServerPrepStmts));
+
+            for (String maxPipelinedCommands : new String[] { "1", "3", "100" }) {
+                props.setProperty(PropertyKey.maxPipelinedCommands.getKeyName(), maxPipelinedCommands);
+                Connection testConn = getConnectionWithProps(props);
+
+                Statement testStmt = testConn.createStatement();
+                for (int i = 0; i < 10; i++) {
+                    testStmt.addBatch("INSERT INTO pipelinedBatch VALUES (" + i + ", " + i + ")");
+                }
+                testStmt.addBatch("INSERT INTO pipelinedBatch VALUES (5, 0)");
+                testStmt.addBatch("UPDATE pipelinedBatch SET val = val + 1 WHERE id < 3");
+
+                BatchUpdateException bue = assertThrows(BatchUpdateException.class, () -> testStmt.executeBatch());
+                assertEquals(MysqlErrorNumbers.ER_DUP_ENTRY, bue.getErrorCode());
+                int[] counts = bue.getUpdateCounts();
+                assertEquals(12, counts.length);
+                for (int i = 0; i < 10; i++) {
+                    assertEquals(1, counts[i]);
+                }
+                assertEquals(Statement.EXECUTE_FAILED, counts[10]);
+                assertEquals(3, counts[11]);
+
+                PreparedStatement testPstmt = testConn.prepareStatement("INSERT INTO pipelinedBatch VALUES (?, ?)");
+                for (int i = 10; i < 20; i++) {
+                    testPstmt.setInt(1, i);
+                    testPstmt.setInt(2, i);
+                    testPstmt.addBatch();
+                }
+                testPstmt.setInt(1, 15);
+                testPstmt.setInt(2, 0);
+                testPstmt.addBatch();
+                testPstmt.setInt(1, 20);
+                testPstmt.setString(2, "20"); // parameter types differ from the previous parameter set
+                testPstmt.addBatch();
+
+                bue = assertThrows(BatchUpdateException.class, () -> testPstmt.executeBatch());
+                assertEquals(MysqlErrorNumbers.ER_DUP_ENTRY, bue.getErrorCode());
+                counts = bue.getUpdateCounts();
+                assertEquals(12, counts.length);
+                for (int i = 0; i < 10; i++) {
+                    assertEquals(1, counts[i]);
+                }
+                assertEquals(Statement.EXECUTE_FAILED, counts[10]);
+                assertEquals(1, counts[11]);
+
+                assertEquals(21, getRowCount("pipelinedBatch"));
+
+                // the connection is still usable after the pipelines
+                this.rs = testStmt.executeQuery("SELECT SUM(val) FROM pipelinedBatch WHERE id < 3");
+                assertTrue(this.rs.next());
+                assertEquals(6, this.rs.getInt(1));
+
+                testConn.close();
+                this.stmt.execute("TRUNCATE TABLE pipelinedBatch");
+            }
+        }
+    }
+
+    /**
+     * Tests that the warnings of a pipelined command don't make the driver read the responses of the following commands as the response to
+     * 'SHOW WARNINGS'.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPipelinedBatchWithWarnings() throws Exception {
+        createTable("pipelinedBatchWarnings", "(id INT NOT NULL PRIMARY KEY)");
+        this.stmt.executeUpdate("INSERT INTO pipelinedBatchWarnings VALUES (1)");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.continueBatchOnError.getKeyName(), "true");
+        props.setProperty(PropertyKey.jdbcCompliantTruncation.getKeyName(), "true");
+        props.setProperty(PropertyKey.maxPipelinedCommands.getKeyName(), "100");
+
+        for (boolean useServerPrepStmts : new boolean[] { false, true }) {
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), Boolean.toString(useServerPrepStmts));
+            Connection testConn = getConnectionWithProps(props);
+
+            try {
+                Statement testStmt = testConn.createStatement();
+                testStmt.addBatch("INSERT IGNORE INTO pipelinedBatchWarnings VALUES (1)"); // duplicate key warning
+                testStmt.addBatch("INSERT INTO pipelinedBatchWarnings VALUES (2)");
+                int[] counts = testStmt.executeBatch();
+                assertEquals(2, counts.length);
+                assertEquals(0, counts[0]);
+                assertEquals(1, counts[1]);
+
+                PreparedStatement testPstmt = testConn.prepareStatement("INSERT IGNORE INTO pipelinedBatchWarnings VALUES (?)");
+                testPstmt.setInt(1, 2); // duplicate key warning
+                testPstmt.addBatch();
+                testPstmt.setInt(1, 3);
+                testPstmt.addBatch();
+                counts = testPstmt.executeBatch();
+                assertEquals(2, counts.length);
+                assertEquals(0, counts[0]);
+                assertEquals(1, counts[1]);
+
+                // the connection is still in sync
+                this.rs = testStmt.executeQuery("SELECT COUNT(*) FROM pipelinedBatchWarnings");
+                assertTrue(this.rs.next());
+                assertEquals(3, this.rs.getInt(1));
+            } finally {
+                testConn.close();
+            }
+            this.stmt.executeUpdate("DELETE FROM pipelinedBatchWarnings WHERE id > 1");
+        }
+    }
+
+    /**
+     * Tests that pipelined batches of commands larger than the socket buffers don't block the connection.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPipelinedBatchWithLargeCommands() throws Exception {
+        createTable("pipelinedBatchLarge", "(id INT NOT NULL PRIMARY KEY, val LONGTEXT)");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.continueBatchOnError.getKeyName(), "true");
+
+        char[] chars = new char[256 * 1024];
+        Arrays.fill(chars, 'x');
+        String largeValue = new String(chars);
+
+        for (boolean useServerPrepStmts : new boolean[] { false, true }) {
+            props.setProperty(PropertyKey.useServerPrepStmts.getKeyName(), Boolean.toString(useServerPrepStmts));
+
+            for (String maxPipelinedCommands : new String[] { "2", "100" }) {
+                props.setProperty(PropertyKey.maxPipelinedCommands.getKeyName(), maxPipelinedCommands);
+                Connection testConn = getConnectionWithProps(props);
+
+                try {
+                    Statement testStmt = testConn.createStatement();
+                    for (int i = 0; i < 20; i++) {
+                        testStmt.addBatch("INSERT INTO pipelinedBatchLarge VALUES (" + i + ", '" + (i % 2 == 0 ? largeValue : "small") + "')");
+                    }
+                    int[] counts = testStmt.executeBatch();
+                    assertEquals(20, counts.length);
+                    for (int i = 0; i < 20; i++) {
+                        assertEquals(1, counts[i]);
+                    }
+
+                    PreparedStatement testPstmt = testConn.prepareStatement("INSERT INTO pipelinedBatchLarge VALUES (?, ?)");
+                    for (int i = 20; i < 40; i++) {
+                        testPstmt.setInt(1, i);
+                        testPstmt.setString(2, i % 2 == 0 ? largeValue : "small");
+                        testPstmt.addBatch();
+                    }
+                    counts = testPstmt.executeBatch();
+                    assertEquals(20, counts.length);
+                    for (int i = 0; i < 20; i++) {
+                        assertEquals(1, counts[i]);
+                    }
+
+                    // the connection is still in sync
+                    this.rs = testStmt.executeQuery("SELECT COUNT(*), SUM(LENGTH(val)) FROM pipelinedBatchLarge");
+                    assertTrue(this.rs.next());
+                    assertEquals(40, this.rs.getInt(1));
+                    assertEquals(20L * largeValue.length() + 20L * "small".length(), this.rs.getLong(2));
+                } finally {
+                    testConn.close();
+                }
+                this.stmt.executeUpdate("TRUNCATE TABLE pipelinedBatchLarge");
+            }
+        }
+    }
+
+    @Test
+    public void testDeferParameterEncoding() throws Exception {
+        createTable("deferParameterEncoding", "(id BIGINT NOT NULL PRIMARY KEY, b TINYINT, s SMALLINT, flag BOOLEAN, str VARCHAR(100)) DEFAULT CHARSET=utf8mb4");
+
+        String[] strings = { "", "plain", "it's", "back\\slash", "\"quoted\"", "new\nline\r\u0000\u001a", "été € 中文 😀" };
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.characterEncoding.getKeyName(), "UTF-8");
+        props.setProperty(PropertyKey.deferParameterEncoding.getKeyName(), "true");
+
+        for (String rewriteBatchedStatements : new String[] { "false", "true" }) {
+            props.setProperty(PropertyKey.rewriteBatchedStatements.getKeyName(), rewriteBatchedStatements);
+            Connection testConn = getConnectionWithProps(props);
+
+            PreparedStatement testPstmt = testConn.prepareStatement("INSERT INTO deferParameterEncoding VALUES (?, ?, ?, ?, ?)");
+            for (int i = 0; i < strings.length; i++) {
+                testPstmt.setLong(1, i == 0 ? Long.MIN_VALUE : i);
+                testPstmt.setByte(2, (byte) -i);
+                testPstmt.setShort(3, (short) (i * 1000));
+                testPstmt.setBoolean(4, i % 2 == 0);
+                testPstmt.setString(5, strings[i]);
+                testPstmt.addBatch();
+            }
+            testPstmt.executeBatch();
+
+            // the values are also rendered for toString()
+            testPstmt.setLong(1, 42);
+            testPstmt.setString(5, "it's");
+            assertTrue(testPstmt.toString().contains("42") && testPstmt.toString().contains("'it''s'"));
+
+            this.rs = testConn.createStatement().executeQuery("SELECT id, b, s, flag, str FROM deferParameterEncoding ORDER BY id");
+            for (int i = 0; i < strings.length; i++) {
+                assertTrue(this.rs.next());
+                assertEquals(i == 0 ? Long.MIN_VALUE : i, this.rs.getLong(1));
+                assertEquals(-i, this.rs.getByte(2));
+                assertEquals(i * 1000, this.rs.getShort(3));
+                assertEquals(i % 2 == 0, this.rs.getBoolean(4));
+                assertEquals(strings[i], this.rs.getString(5));
+            }
+            assertFalse(this.rs.next());
+
+            testConn.close();
+            this.stmt.execute("TRUNCATE TABLE deferParameterEncoding");
+        }
+    }
+
     @Test
     public void testStreamChange() throws Exception {
         createTable("testStreamChange", "(field1 varchar(32), field2 int, field3 TEXT, field4 BLOB)");
@@ -1894,6 +2198,72 @@ public class StatementsTest extends BaseTestCase {
         }
     }
 
+    /**
+     * Tests for JdbcStatement.executeLoadData().
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testExecuteLoadData() throws Exception {
+        this.rs = this.stmt.executeQuery("SHOW VARIABLES LIKE 'local_infile'");
+        assumeTrue(this.rs.next() && "ON".equalsIgnoreCase(this.rs.getString(2)), "This test requires the server started with --local-infile=ON");
+        this.rs.close();
+
+        createTable("testExecuteLoadData", "(id INT PRIMARY KEY, name VARCHAR(255), data VARBINARY(16))");
+        String sql = "LOAD DATA LOCAL INFILE 'rows' INTO TABLE testExecuteLoadData CHARACTER SET utf8mb4";
+        LoadDataRowEncoder<Integer> encoder = (id, writer) -> {
+            writer.writeLong(id);
+            writer.writeString(id % 10 == 0 ? null : "name\t" + id + "\té");
+            writer.writeBytes(new byte[] { (byte) id.intValue(), '\n', '\\' });
+        };
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        Connection testConn = getConnectionWithProps(props);
+        try {
+            assertThrows(SQLException.class, "Loading rows with executeLoadData\\(\\) requires \"allowLoadLocalInfile=true\"\\.",
+                    () -> ((JdbcStatement) testConn.createStatement()).executeLoadData(sql, IntStream.range(0, 10).iterator(), encoder));
+        } finally {
+            testConn.close();
+        }
+
+        props.setProperty(PropertyKey.allowLoadLocalInfile.getKeyName(), "true");
+        Connection loadConn = getConnectionWithProps(props);
+        try {
+            JdbcStatement testStmt = (JdbcStatement) loadConn.createStatement();
+
+            // enough rows to need several packets
+            assertEquals(100000, testStmt.executeLoadData(sql, IntStream.range(0, 100000).iterator(), encoder));
+            assertNull(testStmt.getLocalInfileInputStream());
+
+            this.rs = testStmt.executeQuery("SELECT id, name, data FROM testExecuteLoadData ORDER BY id");
+            for (int i = 0; i < 100000; i++) {
+                assertTrue(this.rs.next());
+                assertEquals(i, this.rs.getInt(1));
+                assertEquals(i % 10 == 0 ? null : "name\t" + i + "\té", this.rs.getString(2));
+                assertArrayEquals(new byte[] { (byte) i, '\n', '\\' }, this.rs.getBytes(3));
+            }
+            assertFalse(this.rs.next());
+
+            // a failing encoder stops the load after the last complete row and leaves the connection usable
+            testStmt.execute("TRUNCATE TABLE testExecuteLoadData");
+            SQLException ex = assertThrows(SQLException.class,
+                    () -> testStmt.executeLoadData(sql, IntStream.range(0, 10).iterator(), (LoadDataRowEncoder<Integer>) (id, writer) -> {
+                        if (id == 5) {
+                            throw new IllegalStateException("bad row");
+                        }
+                        encoder.encode(id, writer);
+                    }));
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+            this.rs = testStmt.executeQuery("SELECT COUNT(*) FROM testExecuteLoadData");
+            assertTrue(this.rs.next());
+            assertEquals(5, this.rs.getInt(1));
+        } finally {
+            loadConn.close();
+        }
+    }
+
     /**
      * Tests for ResultSet.getNCharacterStream()
      * 
@@ -3872,7 +4242,7 @@ public class StatementsTest extends BaseTestCase {
         stmtsCacheField.setAccessible(true);
         ToIntFunction<Connection> getStmtsCacheSize = (c) -> {
             try {
-                LRUCache<?, ?> stmtsCacheObj = (LRUCache<?, ?>) stmtsCacheField.get(c);
+                BoundedCache<?, ?> stmtsCacheObj = (BoundedCache<?, ?>) stmtsCacheField.get(c);
                 return stmtsCacheObj == null ? -1 : stmtsCacheObj.size();
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 fail("Fail getting the statemets cache size.");
@@ -3882,7 +4252,7 @@ public class StatementsTest extends BaseTestCase {
         Function<Connection, ServerPreparedStatement> getStmtsCacheSingleElem = (c) -> {
             try {
                 @SuppressWarnings("unchecked")
-                LRUCache<?, ServerPreparedStatement> stmtsCacheObj = (LRUCache<?, ServerPreparedStatement>) stmtsCacheField.get(c);
+                BoundedCache<?, ServerPreparedStatement> stmtsCacheObj = (BoundedCache<?, ServerPreparedStatement>) stmtsCacheField.get(c);
                 return stmtsCacheObj.get(stmtsCacheObj.keySet().iterator().next());
             } catch (IllegalArgumentException | IllegalAccessException e) {
                 fail("Fail getting the statemets cache element.");
@@ -4149,6 +4519,190 @@ public class StatementsTest extends BaseTestCase {
         } while ((useSPS = !useSPS) || (cachePS = !cachePS));
     }
 
+    /**
+     * Tests the parse info cache shared by all connections with "parseInfoCacheFactory=com.mysql.cj.PerVmParseInfoCacheFactory".
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testPerVmParseInfoCache() throws Exception {
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.cachePrepStmts.getKeyName(), "true");
+        props.setProperty(PropertyKey.parseInfoCacheFactory.getKeyName(), PerVmParseInfoCacheFactory.class.getName());
+        // unique per run, so that the statement is not cached by an earlier run in the same JVM
+        String sql = "SELECT ?, 'a\\\\' /* testPerVmParseInfoCache " + System.nanoTime() + " */";
+
+        Connection testConn1 = getConnectionWithProps(props);
+        Connection testConn2 = getConnectionWithProps(props);
+        props.setProperty(PropertyKey.sessionVariables.getKeyName(), "sql_mode='NO_BACKSLASH_ESCAPES'");
+        Connection testConn3 = getConnectionWithProps(props);
+        try {
+            long missCount = PerVmParseInfoCacheFactory.getMissCount();
+            long hitCount = PerVmParseInfoCacheFactory.getHitCount();
+
+            ClientPreparedStatement pstmt1 = (ClientPreparedStatement) testConn1.prepareStatement(sql);
+            assertTrue(PerVmParseInfoCacheFactory.getMissCount() > missCount);
+
+            // another connection reuses the parse info
+            ClientPreparedStatement pstmt2 = (ClientPreparedStatement) testConn2.prepareStatement(sql);
+            assertTrue(PerVmParseInfoCacheFactory.getHitCount() > hitCount);
+            assertSame(pstmt1.getParseInfo(), pstmt2.getParseInfo());
+
+            // but not a connection parsing the statement differently
+            ClientPreparedStatement pstmt3 = (ClientPreparedStatement) testConn3.prepareStatement(sql);
+            assertNotSame(pstmt1.getParseInfo(), pstmt3.getParseInfo());
+
+            pstmt2.setInt(1, 1);
+            this.rs = pstmt2.executeQuery();
+            assertTrue(this.rs.next());
+            assertEquals(1, this.rs.getInt(1));
+            assertEquals("a\\", this.rs.getString(2));
+
+            pstmt3.setInt(1, 3);
+            this.rs = pstmt3.executeQuery();
+            assertTrue(this.rs.next());
+            assertEquals(3, this.rs.getInt(1));
+            assertEquals("a\\\\", this.rs.getString(2));
+        } finally {
+            testConn1.close();
+            testConn2.close();
+            testConn3.close();
+        }
+    }
+
+    /**
+     * Tests the result set metadata shared by all connections with "useOptionalResultSetMetadata=true".
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testSharedResultSetMetadataCache() throws Exception {
+        createTable("testSharedResultSetMetadataCache", "(id INT, name VARCHAR(10))");
+        this.stmt.executeUpdate("INSERT INTO testSharedResultSetMetadataCache VALUES (1, 'a')");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.cacheResultSetMetadata.getKeyName(), "true");
+        props.setProperty(PropertyKey.useOptionalResultSetMetadata.getKeyName(), "true");
+        // unique per run, so that the query is not cached by an earlier run in the same JVM
+        String sql = "SELECT * FROM testSharedResultSetMetadataCache /* testSharedResultSetMetadataCache " + System.nanoTime() + " */ ORDER BY id";
+
+        Connection testConn1 = getConnectionWithProps(props);
+        Connection testConn2 = getConnectionWithProps(props);
+        try {
+            long missCount = SharedResultSetMetadataCache.getMissCount();
+            long hitCount = SharedResultSetMetadataCache.getHitCount();
+
+            this.rs = testConn1.createStatement().executeQuery(sql);
+            assertTrue(SharedResultSetMetadataCache.getMissCount() > missCount);
+            assertTrue(this.rs.next());
+            assertEquals(1, this.rs.getInt("id"));
+
+            // another connection reuses the metadata, and the server omits it on MySQL 8.0.3+
+            this.rs = testConn2.createStatement().executeQuery(sql);
+            assertTrue(SharedResultSetMetadataCache.getHitCount() > hitCount);
+            assertEquals(2, this.rs.getMetaData().getColumnCount());
+            assertEquals("name", this.rs.getMetaData().getColumnName(2));
+            assertTrue(this.rs.next());
+            assertEquals(1, this.rs.getInt(1));
+            assertEquals("a", this.rs.getString("name"));
+
+            // statements which don't return result sets are run with the same session settings
+            testConn2.createStatement().executeUpdate("INSERT INTO testSharedResultSetMetadataCache VALUES (2, 'b')");
+
+            // a schema change run through the driver discards the metadata
+            testConn1.createStatement().execute("ALTER TABLE testSharedResultSetMetadataCache ADD COLUMN note VARCHAR(10) DEFAULT 'n'");
+            this.rs = testConn2.createStatement().executeQuery(sql);
+            assertEquals(3, this.rs.getMetaData().getColumnCount());
+            assertTrue(this.rs.next());
+            assertEquals("n", this.rs.getString("note"));
+            assertTrue(this.rs.next());
+            assertEquals("b", this.rs.getString(2));
+
+            // a schema change made outside of the driver is detected when the number of columns changes; if the server omitted the metadata, the query
+            // fails without being run again and the metadata is discarded
+            this.stmt.execute("ALTER TABLE testSharedResultSetMetadataCache DROP COLUMN note");
+            if (versionMeetsMinimum(8, 0, 3)) {
+                assertThrows(SQLTransientException.class, () -> testConn1.createStatement().executeQuery(sql));
+            }
+            this.rs = testConn1.createStatement().executeQuery(sql);
+            assertEquals(2, this.rs.getMetaData().getColumnCount());
+            assertTrue(this.rs.next());
+            assertEquals("a", this.rs.getString("name"));
+
+            // metadata sent by the server replaces cached metadata that differs from it, even with the same number of columns
+            if (!versionMeetsMinimum(8, 0, 3)) {
+                this.stmt.execute("ALTER TABLE testSharedResultSetMetadataCache MODIFY COLUMN name VARCHAR(20)");
+                this.rs = testConn1.createStatement().executeQuery(sql);
+                assertEquals(20, this.rs.getMetaData().getPrecision(2));
+            }
+        } finally {
+            testConn1.close();
+            testConn2.close();
+        }
+    }
+
+    /**
+     * Tests that multiple statements are always sent with full metadata with "useOptionalResultSetMetadata=true", so that each of their result sets is
+     * decoded and none of them is run twice.
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testSharedResultSetMetadataCacheMultipleStatements() throws Exception {
+        createTable("testSharedRsmdMultiStmts", "(id INT, name VARCHAR(10))");
+        this.stmt.executeUpdate("INSERT INTO testSharedRsmdMultiStmts VALUES (1, 'a')");
+
+        Properties props = new Properties();
+        props.setProperty(PropertyKey.sslMode.getKeyName(), SslMode.DISABLED.name());
+        props.setProperty(PropertyKey.allowPublicKeyRetrieval.getKeyName(), "true");
+        props.setProperty(PropertyKey.cacheResultSetMetadata.getKeyName(), "true");
+        props.setProperty(PropertyKey.useOptionalResultSetMetadata.getKeyName(), "true");
+        props.setProperty(PropertyKey.allowMultiQueries.getKeyName(), "true");
+        // unique per run, so that the query is not cached by an earlier run in the same JVM
+        String sql = "SELECT id FROM testSharedRsmdMultiStmts /* " + System.nanoTime() + " */; SELECT id, name FROM testSharedRsmdMultiStmts; "
+                + "INSERT INTO testSharedRsmdMultiStmts VALUES (2, 'b'); SELECT COUNT(*) FROM testSharedRsmdMultiStmts";
+
+        Connection testConn = getConnectionWithProps(props);
+        try {
+            Statement testStmt = testConn.createStatement();
+            for (int i = 1; i <= 2; i++) {
+                assertTrue(testStmt.execute(sql));
+                this.rs = testStmt.getResultSet();
+                assertEquals(1, this.rs.getMetaData().getColumnCount());
+                assertTrue(this.rs.next());
+
+                assertTrue(testStmt.getMoreResults());
+                this.rs = testStmt.getResultSet();
+                assertEquals(2, this.rs.getMetaData().getColumnCount());
+                assertEquals("name", this.rs.getMetaData().getColumnName(2));
+                assertTrue(this.rs.next());
+                assertEquals("a", this.rs.getString("name"));
+
+                assertFalse(testStmt.getMoreResults());
+                assertEquals(1, testStmt.getUpdateCount());
+
+                assertTrue(testStmt.getMoreResults());
+                this.rs = testStmt.getResultSet();
+                assertTrue(this.rs.next());
+                assertEquals(i + 1, this.rs.getInt(1));
+
+                assertFalse(testStmt.getMoreResults());
+                assertEquals(-1, testStmt.getUpdateCount());
+            }
+
+            // the connection is still in sync
+            this.rs = testStmt.executeQuery("SELECT COUNT(*) FROM testSharedRsmdMultiStmts");
+            assertTrue(this.rs.next());
+            assertEquals(3, this.rs.getInt(1));
+        } finally {
+            testConn.close();
+        }
+    }
+
     @Test
     public void testResultSetProducingQueries() throws Exception {
         assumeTrue(versionMeetsMinimum(8, 0, 19), "MySQL 8.0.19+ is required to run this test.");